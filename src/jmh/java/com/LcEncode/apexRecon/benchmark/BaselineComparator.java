@@ -0,0 +1,105 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compara o resultado JSON do JMH com o baseline versionado em src/jmh/baselines e falha o build quando um
+ * benchmark regride além do limite: throughput menor, tempo médio maior ou mais bytes alocados por operação.
+ * Uso: BaselineComparator <result.json> <baseline.json> <threshold> <updateBaseline>
+ * O baseline só é escrito com updateBaseline=true; sem ele, um baseline ausente falha em vez de aprovar a rodada atual.
+ */
+public final class BaselineComparator {
+    private static final String ALLOCATION_METRIC = "·gc.alloc.rate.norm";
+    private static final double MIN_ALLOCATION_DELTA_BYTES = 16.0;
+
+    private record Measurement(String mode, double score, String unit, Double allocatedBytesPerOp) {}
+
+    private BaselineComparator() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 4) {
+            System.err.println("Usage: BaselineComparator <result.json> <baseline.json> <threshold> <updateBaseline>");
+            System.exit(2);
+        }
+
+        var result = Path.of(args[0]);
+        var baseline = Path.of(args[1]);
+        var threshold = Double.parseDouble(args[2]);
+        var update = Boolean.parseBoolean(args[3]);
+
+        if (!Files.exists(result)) {
+            System.err.println("JMH result not found: " + result);
+            System.exit(2);
+        }
+        if (update) {
+            Files.createDirectories(baseline.getParent());
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline updated: " + baseline);
+            return;
+        }
+        if (!Files.exists(baseline)) {
+            System.err.println("Baseline not found: " + baseline + ". Record it on the reference machine with -Djmh.updateBaseline=true and commit it.");
+            System.exit(2);
+        }
+
+        var current = read(result);
+        var reference = read(baseline);
+        var regressions = 0;
+        for (var entry : new TreeMap<>(current).entrySet()) {
+            var previous = reference.get(entry.getKey());
+            if (previous == null) {
+                System.out.printf("NEW        %s %.3f %s%n", entry.getKey(), entry.getValue().score(), entry.getValue().unit());
+                continue;
+            }
+
+            var now = entry.getValue();
+            var change = (now.score() - previous.score()) / previous.score();
+            var worse = isHigherBetter(now.mode()) ? change < -threshold : change > threshold;
+            var allocationWorse = now.allocatedBytesPerOp() != null && previous.allocatedBytesPerOp() != null
+                    && now.allocatedBytesPerOp() - previous.allocatedBytesPerOp() > MIN_ALLOCATION_DELTA_BYTES
+                    && now.allocatedBytesPerOp() > previous.allocatedBytesPerOp() * (1 + threshold);
+
+            if (worse || allocationWorse) { regressions++; }
+            System.out.printf("%-10s %s %.3f -> %.3f %s (%+.1f%%)%s%n",
+                    worse || allocationWorse ? "REGRESSION" : "OK",
+                    entry.getKey(), previous.score(), now.score(), now.unit(), change * 100,
+                    now.allocatedBytesPerOp() == null ? "" : String.format(" alloc %.1f -> %.1f B/op",
+                            previous.allocatedBytesPerOp() == null ? Double.NaN : previous.allocatedBytesPerOp(), now.allocatedBytesPerOp()));
+        }
+
+        if (regressions > 0) {
+            System.err.printf("%d benchmark(s) regressed more than %.0f%% against %s%n", regressions, threshold * 100, baseline);
+            System.exit(1);
+        }
+    }
+
+    private static boolean isHigherBetter(String mode) {
+        return "thrpt".equals(mode);
+    }
+
+    private static Map<String, Measurement> read(Path file) throws IOException {
+        var measurements = new LinkedHashMap<String, Measurement>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            var key = new StringBuilder(run.path("benchmark").asText()).append(" [").append(run.path("mode").asText()).append(']');
+            run.path("params").fields().forEachRemaining(param -> key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText()));
+
+            var primary = run.path("primaryMetric");
+            var allocation = run.path("secondaryMetrics").path(ALLOCATION_METRIC);
+            measurements.put(key.toString(), new Measurement(
+                    run.path("mode").asText(),
+                    primary.path("score").asDouble(),
+                    primary.path("scoreUnit").asText(),
+                    allocation.isMissingNode() ? null : allocation.path("score").asDouble()));
+        }
+        return measurements;
+    }
+}
@@ -0,0 +1,67 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.BankConnection;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.invoicingService.domain.model.Invoice;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de construção dos agregados pelos builders, incluindo validação e geração de ids.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuilderBenchmark {
+    private final UUID organizationId = UUID.randomUUID();
+    private final BigDecimal unitPrice = new BigDecimal("49.90");
+    private final BigDecimal amountDue = new BigDecimal("99.80");
+    private final LocalDate dueDate = LocalDate.now().plusDays(30);
+
+    private List<InvoiceItem> items;
+
+    @Setup
+    public void setUp() {
+        items = List.of(invoiceItem());
+    }
+
+    @Benchmark
+    public InvoiceItem invoiceItemBuilder() {
+        return invoiceItem();
+    }
+
+    @Benchmark
+    public Invoice invoiceBuilder() {
+        return Invoice.builder()
+                .amountDue(amountDue)
+                .localDate(dueDate)
+                .items(items)
+                .build();
+    }
+
+    @Benchmark
+    public BankConnection bankConnectionBuilder() {
+        return BankConnection.builder()
+                .organizationId(organizationId)
+                .provider(Provider.ITAU)
+                .accessTokenSecretArn("arn:aws:secretsmanager:sa-east-1:000000000000:secret:bank-token")
+                .build();
+    }
+
+    private InvoiceItem invoiceItem() {
+        return InvoiceItem.builder()
+                .description("Mensalidade")
+                .quantity(2)
+                .unitPrice(unitPrice)
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.LcEncode.apexRecon.shared.domain.identifier.IdGenerator;
+import com.LcEncode.apexRecon.shared.domain.identifier.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Taxa de ingestão com chaves BINARY(16) geradas por UUID.randomUUID() ("random") e pelo UuidV7Generator ("uuidV7").
+ * Cada operação insere ROWS linhas em uma tabela vazia, em INSERTs multi-linha de BATCH_ROWS.
+ * - target=model (padrão): modelo em memória das folhas do índice clusterizado do InnoDB, roda sem banco e conta
+ *   page splits e páginas de folha resultantes (contadores auxiliares; mais páginas = páginas mais vazias).
+ * - target=mysql: grava de verdade na tabela id_ingest_benchmark do MySQL de APEXRECON_URL/MYSQL_USERNAME/MYSQL_PASSWORD.
+ *   Ex.: mvn -Pjmh verify -Djmh.include=IdIngestBenchmark -Djmh.extraArgs="-p target=mysql"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class IdIngestBenchmark {
+    private static final int ROWS = 200_000;
+    private static final int BATCH_ROWS = 1_000;
+    private static final String PAYLOAD = "x".repeat(100);
+
+    @Param({"random", "uuidV7"})
+    private String generator;
+
+    @Param({"model"})
+    private String target;
+
+    private IdGenerator idGenerator;
+    private Connection connection;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class IndexCounters {
+        public long pageSplits;
+        public long leafPages;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        idGenerator = "random".equals(generator) ? IdGenerator.random() : new UuidV7Generator();
+
+        if ("mysql".equals(target)) {
+            var url = System.getenv("APEXRECON_URL");
+            if (url == null) { throw new IllegalStateException("target=mysql requires APEXRECON_URL, MYSQL_USERNAME and MYSQL_PASSWORD"); }
+
+            connection = DriverManager.getConnection(url, System.getenv("MYSQL_USERNAME"), System.getenv("MYSQL_PASSWORD"));
+            try (var statement = connection.createStatement()) {
+                statement.execute("""
+                        CREATE TABLE IF NOT EXISTS id_ingest_benchmark (
+                            id BINARY(16) NOT NULL PRIMARY KEY,
+                            payload CHAR(100) NOT NULL
+                        ) ENGINE=InnoDB""");
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() throws SQLException {
+        if (connection == null) { return; }
+
+        try (var statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE id_ingest_benchmark");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        if (connection == null) { return; }
+
+        try (var statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS id_ingest_benchmark");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long ingest(IndexCounters counters) throws SQLException {
+        return connection == null ? ingestIntoModel(counters) : ingestIntoMysql();
+    }
+
+    private long ingestIntoModel(IndexCounters counters) {
+        var index = new ClusteredIndexModel();
+        for (int row = 0; row < ROWS; row++) { index.insert(idGenerator.nextId()); }
+
+        counters.pageSplits += index.splits;
+        counters.leafPages += index.pages.size();
+        return index.splits;
+    }
+
+    private long ingestIntoMysql() throws SQLException {
+        var sql = "INSERT INTO id_ingest_benchmark (id, payload) VALUES " + String.join(", ", Collections.nCopies(BATCH_ROWS, "(?, ?)"));
+        connection.setAutoCommit(false);
+        try (var statement = connection.prepareStatement(sql)) {
+            for (int batch = 0; batch < ROWS / BATCH_ROWS; batch++) {
+                var parameter = 1;
+                for (int row = 0; row < BATCH_ROWS; row++) {
+                    statement.setBytes(parameter++, toBytes(idGenerator.nextId()));
+                    statement.setString(parameter++, PAYLOAD);
+                }
+                statement.executeUpdate();
+            }
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        return ROWS;
+    }
+
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+    }
+
+    /**
+     * Folhas de uma B+tree como o InnoDB as divide: inserir após o último registro da página mais à direita abre uma
+     * página nova (inserção sequencial), qualquer outra página cheia é dividida ao meio.
+     */
+    private static final class ClusteredIndexModel {
+        // ~16KB por página / ~140 bytes por linha (chave, payload e overhead do registro).
+        private static final int PAGE_CAPACITY = 110;
+        private static final Comparator<UUID> BINARY_ORDER = (left, right) -> {
+            var most = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+            return most != 0 ? most : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+        };
+
+        private final TreeMap<UUID, List<UUID>> pages = new TreeMap<>(BINARY_ORDER);
+        private long splits;
+
+        void insert(UUID key) {
+            Map.Entry<UUID, List<UUID>> entry = pages.floorEntry(key);
+            if (entry == null) { entry = pages.firstEntry(); }
+            if (entry == null) {
+                var page = new ArrayList<UUID>(PAGE_CAPACITY);
+                page.add(key);
+                pages.put(key, page);
+                return;
+            }
+
+            var page = entry.getValue();
+            var rightmost = entry.getKey().equals(pages.lastKey());
+            var position = -Collections.binarySearch(page, key, BINARY_ORDER) - 1;
+            if (position == 0) {
+                pages.remove(entry.getKey());
+                pages.put(key, page);
+            }
+
+            if (page.size() < PAGE_CAPACITY) {
+                page.add(position, key);
+                return;
+            }
+
+            if (position == page.size() && rightmost) {
+                var next = new ArrayList<UUID>(PAGE_CAPACITY);
+                next.add(key);
+                pages.put(key, next);
+                return;
+            }
+
+            splits++;
+            page.add(position, key);
+            var upper = new ArrayList<>(page.subList(page.size() / 2, page.size()));
+            page.subList(page.size() / 2, page.size()).clear();
+            pages.put(upper.getFirst(), upper);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.outbox.RelayObserver;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.infrastructure.metrics.MicrometerIngestionObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.ReconciliationObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.AllocationSolution;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.AllocationSolver;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.SolverBudget;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.SolverOutcome;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.SolverStats;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.LedgerMatchingEngine;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.MatchTolerance;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.metrics.MicrometerReconciliationObserver;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da instrumentação no caminho quente, com os observers de produção sobre um PrometheusMeterRegistry
+ * ("micrometer") contra os NOOP ("noop"):
+ * - reconcileTransaction: uma transação do relay à conciliação (lag de ingestão, busca do AllocationSolver sobre
+ *   CANDIDATES faturas e fechamento da run). O score de "micrometer" deve ficar a menos de 2% do de "noop";
+ * - recordOnly: só as gravações de métricas de uma transação, para ver o custo absoluto em ns.
+ * Com -prof gc (o padrão do profile jmh), gc.alloc.rate.norm de "micrometer" deve ser igual ao de "noop": a gravação
+ * não aloca.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class InstrumentationOverheadBenchmark {
+    private static final int CANDIDATES = 20;
+    private static final int TRANSACTIONS = 1_024;
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Param({"noop", "micrometer"})
+    private String instrumentation;
+
+    private PrometheusMeterRegistry registry;
+    private RelayObserver relayObserver;
+    private ReconciliationObserver reconciliationObserver;
+    private AllocationSolver solver;
+    private List<InvoiceLedger> invoices;
+    private BankTransactionLedger[] transactions;
+    private Instant[] transactionDates;
+    private ReconciliationRun run;
+    private final SolverStats stats = new SolverStats(SolverOutcome.SOLVED, CANDIDATES, 4_096, 25_000);
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var budget = SolverBudget.defaults();
+        if ("micrometer".equals(instrumentation)) {
+            registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+            relayObserver = new MicrometerIngestionObserver(registry);
+            reconciliationObserver = new MicrometerReconciliationObserver(registry, budget.maxCandidates(), budget.maxTime());
+        } else {
+            relayObserver = RelayObserver.NOOP;
+            reconciliationObserver = ReconciliationObserver.NOOP;
+        }
+        solver = new AllocationSolver(budget, LedgerMatchingEngine.DEFAULT_ZONE, reconciliationObserver);
+
+        // Faturas de 100,00 a 119,00: cada crédito é a soma de duas ou três delas, com solução.
+        var organizationId = UUID.randomUUID();
+        invoices = new ArrayList<>(CANDIDATES);
+        for (int i = 0; i < CANDIDATES; i++) {
+            invoices.add(InvoiceLedger.builder()
+                    .id(UUID.randomUUID())
+                    .organizationId(organizationId)
+                    .dueDate(LocalDate.of(2026, 1, 1).plusDays(i))
+                    .amountDue(Money.ofMinor((100 + i) * 10_000L))
+                    .build());
+        }
+
+        var random = new SplittableRandom(11);
+        transactions = new BankTransactionLedger[TRANSACTIONS];
+        transactionDates = new Instant[TRANSACTIONS];
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            var parts = 2 + random.nextInt(2);
+            var total = Money.ZERO;
+            for (int part = 0; part < parts; part++) { total = total.plus(invoices.get(random.nextInt(CANDIDATES)).getAmountDue()); }
+            transactionDates[i] = NOW.minusSeconds(random.nextInt(86_400));
+            transactions[i] = BankTransactionLedger.builder()
+                    .bankTransactionId(UUID.randomUUID())
+                    .organizationId(organizationId)
+                    .amount(total)
+                    .transactionDate(transactionDates[i])
+                    .build();
+        }
+        run = new ReconciliationRun(organizationId, List.of(), List.of(), List.of(transactions[0]), 4);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (registry != null) { registry.close(); }
+    }
+
+    @Benchmark
+    public AllocationSolution reconcileTransaction() {
+        var index = next++ & (TRANSACTIONS - 1);
+        var transaction = transactions[index];
+        var transactionDate = transactionDates[index];
+
+        relayObserver.published(Provider.ITAU, transactionDate, transactionDate.plusMillis(1_500), NOW);
+        var solution = solver.solveForTransaction(transaction, invoices, MatchTolerance.exact());
+        reconciliationObserver.completed(run, solution.stats().elapsedNanos());
+        return solution;
+    }
+
+    @Benchmark
+    public int recordOnly() {
+        var index = next++ & (TRANSACTIONS - 1);
+        var transactionDate = transactionDates[index];
+
+        relayObserver.published(Provider.ITAU, transactionDate, NOW, NOW);
+        reconciliationObserver.searched(stats);
+        reconciliationObserver.completed(run, 25_000);
+        return index;
+    }
+}
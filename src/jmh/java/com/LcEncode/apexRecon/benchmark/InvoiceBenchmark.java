@@ -0,0 +1,97 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.LcEncode.apexRecon.invoicingService.domain.model.Invoice;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceItem;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * addItem/removeItem sobre uma fatura DRAFT de tamanho fixo e a montagem de uma fatura item a item pela API
+ * ou em lote via addItems. Com os totais incrementais, todos devem escalar linearmente no número de itens.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class InvoiceBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int itemCount;
+
+    private Invoice invoice;
+    private List<InvoiceItem> items;
+    private InvoiceItem extraItem;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(item(i));
+        }
+        invoice = newInvoice(items.subList(0, 1));
+        for (int i = 1; i < itemCount; i++) {
+            invoice.addItem(items.get(i));
+        }
+        extraItem = item(itemCount);
+    }
+
+    @Benchmark
+    public Invoice addThenRemoveItem() {
+        invoice.addItem(extraItem);
+        invoice.removeItem(extraItem.getItemId());
+        return invoice;
+    }
+
+    @Benchmark
+    public void buildWithItems(Blackhole blackhole) {
+        blackhole.consume(newInvoice(items));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Invoice appendItemsOneByOne() {
+        var draft = newInvoice(items.subList(0, 1));
+        for (int i = 1; i < itemCount; i++) {
+            draft.addItem(items.get(i));
+        }
+        return draft;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 10)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Invoice appendItemsInBulk() {
+        var draft = newInvoice(items.subList(0, 1));
+        if (itemCount > 1) { draft.addItems(items.subList(1, itemCount)); }
+        return draft;
+    }
+
+    private static Invoice newInvoice(List<InvoiceItem> items) {
+        return Invoice.builder()
+                .amountDue(new BigDecimal("100.00"))
+                .localDate(LocalDate.now().plusDays(30))
+                .items(items)
+                .build();
+    }
+
+    private static InvoiceItem item(int index) {
+        return InvoiceItem.builder()
+                .description("Item " + index)
+                .quantity(1 + index % 7)
+                .unitPrice(BigDecimal.valueOf(1_000 + index, 2))
+                .build();
+    }
+}
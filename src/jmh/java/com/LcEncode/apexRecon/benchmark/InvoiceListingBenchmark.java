@@ -0,0 +1,130 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.LcEncode.apexRecon.invoicingService.application.listing.InvoiceListing;
+import com.LcEncode.apexRecon.invoicingService.domain.model.listing.InvoiceListItem;
+import com.LcEncode.apexRecon.invoicingService.domain.model.listing.InvoiceListingFilter;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceStatus;
+import com.LcEncode.apexRecon.invoicingService.domain.repository.InvoiceListingRepository;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Página page (de pageSize faturas) da listagem de uma organização com ROWS faturas, sobre um "índice" em memória:
+ * as linhas ordenadas por (dueDate, invoiceId) como em idx_listing_org.
+ * - "keyset": InvoiceListing com o cursor da página anterior; a busca no índice é uma busca binária, como a descida
+ *   na B-tree, seguida de pageSize + 1 linhas;
+ * - "offset": o LIMIT/OFFSET que a listagem substitui, que lê e descarta (page - 1) * pageSize linhas.
+ * O contador auxiliar rowsRead é o que o banco leria do índice por página.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class InvoiceListingBenchmark {
+    private static final int ROWS = 300_000;
+    private static final LocalDate FIRST_DUE_DATE = LocalDate.of(2024, 1, 1);
+
+    @Param({"keyset", "offset"})
+    private String strategy;
+
+    @Param({"1", "5000"})
+    private int page;
+
+    @Param({"50"})
+    private int pageSize;
+
+    private final InvoiceListingFilter filter = InvoiceListingFilter.organization(UUID.randomUUID());
+    private InMemoryIndex index;
+    private InvoiceListing listing;
+    private String cursor;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class ListingCounters {
+        public long rowsRead;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var random = new SplittableRandom(19);
+        var rows = new InvoiceListItem[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            var amount = Money.ofMinor(10_000 + random.nextLong(10_000_000));
+            rows[i] = new InvoiceListItem(UUID.randomUUID(), UUID.randomUUID(), InvoiceStatus.SENT,
+                    FIRST_DUE_DATE.plusDays(random.nextInt(3 * 365)), amount, amount);
+        }
+        index = new InMemoryIndex(rows);
+        listing = new InvoiceListing(index, pageSize, pageSize);
+
+        // O cursor de entrada da página é o que a página anterior devolveu.
+        cursor = null;
+        for (int i = 1; i < page; i++) { cursor = listing.page(filter, cursor, pageSize).nextCursor(); }
+        if (page > 1 && cursor == null) { throw new IllegalStateException("Not enough rows for page " + page); }
+    }
+
+    @Benchmark
+    public int listPage(ListingCounters counters) {
+        var before = index.rowsRead;
+        int listed;
+        if ("keyset".equals(strategy)) {
+            listed = listing.page(filter, cursor, pageSize).items().size();
+        } else { listed = index.offset((page - 1) * pageSize, pageSize).size(); }
+
+        counters.rowsRead += index.rowsRead - before;
+        return listed;
+    }
+
+    private static final class InMemoryIndex implements InvoiceListingRepository {
+        private static final Comparator<InvoiceListItem> ORDER = Comparator
+                .comparing(InvoiceListItem::dueDate)
+                .thenComparing(InvoiceListItem::invoiceId, UuidBinary.BINARY_ORDER);
+
+        private final InvoiceListItem[] rows;
+        private long rowsRead;
+        private long checksum;
+
+        InMemoryIndex(InvoiceListItem[] rows) {
+            this.rows = rows;
+            Arrays.sort(this.rows, ORDER);
+        }
+
+        @Override
+        public List<InvoiceListItem> list(InvoiceListingFilter filter, Position after, int limit) {
+            var start = 0;
+            if (after != null) {
+                var key = new InvoiceListItem(after.invoiceId(), null, null, after.dueDate(), null, null);
+                var found = Arrays.binarySearch(rows, key, ORDER);
+                start = found < 0 ? -found - 1 : found + 1;
+            }
+            return read(start, limit);
+        }
+
+        List<InvoiceListItem> offset(int offset, int limit) {
+            // OFFSET percorre as linhas puladas uma a uma antes de devolver a primeira.
+            var skipped = Math.min(offset, rows.length);
+            for (int i = 0; i < skipped; i++) { checksum += rows[i].amountDue().minorUnits(); }
+            rowsRead += skipped;
+            return read(offset, limit);
+        }
+
+        private List<InvoiceListItem> read(int start, int limit) {
+            var end = Math.min(rows.length, start + limit);
+            var page = new ArrayList<InvoiceListItem>(Math.max(0, end - start));
+            for (int i = start; i < end; i++) { page.add(rows[i]); }
+            rowsRead += page.size();
+            return page;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerApplyResult;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * applyPayment/applyAllocation nos caminhos de sucesso e de rejeição (overpayment e ledger já quitado), lado a lado
+ * com tryApplyPayment/tryApplyAllocation, que devolvem o resultado sem criar exceção nem stack trace.
+ * Os ledgers de sucesso começam com saldo grande o bastante para nunca zerar durante a medição.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LedgerBenchmark {
+    private static final Money HUGE_BALANCE = Money.of("900000000000.0000");
+    private static final Money CENT = Money.of("0.01");
+    private static final Money OVERPAYMENT = Money.of("1000.00");
+
+    private InvoiceLedger openInvoice;
+    private InvoiceLedger smallInvoice;
+    private InvoiceLedger paidInvoice;
+    private BankTransactionLedger openTransaction;
+    private BankTransactionLedger smallTransaction;
+    private BankTransactionLedger matchedTransaction;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        var organizationId = UUID.randomUUID();
+        openInvoice = invoice(organizationId, HUGE_BALANCE, LedgerStatus.OPEN);
+        smallInvoice = invoice(organizationId, Money.of("10.00"), LedgerStatus.OPEN);
+        paidInvoice = invoice(organizationId, Money.ZERO, LedgerStatus.PAID);
+        openTransaction = transaction(organizationId, HUGE_BALANCE, LedgerStatus.UNMATCHED);
+        smallTransaction = transaction(organizationId, Money.of("10.00"), LedgerStatus.UNMATCHED);
+        matchedTransaction = transaction(organizationId, Money.ZERO, LedgerStatus.MATCHED);
+    }
+
+    @Benchmark
+    public InvoiceLedger applyPaymentAccepted() {
+        openInvoice.applyPayment(CENT);
+        return openInvoice;
+    }
+
+    @Benchmark
+    public Object applyPaymentOverpayment() {
+        try {
+            smallInvoice.applyPayment(OVERPAYMENT);
+            return smallInvoice;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object applyPaymentAlreadyPaid() {
+        try {
+            paidInvoice.applyPayment(CENT);
+            return paidInvoice;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public BankTransactionLedger applyAllocationAccepted() {
+        openTransaction.applyAllocation(CENT);
+        return openTransaction;
+    }
+
+    @Benchmark
+    public Object applyAllocationOverAllocation() {
+        try {
+            smallTransaction.applyAllocation(OVERPAYMENT);
+            return smallTransaction;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object applyAllocationAlreadyMatched() {
+        try {
+            matchedTransaction.applyAllocation(CENT);
+            return matchedTransaction;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public LedgerApplyResult tryApplyPaymentAccepted() {
+        return openInvoice.tryApplyPayment(CENT);
+    }
+
+    @Benchmark
+    public LedgerApplyResult tryApplyPaymentOverpayment() {
+        return smallInvoice.tryApplyPayment(OVERPAYMENT);
+    }
+
+    @Benchmark
+    public LedgerApplyResult tryApplyPaymentAlreadyPaid() {
+        return paidInvoice.tryApplyPayment(CENT);
+    }
+
+    @Benchmark
+    public LedgerApplyResult tryApplyAllocationAccepted() {
+        return openTransaction.tryApplyAllocation(CENT);
+    }
+
+    @Benchmark
+    public LedgerApplyResult tryApplyAllocationOverAllocation() {
+        return smallTransaction.tryApplyAllocation(OVERPAYMENT);
+    }
+
+    @Benchmark
+    public LedgerApplyResult tryApplyAllocationAlreadyMatched() {
+        return matchedTransaction.tryApplyAllocation(CENT);
+    }
+
+    private static InvoiceLedger invoice(UUID organizationId, Money amountDue, LedgerStatus status) {
+        return InvoiceLedger.builder()
+                .id(UUID.randomUUID())
+                .organizationId(organizationId)
+                .dueDate(LocalDate.now())
+                .amountDue(amountDue)
+                .status(status)
+                .build();
+    }
+
+    private static BankTransactionLedger transaction(UUID organizationId, Money amountUnmatched, LedgerStatus status) {
+        return BankTransactionLedger.builder()
+                .bankTransactionId(UUID.randomUUID())
+                .organizationId(organizationId)
+                .amount(HUGE_BALANCE)
+                .amountUnmatched(amountUnmatched)
+                .transactionDate(Instant.now())
+                .status(status)
+                .build();
+    }
+}
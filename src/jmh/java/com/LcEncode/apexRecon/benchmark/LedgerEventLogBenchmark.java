@@ -0,0 +1,196 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.eventlog.LedgerEventLog;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerEvent;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerEventType;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerSnapshot;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerType;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.Payment;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.LedgerEventRepository;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LedgerEventLog sobre um repositório em memória, para isolar o custo de CPU do modo event-log (o custo do MySQL
+ * fica para o teste de carga):
+ * - "rebuild": estado de um ledger com HISTORY eventos a partir do último snapshot mais a cauda;
+ * - "replayFromGenesis": o mesmo estado dobrando todos os eventos, o que o snapshot evita;
+ * - "appendRun": eventos e snapshots de uma run de RUN_LEDGERS faturas e RUN_LEDGERS transações, com versões
+ *   espalhadas pelo intervalo para exercitar a regra de snapshot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LedgerEventLogBenchmark {
+    // Um a menos que um múltiplo de todos os intervalos: rebuild sempre paga a maior cauda (snapshotInterval - 1).
+    private static final int HISTORY = 9_999;
+    private static final int RUN_LEDGERS = 200;
+    private static final Money CENT = Money.of("0.01");
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Param({"10", "50", "200"})
+    private int snapshotInterval;
+
+    private UUID ledgerId;
+    private LedgerSnapshot genesis;
+    private InMemoryEventRepository history;
+    private LedgerEventLog historyLog;
+    private CountingEventRepository sink;
+    private LedgerEventLog appendLog;
+    private ReconciliationRun run;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var organizationId = UUID.randomUUID();
+        ledgerId = UUID.randomUUID();
+        history = new InMemoryEventRepository();
+        historyLog = new LedgerEventLog(history, snapshotInterval, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Fatura com saldo para HISTORY pagamentos de 0,01; snapshots onde o LedgerEventLog os gravaria.
+        var balance = Money.ofMinor(HISTORY * 2L * CENT.minorUnits());
+        genesis = new LedgerSnapshot(ledgerId, organizationId, LedgerType.INVOICE, 0, balance, LedgerStatus.OPEN);
+        var state = genesis;
+        for (int sequence = 1; sequence <= HISTORY; sequence++) {
+            var event = new LedgerEvent(ledgerId, organizationId, LedgerType.INVOICE, sequence, LedgerEventType.PAYMENT_APPLIED, CENT,
+                    LedgerStatus.PARTIALLY_PAID, NOW);
+            state = state.replay(List.of(event));
+            history.append(organizationId, List.of(event), sequence == 1 || sequence % snapshotInterval == 0 ? List.of(state) : List.of());
+        }
+
+        sink = new CountingEventRepository();
+        appendLog = new LedgerEventLog(sink, snapshotInterval, Clock.fixed(NOW, ZoneOffset.UTC));
+        var invoices = new ArrayList<InvoiceLedger>(RUN_LEDGERS);
+        var transactions = new ArrayList<BankTransactionLedger>(RUN_LEDGERS);
+        var payment = Payment.builder().organizationId(organizationId).paymentDate(NOW);
+        for (int i = 0; i < RUN_LEDGERS; i++) {
+            var invoice = InvoiceLedger.builder()
+                    .id(UUID.randomUUID())
+                    .organizationId(organizationId)
+                    .dueDate(LocalDate.of(2026, 1, 1))
+                    .amountDue(Money.of("99.99"))
+                    .status(LedgerStatus.PARTIALLY_PAID)
+                    .version(i)
+                    .build();
+            var transaction = BankTransactionLedger.builder()
+                    .bankTransactionId(UUID.randomUUID())
+                    .organizationId(organizationId)
+                    .amount(Money.of("100.00"))
+                    .amountUnmatched(Money.of("99.99"))
+                    .status(LedgerStatus.PARTIALLY_MATCHED)
+                    .transactionDate(NOW)
+                    .version(i)
+                    .build();
+            invoices.add(invoice);
+            transactions.add(transaction);
+            payment.allocation(invoice.getId(), transaction.getBankTransactionId(), CENT);
+        }
+        run = new ReconciliationRun(organizationId, List.of(payment.build()), invoices, transactions);
+    }
+
+    @Benchmark
+    public LedgerSnapshot rebuild() {
+        return historyLog.rebuild(ledgerId);
+    }
+
+    @Benchmark
+    public LedgerSnapshot replayFromGenesis() {
+        return genesis.replay(history.events(ledgerId, 0));
+    }
+
+    @Benchmark
+    public long appendRun() {
+        appendLog.append(run);
+        return sink.events + sink.snapshots;
+    }
+
+    /**
+     * Eventos e snapshots de cada ledger em ordem de sequence.
+     */
+    private static final class InMemoryEventRepository implements LedgerEventRepository {
+        private final Map<UUID, List<LedgerEvent>> events = new HashMap<>();
+        private final Map<UUID, List<LedgerSnapshot>> snapshots = new HashMap<>();
+
+        @Override
+        public void append(UUID organizationId, List<LedgerEvent> appended, List<LedgerSnapshot> taken) {
+            appended.forEach(event -> events.computeIfAbsent(event.ledgerId(), id -> new ArrayList<>()).add(event));
+            taken.forEach(snapshot -> snapshots.computeIfAbsent(snapshot.ledgerId(), id -> new ArrayList<>()).add(snapshot));
+        }
+
+        @Override
+        public Optional<LedgerSnapshot> latestSnapshot(UUID ledgerId) {
+            var taken = snapshots.get(ledgerId);
+            return taken == null ? Optional.empty() : Optional.of(taken.getLast());
+        }
+
+        @Override
+        public List<LedgerEvent> events(UUID ledgerId, long afterSequence) {
+            var all = events.getOrDefault(ledgerId, List.of());
+            // sequence n está no índice n - 1
+            return all.subList((int) Math.min(afterSequence, all.size()), all.size());
+        }
+
+        @Override
+        public ProjectionResult project(int limit, Instant settledBefore) {
+            return ProjectionResult.EMPTY;
+        }
+
+        @Override
+        public ProjectionResult reproject(Collection<Long> positions) {
+            return ProjectionResult.EMPTY;
+        }
+    }
+
+    /**
+     * Só conta o que seria gravado: o append da run roda sempre sobre as mesmas versões.
+     */
+    private static final class CountingEventRepository implements LedgerEventRepository {
+        private long events;
+        private long snapshots;
+
+        @Override
+        public void append(UUID organizationId, List<LedgerEvent> appended, List<LedgerSnapshot> taken) {
+            events += appended.size();
+            snapshots += taken.size();
+        }
+
+        @Override
+        public Optional<LedgerSnapshot> latestSnapshot(UUID ledgerId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<LedgerEvent> events(UUID ledgerId, long afterSequence) {
+            return List.of();
+        }
+
+        @Override
+        public ProjectionResult project(int limit, Instant settledBefore) {
+            return ProjectionResult.EMPTY;
+        }
+
+        @Override
+        public ProjectionResult reproject(Collection<Long> positions) {
+            return ProjectionResult.EMPTY;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.dedup.TransactionDeduplicator;
+import com.LcEncode.apexRecon.bankMigrationService.application.sync.ConnectionSyncResult;
+import com.LcEncode.apexRecon.bankMigrationService.application.sync.OpenBankingSyncEngine;
+import com.LcEncode.apexRecon.bankMigrationService.application.sync.ProviderGuard;
+import com.LcEncode.apexRecon.bankMigrationService.application.sync.SyncObserver;
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.ProviderUnavailableException;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.BankConnection;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.valueObject.TransactionFingerprint;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankConnectionRepository;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankTransactionRepository;
+import com.LcEncode.apexRecon.bankMigrationService.infrastructure.openbanking.LocalOpenBankingClient;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sincronização completa de N conexões contra o LocalOpenBankingClient (latência e erros simulados), com repositórios
+ * em memória: mede o throughput do pipeline em virtual threads sob os limites por Provider, sem rede nem banco.
+ * Cada operação parte de conexões sem lastSync (histórico inicial completo).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class OpenBankingSyncBenchmark {
+
+    @Param({"1000"})
+    private int connections;
+
+    @Param({"64"})
+    private int maxConcurrentCallsPerProvider;
+
+    @Param({"20"})
+    private int latencyMillis;
+
+    @Param({"0.01"})
+    private double errorRate;
+
+    private OpenBankingSyncEngine engine;
+    private List<BankConnection> targets;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class SyncCounters {
+        public long transactions;
+        public long pages;
+        public long failedConnections;
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        targets = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            targets.add(BankConnection.builder()
+                    .organizationId(UUID.randomUUID())
+                    .provider(Provider.values()[i % Provider.values().length])
+                    .accessTokenSecretArn("arn:aws:secretsmanager:local:connection-" + i)
+                    .build());
+        }
+
+        var guards = new EnumMap<Provider, ProviderGuard>(Provider.class);
+        for (var provider : Provider.values()) {
+            guards.put(provider, new ProviderGuard(
+                    Bulkhead.of(provider.name(), BulkheadConfig.custom()
+                            .maxConcurrentCalls(maxConcurrentCallsPerProvider)
+                            .maxWaitDuration(Duration.ofSeconds(30))
+                            .build()),
+                    RateLimiter.of(provider.name(), RateLimiterConfig.custom()
+                            .limitForPeriod(10_000)
+                            .limitRefreshPeriod(Duration.ofSeconds(1))
+                            .timeoutDuration(Duration.ofSeconds(30))
+                            .build()),
+                    Retry.of(provider.name(), RetryConfig.custom()
+                            .maxAttempts(3)
+                            .intervalFunction(IntervalFunction.ofExponentialBackoff(Duration.ofMillis(10), 2.0))
+                            .retryExceptions(ProviderUnavailableException.class)
+                            .build())));
+        }
+
+        var client = new LocalOpenBankingClient(new LocalOpenBankingClient.Settings(
+                Duration.ofMillis(latencyMillis), Duration.ofMillis(latencyMillis / 2), errorRate, Duration.ofMinutes(30), Duration.ofDays(30)),
+                Clock.systemUTC());
+        var deduplicator = new TransactionDeduplicator(new InMemoryTransactions(), TransactionDeduplicator.Settings.defaults(), Clock.systemUTC());
+        engine = new OpenBankingSyncEngine(List.of(client), guards, new InMemoryConnections(targets), deduplicator,
+                200, 50, Clock.systemUTC(), SyncObserver.NOOP);
+    }
+
+    @Benchmark
+    public long syncAll(SyncCounters counters) {
+        var report = engine.syncActiveConnections();
+
+        counters.transactions += report.transactions();
+        counters.pages += report.pages();
+        counters.failedConnections += report.count(ConnectionSyncResult.Status.FAILED);
+        return report.transactions();
+    }
+
+    private record InMemoryConnections(List<BankConnection> connections) implements BankConnectionRepository {
+        @Override
+        public List<BankConnection> findActive() {
+            return connections;
+        }
+
+        @Override
+        public Optional<BankConnection> findById(UUID id) {
+            return connections.stream().filter(connection -> connection.getId().equals(id)).findFirst();
+        }
+
+        @Override
+        public void saveSyncState(BankConnection connection) {}
+    }
+
+    private static final class InMemoryTransactions implements BankTransactionRepository {
+        private final AtomicLong stored = new AtomicLong();
+
+        @Override
+        public void saveAll(List<BankTransaction> transactions) {
+            stored.addAndGet(transactions.size());
+        }
+
+        @Override
+        public Set<TransactionFingerprint> findExistingFingerprints(UUID connectionId, Collection<TransactionFingerprint> fingerprints) {
+            return Set.of();
+        }
+
+        @Override
+        public List<TransactionFingerprint> findFingerprintsSince(UUID connectionId, Instant since) {
+            return List.of();
+        }
+    }
+}
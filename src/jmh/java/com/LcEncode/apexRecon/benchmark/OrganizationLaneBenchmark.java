@@ -0,0 +1,136 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.consumer.LaneStats;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.consumer.OrganizationLaneExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * EVENTS eventos de conciliação de organizations organizações (distribuição Zipf com expoente skew: poucas
+ * organizações concentram o volume), cada um custando handlerMicros de "escrita no ledger":
+ * - "lanes": OrganizationLaneExecutor com laneCount lanes;
+ * - "serialized": um único consumidor, tudo em série;
+ * - "sharedPool": laneCount threads sem afinidade, cada evento trava o ledger da organização (o lock de linha do banco).
+ * Contadores auxiliares: violações de ordem por organização e profundidade máxima de fila observada nas lanes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class OrganizationLaneBenchmark {
+    private static final int EVENTS = 20_000;
+
+    @Param({"lanes", "serialized", "sharedPool"})
+    private String strategy;
+
+    @Param({"32"})
+    private int laneCount;
+
+    @Param({"1000"})
+    private int organizations;
+
+    @Param({"0.8"})
+    private double skew;
+
+    @Param({"200"})
+    private int handlerMicros;
+
+    private UUID[] organizationIds;
+    private int[] events;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class LaneCounters {
+        public long orderViolations;
+        public long maxQueueDepth;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        organizationIds = new UUID[organizations];
+        for (int i = 0; i < organizations; i++) { organizationIds[i] = UUID.randomUUID(); }
+
+        // Zipf por inversão da CDF acumulada.
+        var cumulative = new double[organizations];
+        var total = 0.0;
+        for (int i = 0; i < organizations; i++) {
+            total += 1 / Math.pow(i + 1, skew);
+            cumulative[i] = total;
+        }
+        var random = new SplittableRandom(7);
+        events = new int[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            var index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            events[i] = Math.min(organizations - 1, index < 0 ? -index - 1 : index);
+        }
+    }
+
+    @Benchmark
+    public long consume(LaneCounters counters) throws InterruptedException {
+        var nextSequence = new int[organizations];
+        var lastApplied = new ConcurrentHashMap<UUID, Integer>();
+        var violations = new AtomicLong();
+        var handlerNanos = handlerMicros * 1_000L;
+
+        switch (strategy) {
+            case "lanes", "serialized" -> {
+                var executor = new OrganizationLaneExecutor("benchmark", "lanes".equals(strategy) ? laneCount : 1, 1_000, Duration.ofMinutes(1));
+                var sampler = Thread.ofVirtual().start(() -> {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        var depth = executor.stats().stream().mapToLong(LaneStats::depth).max().orElse(0);
+                        if (depth > counters.maxQueueDepth) { counters.maxQueueDepth = depth; }
+                        LockSupport.parkNanos(1_000_000);
+                    }
+                });
+                try (executor) {
+                    for (int organization : events) {
+                        var id = organizationIds[organization];
+                        var sequence = nextSequence[organization]++;
+                        executor.submit(id, () -> apply(id, sequence, lastApplied, violations, handlerNanos));
+                    }
+                }
+                sampler.interrupt();
+                sampler.join();
+            }
+            case "sharedPool" -> {
+                var ledgerLocks = new ConcurrentHashMap<UUID, ReentrantLock>();
+                try (var pool = Executors.newFixedThreadPool(laneCount)) {
+                    for (int organization : events) {
+                        var id = organizationIds[organization];
+                        var sequence = nextSequence[organization]++;
+                        pool.submit(() -> {
+                            var lock = ledgerLocks.computeIfAbsent(id, key -> new ReentrantLock());
+                            lock.lock();
+                            try {
+                                apply(id, sequence, lastApplied, violations, handlerNanos);
+                            } finally { lock.unlock(); }
+                        });
+                    }
+                }
+            }
+            default -> throw new IllegalArgumentException(strategy);
+        }
+
+        counters.orderViolations += violations.get();
+        return lastApplied.size();
+    }
+
+    private static void apply(UUID organizationId, int sequence, ConcurrentHashMap<UUID, Integer> lastApplied, AtomicLong violations, long handlerNanos) {
+        var previous = lastApplied.put(organizationId, sequence);
+        if (previous != null && previous > sequence) { violations.incrementAndGet(); }
+        LockSupport.parkNanos(handlerNanos);
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.outbox.RelayObserver;
+import com.LcEncode.apexRecon.bankMigrationService.application.outbox.TransactionOutboxRelay;
+import com.LcEncode.apexRecon.bankMigrationService.domain.gateway.BankTransactionPublisher;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankTransactionOutboxRepository;
+import com.LcEncode.apexRecon.bankMigrationService.infrastructure.messaging.LocalBrokerPublisher;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingestão de TRANSACTIONS transações (PRODUCERS produtores, páginas de PAGE_SIZE de CONNECTIONS conexões) até a última
+ * ser confirmada pelo LocalBrokerPublisher, com confirmLatencyMicros por confirmação:
+ * - "perMessage": cada transação publicada e confirmada de forma síncrona na ingestão, o fluxo que o outbox substitui;
+ * - "outbox": a ingestão só grava na outbox (em memória) e o TransactionOutboxRelay publica em lotes de batchSize.
+ * Contadores auxiliares: confirmações, violações de ordem por conexão e atraso médio/máximo ingestão -> confirmação (ms).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class OutboxRelayBenchmark {
+    private static final int TRANSACTIONS = 20_000;
+    private static final int PRODUCERS = 4;
+    private static final int CONNECTIONS = 100;
+    private static final int PAGE_SIZE = 200;
+
+    @Param({"outbox", "perMessage"})
+    private String strategy;
+
+    @Param({"500"})
+    private int batchSize;
+
+    @Param({"500"})
+    private int confirmLatencyMicros;
+
+    private List<UUID> connections;
+    private LocalBrokerPublisher broker;
+    private InMemoryOutbox outbox;
+    private TransactionOutboxRelay relay;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RelayCounters {
+        public long confirms;
+        public long orderViolations;
+        public double averageLagMillis;
+        public double maxLagMillis;
+    }
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        connections = new ArrayList<>(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) { connections.add(UUID.randomUUID()); }
+
+        broker = new LocalBrokerPublisher(Duration.ZERO, Duration.ofNanos(confirmLatencyMicros * 1_000L), Clock.systemUTC());
+        outbox = new InMemoryOutbox();
+        relay = new TransactionOutboxRelay(outbox, broker, batchSize, Duration.ofMillis(1), Duration.ofSeconds(1), Clock.systemUTC(), RelayObserver.NOOP);
+        if ("outbox".equals(strategy)) { relay.start(); }
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        relay.close();
+    }
+
+    @Benchmark
+    public long ingestAndPublish(RelayCounters counters) throws InterruptedException {
+        try (var producers = Executors.newFixedThreadPool(PRODUCERS)) {
+            for (int producer = 0; producer < PRODUCERS; producer++) {
+                var first = producer;
+                producers.submit(() -> {
+                    for (int page = first; page < TRANSACTIONS / PAGE_SIZE; page += PRODUCERS) { ingest(page); }
+                });
+            }
+        }
+        while (broker.published() < TRANSACTIONS) { Thread.sleep(1); }
+
+        counters.confirms += broker.confirms();
+        counters.orderViolations += broker.orderViolations();
+        counters.averageLagMillis += broker.averageLag().toNanos() / 1e6;
+        counters.maxLagMillis += broker.maxLag().toNanos() / 1e6;
+        return broker.published();
+    }
+
+    private void ingest(int page) {
+        // Uma página pertence a uma conexão, como no sync; páginas de uma mesma conexão ficam no mesmo produtor.
+        var connectionId = connections.get(page % CONNECTIONS);
+        var transactions = new ArrayList<BankTransaction>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            transactions.add(BankTransaction.builder()
+                    .connectionId(connectionId)
+                    .provider(Provider.ITAU)
+                    .amount(BigDecimal.valueOf(1_000 + page * PAGE_SIZE + i, 2))
+                    .transactionDate(Instant.now())
+                    .description("PIX RECEBIDO NF " + (page * PAGE_SIZE + i))
+                    .build());
+        }
+
+        if ("outbox".equals(strategy)) {
+            outbox.append(transactions);
+        } else {
+            transactions.forEach(transaction -> broker.publish(List.of(transaction)));
+        }
+    }
+
+    private static final class InMemoryOutbox implements BankTransactionOutboxRepository {
+        private final ArrayDeque<BankTransaction> entries = new ArrayDeque<>();
+
+        synchronized void append(List<BankTransaction> transactions) {
+            entries.addAll(transactions);
+        }
+
+        @Override
+        public int drain(int limit, BankTransactionPublisher publisher, Instant processedAt) {
+            List<BankTransaction> batch;
+            synchronized (this) {
+                batch = entries.stream().limit(limit).toList();
+            }
+            if (batch.isEmpty()) { return 0; }
+
+            publisher.publish(batch);
+            synchronized (this) {
+                batch.forEach(transaction -> {
+                    entries.removeFirst();
+                    transaction.setProcessedAt(processedAt);
+                });
+            }
+            return batch.size();
+        }
+
+        @Override
+        public synchronized long pending() {
+            return entries.size();
+        }
+
+        @Override
+        public synchronized Optional<Instant> oldestPending() {
+            return Optional.ofNullable(entries.peekFirst()).map(BankTransaction::getIngestedAt);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.ReconciliationAllocation;
+import com.LcEncode.apexRecon.shared.domain.identifier.IdGenerator;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criação de ReconciliationAllocation com e sem o id gerado pelo construtor de conveniência (Ids.next(), UUIDv7),
+ * e o custo isolado de cada gerador: UUID.randomUUID() (SecureRandom) e UuidV7Generator, inclusive sob contenção.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReconciliationAllocationBenchmark {
+    private final UUID allocationId = UUID.randomUUID();
+    private final UUID paymentId = UUID.randomUUID();
+    private final UUID invoiceId = UUID.randomUUID();
+    private final UUID bankTransactionId = UUID.randomUUID();
+    private final Money amount = Money.of("1234.56");
+    private final IdGenerator uuidV7 = IdGenerator.uuidV7();
+
+    @Benchmark
+    public ReconciliationAllocation withGeneratedId() {
+        return new ReconciliationAllocation(paymentId, invoiceId, bankTransactionId, amount);
+    }
+
+    @Benchmark
+    public ReconciliationAllocation withProvidedId() {
+        return new ReconciliationAllocation(allocationId, paymentId, invoiceId, bankTransactionId, amount);
+    }
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID uuidV7() {
+        return uuidV7.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID uuidV7Contended() {
+        return uuidV7.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ReconciliationAllocation withGeneratedIdContended() {
+        return new ReconciliationAllocation(paymentId, invoiceId, bankTransactionId, amount);
+    }
+}
@@ -0,0 +1,140 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Partida a frio do ApexReconApplication em cada modo de empacotamento, runs vezes por modo:
+ * - "jvm": o jar do spring-boot-maven-plugin (mvn package);
+ * - "cds": o jar extraído com Spring AOT e o arquivo CDS da execução de treino (mvn -Pcds package);
+ * - "native": a imagem nativa (mvn -Pnative native:compile).
+ * timeToFirstRequest: do fork do processo à primeira resposta de /actuator/health (qualquer status: DOWN sem banco
+ * ainda é uma requisição atendida). rss/peakRss: VmRSS e VmHWM de /proc no momento da resposta (só Linux).
+ * Modos sem artefato são pulados. O ambiente (APEXRECON_URL, MYSQL_*, RabbitMQ) é o do processo que roda o benchmark.
+ * Uso: StartupBenchmark <target dir> <result.json> <modes> <runs>
+ */
+public final class StartupBenchmark {
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final int PORT = 18_080;
+
+    private record Sample(double timeToFirstRequestMillis, long rssKb, long peakRssKb) {}
+
+    private StartupBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("Usage: StartupBenchmark <target dir> <result.json> <modes> <runs>");
+            System.exit(2);
+        }
+
+        var target = Path.of(args[0]);
+        var result = Path.of(args[1]);
+        var runs = Integer.parseInt(args[3]);
+        var client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+        var report = new LinkedHashMap<String, Map<String, Object>>();
+        for (var mode : args[2].split(",")) {
+            var command = command(mode.trim(), target);
+            if (command == null) {
+                System.out.printf("SKIPPED    %s (artifact not found)%n", mode);
+                continue;
+            }
+
+            var samples = new ArrayList<Sample>(runs);
+            for (int run = 0; run < runs; run++) { samples.add(start(command, target, client)); }
+            report.put(mode, summary(samples));
+            System.out.printf("%-10s timeToFirstRequest=%.0f ms (min %.0f)  rss=%d MB  peakRss=%d MB%n", mode,
+                    report.get(mode).get("timeToFirstRequestMillis"), report.get(mode).get("minTimeToFirstRequestMillis"),
+                    (long) report.get(mode).get("rssKb") / 1024, (long) report.get(mode).get("peakRssKb") / 1024);
+        }
+
+        Files.createDirectories(result.toAbsolutePath().getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(result.toFile(), report);
+    }
+
+    private static List<String> command(String mode, Path target) throws IOException {
+        var port = "--server.port=" + PORT;
+        return switch (mode) {
+            case "jvm" -> jar(target).map(jar -> List.of("java", "-jar", jar.toString(), port)).orElse(null);
+            case "cds" -> {
+                var directory = target.resolve("cds");
+                var archive = directory.resolve("application.jsa");
+                var jar = jar(directory);
+                yield !Files.exists(archive) || jar.isEmpty() ? null
+                        : List.of("java", "-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true", "-jar", jar.get().toString(), port);
+            }
+            case "native" -> Files.isExecutable(target.resolve("apexrecon")) ? List.of(target.resolve("apexrecon").toString(), port) : null;
+            default -> throw new IllegalArgumentException("Unknown mode " + mode + " (jvm, cds, native)");
+        };
+    }
+
+    private static Optional<Path> jar(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) { return Optional.empty(); }
+
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches("apexRecon-.*(?<!-plain)\\.jar")).findFirst();
+        }
+    }
+
+    private static Sample start(List<String> command, Path target, HttpClient client) throws Exception {
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + PORT + "/actuator/health")).timeout(Duration.ofSeconds(1)).build();
+        var started = System.nanoTime();
+        var process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(target.resolve("startup-benchmark.log").toFile())
+                .start();
+        try {
+            while (System.nanoTime() - started < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) { throw new IllegalStateException("Application exited with " + process.exitValue() + ", see startup-benchmark.log"); }
+                try {
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                    var elapsed = (System.nanoTime() - started) / 1e6;
+                    return new Sample(elapsed, status(process.pid(), "VmRSS:"), status(process.pid(), "VmHWM:"));
+                } catch (IOException e) {
+                    Thread.sleep(10);
+                }
+            }
+            throw new IllegalStateException("Application did not answer within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) { process.destroyForcibly().waitFor(); }
+        }
+    }
+
+    private static long status(long pid, String field) throws IOException {
+        var status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) { return -1; }
+
+        for (var line : Files.readAllLines(status)) {
+            if (line.startsWith(field)) { return Long.parseLong(line.substring(field.length()).trim().split("\\s+")[0]); }
+        }
+        return -1;
+    }
+
+    private static Map<String, Object> summary(List<Sample> samples) {
+        var times = samples.stream().mapToDouble(Sample::timeToFirstRequestMillis).sorted().toArray();
+        var summary = new LinkedHashMap<String, Object>();
+        summary.put("runs", samples.size());
+        summary.put("timeToFirstRequestMillis", times[times.length / 2]);
+        summary.put("minTimeToFirstRequestMillis", times[0]);
+        summary.put("rssKb", (long) samples.stream().mapToLong(Sample::rssKb).average().orElse(-1));
+        summary.put("peakRssKb", (long) samples.stream().mapToLong(Sample::peakRssKb).average().orElse(-1));
+        summary.put("samples", Arrays.stream(times).boxed().toList());
+        return summary;
+    }
+}
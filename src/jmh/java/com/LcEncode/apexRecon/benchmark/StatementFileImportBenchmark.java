@@ -0,0 +1,101 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.statementImport.StatementFileImporter;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.BankConnection;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Taxa de parsing (registros/s, contador auxiliar "records") da importação de extratos sobre arquivos sintéticos
+ * gerados no setup: CNAB 240 com segmentos E e OFX SGML com blocos STMTTRN. O sink só conta os lotes, então a
+ * medição é a do parser e do mmap, sem banco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m"})
+public class StatementFileImportBenchmark {
+
+    @Param({"CNAB_240", "OFX"})
+    private String format;
+
+    @Param({"500000"})
+    private int recordCount;
+
+    private final StatementFileImporter importer = new StatementFileImporter();
+    private final BankConnection connection = BankConnection.builder()
+            .organizationId(UUID.randomUUID())
+            .provider(Provider.ITAU)
+            .accessTokenSecretArn("arn:aws:secretsmanager:local:benchmark")
+            .build();
+    private Path file;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class ParseCounters {
+        public long records;
+        public long transactions;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("statement-benchmark-", "CNAB_240".equals(format) ? ".ret" : ".ofx");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+            if ("CNAB_240".equals(format)) {
+                for (int i = 0; i < recordCount; i++) { writer.write(cnab240Detail(i)); }
+            } else {
+                writer.write("OFXHEADER:100\r\nDATA:OFXSGML\r\nCHARSET:1252\r\n\r\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>\r\n");
+                for (int i = 0; i < recordCount; i++) { writer.write(ofxTransaction(i)); }
+                writer.write("</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>\r\n");
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long importFile(ParseCounters counters) {
+        var report = importer.importFile(file, connection, batch -> {});
+
+        counters.records += report.records();
+        counters.transactions += report.transactions();
+        return report.transactions();
+    }
+
+    private static String cnab240Detail(int index) {
+        var record = new StringBuilder(" ".repeat(240));
+        record.replace(0, 8, "34100013");
+        record.replace(8, 14, String.format("%05dE", index % 100_000));
+        record.replace(142, 150, String.format("%02d012026", 1 + index % 28));
+        record.replace(150, 168, String.format("%018d", 1_000 + index % 5_000_000));
+        record.setCharAt(168, index % 10 == 0 ? 'D' : 'C');
+        record.replace(176, 201, String.format("%-25s", "PIX RECEBIDO"));
+        record.replace(201, 240, String.format("%-39s", "NF " + index + " CNPJ 12345678000199"));
+        return record.append("\r\n").toString();
+    }
+
+    private static String ofxTransaction(int index) {
+        return String.format("""
+                <STMTTRN>\r
+                <TRNTYPE>%s\r
+                <DTPOSTED>202601%02d120000[-3:BRT]\r
+                <TRNAMT>%s%d.%02d\r
+                <FITID>%d\r
+                <MEMO>PIX RECEBIDO NF %d\r
+                </STMTTRN>\r
+                """, index % 10 == 0 ? "DEBIT" : "CREDIT", 1 + index % 28, index % 10 == 0 ? "-" : "", 10 + index % 50_000, index % 100, index, index);
+    }
+}
@@ -0,0 +1,142 @@
+package com.LcEncode.apexRecon.benchmark;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.dedup.TransactionDeduplicator;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.valueObject.TransactionFingerprint;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankTransactionRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingestão de páginas de sync com uma fração duplicateRatio de transações já gravadas (metade da janela sobreposta
+ * recente, metade reenvio de extrato antigo), contra um repositório em memória:
+ * - "deduplicator": TransactionDeduplicator (conjunto recente + Bloom filter + consulta só nos prováveis);
+ * - "lookupPerRecord": o fluxo anterior, uma consulta ao banco por transação recebida.
+ * O contador auxiliar storeRoundTrips é o que importa com banco de verdade: idas ao banco por página.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class TransactionDedupBenchmark {
+    private static final int PAGE_SIZE = 200;
+    private static final int HISTORY = 20_000;
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Param({"deduplicator", "lookupPerRecord"})
+    private String strategy;
+
+    @Param({"0.1", "0.5", "0.9"})
+    private double duplicateRatio;
+
+    private final UUID connectionId = UUID.randomUUID();
+    private final SplittableRandom random = new SplittableRandom(42);
+    private InMemoryTransactions store;
+    private TransactionDeduplicator deduplicator;
+    private int next;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class DedupCounters {
+        public long storeRoundTrips;
+        public long stored;
+        public long falsePositives;
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        store = new InMemoryTransactions();
+        deduplicator = new TransactionDeduplicator(store, TransactionDeduplicator.Settings.defaults(), Clock.fixed(NOW, ZoneOffset.UTC));
+        var history = new ArrayList<BankTransaction>(HISTORY);
+        for (next = 0; next < HISTORY; next++) { history.add(transaction(next)); }
+        deduplicator.saveNew(history);
+        store.roundTrips = 0;
+    }
+
+    @Benchmark
+    public long ingestPage(DedupCounters counters) {
+        var page = new ArrayList<BankTransaction>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            if (random.nextDouble() >= duplicateRatio) {
+                page.add(transaction(next++));
+            } else if (random.nextBoolean()) {
+                page.add(transaction(next - 1 - random.nextInt(Math.min(next, 300))));
+            } else { page.add(transaction(random.nextInt(next))); }
+        }
+
+        var before = store.roundTrips;
+        long stored;
+        if ("deduplicator".equals(strategy)) {
+            var result = deduplicator.saveNew(page);
+            counters.falsePositives += result.falsePositives();
+            stored = result.stored();
+        } else {
+            var fresh = new ArrayList<BankTransaction>(PAGE_SIZE);
+            var seen = new HashSet<TransactionFingerprint>();
+            for (var transaction : page) {
+                if (seen.add(transaction.fingerprint())
+                        && store.findExistingFingerprints(connectionId, List.of(transaction.fingerprint())).isEmpty()) {
+                    fresh.add(transaction);
+                }
+            }
+            if (!fresh.isEmpty()) { store.saveAll(fresh); }
+            stored = fresh.size();
+        }
+
+        counters.storeRoundTrips += store.roundTrips - before;
+        counters.stored += stored;
+        return stored;
+    }
+
+    private BankTransaction transaction(int index) {
+        // Data recente para toda a série: tudo fica dentro da janela coberta pelo filtro.
+        return BankTransaction.builder()
+                .connectionId(connectionId)
+                .provider(Provider.ITAU)
+                .amount(BigDecimal.valueOf(1_000 + index % 5_000_000, 2))
+                .transactionDate(NOW.minus(Duration.ofMinutes(HISTORY * 2L)).plus(Duration.ofMinutes(index)))
+                .description("PIX RECEBIDO NF " + index)
+                .build();
+    }
+
+    private static final class InMemoryTransactions implements BankTransactionRepository {
+        private final Set<TransactionFingerprint> fingerprints = new HashSet<>();
+        private long roundTrips;
+
+        @Override
+        public void saveAll(List<BankTransaction> transactions) {
+            roundTrips++;
+            transactions.forEach(transaction -> fingerprints.add(transaction.fingerprint()));
+        }
+
+        @Override
+        public Set<TransactionFingerprint> findExistingFingerprints(UUID connectionId, Collection<TransactionFingerprint> candidates) {
+            roundTrips++;
+            var existing = new HashSet<TransactionFingerprint>();
+            candidates.forEach(fingerprint -> { if (fingerprints.contains(fingerprint)) { existing.add(fingerprint); } });
+            return existing;
+        }
+
+        @Override
+        public List<TransactionFingerprint> findFingerprintsSince(UUID connectionId, Instant since) {
+            roundTrips++;
+            return new ArrayList<>(fingerprints);
+        }
+    }
+}
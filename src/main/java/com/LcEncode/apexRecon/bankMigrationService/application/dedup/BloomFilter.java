@@ -0,0 +1,67 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.dedup;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.valueObject.TransactionFingerprint;
+
+/**
+ * Bloom filter sobre fingerprints. Os dois longs do fingerprint já são um hash uniforme, então as k posições saem
+ * por double hashing (high + i * low) sem rehash. mightContain == false garante que o fingerprint nunca foi inserido.
+ * Não é thread-safe: o acesso é serializado pelo ConnectionFilter.
+ */
+final class BloomFilter {
+    private final long[] words;
+    private final long bits;
+    private final int hashes;
+    private final long capacity;
+
+    private BloomFilter(long bits, int hashes, long capacity) {
+        this.words = new long[(int) ((bits + 63) >>> 6)];
+        this.bits = (long) words.length << 6;
+        this.hashes = hashes;
+        this.capacity = capacity;
+    }
+
+    /**
+     * m = -n ln(p) / ln(2)^2 bits e k = m/n ln(2) funções de hash: o menor filtro que mantém a taxa de falso positivo p
+     * com até n elementos.
+     */
+    static BloomFilter sized(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Bloom filter needs expected insertions > 0 and false positive rate in (0, 1)");
+        }
+
+        var bits = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        if (bits > (long) Integer.MAX_VALUE << 6) { throw new IllegalArgumentException("Bloom filter too large: " + bits + " bits"); }
+        var hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bits, hashes, expectedInsertions);
+    }
+
+    void put(TransactionFingerprint fingerprint) {
+        var combined = fingerprint.high();
+        for (int i = 0; i < hashes; i++) {
+            var bit = Long.remainderUnsigned(combined, bits);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+            combined += fingerprint.low();
+        }
+    }
+
+    boolean mightContain(TransactionFingerprint fingerprint) {
+        var combined = fingerprint.high();
+        for (int i = 0; i < hashes; i++) {
+            var bit = Long.remainderUnsigned(combined, bits);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) { return false; }
+            combined += fingerprint.low();
+        }
+        return true;
+    }
+
+    /**
+     * Elementos para os quais o filtro foi dimensionado; acima disso a taxa de falso positivo sobe.
+     */
+    long capacity() {
+        return capacity;
+    }
+
+    long sizeInBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+}
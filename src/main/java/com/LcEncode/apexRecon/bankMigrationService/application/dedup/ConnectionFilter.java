@@ -0,0 +1,67 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.dedup;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.valueObject.TransactionFingerprint;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Estado de deduplicação de uma conexão: Bloom filter dos fingerprints gravados com transactionDate >= coveredFrom
+ * (carregados do banco no aquecimento e acrescidos a cada gravação) e o conjunto exato dos mais recentes.
+ * O lock é um ReentrantLock e não synchronized porque é mantido durante a ida ao banco, e a sincronização roda em
+ * virtual threads.
+ */
+final class ConnectionFilter {
+    final ReentrantLock lock = new ReentrantLock();
+
+    private BloomFilter bloom;
+    private RecentFingerprints recent;
+    private Instant coveredFrom;
+    private long insertions;
+    private volatile long sizeInBytes;
+
+    boolean isWarm() {
+        return bloom != null && insertions <= bloom.capacity();
+    }
+
+    /**
+     * (Re)inicia o filtro com os fingerprints já gravados desde coveredFrom, em ordem de data.
+     * Um filtro saturado passa por aqui de novo e é redimensionado para o volume atual.
+     */
+    void warm(List<TransactionFingerprint> stored, Instant coveredFrom, long expectedInsertions, double falsePositiveRate, int recentCapacity) {
+        this.bloom = BloomFilter.sized(Math.max(expectedInsertions, 2L * stored.size()), falsePositiveRate);
+        this.recent = new RecentFingerprints(recentCapacity);
+        this.coveredFrom = coveredFrom;
+        this.insertions = stored.size();
+
+        stored.forEach(bloom::put);
+        stored.subList(Math.max(0, stored.size() - recentCapacity), stored.size()).forEach(recent::add);
+        this.sizeInBytes = bloom.sizeInBytes() + (long) recentCapacity * RecentFingerprints.BYTES_PER_ENTRY;
+    }
+
+    boolean isRecent(TransactionFingerprint fingerprint) {
+        return recent.contains(fingerprint);
+    }
+
+    /**
+     * false: com certeza não está gravado. Transações anteriores a coveredFrom não estão no filtro e sempre exigem o banco.
+     */
+    boolean mightBeStored(TransactionFingerprint fingerprint, Instant transactionDate) {
+        return transactionDate.isBefore(coveredFrom) || bloom.mightContain(fingerprint);
+    }
+
+    boolean isCovered(Instant transactionDate) {
+        return !transactionDate.isBefore(coveredFrom);
+    }
+
+    void remember(TransactionFingerprint fingerprint) {
+        bloom.put(fingerprint);
+        recent.add(fingerprint);
+        insertions++;
+    }
+
+    long sizeInBytes() {
+        return sizeInBytes;
+    }
+}
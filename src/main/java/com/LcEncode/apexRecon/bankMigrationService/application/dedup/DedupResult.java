@@ -0,0 +1,28 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.dedup;
+
+/**
+ * Contagem de um lote (ou acumulada) do TransactionDeduplicator.
+ * duplicatesInMemory: rejeitadas sem banco (repetidas no lote ou no conjunto recente).
+ * duplicatesInStore: o Bloom filter indicou provável duplicata e o banco confirmou, ou outro escritor a gravou antes.
+ * falsePositives: o Bloom filter indicou provável duplicata e o banco não tinha; foram gravadas.
+ * storeLookups: consultas ao banco (uma por conexão por lote com candidatos, mais uma por regravação).
+ */
+public record DedupResult(
+        long received,
+        long stored,
+        long duplicatesInMemory,
+        long duplicatesInStore,
+        long falsePositives,
+        long storeLookups
+) {
+    public static final DedupResult EMPTY = new DedupResult(0, 0, 0, 0, 0, 0);
+
+    public long duplicates() {
+        return duplicatesInMemory + duplicatesInStore;
+    }
+
+    public DedupResult plus(DedupResult other) {
+        return new DedupResult(received + other.received, stored + other.stored, duplicatesInMemory + other.duplicatesInMemory,
+                duplicatesInStore + other.duplicatesInStore, falsePositives + other.falsePositives, storeLookups + other.storeLookups);
+    }
+}
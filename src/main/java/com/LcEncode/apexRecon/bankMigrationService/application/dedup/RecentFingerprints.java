@@ -0,0 +1,38 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.dedup;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.valueObject.TransactionFingerprint;
+
+import java.util.LinkedHashSet;
+
+/**
+ * Conjunto exato dos últimos capacity fingerprints gravados, em ordem de inserção: cobre o caso comum de janelas
+ * de sync sobrepostas, em que as duplicatas são justamente as transações mais recentes, sem ir ao banco.
+ * Não é thread-safe: o acesso é serializado pelo ConnectionFilter.
+ */
+final class RecentFingerprints {
+    // Estimativa por entrada: nó do LinkedHashMap interno (~48 bytes) + fingerprint (~32 bytes).
+    static final int BYTES_PER_ENTRY = 80;
+
+    private final LinkedHashSet<TransactionFingerprint> fingerprints;
+    private final int capacity;
+
+    RecentFingerprints(int capacity) {
+        if (capacity < 0) { throw new IllegalArgumentException("Recent set capacity must not be negative"); }
+
+        this.fingerprints = LinkedHashSet.newLinkedHashSet(capacity);
+        this.capacity = capacity;
+    }
+
+    boolean contains(TransactionFingerprint fingerprint) {
+        return fingerprints.contains(fingerprint);
+    }
+
+    void add(TransactionFingerprint fingerprint) {
+        if (capacity == 0 || !fingerprints.add(fingerprint)) { return; }
+        if (fingerprints.size() > capacity) { fingerprints.removeFirst(); }
+    }
+
+    int size() {
+        return fingerprints.size();
+    }
+}
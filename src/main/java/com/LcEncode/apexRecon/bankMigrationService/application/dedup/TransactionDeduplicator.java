@@ -0,0 +1,197 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.dedup;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.DuplicateBankTransactionException;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.valueObject.TransactionFingerprint;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankTransactionRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Porta de entrada das transações bancárias no banco: grava apenas as que ainda não existem, pelo TransactionFingerprint.
+ * Por conexão, cada transação recebida passa por:
+ * 1. repetida no próprio lote ou no conjunto exato dos últimos recentCapacity gravados: duplicata, sem banco;
+ * 2. Bloom filter negativo (e data dentro da janela coberta): nova, sem banco;
+ * 3. caso contrário, provável duplicata: uma consulta por lote (findExistingFingerprints) decide.
+ * O filtro de uma conexão é aquecido no primeiro uso com os fingerprints gravados nos últimos warmHorizon, e a
+ * cobertura só vale se toda gravação em bank_transactions passar por aqui; a chave única (connection_id, fingerprint)
+ * é a barreira final: quando outro escritor grava a mesma transação antes, o lote é reconsultado e regravado sem ela.
+ * Filtro e gravação de uma conexão são serializados; conexões diferentes correm em paralelo.
+ */
+public class TransactionDeduplicator {
+
+    /**
+     * expectedPerConnection e falsePositiveRate dimensionam o Bloom filter de cada conexão; recentCapacity, o conjunto
+     * exato; maxTrackedConnections limita quantas conexões ficam em memória (as menos usadas são descartadas e
+     * reaquecidas quando voltarem). bytesPerConnection() estima a memória de cada uma.
+     */
+    public record Settings(
+            long expectedPerConnection,
+            double falsePositiveRate,
+            int recentCapacity,
+            Duration warmHorizon,
+            int maxTrackedConnections
+    ) {
+        public Settings {
+            if (expectedPerConnection <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+                throw new IllegalArgumentException("Expected insertions per connection must be positive and false positive rate in (0, 1)");
+            }
+            if (recentCapacity < 0 || maxTrackedConnections <= 0 || warmHorizon == null || warmHorizon.isNegative()) {
+                throw new IllegalArgumentException("Recent capacity, tracked connections and warm horizon must not be negative");
+            }
+        }
+
+        public static Settings defaults() {
+            return new Settings(10_000, 0.01, 512, Duration.ofDays(35), 10_000);
+        }
+
+        public long bytesPerConnection() {
+            return BloomFilter.sized(expectedPerConnection, falsePositiveRate).sizeInBytes() + (long) recentCapacity * RecentFingerprints.BYTES_PER_ENTRY;
+        }
+    }
+
+    private enum Decision { DUPLICATE, FRESH, CANDIDATE }
+
+    private final BankTransactionRepository repository;
+    private final Settings settings;
+    private final Clock clock;
+    private final ReentrantLock filtersLock = new ReentrantLock();
+    private final Map<UUID, ConnectionFilter> filters;
+    private final AtomicReference<DedupResult> totals = new AtomicReference<>(DedupResult.EMPTY);
+
+    public TransactionDeduplicator(BankTransactionRepository repository, Settings settings, Clock clock) {
+        this.repository = repository;
+        this.settings = settings;
+        this.clock = clock;
+        this.filters = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, ConnectionFilter> eldest) {
+                return size() > settings.maxTrackedConnections();
+            }
+        };
+    }
+
+    /**
+     * Grava as transações novas do lote (repository.saveAll, uma chamada por conexão) e descarta as duplicatas.
+     */
+    public DedupResult saveNew(List<BankTransaction> transactions) {
+        if (transactions.isEmpty()) { return DedupResult.EMPTY; }
+
+        var connectionId = transactions.getFirst().getConnectionId();
+        var singleConnection = transactions.stream().allMatch(transaction -> transaction.getConnectionId().equals(connectionId));
+
+        var result = DedupResult.EMPTY;
+        if (singleConnection) {
+            result = saveNew(connectionId, transactions);
+        } else {
+            var byConnection = new LinkedHashMap<UUID, List<BankTransaction>>();
+            transactions.forEach(transaction -> byConnection.computeIfAbsent(transaction.getConnectionId(), id -> new ArrayList<>()).add(transaction));
+            for (var entry : byConnection.entrySet()) { result = result.plus(saveNew(entry.getKey(), entry.getValue())); }
+        }
+
+        var batch = result;
+        totals.accumulateAndGet(batch, DedupResult::plus);
+        return batch;
+    }
+
+    public DedupResult totals() {
+        return totals.get();
+    }
+
+    public int trackedConnections() {
+        filtersLock.lock();
+        try {
+            return filters.size();
+        } finally { filtersLock.unlock(); }
+    }
+
+    public long memoryBytes() {
+        filtersLock.lock();
+        try {
+            return filters.values().stream().mapToLong(ConnectionFilter::sizeInBytes).sum();
+        } finally { filtersLock.unlock(); }
+    }
+
+    private DedupResult saveNew(UUID connectionId, List<BankTransaction> batch) {
+        var filter = filterFor(connectionId);
+        filter.lock.lock();
+        try {
+            if (!filter.isWarm()) {
+                var coveredFrom = clock.instant().minus(settings.warmHorizon());
+                filter.warm(repository.findFingerprintsSince(connectionId, coveredFrom), coveredFrom,
+                        settings.expectedPerConnection(), settings.falsePositiveRate(), settings.recentCapacity());
+            }
+
+            var decisions = new Decision[batch.size()];
+            var inBatch = HashSet.<TransactionFingerprint>newHashSet(batch.size());
+            var candidates = new ArrayList<TransactionFingerprint>();
+            var duplicatesInMemory = 0L;
+            for (int i = 0; i < batch.size(); i++) {
+                var transaction = batch.get(i);
+                var fingerprint = transaction.fingerprint();
+
+                if (!inBatch.add(fingerprint) || filter.isRecent(fingerprint)) {
+                    decisions[i] = Decision.DUPLICATE;
+                    duplicatesInMemory++;
+                } else if (filter.mightBeStored(fingerprint, transaction.getTransactionDate())) {
+                    decisions[i] = Decision.CANDIDATE;
+                    candidates.add(fingerprint);
+                } else { decisions[i] = Decision.FRESH; }
+            }
+
+            var existing = candidates.isEmpty() ? Set.<TransactionFingerprint>of() : repository.findExistingFingerprints(connectionId, candidates);
+            var fresh = new ArrayList<BankTransaction>(batch.size());
+            var duplicatesInStore = 0L;
+            var falsePositives = 0L;
+            for (int i = 0; i < batch.size(); i++) {
+                var transaction = batch.get(i);
+                if (decisions[i] == Decision.DUPLICATE) { continue; }
+
+                if (decisions[i] == Decision.CANDIDATE) {
+                    if (existing.contains(transaction.fingerprint())) {
+                        duplicatesInStore++;
+                        continue;
+                    }
+                    if (filter.isCovered(transaction.getTransactionDate())) { falsePositives++; }
+                }
+                fresh.add(transaction);
+            }
+
+            var storeLookups = candidates.isEmpty() ? 0L : 1L;
+            List<BankTransaction> stored = fresh;
+            while (!stored.isEmpty()) {
+                try {
+                    repository.saveAll(stored);
+                    break;
+                } catch (DuplicateBankTransactionException e) {
+                    var concurrent = repository.findExistingFingerprints(connectionId, stored.stream().map(BankTransaction::fingerprint).toList());
+                    storeLookups++;
+                    if (concurrent.isEmpty()) { throw e; }
+
+                    stored = stored.stream().filter(transaction -> !concurrent.contains(transaction.fingerprint())).toList();
+                    duplicatesInStore += concurrent.size();
+                }
+            }
+            // As descartadas na regravação também estão no banco, gravadas pelo outro escritor.
+            fresh.forEach(transaction -> filter.remember(transaction.fingerprint()));
+            return new DedupResult(batch.size(), stored.size(), duplicatesInMemory, duplicatesInStore, falsePositives, storeLookups);
+        } finally { filter.lock.unlock(); }
+    }
+
+    private ConnectionFilter filterFor(UUID connectionId) {
+        filtersLock.lock();
+        try {
+            return filters.computeIfAbsent(connectionId, id -> new ConnectionFilter());
+        } finally { filtersLock.unlock(); }
+    }
+}
@@ -0,0 +1,18 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.outbox;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+
+import java.time.Instant;
+
+/**
+ * Recebe cada transação publicada pelo TransactionOutboxRelay, com os três instantes da ingestão: transactionDate
+ * (no banco), ingestedAt (gravada pelo sync ou import) e processedAt (confirmada pelo broker). Chamado uma vez por
+ * transação na thread do relay, depois do commit do lote: a implementação não deve bloquear nem alocar.
+ * Um lote que falha depois da publicação não é reportado; volta no próximo drain e é reportado quando for gravado.
+ */
+@FunctionalInterface
+public interface RelayObserver {
+    RelayObserver NOOP = (provider, transactionDate, ingestedAt, processedAt) -> {};
+
+    void published(Provider provider, Instant transactionDate, Instant ingestedAt, Instant processedAt);
+}
@@ -0,0 +1,19 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Estado acumulado do relay. lastLag: atraso da entrada mais antiga ainda pendente na última verificação
+ * (Duration.ZERO com a outbox vazia). lastError: mensagem da última falha, null depois de um drain bem-sucedido.
+ */
+public record RelayStats(
+        long published,
+        long batches,
+        long failures,
+        Duration lastLag,
+        Instant lastDrainAt,
+        String lastError
+) {
+    public static final RelayStats EMPTY = new RelayStats(0, 0, 0, Duration.ZERO, null, null);
+}
@@ -0,0 +1,143 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.outbox;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.gateway.BankTransactionPublisher;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankTransactionOutboxRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drena a outbox das transações ingeridas para o broker: lotes de até batchSize em ordem de gravação, cada lote
+ * publicado com uma única espera de confirmação (em vez de uma ida ao broker por transação), processedAt gravado em lote
+ * e as entradas removidas na mesma transação. Um só fluxo ordenado preserva a ordem por connectionId.
+ * Enquanto os lotes saem cheios, drena sem pausa; com a outbox vazia, verifica a cada pollInterval. Falhas do broker
+ * ou do banco não perdem nada: o lote volta no próximo drain, com espera crescente até maxBackoff.
+ * Cada transação confirmada é reportada ao RelayObserver com o processedAt do lote (atraso de ingestão e de publicação),
+ * só depois que o drain retornou, isto é, depois do commit que removeu as entradas da outbox.
+ */
+public class TransactionOutboxRelay implements AutoCloseable {
+    private final BankTransactionOutboxRepository outbox;
+    private final BankTransactionPublisher publisher;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration maxBackoff;
+    private final Clock clock;
+    private final RelayObserver observer;
+    private final AtomicReference<RelayStats> stats = new AtomicReference<>(RelayStats.EMPTY);
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public TransactionOutboxRelay(BankTransactionOutboxRepository outbox, BankTransactionPublisher publisher,
+                                  int batchSize, Duration pollInterval, Duration maxBackoff, Clock clock, RelayObserver observer) {
+        if (batchSize <= 0) { throw new IllegalArgumentException("Outbox batch size must be greater than 0"); }
+        if (pollInterval == null || !pollInterval.isPositive() || maxBackoff == null || maxBackoff.compareTo(pollInterval) < 0) {
+            throw new IllegalArgumentException("Poll interval must be positive and max backoff not shorter than it");
+        }
+        if (observer == null) { throw new IllegalArgumentException("Relay observer must be provided"); }
+
+        this.outbox = outbox;
+        this.publisher = publisher;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.maxBackoff = maxBackoff;
+        this.clock = clock;
+        this.observer = observer;
+    }
+
+    /**
+     * Um lote: publica até batchSize transações e devolve quantas saíram.
+     */
+    public int drainOnce() {
+        var processedAt = clock.instant();
+        if (observer == RelayObserver.NOOP) { return drained(outbox.drain(batchSize, publisher, processedAt)); }
+
+        var confirmed = new ArrayList<BankTransaction>(batchSize);
+        var published = outbox.drain(batchSize, transactions -> {
+            publisher.publish(transactions);
+            confirmed.addAll(transactions);
+        }, processedAt);
+        report(confirmed, processedAt);
+        return drained(published);
+    }
+
+    /**
+     * Drena até a outbox ficar vazia (ou até um lote sair incompleto) e devolve o total publicado.
+     */
+    public long drainAll() {
+        long total = 0;
+        int published;
+        do {
+            published = drainOnce();
+            total += published;
+        } while (published == batchSize);
+        return total;
+    }
+
+    public synchronized void start() {
+        if (running) { return; }
+
+        running = true;
+        worker = Thread.ofPlatform().name("bank-transaction-outbox-relay").daemon().start(this::run);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public RelayStats stats() {
+        return stats.get();
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (worker == null) { return; }
+
+        LockSupport.unpark(worker);
+        try {
+            worker.join(maxBackoff.plus(pollInterval).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+    }
+
+    private int drained(int published) {
+        var now = clock.instant();
+        var lag = published < batchSize ? Duration.ZERO : outbox.oldestPending().map(oldest -> Duration.between(oldest, now)).orElse(Duration.ZERO);
+
+        stats.updateAndGet(current -> new RelayStats(current.published() + published, current.batches() + (published > 0 ? 1 : 0),
+                current.failures(), lag.isNegative() ? Duration.ZERO : lag, now, null));
+        return published;
+    }
+
+    private void report(List<BankTransaction> transactions, Instant processedAt) {
+        for (int i = 0; i < transactions.size(); i++) {
+            var transaction = transactions.get(i);
+            observer.published(transaction.getProvider(), transaction.getTransactionDate(), transaction.getIngestedAt(), processedAt);
+        }
+    }
+
+    private void run() {
+        var backoff = pollInterval;
+        while (running) {
+            try {
+                if (drainOnce() < batchSize) { LockSupport.parkNanos(pollInterval.toNanos()); }
+                backoff = pollInterval;
+            } catch (RuntimeException e) {
+                var error = e.getClass().getSimpleName() + ": " + e.getMessage();
+                stats.updateAndGet(current -> new RelayStats(current.published(), current.batches(), current.failures() + 1,
+                        current.lastLag(), current.lastDrainAt(), error));
+                LockSupport.parkNanos(backoff.toNanos());
+                backoff = backoff.multipliedBy(2).compareTo(maxBackoff) > 0 ? maxBackoff : backoff.multipliedBy(2);
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.statementImport;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Registros de largura fixa do CNAB, lidos direto do arquivo mapeado: os campos numéricos e as datas são
+ * decodificados byte a byte e só a descrição das transações aceitas vira String.
+ * - CNAB 240 (extrato para conciliação, FEBRABAN): detalhes tipo 3, segmento E; apenas lançamentos a crédito.
+ * - CNAB 400 (retorno de cobrança, Itaú/Bradesco/Santander): detalhes tipo 1 com ocorrência de liquidação;
+ *   o valor é o pago (254-266) ou, se zerado, o do título (153-165).
+ * Posições nos comentários são as do manual (base 1, inclusivas).
+ */
+final class CnabStatementParser implements StatementParser {
+    private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+    private static final Charset CHARSET = StandardCharsets.ISO_8859_1;
+    private static final int MAX_LINE_BYTES = 1024;
+
+    private final int recordLength;
+
+    private CnabStatementParser(int recordLength) {
+        this.recordLength = recordLength;
+    }
+
+    static CnabStatementParser cnab240() {
+        return new CnabStatementParser(240);
+    }
+
+    static CnabStatementParser cnab400() {
+        return new CnabStatementParser(400);
+    }
+
+    @Override
+    public void parse(MappedStatementFile file, ImportSession session) {
+        var recordNumber = 0L;
+        var position = 0L;
+
+        while (position < file.size()) {
+            file.ensure(position, MAX_LINE_BYTES);
+            var newline = file.indexOf((byte) '\n', position, position + MAX_LINE_BYTES);
+            if (newline < 0 && file.size() - position > MAX_LINE_BYTES) {
+                recordNumber++;
+                session.record();
+                session.error(recordNumber, position, "Record without line terminator in the first " + MAX_LINE_BYTES + " bytes");
+                newline = file.indexOf((byte) '\n', position, file.size());
+                position = newline < 0 ? file.size() : newline + 1;
+                continue;
+            }
+
+            var lineEnd = newline < 0 ? file.size() : newline;
+            var contentEnd = lineEnd > position && file.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+            var start = position;
+            position = lineEnd + 1;
+
+            if (contentEnd == start) { continue; }
+            // Alguns bancos fecham o arquivo com EOF (0x1A).
+            if (contentEnd - start == 1 && file.get(start) == 0x1A) { continue; }
+
+            recordNumber++;
+            session.record();
+            if (contentEnd - start != recordLength) {
+                session.error(recordNumber, start, "Expected " + recordLength + " bytes, found " + (contentEnd - start));
+                continue;
+            }
+
+            if (recordLength == 240) {
+                parse240(file, session, recordNumber, start);
+            } else { parse400(file, session, recordNumber, start); }
+        }
+    }
+
+    private static void parse240(MappedStatementFile file, ImportSession session, long recordNumber, long start) {
+        // 8: tipo de registro; 14: segmento.
+        if (file.get(start + 7) != '3' || file.get(start + 13) != 'E') {
+            session.skip();
+            return;
+        }
+        // 169: tipo de lançamento (D/C).
+        var type = file.get(start + 168);
+        if (type == 'D') {
+            session.skip();
+            return;
+        }
+        if (type != 'C') {
+            session.error(recordNumber, start, "Invalid entry type at column 169: " + (char) type);
+            return;
+        }
+
+        // 143-150: data do lançamento (DDMMAAAA).
+        var date = date(file, start + 142, 4);
+        if (date == null) {
+            session.error(recordNumber, start, "Invalid entry date at columns 143-150");
+            return;
+        }
+        // 151-168: valor do lançamento, 2 casas decimais.
+        var cents = file.digits(start + 150, start + 168);
+        if (cents < 0) {
+            session.error(recordNumber, start, "Invalid amount at columns 151-168");
+            return;
+        }
+
+        // 177-201: histórico; 202-240: número do documento.
+        var description = file.text(start + 176, start + 201, CHARSET) + " " + file.text(start + 201, start + 240, CHARSET);
+        session.transaction(recordNumber, start, BigDecimal.valueOf(cents, 2), date, description.strip());
+    }
+
+    private static void parse400(MappedStatementFile file, ImportSession session, long recordNumber, long start) {
+        // 1: tipo de registro; 109-110: código de ocorrência.
+        if (file.get(start) != '1' || !isSettlement(file.digits(start + 108, start + 110))) {
+            session.skip();
+            return;
+        }
+
+        // 111-116: data da ocorrência (DDMMAA).
+        var date = date(file, start + 110, 2);
+        if (date == null) {
+            session.error(recordNumber, start, "Invalid occurrence date at columns 111-116");
+            return;
+        }
+        // 254-266: valor pago; 153-165: valor do título. 2 casas decimais.
+        var paid = file.digits(start + 253, start + 266);
+        var face = file.digits(start + 152, start + 165);
+        if (paid < 0 || face < 0) {
+            session.error(recordNumber, start, "Invalid amount at columns 153-165 or 254-266");
+            return;
+        }
+
+        // 117-126: número do documento (seu número).
+        var description = "LIQUIDACAO BOLETO DOC " + file.text(start + 116, start + 126, CHARSET);
+        session.transaction(recordNumber, start, BigDecimal.valueOf(paid > 0 ? paid : face, 2), date, description);
+    }
+
+    /**
+     * 06 liquidação normal, 07 liquidação parcial, 08 liquidação em cartório, 15 liquidação em cartório (Bradesco),
+     * 17 liquidação após baixa.
+     */
+    private static boolean isSettlement(long occurrence) {
+        return occurrence == 6 || occurrence == 7 || occurrence == 8 || occurrence == 15 || occurrence == 17;
+    }
+
+    /**
+     * Data DDMMAAAA (yearDigits = 4) ou DDMMAA (yearDigits = 2, século 2000) no início do dia em São Paulo.
+     */
+    private static Instant date(MappedStatementFile file, long from, int yearDigits) {
+        var day = file.digits(from, from + 2);
+        var month = file.digits(from + 2, from + 4);
+        var year = file.digits(from + 4, from + 4 + yearDigits);
+        if (day <= 0 || month <= 0 || year < 0) { return null; }
+
+        try {
+            return LocalDate.of((int) (yearDigits == 2 ? 2000 + year : year), (int) month, (int) day).atStartOfDay(ZONE).toInstant();
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+}
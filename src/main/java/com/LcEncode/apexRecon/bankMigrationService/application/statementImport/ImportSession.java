@@ -0,0 +1,84 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.statementImport;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.DomainException;
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.BankConnection;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Estado de uma importação: acumula as transações em lotes de até batchSize, entregues ao sink assim que completos,
+ * e conta registros, ignorados e erros.
+ */
+final class ImportSession {
+    private final BankConnection connection;
+    private final int batchSize;
+    private final int maxErrors;
+    private final Consumer<List<BankTransaction>> sink;
+    private final Instant ingestedAt = Instant.now();
+    private final List<RecordError> errors = new ArrayList<>();
+    private List<BankTransaction> batch;
+    private long records;
+    private long transactions;
+    private long skipped;
+    private long errorCount;
+
+    ImportSession(BankConnection connection, int batchSize, int maxErrors, Consumer<List<BankTransaction>> sink) {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+        this.sink = sink;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    void record() {
+        records++;
+    }
+
+    void skip() {
+        skipped++;
+    }
+
+    void error(long recordNumber, long byteOffset, String reason) {
+        errorCount++;
+        if (errors.size() < maxErrors) { errors.add(new RecordError(recordNumber, byteOffset, reason)); }
+    }
+
+    void transaction(long recordNumber, long byteOffset, BigDecimal amount, Instant transactionDate, String description) {
+        final BankTransaction transaction;
+        try {
+            transaction = BankTransaction.builder()
+                    .connectionId(connection.getId())
+                    .provider(connection.getProvider())
+                    .amount(amount)
+                    .transactionDate(transactionDate)
+                    .description(description)
+                    .ingestedAt(ingestedAt)
+                    .build();
+        } catch (ValidateException | DomainException e) {
+            error(recordNumber, byteOffset, e.getMessage());
+            return;
+        }
+
+        batch.add(transaction);
+        transactions++;
+        if (batch.size() == batchSize) { flush(); }
+    }
+
+    void flush() {
+        if (batch.isEmpty()) { return; }
+
+        sink.accept(batch);
+        batch = new ArrayList<>(batchSize);
+    }
+
+    StatementImportReport report(StatementFormat format, long bytes, Duration elapsed) {
+        return new StatementImportReport(format, bytes, records, transactions, skipped, errorCount, errors, elapsed);
+    }
+}
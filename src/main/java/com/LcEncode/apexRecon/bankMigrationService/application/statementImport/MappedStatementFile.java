@@ -0,0 +1,137 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.statementImport;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Leitura de um arquivo de extrato por janelas mapeadas em memória (mmap), endereçada por posição absoluta.
+ * Só a janela corrente fica mapeada, então arquivos maiores que 2GB (limite de um MappedByteBuffer) também funcionam.
+ * Os parsers chamam ensure(início, tamanho máximo) antes de cada registro para que ele caiba inteiro na janela.
+ */
+final class MappedStatementFile implements AutoCloseable {
+    static final int DEFAULT_WINDOW_BYTES = 64 << 20;
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowBytes;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private int windowLength;
+
+    private MappedStatementFile(FileChannel channel, int windowBytes) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+        this.windowBytes = windowBytes;
+    }
+
+    static MappedStatementFile open(Path file, int windowBytes) {
+        try {
+            return new MappedStatementFile(FileChannel.open(file, StandardOpenOption.READ), windowBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Garante que [position, position + length) está mapeado, limitado ao fim do arquivo.
+     */
+    void ensure(long position, int length) {
+        var end = Math.min(size, position + length);
+        if (window == null || position < windowStart || end > windowStart + windowLength) { remap(position); }
+    }
+
+    byte get(long position) {
+        if (window == null || position < windowStart || position >= windowStart + windowLength) { remap(position); }
+        return window.get((int) (position - windowStart));
+    }
+
+    /**
+     * Posição do primeiro byte igual a value em [from, limit), ou -1.
+     */
+    long indexOf(byte value, long from, long limit) {
+        var end = Math.min(limit, size);
+        for (long position = from; position < end; position++) {
+            if (get(position) == value) { return position; }
+        }
+        return -1;
+    }
+
+    /**
+     * Posição da primeira ocorrência de pattern em [from, limit), ou -1.
+     */
+    long indexOf(byte[] pattern, long from, long limit) {
+        var end = Math.min(limit, size) - pattern.length;
+        for (long position = from; position <= end; position++) {
+            if (get(position) == pattern[0] && matches(pattern, position)) { return position; }
+        }
+        return -1;
+    }
+
+    boolean matches(byte[] pattern, long position) {
+        if (position + pattern.length > size) { return false; }
+
+        for (int i = 0; i < pattern.length; i++) {
+            if (get(position + i) != pattern[i]) { return false; }
+        }
+        return true;
+    }
+
+    /**
+     * Texto de [from, to) sem os espaços das pontas; é a única cópia de bytes para String feita pelos parsers.
+     */
+    String text(long from, long to, Charset charset) {
+        while (from < to && isBlank(get(from))) { from++; }
+        while (to > from && isBlank(get(to - 1))) { to--; }
+
+        var bytes = new byte[(int) (to - from)];
+        for (int i = 0; i < bytes.length; i++) { bytes[i] = get(from + i); }
+        return new String(bytes, charset);
+    }
+
+    /**
+     * Inteiro decimal sem sinal em [from, to); -1 se houver algum byte que não seja dígito.
+     */
+    long digits(long from, long to) {
+        var value = 0L;
+        for (long position = from; position < to; position++) {
+            var digit = get(position) - '0';
+            if (digit < 0 || digit > 9) { return -1; }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    static boolean isBlank(byte value) {
+        return value == ' ' || value == '\t' || value == '\r' || value == '\n';
+    }
+
+    private void remap(long position) {
+        if (position < 0 || position >= size) { throw new IndexOutOfBoundsException("Position " + position + " outside file of " + size + " bytes"); }
+
+        try {
+            windowStart = position;
+            windowLength = (int) Math.min(windowBytes, size - position);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.statementImport;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Blocos <STMTTRN> do OFX (SGML 1.x ou XML 2.x), localizados por busca de bytes no arquivo mapeado; o arquivo não
+ * precisa ter quebras de linha. Cada bloco é um registro. Apenas créditos (TRNAMT positivo) viram transação; a
+ * descrição é MEMO/NAME seguido do FITID, que identifica o lançamento no banco.
+ */
+final class OfxStatementParser implements StatementParser {
+    private static final ZoneId ZONE = ZoneId.of("America/Sao_Paulo");
+    private static final int MAX_BLOCK_BYTES = 64 * 1024;
+    private static final int HEADER_BYTES = 4096;
+
+    private static final byte[] OPEN = ascii("<STMTTRN>");
+    private static final byte[] CLOSE = ascii("</STMTTRN>");
+    private static final byte[] DTPOSTED = ascii("<DTPOSTED>");
+    private static final byte[] TRNAMT = ascii("<TRNAMT>");
+    private static final byte[] FITID = ascii("<FITID>");
+    private static final byte[] MEMO = ascii("<MEMO>");
+    private static final byte[] NAME = ascii("<NAME>");
+    private static final byte[] UTF_8 = ascii("UTF-8");
+
+    @Override
+    public void parse(MappedStatementFile file, ImportSession session) {
+        var charset = charset(file);
+        var recordNumber = 0L;
+        var position = 0L;
+
+        while (true) {
+            var open = file.indexOf(OPEN, position, file.size());
+            if (open < 0) { return; }
+
+            recordNumber++;
+            session.record();
+            var blockStart = open + OPEN.length;
+            file.ensure(open, MAX_BLOCK_BYTES);
+            var close = file.indexOf(CLOSE, blockStart, blockStart + MAX_BLOCK_BYTES);
+            if (close < 0) {
+                session.error(recordNumber, open, "STMTTRN block not closed within " + MAX_BLOCK_BYTES + " bytes");
+                position = blockStart;
+                continue;
+            }
+
+            parseBlock(file, session, charset, recordNumber, open, blockStart, close);
+            position = close + CLOSE.length;
+        }
+    }
+
+    private static void parseBlock(MappedStatementFile file, ImportSession session, Charset charset,
+                                   long recordNumber, long open, long from, long to) {
+        var amountStart = valueStart(file, TRNAMT, from, to);
+        if (amountStart < 0) {
+            session.error(recordNumber, open, "Missing TRNAMT");
+            return;
+        }
+        var amount = amount(file, amountStart, valueEnd(file, amountStart, to));
+        if (amount == null) {
+            session.error(recordNumber, open, "Invalid TRNAMT");
+            return;
+        }
+        if (amount.signum() <= 0) {
+            session.skip();
+            return;
+        }
+
+        var dateStart = valueStart(file, DTPOSTED, from, to);
+        var posted = dateStart < 0 ? null : dateTime(file, dateStart, valueEnd(file, dateStart, to));
+        if (posted == null) {
+            session.error(recordNumber, open, "Missing or invalid DTPOSTED");
+            return;
+        }
+
+        var description = new StringBuilder(element(file, MEMO, from, to, charset));
+        if (description.isEmpty()) { description.append(element(file, NAME, from, to, charset)); }
+        var fitId = element(file, FITID, from, to, charset);
+        if (!fitId.isEmpty()) { description.append(description.isEmpty() ? "" : " ").append("FITID ").append(fitId); }
+
+        session.transaction(recordNumber, open, amount, posted, description.toString());
+    }
+
+    private static String element(MappedStatementFile file, byte[] tag, long from, long to, Charset charset) {
+        var start = valueStart(file, tag, from, to);
+        return start < 0 ? "" : file.text(start, valueEnd(file, start, to), charset);
+    }
+
+    private static long valueStart(MappedStatementFile file, byte[] tag, long from, long to) {
+        var position = file.indexOf(tag, from, to);
+        return position < 0 ? -1 : position + tag.length;
+    }
+
+    /**
+     * No SGML o valor termina na próxima tag ou quebra de linha; no XML, na tag de fechamento.
+     */
+    private static long valueEnd(MappedStatementFile file, long from, long to) {
+        for (long position = from; position < to; position++) {
+            var value = file.get(position);
+            if (value == '<' || value == '\r' || value == '\n') { return position; }
+        }
+        return to;
+    }
+
+    /**
+     * Valor com sinal opcional. O último "." ou "," é o separador decimal e os anteriores são de milhar, o que cobre
+     * tanto 1234.56 quanto o 1.234,56 de alguns bancos brasileiros.
+     */
+    private static BigDecimal amount(MappedStatementFile file, long from, long to) {
+        while (from < to && MappedStatementFile.isBlank(file.get(from))) { from++; }
+        while (to > from && MappedStatementFile.isBlank(file.get(to - 1))) { to--; }
+        if (from == to) { return null; }
+
+        var negative = file.get(from) == '-';
+        if (negative || file.get(from) == '+') { from++; }
+
+        var decimalSeparator = -1L;
+        for (long position = to - 1; position >= from && decimalSeparator < 0; position--) {
+            if (file.get(position) == '.' || file.get(position) == ',') { decimalSeparator = position; }
+        }
+
+        var unscaled = 0L;
+        var digits = 0;
+        for (long position = from; position < to; position++) {
+            var value = file.get(position);
+            if ((value == '.' || value == ',') && position <= decimalSeparator) { continue; }
+            if (value < '0' || value > '9' || unscaled > (Long.MAX_VALUE - 9) / 10) { return null; }
+
+            unscaled = unscaled * 10 + (value - '0');
+            digits++;
+        }
+        if (digits == 0) { return null; }
+
+        var scale = decimalSeparator < 0 ? 0 : (int) (to - decimalSeparator - 1);
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+    }
+
+    /**
+     * AAAAMMDD[HHMMSS[.XXX]][[deslocamento:fuso]]; sem deslocamento, o horário é de São Paulo.
+     */
+    private static Instant dateTime(MappedStatementFile file, long from, long to) {
+        while (from < to && MappedStatementFile.isBlank(file.get(from))) { from++; }
+        if (to - from < 8) { return null; }
+
+        var year = file.digits(from, from + 4);
+        var month = file.digits(from + 4, from + 6);
+        var day = file.digits(from + 6, from + 8);
+        var hour = 0L;
+        var minute = 0L;
+        var second = 0L;
+        if (to - from >= 14 && file.get(from + 8) != '[') {
+            hour = file.digits(from + 8, from + 10);
+            minute = file.digits(from + 10, from + 12);
+            second = file.digits(from + 12, from + 14);
+        }
+        if (year < 0 || month < 0 || day < 0 || hour < 0 || minute < 0 || second < 0) { return null; }
+
+        try {
+            var local = LocalDateTime.of((int) year, (int) month, (int) day, (int) hour, (int) minute, (int) second);
+            var bracket = file.indexOf((byte) '[', from + 8, to);
+            return bracket < 0 ? local.atZone(ZONE).toInstant() : local.toInstant(offset(file, bracket + 1, to));
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static ZoneOffset offset(MappedStatementFile file, long from, long to) {
+        var negative = file.get(from) == '-';
+        if (negative || file.get(from) == '+') { from++; }
+
+        var end = from;
+        while (end < to && file.get(end) >= '0' && file.get(end) <= '9') { end++; }
+        var hours = end == from ? 0 : (int) file.digits(from, end);
+        return ZoneOffset.ofHours(negative ? -hours : hours);
+    }
+
+    /**
+     * OFX 1.x declara CHARSET:1252 na maioria dos bancos; OFX 2.x e alguns 1.x declaram UTF-8.
+     */
+    private static Charset charset(MappedStatementFile file) {
+        file.ensure(0, HEADER_BYTES);
+        if (file.indexOf(UTF_8, 0, HEADER_BYTES) >= 0) { return StandardCharsets.UTF_8; }
+
+        return Charset.isSupported("windows-1252") ? Charset.forName("windows-1252") : StandardCharsets.ISO_8859_1;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,10 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.statementImport;
+
+/**
+ * Registro rejeitado: número do registro (linha no CNAB, bloco STMTTRN no OFX), posição em bytes e motivo.
+ */
+public record RecordError(
+        long recordNumber,
+        long byteOffset,
+        String reason
+) {}
@@ -0,0 +1,70 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.statementImport;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.DomainException;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.BankConnection;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Importa arquivos de extrato (CNAB 240, CNAB 400, OFX) enviados pelos clientes sem Open Banking.
+ * O arquivo é lido por mmap em janelas, nunca é carregado inteiro nem quebrado em uma String por linha, e as
+ * transações saem em lotes de até batchSize para o sink (tipicamente TransactionDeduplicator::saveNew, que descarta
+ * lançamentos de um extrato reenviado).
+ * Registros inválidos não interrompem a importação: vão para o relatório com número e posição.
+ */
+public class StatementFileImporter {
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+    private static final int DEFAULT_MAX_ERRORS = 1_000;
+
+    private final int batchSize;
+    private final int maxErrors;
+    private final int windowBytes;
+
+    public StatementFileImporter() {
+        this(DEFAULT_BATCH_SIZE, DEFAULT_MAX_ERRORS, MappedStatementFile.DEFAULT_WINDOW_BYTES);
+    }
+
+    public StatementFileImporter(int batchSize, int maxErrors, int windowBytes) {
+        if (batchSize <= 0 || maxErrors < 0 || windowBytes < 64 * 1024) {
+            throw new IllegalArgumentException("Batch size must be positive, max errors not negative and window at least 64KB");
+        }
+
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+        this.windowBytes = windowBytes;
+    }
+
+    public StatementImportReport importFile(Path file, BankConnection connection, Consumer<List<BankTransaction>> sink) {
+        return importFile(file, null, connection, sink);
+    }
+
+    /**
+     * format null: detectado pelo conteúdo.
+     */
+    public StatementImportReport importFile(Path file, StatementFormat format, BankConnection connection, Consumer<List<BankTransaction>> sink) {
+        if (connection == null || sink == null) { throw new DomainException("Bank connection and transaction sink must be provided."); }
+
+        var started = System.nanoTime();
+        try (var mapped = MappedStatementFile.open(file, windowBytes)) {
+            var resolved = format == null ? StatementFormat.detect(mapped) : format;
+            if (resolved == null) { throw new DomainException("Unrecognized statement file format: " + file.getFileName()); }
+
+            var session = new ImportSession(connection, batchSize, maxErrors, sink);
+            parser(resolved).parse(mapped, session);
+            session.flush();
+            return session.report(resolved, mapped.size(), Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+
+    private static StatementParser parser(StatementFormat format) {
+        return switch (format) {
+            case CNAB_240 -> CnabStatementParser.cnab240();
+            case CNAB_400 -> CnabStatementParser.cnab400();
+            case OFX -> new OfxStatementParser();
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.statementImport;
+
+import java.nio.charset.StandardCharsets;
+
+public enum StatementFormat {
+    CNAB_240,
+    CNAB_400,
+    OFX;
+
+    private static final byte[] OFX_HEADER = "OFXHEADER".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] OFX_ROOT = "<OFX>".getBytes(StandardCharsets.US_ASCII);
+    private static final int SNIFF_BYTES = 4096;
+
+    /**
+     * Detecta o formato pelo início do arquivo: cabeçalho OFX, ou o tamanho do primeiro registro (240 ou 400 bytes).
+     * Devolve null quando não reconhece.
+     */
+    static StatementFormat detect(MappedStatementFile file) {
+        if (file.size() == 0) { return null; }
+
+        file.ensure(0, SNIFF_BYTES);
+        var start = 0L;
+        while (start < Math.min(file.size(), SNIFF_BYTES) && MappedStatementFile.isBlank(file.get(start))) { start++; }
+        if (file.matches(OFX_HEADER, start) || file.indexOf(OFX_ROOT, start, SNIFF_BYTES) >= 0) { return OFX; }
+
+        var lineEnd = file.indexOf((byte) '\n', 0, SNIFF_BYTES);
+        if (lineEnd < 0) { lineEnd = Math.min(file.size(), SNIFF_BYTES); }
+        var length = lineEnd > 0 && file.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+
+        if (length == 240) { return CNAB_240; }
+        if (length == 400) { return CNAB_400; }
+        return null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.statementImport;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * records: registros lidos; transactions: BankTransactions emitidas; skipped: registros válidos que não geram
+ * transação (headers, trailers, débitos, ocorrências que não são liquidação). errors guarda no máximo maxErrors
+ * detalhes; errorCount conta todos.
+ */
+public record StatementImportReport(
+        StatementFormat format,
+        long bytes,
+        long records,
+        long transactions,
+        long skipped,
+        long errorCount,
+        List<RecordError> errors,
+        Duration elapsed
+) {
+    public StatementImportReport {
+        errors = List.copyOf(errors);
+    }
+
+    public double recordsPerSecond() {
+        var seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds == 0 ? 0 : records / seconds;
+    }
+
+    public boolean hasErrors() {
+        return errorCount > 0;
+    }
+}
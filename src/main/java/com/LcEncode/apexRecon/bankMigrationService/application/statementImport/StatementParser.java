@@ -0,0 +1,6 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.statementImport;
+
+interface StatementParser {
+
+    void parse(MappedStatementFile file, ImportSession session);
+}
@@ -0,0 +1,12 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.statementImport;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.dedup.DedupResult;
+
+/**
+ * Resultado de um extrato enviado: o relatório da leitura do arquivo e quantas das transações lidas eram novas
+ * (dedup.stored) ou já estavam gravadas (dedup.duplicates()).
+ */
+public record StatementUploadResult(
+        StatementImportReport report,
+        DedupResult dedup
+) {}
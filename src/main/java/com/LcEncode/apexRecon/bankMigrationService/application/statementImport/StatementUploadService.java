@@ -0,0 +1,59 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.statementImport;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.dedup.DedupResult;
+import com.LcEncode.apexRecon.bankMigrationService.application.dedup.TransactionDeduplicator;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankConnectionRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Extrato enviado por upload para uma conexão da organização: o corpo é gravado em um arquivo temporário (o
+ * StatementFileImporter lê por mmap) e cada lote lido passa pelo TransactionDeduplicator, de modo que reenviar o
+ * mesmo arquivo não duplica lançamentos. O arquivo é apagado ao final, com sucesso ou não.
+ */
+public class StatementUploadService {
+    private final BankConnectionRepository connectionRepository;
+    private final TransactionDeduplicator deduplicator;
+    private final StatementFileImporter importer;
+    private final Path spoolDirectory;
+
+    public StatementUploadService(BankConnectionRepository connectionRepository, TransactionDeduplicator deduplicator,
+                                  StatementFileImporter importer, Path spoolDirectory) {
+        this.connectionRepository = connectionRepository;
+        this.deduplicator = deduplicator;
+        this.importer = importer;
+        this.spoolDirectory = spoolDirectory;
+    }
+
+    /**
+     * format null: detectado pelo conteúdo. Vazio quando a conexão não existe ou é de outra organização.
+     */
+    public Optional<StatementUploadResult> upload(UUID organizationId, UUID connectionId, StatementFormat format, InputStream body) {
+        var connection = connectionRepository.findById(connectionId).filter(found -> found.getOrganizationId().equals(organizationId));
+        if (connection.isEmpty()) { return Optional.empty(); }
+
+        Path file = null;
+        try {
+            Files.createDirectories(spoolDirectory);
+            file = Files.createTempFile(spoolDirectory, "statement-" + connectionId + "-", ".upload");
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+
+            var stored = new DedupResult[]{DedupResult.EMPTY};
+            var report = importer.importFile(file, format, connection.get(), batch -> stored[0] = stored[0].plus(deduplicator.saveNew(batch)));
+            return Optional.of(new StatementUploadResult(report, stored[0]));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            try {
+                if (file != null) { Files.deleteIfExists(file); }
+            } catch (IOException ignored) { }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.sync;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Resultado da sincronização de uma conexão. Em PARTIAL e FAILED, lastSync é o último ponto gravado
+ * com sucesso, de onde a próxima execução continua. transactions conta as gravadas; duplicates, as descartadas pela
+ * deduplicação.
+ */
+public record ConnectionSyncResult(
+        UUID connectionId,
+        Provider provider,
+        Status status,
+        int pages,
+        long transactions,
+        long duplicates,
+        Instant lastSync,
+        String error
+) {
+    public enum Status {
+        SYNCED,
+        PARTIAL,
+        FAILED,
+        SKIPPED
+    }
+
+    public boolean isSuccessful() {
+        return status == Status.SYNCED;
+    }
+}
@@ -0,0 +1,151 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.sync;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.dedup.TransactionDeduplicator;
+import com.LcEncode.apexRecon.bankMigrationService.domain.gateway.OpenBankingClient;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.BankConnection;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankConnectionRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Sincroniza os extratos das conexões ativas, uma virtual thread por conexão. A concorrência real contra cada banco
+ * é limitada pelo ProviderGuard do Provider (bulkhead, rate limiter e retry), não pelo número de threads.
+ * Cada conexão pagina a partir do seu lastSync; a cada página, as transações são gravadas e só então lastSync avança
+ * (updateLastSync + saveSyncState). Uma falha no meio mantém o progresso das páginas já gravadas, e a próxima execução
+ * recomeça do último ponto durável: a busca é at-least-once, e as transações repetidas na fronteira de uma página
+ * são descartadas pelo TransactionDeduplicator antes de chegar ao banco.
+ * A duração de cada conexão sincronizada vai para o SyncObserver, com o Provider e o status do resultado.
+ */
+public class OpenBankingSyncEngine {
+    private final Map<Provider, OpenBankingClient> clients = new EnumMap<>(Provider.class);
+    private final Map<Provider, ProviderGuard> guards;
+    private final BankConnectionRepository connectionRepository;
+    private final TransactionDeduplicator deduplicator;
+    private final int pageSize;
+    private final int maxPagesPerRun;
+    private final Clock clock;
+    private final SyncObserver observer;
+    // Conexões em sincronização: duas execuções sobrepostas não avançam o mesmo lastSync ao mesmo tempo.
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+
+    public OpenBankingSyncEngine(Collection<OpenBankingClient> clients, Map<Provider, ProviderGuard> guards,
+                                 BankConnectionRepository connectionRepository, TransactionDeduplicator deduplicator,
+                                 int pageSize, int maxPagesPerRun, Clock clock, SyncObserver observer) {
+        if (pageSize <= 0 || maxPagesPerRun <= 0) { throw new IllegalArgumentException("Page size and max pages per run must be greater than 0"); }
+        if (observer == null) { throw new IllegalArgumentException("Sync observer must be provided"); }
+
+        clients.forEach(client -> client.providers().forEach(provider -> this.clients.putIfAbsent(provider, client)));
+        this.guards = new EnumMap<>(guards);
+        this.connectionRepository = connectionRepository;
+        this.deduplicator = deduplicator;
+        this.pageSize = pageSize;
+        this.maxPagesPerRun = maxPagesPerRun;
+        this.clock = clock;
+        this.observer = observer;
+    }
+
+    public SyncReport syncActiveConnections() {
+        return sync(connectionRepository.findActive());
+    }
+
+    public SyncReport sync(Collection<BankConnection> connections) {
+        var started = System.nanoTime();
+        var targets = List.copyOf(connections);
+        var futures = new ArrayList<Future<ConnectionSyncResult>>(targets.size());
+
+        try (var executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("openbanking-sync-", 0).factory())) {
+            for (var connection : targets) {
+                futures.add(executor.submit(() -> syncConnection(connection)));
+            }
+        }
+
+        var results = new ArrayList<ConnectionSyncResult>(futures.size());
+        for (int i = 0; i < targets.size(); i++) {
+            var future = futures.get(i);
+            results.add(future.state() == Future.State.SUCCESS
+                    ? future.resultNow()
+                    : failed(targets.get(i), 0, 0, 0, String.valueOf(future.exceptionNow())));
+        }
+        return new SyncReport(results, Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    /**
+     * Sincroniza uma conexão até a última página ou até maxPagesPerRun páginas, o que vier primeiro.
+     */
+    public ConnectionSyncResult syncConnection(BankConnection connection) {
+        if (!connection.isActive() || !inFlight.add(connection.getId())) {
+            return result(connection, ConnectionSyncResult.Status.SKIPPED, 0, 0, 0, null);
+        }
+
+        var started = System.nanoTime();
+        try {
+            var result = syncPages(connection);
+            observer.synced(connection.getProvider(), result.status(), System.nanoTime() - started);
+            return result;
+        } finally {
+            inFlight.remove(connection.getId());
+        }
+    }
+
+    private ConnectionSyncResult syncPages(BankConnection connection) {
+        var pages = 0;
+        var transactions = 0L;
+        var duplicates = 0L;
+        try {
+            var client = clients.get(connection.getProvider());
+            var guard = guards.get(connection.getProvider());
+            if (client == null || guard == null) {
+                return failed(connection, 0, 0, 0, "No Open Banking client configured for provider " + connection.getProvider());
+            }
+
+            var since = connection.getLastSync();
+            String cursor = null;
+            do {
+                var requestCursor = cursor;
+                var page = guard.call(() -> client.fetchStatement(connection, since, requestCursor, pageSize));
+
+                var saved = deduplicator.saveNew(page.transactions());
+                advanceLastSync(connection, page.syncedUntil());
+
+                pages++;
+                transactions += saved.stored();
+                duplicates += saved.duplicates();
+                cursor = page.nextCursor();
+            } while (cursor != null && pages < maxPagesPerRun);
+
+            return result(connection, cursor == null ? ConnectionSyncResult.Status.SYNCED : ConnectionSyncResult.Status.PARTIAL, pages, transactions, duplicates, null);
+        } catch (RuntimeException e) {
+            return failed(connection, pages, transactions, duplicates, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private void advanceLastSync(BankConnection connection, Instant syncedUntil) {
+        var now = clock.instant();
+        var candidate = syncedUntil.isAfter(now) ? now : syncedUntil;
+        if (connection.getLastSync() != null && !candidate.isAfter(connection.getLastSync())) { return; }
+
+        connection.updateLastSync(candidate);
+        connectionRepository.saveSyncState(connection);
+    }
+
+    private static ConnectionSyncResult failed(BankConnection connection, int pages, long transactions, long duplicates, String error) {
+        return result(connection, pages == 0 ? ConnectionSyncResult.Status.FAILED : ConnectionSyncResult.Status.PARTIAL, pages, transactions, duplicates, error);
+    }
+
+    private static ConnectionSyncResult result(BankConnection connection, ConnectionSyncResult.Status status, int pages, long transactions, long duplicates, String error) {
+        return new ConnectionSyncResult(connection.getId(), connection.getProvider(), status, pages, transactions, duplicates, connection.getLastSync(), error);
+    }
+}
@@ -0,0 +1,24 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.sync;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.retry.Retry;
+
+import java.util.function.Supplier;
+
+/**
+ * Limites de um Provider aplicados a cada chamada: a retry envolve a tentativa inteira, e cada tentativa espera
+ * uma permissão do rate limiter antes de ocupar uma vaga do bulkhead (chamadas simultâneas).
+ * Todos bloqueiam apenas a virtual thread da conexão.
+ */
+public record ProviderGuard(
+        Bulkhead bulkhead,
+        RateLimiter rateLimiter,
+        Retry retry
+) {
+    public <T> T call(Supplier<T> call) {
+        Supplier<T> limited = Bulkhead.decorateSupplier(bulkhead, call);
+        limited = RateLimiter.decorateSupplier(rateLimiter, limited);
+        return Retry.decorateSupplier(retry, limited).get();
+    }
+}
@@ -0,0 +1,14 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.sync;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+
+/**
+ * Recebe a duração de cada sincronização de conexão do OpenBankingSyncEngine (exportação de métricas). Conexões
+ * SKIPPED não são reportadas. Chamado na virtual thread da conexão: a implementação não deve bloquear.
+ */
+@FunctionalInterface
+public interface SyncObserver {
+    SyncObserver NOOP = (provider, status, elapsedNanos) -> {};
+
+    void synced(Provider provider, ConnectionSyncResult.Status status, long elapsedNanos);
+}
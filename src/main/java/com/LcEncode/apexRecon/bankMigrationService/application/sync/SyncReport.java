@@ -0,0 +1,34 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.sync;
+
+import java.time.Duration;
+import java.util.List;
+
+public record SyncReport(
+        List<ConnectionSyncResult> results,
+        Duration elapsed
+) {
+    public SyncReport {
+        results = List.copyOf(results);
+    }
+
+    public long count(ConnectionSyncResult.Status status) {
+        return results.stream().filter(result -> result.status() == status).count();
+    }
+
+    public long pages() {
+        return results.stream().mapToLong(ConnectionSyncResult::pages).sum();
+    }
+
+    public long transactions() {
+        return results.stream().mapToLong(ConnectionSyncResult::transactions).sum();
+    }
+
+    public long duplicates() {
+        return results.stream().mapToLong(ConnectionSyncResult::duplicates).sum();
+    }
+
+    public double transactionsPerSecond() {
+        var seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds == 0 ? 0 : transactions() / seconds;
+    }
+}
@@ -0,0 +1,20 @@
+package com.LcEncode.apexRecon.bankMigrationService.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Outro escritor gravou a mesma transação (connection_id, fingerprint) entre a consulta e o INSERT: nada do lote foi
+ * gravado e ele pode ser refeito sem as que já estão no banco.
+ */
+public class DuplicateBankTransactionException extends RuntimeException {
+    private final UUID connectionId;
+
+    public DuplicateBankTransactionException(UUID connectionId, String message) {
+        super(message);
+        this.connectionId = connectionId;
+    }
+
+    public UUID getConnectionId() {
+        return connectionId;
+    }
+}
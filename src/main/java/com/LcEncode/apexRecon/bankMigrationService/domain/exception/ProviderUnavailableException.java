@@ -0,0 +1,10 @@
+package com.LcEncode.apexRecon.bankMigrationService.domain.exception;
+
+/**
+ * Falha transitória do provedor Open Banking (timeout, 5xx, 429): a busca da página pode ser repetida.
+ */
+public class ProviderUnavailableException extends RuntimeException {
+    public ProviderUnavailableException(String message) {
+        super(message);
+    }
+}
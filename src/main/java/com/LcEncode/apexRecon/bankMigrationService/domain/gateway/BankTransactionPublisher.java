@@ -0,0 +1,15 @@
+package com.LcEncode.apexRecon.bankMigrationService.domain.gateway;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+
+import java.util.List;
+
+public interface BankTransactionPublisher {
+
+    /**
+     * Publica as transações na ordem da lista e só retorna depois que o broker confirmou todas.
+     * Qualquer mensagem não confirmada faz o método lançar exceção; parte do lote pode já ter sido entregue
+     * (at-least-once: o consumidor deduplica pelo id da transação, que vai como messageId).
+     */
+    void publish(List<BankTransaction> transactions);
+}
@@ -0,0 +1,20 @@
+package com.LcEncode.apexRecon.bankMigrationService.domain.gateway;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.BankConnection;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.StatementPage;
+
+import java.time.Instant;
+import java.util.Set;
+
+public interface OpenBankingClient {
+
+    Set<Provider> providers();
+
+    /**
+     * Busca uma página do extrato com transações a partir de since (inclusive; null = histórico completo).
+     * cursor é null na primeira página e, nas seguintes, o nextCursor da página anterior.
+     * Falhas transitórias devem ser lançadas como ProviderUnavailableException.
+     */
+    StatementPage fetchStatement(BankConnection connection, Instant since, String cursor, int pageSize);
+}
@@ -3,6 +3,7 @@ package com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection;
 import com.LcEncode.apexRecon.bankMigrationService.domain.exception.DomainException;
 import com.LcEncode.apexRecon.bankMigrationService.domain.exception.ValidateException;
 import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.shared.domain.identifier.Ids;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -103,12 +104,23 @@ public class BankConnection {
     }
 
     public static class BankConnectionBuilder {
+        private UUID id;
         private UUID organizationId;
         private Provider provider;
         private String accessTokenSecretArn;
+        private Instant lastSync;
+        private boolean active = true;
 
         public BankConnectionBuilder() {}
 
+        /**
+         * Apenas para reconstituir uma conexão já persistida; conexões novas recebem o id de Ids.next().
+         */
+        public BankConnectionBuilder id(UUID id) {
+            this.id = id;
+            return this;
+        }
+
         public BankConnectionBuilder organizationId(UUID organizationId) {
             this.organizationId = organizationId;
             return this;
@@ -124,13 +136,22 @@ public class BankConnection {
             return this;
         }
 
+        public BankConnectionBuilder lastSync(Instant lastSync) {
+            this.lastSync = lastSync;
+            return this;
+        }
+
+        public BankConnectionBuilder active(boolean active) {
+            this.active = active;
+            return this;
+        }
 
         public BankConnection build() {
             if (organizationId == null) { throw new ValidateException("Bank Connection organization ID must be provided."); }
             if (provider == null) { throw new ValidateException("Bank Connection provider must be provided."); }
-            if (accessTokenSecretArn.isBlank()) { throw new ValidateException("Bank Connection access Token Secret ARN must be provided."); }
+            if (accessTokenSecretArn == null || accessTokenSecretArn.isBlank()) { throw new ValidateException("Bank Connection access Token Secret ARN must be provided."); }
 
-            return new BankConnection(UUID.randomUUID(), this.organizationId, this.provider, this.accessTokenSecretArn, null, true);
+            return new BankConnection(this.id == null ? Ids.next() : this.id, this.organizationId, this.provider, this.accessTokenSecretArn, this.lastSync, this.active);
         }
     }
 }
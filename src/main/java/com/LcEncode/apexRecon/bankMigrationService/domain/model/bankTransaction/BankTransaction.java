@@ -1,7 +1,10 @@
 package com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction;
 
 import com.LcEncode.apexRecon.bankMigrationService.domain.exception.DomainException;
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.ValidateException;
 import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.valueObject.TransactionFingerprint;
+import com.LcEncode.apexRecon.shared.domain.identifier.Ids;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -16,9 +19,10 @@ public class BankTransaction {
     private final String description;
     private final Instant ingestedAt;
     private Instant processedAt; // Quando foi enviado para o RabbitMQ
+    private TransactionFingerprint fingerprint; // Calculado na primeira leitura; os campos que o compõem são finais
 
     private BankTransaction(UUID id, UUID connectionId, Provider provider, BigDecimal amount, Instant transactionDate, String description, Instant ingestedAt, Instant processedAt) {
-        if (id == null || connectionId == null || provider == null || amount.compareTo(BigDecimal.ZERO) <= 0 || transactionDate == null || description.isBlank() || ingestedAt == null || processedAt == null) {
+        if (id == null || connectionId == null || provider == null || amount == null || amount.compareTo(BigDecimal.ZERO) <= 0 || transactionDate == null || description == null || description.isBlank() || ingestedAt == null) {
             throw new DomainException("All core bank transaction must be provided.");
         }
 
@@ -45,6 +49,13 @@ public class BankTransaction {
         return this.processedAt!= null;
     }
 
+    public TransactionFingerprint fingerprint() {
+        if (fingerprint == null) {
+            fingerprint = TransactionFingerprint.of(connectionId, provider, amount, transactionDate, description);
+        }
+        return fingerprint;
+    }
+
     public UUID getId() {
         return id;
     }
@@ -102,6 +113,66 @@ public class BankTransaction {
     }
 
     public static class BankTransactionBuilder {
+        private UUID id;
+        private UUID connectionId;
+        private Provider provider;
+        private BigDecimal amount;
+        private Instant transactionDate;
+        private String description;
+        private Instant ingestedAt;
+        private Instant processedAt;
+
+        public BankTransactionBuilder() {}
+
+        public BankTransactionBuilder id(UUID id) {
+            this.id = id;
+            return this;
+        }
+
+        public BankTransactionBuilder connectionId(UUID connectionId) {
+            this.connectionId = connectionId;
+            return this;
+        }
+
+        public BankTransactionBuilder provider(Provider provider) {
+            this.provider = provider;
+            return this;
+        }
+
+        public BankTransactionBuilder amount(BigDecimal amount) {
+            this.amount = amount;
+            return this;
+        }
 
+        public BankTransactionBuilder transactionDate(Instant transactionDate) {
+            this.transactionDate = transactionDate;
+            return this;
+        }
+
+        public BankTransactionBuilder description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        public BankTransactionBuilder ingestedAt(Instant ingestedAt) {
+            this.ingestedAt = ingestedAt;
+            return this;
+        }
+
+        public BankTransactionBuilder processedAt(Instant processedAt) {
+            this.processedAt = processedAt;
+            return this;
+        }
+
+        public BankTransaction build() {
+            if (connectionId == null) { throw new ValidateException("Bank transaction connection ID must be provided."); }
+            if (provider == null) { throw new ValidateException("Bank transaction provider must be provided."); }
+            if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) { throw new ValidateException("Bank transaction amount must be provided or must be greater than 0"); }
+            if (transactionDate == null) { throw new ValidateException("Bank transaction date must be provided."); }
+            if (description == null || description.isBlank()) { throw new ValidateException("Bank transaction description must be provided."); }
+
+            return new BankTransaction(this.id == null ? Ids.next() : this.id, this.connectionId, this.provider, this.amount, this.transactionDate,
+                    this.description, this.ingestedAt == null ? Instant.now() : this.ingestedAt, this.processedAt);
+        }
     }
 }
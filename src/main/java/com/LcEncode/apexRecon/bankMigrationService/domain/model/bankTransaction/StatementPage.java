@@ -0,0 +1,29 @@
+package com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.DomainException;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Uma página do extrato de uma conexão, em ordem crescente de data.
+ * syncedUntil: até onde o extrato está completo depois desta página; é o valor que vai para BankConnection.lastSync.
+ * nextCursor: cursor opaco do provedor para a próxima página, ou null na última.
+ */
+public record StatementPage(
+        List<BankTransaction> transactions,
+        Instant syncedUntil,
+        String nextCursor
+) {
+    public StatementPage {
+        if (transactions == null || syncedUntil == null) {
+            throw new DomainException("All core statement page must be provided.");
+        }
+
+        transactions = List.copyOf(transactions);
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,148 @@
+package com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.valueObject;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.DomainException;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Identidade estável de um lançamento bancário, independente do id gerado na ingestão: hash de 128 bits
+ * (MurmurHash3 x64) sobre connectionId, Provider, valor, data e descrição normalizada. A mesma transação vinda de
+ * janelas de sync sobrepostas ou de um extrato reenviado tem o mesmo fingerprint.
+ * Valor e data entram na precisão das colunas (DECIMAL(19, 4) e TIMESTAMP(6)), então o que volta do banco bate com o
+ * que foi calculado na ingestão.
+ */
+public record TransactionFingerprint(
+        long high,
+        long low
+) {
+    private static final long SEED = 0x41504558L; // "APEX"
+
+    public static TransactionFingerprint of(UUID connectionId, Provider provider, BigDecimal amount, Instant transactionDate, String description) {
+        if (connectionId == null || provider == null || amount == null || transactionDate == null || description == null) {
+            throw new DomainException("All fingerprint fields must be provided.");
+        }
+
+        var normalized = normalizeDescription(description);
+        var hash = new Murmur3(SEED);
+        hash.block(connectionId.getMostSignificantBits(), connectionId.getLeastSignificantBits());
+        hash.block(amount.setScale(4, RoundingMode.HALF_UP).unscaledValue().longValueExact(), epochMicros(transactionDate));
+        hash.block(provider.name().hashCode(), normalized.length());
+
+        // Descrição em blocos de 8 chars (4 por long); o comprimento já entrou no hash, então o preenchimento com zeros do último bloco não colide.
+        long k1 = 0, k2 = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            var slot = i & 7;
+            if (slot < 4) {
+                k1 |= (long) normalized.charAt(i) << (slot * 16);
+            } else { k2 |= (long) normalized.charAt(i) << ((slot - 4) * 16); }
+
+            if (slot == 7) {
+                hash.block(k1, k2);
+                k1 = 0;
+                k2 = 0;
+            }
+        }
+        if ((normalized.length() & 7) != 0) { hash.block(k1, k2); }
+
+        return hash.finish();
+    }
+
+    /**
+     * Maiúsculas, sem acentos e com espaços colapsados: "Pix  recebido - João" e "PIX RECEBIDO - JOAO" são a mesma descrição.
+     */
+    public static String normalizeDescription(String description) {
+        var ascii = true;
+        for (int i = 0; i < description.length() && ascii; i++) { ascii = description.charAt(i) < 0x80; }
+        var decomposed = ascii ? description : Normalizer.normalize(description, Normalizer.Form.NFD);
+
+        var normalized = new StringBuilder(decomposed.length());
+        var pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            var c = decomposed.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                pendingSpace = !normalized.isEmpty();
+                continue;
+            }
+            if (Character.getType(c) == Character.NON_SPACING_MARK) { continue; }
+
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(Character.toUpperCase(c));
+        }
+        return normalized.toString();
+    }
+
+    public UUID toUuid() {
+        return new UUID(high, low);
+    }
+
+    public static TransactionFingerprint fromUuid(UUID value) {
+        return new TransactionFingerprint(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+
+    private static long epochMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static final class Murmur3 {
+        private static final long C1 = 0x87c37b91114253d5L;
+        private static final long C2 = 0x4cf5ad432745937fL;
+
+        private long h1;
+        private long h2;
+        private int length;
+
+        Murmur3(long seed) {
+            h1 = seed;
+            h2 = seed;
+        }
+
+        void block(long k1, long k2) {
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= C1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+
+            length += 16;
+        }
+
+        TransactionFingerprint finish() {
+            h1 ^= length;
+            h2 ^= length;
+            h1 += h2;
+            h2 += h1;
+            h1 = fmix(h1);
+            h2 = fmix(h2);
+            h1 += h2;
+            h2 += h1;
+            return new TransactionFingerprint(h1, h2);
+        }
+
+        private static long fmix(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.LcEncode.apexRecon.bankMigrationService.domain.repository;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.BankConnection;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BankConnectionRepository {
+
+    List<BankConnection> findActive();
+
+    Optional<BankConnection> findById(UUID id);
+
+    /**
+     * Grava o lastSync atual da conexão.
+     */
+    void saveSyncState(BankConnection connection);
+}
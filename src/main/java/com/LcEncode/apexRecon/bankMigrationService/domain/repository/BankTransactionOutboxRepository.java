@@ -0,0 +1,24 @@
+package com.LcEncode.apexRecon.bankMigrationService.domain.repository;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.gateway.BankTransactionPublisher;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface BankTransactionOutboxRepository {
+
+    /**
+     * Em uma transação: trava as próximas limit entradas da outbox em ordem de gravação, publica as transações
+     * correspondentes, grava processedAt de todas em lote e remove as entradas. Se a publicação falhar, nada é
+     * alterado e as mesmas entradas voltam no próximo drain.
+     * Retorna quantas transações foram publicadas (0: outbox vazia).
+     */
+    int drain(int limit, BankTransactionPublisher publisher, Instant processedAt);
+
+    long pending();
+
+    /**
+     * Quando foi gravada a entrada mais antiga ainda não publicada: o atraso do relay é now - esse instante.
+     */
+    Optional<Instant> oldestPending();
+}
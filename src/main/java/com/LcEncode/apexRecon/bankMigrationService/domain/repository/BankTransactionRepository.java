@@ -0,0 +1,30 @@
+package com.LcEncode.apexRecon.bankMigrationService.domain.repository;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.valueObject.TransactionFingerprint;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public interface BankTransactionRepository {
+
+    /**
+     * Grava as transações e as entradas da outbox (BankTransactionOutboxRepository) na mesma transação:
+     * ao retornar, ambas estão commitadas e a publicação fica a cargo do relay. Se alguma já estiver gravada por outro
+     * escritor, lança DuplicateBankTransactionException sem gravar nada.
+     */
+    void saveAll(List<BankTransaction> transactions);
+
+    /**
+     * Quais dos fingerprints já estão gravados para a conexão.
+     */
+    Set<TransactionFingerprint> findExistingFingerprints(UUID connectionId, Collection<TransactionFingerprint> fingerprints);
+
+    /**
+     * Fingerprints das transações da conexão com transactionDate >= since, em ordem de data.
+     */
+    List<TransactionFingerprint> findFingerprintsSince(UUID connectionId, Instant since);
+}
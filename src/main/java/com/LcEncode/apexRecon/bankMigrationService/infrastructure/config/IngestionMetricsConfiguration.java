@@ -0,0 +1,18 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.config;
+
+import com.LcEncode.apexRecon.bankMigrationService.infrastructure.metrics.MicrometerIngestionObserver;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IngestionMetricsConfiguration {
+
+    /**
+     * Uma instância para o sync e o relay: os timers de ingestão são registrados uma vez só.
+     */
+    @Bean
+    public MicrometerIngestionObserver ingestionObserver(MeterRegistry meterRegistry) {
+        return new MicrometerIngestionObserver(meterRegistry);
+    }
+}
@@ -0,0 +1,91 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.config;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.dedup.TransactionDeduplicator;
+import com.LcEncode.apexRecon.bankMigrationService.application.sync.OpenBankingSyncEngine;
+import com.LcEncode.apexRecon.bankMigrationService.application.sync.ProviderGuard;
+import com.LcEncode.apexRecon.bankMigrationService.application.sync.SyncObserver;
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.ProviderUnavailableException;
+import com.LcEncode.apexRecon.bankMigrationService.domain.gateway.OpenBankingClient;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankConnectionRepository;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankTransactionRepository;
+import com.LcEncode.apexRecon.bankMigrationService.infrastructure.openbanking.LocalOpenBankingClient;
+import com.LcEncode.apexRecon.bankMigrationService.infrastructure.scheduling.OpenBankingSyncJob;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+
+@Configuration
+@EnableConfigurationProperties({OpenBankingSyncProperties.class, TransactionDedupProperties.class})
+public class OpenBankingSyncConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "apexrecon.sync.stand-in", name = "enabled", havingValue = "true")
+    public LocalOpenBankingClient localOpenBankingClient(OpenBankingSyncProperties properties) {
+        var standIn = properties.standIn();
+        return new LocalOpenBankingClient(new LocalOpenBankingClient.Settings(
+                standIn.latency(), standIn.latencyJitter(), standIn.errorRate(), standIn.transactionInterval(), standIn.initialHistory()),
+                Clock.systemUTC());
+    }
+
+    @Bean
+    public TransactionDeduplicator transactionDeduplicator(BankTransactionRepository transactionRepository, TransactionDedupProperties properties) {
+        return new TransactionDeduplicator(transactionRepository, properties.toSettings(), Clock.systemUTC());
+    }
+
+    @Bean
+    public OpenBankingSyncEngine openBankingSyncEngine(ObjectProvider<OpenBankingClient> clients,
+                                                       OpenBankingSyncProperties properties,
+                                                       BulkheadRegistry bulkheadRegistry,
+                                                       RateLimiterRegistry rateLimiterRegistry,
+                                                       RetryRegistry retryRegistry,
+                                                       BankConnectionRepository connectionRepository,
+                                                       TransactionDeduplicator deduplicator,
+                                                       SyncObserver syncObserver) {
+        var guards = new EnumMap<Provider, ProviderGuard>(Provider.class);
+        for (var provider : Provider.values()) {
+            var limits = properties.limitsFor(provider);
+            // Instâncias registradas nos registries do resilience4j: aparecem no actuator e nas métricas com esse nome.
+            var name = "openbanking-" + provider.name().toLowerCase(Locale.ROOT);
+
+            guards.put(provider, new ProviderGuard(
+                    bulkheadRegistry.bulkhead(name, BulkheadConfig.custom()
+                            .maxConcurrentCalls(limits.maxConcurrentCalls())
+                            .maxWaitDuration(limits.maxWait())
+                            .build()),
+                    rateLimiterRegistry.rateLimiter(name, RateLimiterConfig.custom()
+                            .limitForPeriod(limits.requestsPerSecond())
+                            .limitRefreshPeriod(Duration.ofSeconds(1))
+                            .timeoutDuration(limits.maxWait())
+                            .build()),
+                    retryRegistry.retry(name, RetryConfig.custom()
+                            .maxAttempts(limits.maxAttempts())
+                            .intervalFunction(IntervalFunction.ofExponentialBackoff(limits.retryBackoff(), 2.0))
+                            .retryExceptions(ProviderUnavailableException.class)
+                            .build())));
+        }
+
+        return new OpenBankingSyncEngine(clients.orderedStream().toList(), guards, connectionRepository, deduplicator,
+                properties.pageSize(), properties.maxPagesPerRun(), Clock.systemUTC(), syncObserver);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "apexrecon.sync.schedule", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public OpenBankingSyncJob openBankingSyncJob(OpenBankingSyncEngine engine) {
+        return new OpenBankingSyncJob(engine);
+    }
+}
@@ -0,0 +1,50 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.config;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Map;
+
+/**
+ * apexrecon.sync.*: tamanho de página, limites padrão por Provider (sobrescritos em providers.ITAU, providers.NUBANK, ...),
+ * o agendamento da sincronização (schedule) e o provedor local (stand-in) para rodar sem rede.
+ */
+@ConfigurationProperties("apexrecon.sync")
+public record OpenBankingSyncProperties(
+        @DefaultValue("200") int pageSize,
+        @DefaultValue("50") int maxPagesPerRun,
+        @DefaultValue ProviderLimits defaults,
+        Map<Provider, ProviderLimits> providers,
+        @DefaultValue Schedule schedule,
+        @DefaultValue StandIn standIn
+) {
+    public record ProviderLimits(
+            @DefaultValue("16") int maxConcurrentCalls,
+            @DefaultValue("20") int requestsPerSecond,
+            @DefaultValue("5s") Duration maxWait,
+            @DefaultValue("3") int maxAttempts,
+            @DefaultValue("500ms") Duration retryBackoff
+    ) {}
+
+    public record Schedule(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("0 */5 * * * *") String cron,
+            @DefaultValue("UTC") ZoneId zone
+    ) {}
+
+    public record StandIn(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("50ms") Duration latency,
+            @DefaultValue("25ms") Duration latencyJitter,
+            @DefaultValue("0.01") double errorRate,
+            @DefaultValue("30m") Duration transactionInterval,
+            @DefaultValue("30d") Duration initialHistory
+    ) {}
+
+    public ProviderLimits limitsFor(Provider provider) {
+        return providers == null ? defaults : providers.getOrDefault(provider, defaults);
+    }
+}
@@ -0,0 +1,25 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.config;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.dedup.TransactionDeduplicator;
+import com.LcEncode.apexRecon.bankMigrationService.application.statementImport.StatementFileImporter;
+import com.LcEncode.apexRecon.bankMigrationService.application.statementImport.StatementUploadService;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankConnectionRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(StatementImportProperties.class)
+public class StatementImportConfiguration {
+
+    @Bean
+    public StatementFileImporter statementFileImporter(StatementImportProperties properties) {
+        return new StatementFileImporter(properties.batchSize(), properties.maxErrors(), Math.toIntExact(properties.window().toBytes()));
+    }
+
+    @Bean
+    public StatementUploadService statementUploadService(BankConnectionRepository connectionRepository, TransactionDeduplicator deduplicator,
+                                                         StatementFileImporter importer, StatementImportProperties properties) {
+        return new StatementUploadService(connectionRepository, deduplicator, importer, properties.effectiveSpoolDirectory());
+    }
+}
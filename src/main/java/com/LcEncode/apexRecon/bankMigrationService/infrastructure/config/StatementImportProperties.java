@@ -0,0 +1,27 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * apexrecon.statement-import.*: extratos enviados por arquivo. batch-size é o número de transações por chamada ao
+ * TransactionDeduplicator, max-errors limita os registros rejeitados detalhados no relatório e window o trecho do
+ * arquivo mapeado em memória por vez.
+ */
+@ConfigurationProperties("apexrecon.statement-import")
+public record StatementImportProperties(
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("1000") int maxErrors,
+        @DefaultValue("64MB") DataSize window,
+        @DefaultValue("") String spoolDirectory
+) {
+    /**
+     * spool-directory vazio: apexrecon-statement-imports dentro de java.io.tmpdir.
+     */
+    public Path effectiveSpoolDirectory() {
+        return spoolDirectory.isBlank() ? Path.of(System.getProperty("java.io.tmpdir"), "apexrecon-statement-imports") : Path.of(spoolDirectory);
+    }
+}
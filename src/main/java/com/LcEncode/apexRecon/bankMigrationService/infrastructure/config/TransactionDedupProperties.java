@@ -0,0 +1,25 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.config;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.dedup.TransactionDeduplicator;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * apexrecon.dedup.*: dimensionamento do filtro de duplicatas por conexão. Memória aproximada por conexão:
+ * expected-per-connection * 1.44 * log2(1 / false-positive-rate) bits + recent-capacity * 80 bytes
+ * (padrão: ~12KB + ~40KB), vezes max-tracked-connections no pior caso.
+ */
+@ConfigurationProperties("apexrecon.dedup")
+public record TransactionDedupProperties(
+        @DefaultValue("10000") long expectedPerConnection,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("512") int recentCapacity,
+        @DefaultValue("35d") Duration warmHorizon,
+        @DefaultValue("10000") int maxTrackedConnections
+) {
+    public TransactionDeduplicator.Settings toSettings() {
+        return new TransactionDeduplicator.Settings(expectedPerConnection, falsePositiveRate, recentCapacity, warmHorizon, maxTrackedConnections);
+    }
+}
@@ -0,0 +1,75 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.config;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.outbox.RelayObserver;
+import com.LcEncode.apexRecon.bankMigrationService.application.outbox.TransactionOutboxRelay;
+import com.LcEncode.apexRecon.bankMigrationService.domain.gateway.BankTransactionPublisher;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankTransactionOutboxRepository;
+import com.LcEncode.apexRecon.bankMigrationService.infrastructure.messaging.LocalBrokerPublisher;
+import com.LcEncode.apexRecon.bankMigrationService.infrastructure.messaging.RabbitBankTransactionPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(TransactionOutboxProperties.class)
+public class TransactionOutboxConfiguration {
+
+    @Bean
+    public TopicExchange bankTransactionsExchange(TransactionOutboxProperties properties) {
+        return new TopicExchange(properties.exchange(), true, false);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "apexrecon.outbox.stand-in", name = "enabled", havingValue = "true")
+    public LocalBrokerPublisher localBrokerPublisher(TransactionOutboxProperties properties) {
+        return new LocalBrokerPublisher(properties.standIn().publishLatency(), properties.standIn().confirmLatency(), Clock.systemUTC());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(BankTransactionPublisher.class)
+    public RabbitBankTransactionPublisher rabbitBankTransactionPublisher(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper,
+                                                                         TransactionOutboxProperties properties) {
+        return new RabbitBankTransactionPublisher(rabbitTemplate, objectMapper, properties.exchange(), properties.routingKey(), properties.confirmTimeout());
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "apexrecon.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public TransactionOutboxRelay transactionOutboxRelay(BankTransactionOutboxRepository outbox, BankTransactionPublisher publisher,
+                                                         TransactionOutboxProperties properties, RelayObserver relayObserver) {
+        return new TransactionOutboxRelay(outbox, publisher, properties.batchSize(), properties.pollInterval(), properties.maxBackoff(),
+                Clock.systemUTC(), relayObserver);
+    }
+
+    /**
+     * O relay começa a drenar no start do contexto, não na criação do bean: um refresh sem lifecycle (execução de
+     * treino do CDS, spring.context.exit=onRefresh) não abre conexão nem sobe a thread do relay.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "apexrecon.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public SmartLifecycle transactionOutboxRelayLifecycle(TransactionOutboxRelay relay) {
+        return new SmartLifecycle() {
+            @Override
+            public void start() {
+                relay.start();
+            }
+
+            @Override
+            public void stop() {
+                relay.close();
+            }
+
+            @Override
+            public boolean isRunning() {
+                return relay.isRunning();
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * apexrecon.outbox.*: relay da outbox das transações ingeridas para o RabbitMQ, ou para o broker local (stand-in).
+ */
+@ConfigurationProperties("apexrecon.outbox")
+public record TransactionOutboxProperties(
+        @DefaultValue("true") boolean relayEnabled,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("100ms") Duration pollInterval,
+        @DefaultValue("30s") Duration maxBackoff,
+        @DefaultValue("5s") Duration confirmTimeout,
+        @DefaultValue("apexrecon.bank-transactions") String exchange,
+        @DefaultValue("bank-transaction.ingested") String routingKey,
+        @DefaultValue StandIn standIn
+) {
+    public record StandIn(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("0ms") Duration publishLatency,
+            @DefaultValue("2ms") Duration confirmLatency
+    ) {}
+}
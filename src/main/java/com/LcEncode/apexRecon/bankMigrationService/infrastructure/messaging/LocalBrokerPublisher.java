@@ -0,0 +1,93 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.messaging;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.gateway.BankTransactionPublisher;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Broker local para desenvolvimento e medição do relay sem RabbitMQ: cada publish custa publishLatency por mensagem
+ * mais um confirmLatency (a ida e volta da confirmação), como um canal com publisher confirms.
+ * Verifica a ordem por conexão (ingestedAt não pode voltar no tempo dentro de uma conexão) e mede o atraso entre a
+ * ingestão e a confirmação.
+ */
+public class LocalBrokerPublisher implements BankTransactionPublisher {
+    private final Duration publishLatency;
+    private final Duration confirmLatency;
+    private final Clock clock;
+    private final Map<UUID, Instant> lastIngestedAt = new HashMap<>();
+
+    private long published;
+    private long confirms;
+    private long orderViolations;
+    private Duration maxLag = Duration.ZERO;
+    private Duration totalLag = Duration.ZERO;
+
+    public LocalBrokerPublisher(Duration publishLatency, Duration confirmLatency, Clock clock) {
+        if (publishLatency == null || publishLatency.isNegative() || confirmLatency == null || confirmLatency.isNegative()) {
+            throw new IllegalArgumentException("Stand-in broker latencies must be zero or positive");
+        }
+
+        this.publishLatency = publishLatency;
+        this.confirmLatency = confirmLatency;
+        this.clock = clock;
+    }
+
+    @Override
+    public void publish(List<BankTransaction> transactions) {
+        if (transactions.isEmpty()) { return; }
+
+        // A espera fica fora do lock: publicadores concorrentes são canais diferentes e esperam em paralelo.
+        pause(publishLatency.multipliedBy(transactions.size()).plus(confirmLatency));
+        var now = clock.instant();
+        synchronized (this) {
+            for (var transaction : transactions) {
+                var previous = lastIngestedAt.put(transaction.getConnectionId(), transaction.getIngestedAt());
+                if (previous != null && transaction.getIngestedAt().isBefore(previous)) { orderViolations++; }
+
+                var lag = Duration.between(transaction.getIngestedAt(), now);
+                totalLag = totalLag.plus(lag);
+                if (lag.compareTo(maxLag) > 0) { maxLag = lag; }
+            }
+            published += transactions.size();
+            confirms++;
+        }
+    }
+
+    public synchronized long published() {
+        return published;
+    }
+
+    public synchronized long confirms() {
+        return confirms;
+    }
+
+    public synchronized long orderViolations() {
+        return orderViolations;
+    }
+
+    public synchronized Duration maxLag() {
+        return maxLag;
+    }
+
+    public synchronized Duration averageLag() {
+        return published == 0 ? Duration.ZERO : totalLag.dividedBy(published);
+    }
+
+    private static void pause(Duration duration) {
+        if (duration.isZero()) { return; }
+
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Stand-in broker interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.messaging;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.gateway.BankTransactionPublisher;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Publica o lote inteiro em um único canal e espera as confirmações uma vez no fim (publisher confirms do tipo
+ * simple: spring.rabbitmq.publisher-confirm-type=simple). Um canal só, na ordem da lista: o RabbitMQ mantém essa
+ * ordem na fila. messageId é o id da transação e o header connectionId permite particionar no consumidor.
+ */
+public class RabbitBankTransactionPublisher implements BankTransactionPublisher {
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final String exchange;
+    private final String routingKey;
+    private final Duration confirmTimeout;
+
+    private record BankTransactionMessage(
+            UUID id,
+            UUID connectionId,
+            String provider,
+            BigDecimal amount,
+            Instant transactionDate,
+            String description,
+            Instant ingestedAt
+    ) {}
+
+    public RabbitBankTransactionPublisher(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper, String exchange, String routingKey, Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    @Override
+    public void publish(List<BankTransaction> transactions) {
+        if (transactions.isEmpty()) { return; }
+
+        rabbitTemplate.invoke(operations -> {
+            for (var transaction : transactions) { operations.send(exchange, routingKey, toMessage(transaction)); }
+            operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+            return null;
+        });
+    }
+
+    // Serializado pelo Jackson via reflexão: o processamento AOT registra o record para a imagem nativa.
+    @RegisterReflectionForBinding(BankTransactionMessage.class)
+    private Message toMessage(BankTransaction transaction) {
+        var properties = new MessageProperties();
+        properties.setMessageId(transaction.getId().toString());
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setHeader("connectionId", transaction.getConnectionId().toString());
+
+        try {
+            return new Message(objectMapper.writeValueAsBytes(new BankTransactionMessage(transaction.getId(), transaction.getConnectionId(),
+                    transaction.getProvider().name(), transaction.getAmount(), transaction.getTransactionDate(), transaction.getDescription(),
+                    transaction.getIngestedAt())), properties);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize bank transaction " + transaction.getId(), e);
+        }
+    }
+}
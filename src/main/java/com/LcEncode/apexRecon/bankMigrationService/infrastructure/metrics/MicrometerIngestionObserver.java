@@ -0,0 +1,77 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.metrics;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.outbox.RelayObserver;
+import com.LcEncode.apexRecon.bankMigrationService.application.sync.ConnectionSyncResult;
+import com.LcEncode.apexRecon.bankMigrationService.application.sync.SyncObserver;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas da ingestão com tags de cardinalidade fixa (provider, stage, outcome):
+ * - apexrecon.ingestion.lag: stage=bank (transactionDate -> ingestedAt) e stage=outbox (ingestedAt -> processedAt);
+ * - apexrecon.sync.duration: duração da sincronização de uma conexão, por provider e status do resultado.
+ * Todos os timers são registrados no construtor e indexados por ordinal; a gravação não passa pelo registry nem
+ * aloca (sem Duration, sem tags montadas por chamada).
+ */
+public class MicrometerIngestionObserver implements SyncObserver, RelayObserver {
+    private static final Provider[] PROVIDERS = Provider.values();
+    private static final ConnectionSyncResult.Status[] STATUSES = ConnectionSyncResult.Status.values();
+
+    private final Timer[] bankLag = new Timer[PROVIDERS.length];
+    private final Timer[] outboxLag = new Timer[PROVIDERS.length];
+    private final Timer[][] syncDuration = new Timer[PROVIDERS.length][STATUSES.length];
+
+    public MicrometerIngestionObserver(MeterRegistry registry) {
+        for (var provider : PROVIDERS) {
+            var tag = provider.name().toLowerCase(Locale.ROOT);
+            // O extrato pode chegar dias depois da transação: histograma até 7 dias.
+            bankLag[provider.ordinal()] = lag(registry, tag, "bank", Duration.ofDays(7));
+            outboxLag[provider.ordinal()] = lag(registry, tag, "outbox", Duration.ofMinutes(10));
+
+            for (var status : STATUSES) {
+                syncDuration[provider.ordinal()][status.ordinal()] = Timer.builder("apexrecon.sync.duration")
+                        .description("Sincronização de uma conexão Open Banking, da primeira página ao resultado")
+                        .tag("provider", tag)
+                        .tag("outcome", status.name().toLowerCase(Locale.ROOT))
+                        .publishPercentileHistogram()
+                        .maximumExpectedValue(Duration.ofMinutes(10))
+                        .register(registry);
+            }
+        }
+    }
+
+    @Override
+    public void synced(Provider provider, ConnectionSyncResult.Status status, long elapsedNanos) {
+        syncDuration[provider.ordinal()][status.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void published(Provider provider, Instant transactionDate, Instant ingestedAt, Instant processedAt) {
+        bankLag[provider.ordinal()].record(nanosBetween(transactionDate, ingestedAt), TimeUnit.NANOSECONDS);
+        outboxLag[provider.ordinal()].record(nanosBetween(ingestedAt, processedAt), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Duration.between sem o objeto; relógios fora de ordem (transactionDate no futuro) contam como zero.
+     */
+    private static long nanosBetween(Instant start, Instant end) {
+        var nanos = (end.getEpochSecond() - start.getEpochSecond()) * 1_000_000_000L + (end.getNano() - start.getNano());
+        return Math.max(0, nanos);
+    }
+
+    private static Timer lag(MeterRegistry registry, String provider, String stage, Duration maximum) {
+        return Timer.builder("apexrecon.ingestion.lag")
+                .description("Atraso de uma transação bancária em cada etapa da ingestão")
+                .tag("provider", provider)
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(maximum)
+                .register(registry);
+    }
+}
@@ -0,0 +1,118 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.openbanking;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.ProviderUnavailableException;
+import com.LcEncode.apexRecon.bankMigrationService.domain.gateway.OpenBankingClient;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.BankConnection;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.StatementPage;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Provedor Open Banking local para desenvolvimento e medição de throughput sem rede: responde por todos os Providers
+ * com latência e taxa de erro configuráveis. Cada conexão tem um extrato determinístico (uma transação a cada
+ * transactionInterval, com valor e descrição derivados do id da conexão), então repetir a busca devolve os mesmos
+ * lançamentos, como um banco real faria.
+ * O cursor guarda o instante de corte da primeira página e o deslocamento: "asOfMillis:offset".
+ */
+public class LocalOpenBankingClient implements OpenBankingClient {
+
+    public record Settings(
+            Duration latency,
+            Duration latencyJitter,
+            double errorRate,
+            Duration transactionInterval,
+            Duration initialHistory
+    ) {
+        public Settings {
+            if (latency == null || latency.isNegative() || latencyJitter == null || latencyJitter.isNegative()) {
+                throw new IllegalArgumentException("Stand-in latency must be zero or positive");
+            }
+            if (errorRate < 0 || errorRate >= 1) { throw new IllegalArgumentException("Stand-in error rate must be in [0, 1)"); }
+            if (transactionInterval == null || !transactionInterval.isPositive() || initialHistory == null || initialHistory.isNegative()) {
+                throw new IllegalArgumentException("Stand-in transaction interval must be positive and initial history zero or positive");
+            }
+        }
+
+        public static Settings defaults() {
+            return new Settings(Duration.ofMillis(50), Duration.ofMillis(25), 0.01, Duration.ofMinutes(30), Duration.ofDays(30));
+        }
+    }
+
+    private final Settings settings;
+    private final Clock clock;
+
+    public LocalOpenBankingClient(Settings settings, Clock clock) {
+        this.settings = settings;
+        this.clock = clock;
+    }
+
+    @Override
+    public Set<Provider> providers() {
+        return EnumSet.allOf(Provider.class);
+    }
+
+    @Override
+    public StatementPage fetchStatement(BankConnection connection, Instant since, String cursor, int pageSize) {
+        simulateLatency();
+        if (settings.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < settings.errorRate()) {
+            throw new ProviderUnavailableException("Stand-in " + connection.getProvider() + " unavailable for connection " + connection.getId());
+        }
+
+        var asOf = cursor == null ? clock.instant() : Instant.ofEpochMilli(Long.parseLong(cursor.substring(0, cursor.indexOf(':'))));
+        var offset = cursor == null ? 0L : Long.parseLong(cursor.substring(cursor.indexOf(':') + 1));
+
+        var interval = settings.transactionInterval().toMillis();
+        var from = since == null ? asOf.minus(settings.initialHistory()) : since;
+        // Primeiro índice da série cuja data é >= from; a série de cada conexão começa na época Unix.
+        var first = Math.floorDiv(from.toEpochMilli() + interval - 1, interval);
+        var last = Math.floorDiv(asOf.toEpochMilli(), interval);
+        var start = first + offset;
+        var end = Math.min(last + 1, start + pageSize);
+
+        var transactions = new ArrayList<BankTransaction>((int) Math.max(0, end - start));
+        for (long index = start; index < end; index++) {
+            transactions.add(transaction(connection, index, Instant.ofEpochMilli(index * interval)));
+        }
+
+        if (end <= last) {
+            return new StatementPage(transactions, transactions.getLast().getTransactionDate(), asOf.toEpochMilli() + ":" + (end - first));
+        }
+        return new StatementPage(transactions, asOf, null);
+    }
+
+    private BankTransaction transaction(BankConnection connection, long index, Instant date) {
+        var random = new SplittableRandom(connection.getId().getMostSignificantBits() ^ connection.getId().getLeastSignificantBits() ^ index);
+        var cents = 1_000 + random.nextLong(5_000_000);
+
+        return BankTransaction.builder()
+                .connectionId(connection.getId())
+                .provider(connection.getProvider())
+                .amount(BigDecimal.valueOf(cents, 2))
+                .transactionDate(date)
+                .description(String.format("PIX RECEBIDO %014d NF %d", random.nextLong(100_000_000_000_000L), 1_000 + random.nextInt(900_000)))
+                .build();
+    }
+
+    private void simulateLatency() {
+        var nanos = settings.latency().toNanos();
+        if (!settings.latencyJitter().isZero()) { nanos += ThreadLocalRandom.current().nextLong(settings.latencyJitter().toNanos()); }
+        if (nanos == 0) { return; }
+
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProviderUnavailableException("Stand-in call interrupted");
+        }
+    }
+}
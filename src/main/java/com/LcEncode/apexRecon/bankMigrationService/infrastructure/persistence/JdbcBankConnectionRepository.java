@@ -0,0 +1,63 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.persistence;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.BankConnection;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankConnectionRepository;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public class JdbcBankConnectionRepository implements BankConnectionRepository {
+    private static final String SELECT_ACTIVE = """
+            SELECT id, organization_id, provider, access_token_secret_arn, last_sync, is_active
+            FROM bank_connections WHERE is_active = TRUE""";
+    private static final String SELECT_BY_ID = """
+            SELECT id, organization_id, provider, access_token_secret_arn, last_sync, is_active
+            FROM bank_connections WHERE id = ?""";
+    private static final String UPDATE_LAST_SYNC = "UPDATE bank_connections SET last_sync = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcBankConnectionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<BankConnection> findActive() {
+        return jdbcTemplate.query(SELECT_ACTIVE, JdbcBankConnectionRepository::connection);
+    }
+
+    @Override
+    public Optional<BankConnection> findById(UUID id) {
+        return jdbcTemplate.query(SELECT_BY_ID, JdbcBankConnectionRepository::connection, UuidBinary.toBytes(id)).stream().findFirst();
+    }
+
+    @Override
+    public void saveSyncState(BankConnection connection) {
+        var updated = jdbcTemplate.update(UPDATE_LAST_SYNC,
+                connection.getLastSync() == null ? null : Timestamp.from(connection.getLastSync()),
+                UuidBinary.toBytes(connection.getId()));
+        if (updated != 1) { throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(UPDATE_LAST_SYNC, 1, updated); }
+    }
+
+    private static BankConnection connection(ResultSet resultSet, int row) throws SQLException {
+        var lastSync = resultSet.getTimestamp("last_sync");
+        return BankConnection.builder()
+                .id(UuidBinary.fromBytes(resultSet.getBytes("id")))
+                .organizationId(UuidBinary.fromBytes(resultSet.getBytes("organization_id")))
+                .provider(Provider.valueOf(resultSet.getString("provider")))
+                .accessTokenSecretArn(resultSet.getString("access_token_secret_arn"))
+                .lastSync(lastSync == null ? null : lastSync.toInstant())
+                .active(resultSet.getBoolean("is_active"))
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.persistence;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.gateway.BankTransactionPublisher;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankTransactionOutboxRepository;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * O drain roda em READ COMMITTED: o SELECT ... FOR UPDATE trava só as linhas lidas, sem gap lock no fim do índice,
+ * então as gravações de novas transações não esperam a publicação. Um segundo relay concorrente espera nas mesmas
+ * linhas e, quando o primeiro commita, segue para as próximas; a ordem de publicação por conexão se mantém.
+ */
+@Repository
+public class JdbcBankTransactionOutboxRepository implements BankTransactionOutboxRepository {
+    private static final String SELECT_BATCH = """
+            SELECT o.sequence, t.id, t.connection_id, t.provider, t.amount, t.transaction_date, t.description, t.ingested_at
+            FROM bank_transaction_outbox o
+            JOIN bank_transactions t ON t.id = o.transaction_id
+            ORDER BY o.sequence
+            LIMIT ?
+            FOR UPDATE""";
+    private static final String UPDATE_PROCESSED_AT = "UPDATE bank_transactions SET processed_at = ? WHERE id IN ";
+    private static final String DELETE_ENTRIES = "DELETE FROM bank_transaction_outbox WHERE sequence IN ";
+    private static final String COUNT_PENDING = "SELECT COUNT(*) FROM bank_transaction_outbox";
+    private static final String SELECT_OLDEST = "SELECT created_at FROM bank_transaction_outbox ORDER BY sequence LIMIT 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcBankTransactionOutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public int drain(int limit, BankTransactionPublisher publisher, Instant processedAt) {
+        var sequences = new ArrayList<Object>(limit);
+        var transactions = jdbcTemplate.query(SELECT_BATCH, (resultSet, row) -> {
+            sequences.add(resultSet.getLong("sequence"));
+            return BankTransaction.builder()
+                    .id(UuidBinary.fromBytes(resultSet.getBytes("id")))
+                    .connectionId(UuidBinary.fromBytes(resultSet.getBytes("connection_id")))
+                    .provider(Provider.valueOf(resultSet.getString("provider")))
+                    .amount(resultSet.getBigDecimal("amount"))
+                    .transactionDate(resultSet.getTimestamp("transaction_date").toInstant())
+                    .description(resultSet.getString("description"))
+                    .ingestedAt(resultSet.getTimestamp("ingested_at").toInstant())
+                    .build();
+        }, limit);
+        if (transactions.isEmpty()) { return 0; }
+
+        publisher.publish(transactions);
+
+        var ids = new ArrayList<Object>(transactions.size() + 1);
+        ids.add(Timestamp.from(processedAt));
+        transactions.forEach(transaction -> ids.add(UuidBinary.toBytes(transaction.getId())));
+        var updated = jdbcTemplate.update(UPDATE_PROCESSED_AT + placeholders(transactions.size()), ids.toArray());
+        if (updated != transactions.size()) { throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(UPDATE_PROCESSED_AT, transactions.size(), updated); }
+
+        var deleted = jdbcTemplate.update(DELETE_ENTRIES + placeholders(sequences.size()), sequences.toArray());
+        if (deleted != sequences.size()) { throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(DELETE_ENTRIES, sequences.size(), deleted); }
+
+        return transactions.size();
+    }
+
+    @Override
+    public long pending() {
+        var count = jdbcTemplate.queryForObject(COUNT_PENDING, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public Optional<Instant> oldestPending() {
+        return jdbcTemplate.query(SELECT_OLDEST, (resultSet, row) -> resultSet.getTimestamp(1).toInstant()).stream().findFirst();
+    }
+
+    private static String placeholders(int count) {
+        return "(" + String.join(", ", Collections.nCopies(count, "?")) + ")";
+    }
+}
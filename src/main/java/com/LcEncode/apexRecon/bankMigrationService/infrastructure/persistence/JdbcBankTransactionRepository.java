@@ -0,0 +1,109 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.persistence;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.DuplicateBankTransactionException;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.valueObject.TransactionFingerprint;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankTransactionRepository;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.MultiRowInsert;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Repository
+public class JdbcBankTransactionRepository implements BankTransactionRepository {
+    private static final String INSERT_TRANSACTIONS = "INSERT INTO bank_transactions (id, connection_id, provider, amount, transaction_date, description, ingested_at, processed_at, fingerprint) VALUES ";
+    private static final String TRANSACTION_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_OUTBOX = "INSERT INTO bank_transaction_outbox (transaction_id, connection_id, created_at) VALUES ";
+    private static final String OUTBOX_ROW = "(?, ?, CURRENT_TIMESTAMP(6))";
+    private static final String SELECT_EXISTING_FINGERPRINTS = "SELECT fingerprint FROM bank_transactions WHERE connection_id = ? AND fingerprint IN ";
+    private static final String SELECT_FINGERPRINTS_SINCE = """
+            SELECT fingerprint FROM bank_transactions
+            WHERE connection_id = ? AND transaction_date >= ? AND fingerprint IS NOT NULL
+            ORDER BY transaction_date""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    public JdbcBankTransactionRepository(JdbcTemplate jdbcTemplate,
+                                         @Value("${apexrecon.sync.insert-chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<BankTransaction> transactions) {
+        try {
+            insertTransactions(transactions);
+        } catch (DuplicateKeyException e) {
+            // A exceção sai do @Transactional: os blocos já inseridos voltam junto e nenhuma linha da outbox é gravada.
+            var connectionId = transactions.getFirst().getConnectionId();
+            throw new DuplicateBankTransactionException(connectionId, "Bank transactions of connection " + connectionId + " were stored by another writer");
+        }
+
+        // Só as ainda não publicadas vão para a outbox; a ordem da lista vira a ordem de sequence.
+        var unpublished = transactions.stream().filter(transaction -> !transaction.isAlreadyProcessed()).toList();
+        MultiRowInsert.insert(jdbcTemplate, INSERT_OUTBOX, OUTBOX_ROW, 2, unpublished, chunkSize, (statement, index, transaction) -> {
+            statement.setBytes(index++, UuidBinary.toBytes(transaction.getId()));
+            statement.setBytes(index++, UuidBinary.toBytes(transaction.getConnectionId()));
+            return index;
+        });
+    }
+
+    private void insertTransactions(List<BankTransaction> transactions) {
+        MultiRowInsert.insert(jdbcTemplate, INSERT_TRANSACTIONS, TRANSACTION_ROW, 9, transactions, chunkSize, (statement, index, transaction) -> {
+            statement.setBytes(index++, UuidBinary.toBytes(transaction.getId()));
+            statement.setBytes(index++, UuidBinary.toBytes(transaction.getConnectionId()));
+            statement.setString(index++, transaction.getProvider().name());
+            statement.setBigDecimal(index++, transaction.getAmount());
+            statement.setTimestamp(index++, Timestamp.from(transaction.getTransactionDate()));
+            statement.setString(index++, transaction.getDescription());
+            statement.setTimestamp(index++, Timestamp.from(transaction.getIngestedAt()));
+            if (transaction.getProcessedAt() == null) {
+                statement.setNull(index++, Types.TIMESTAMP);
+            } else { statement.setTimestamp(index++, Timestamp.from(transaction.getProcessedAt())); }
+            statement.setBytes(index++, UuidBinary.toBytes(transaction.fingerprint().toUuid()));
+            return index;
+        });
+    }
+
+    @Override
+    public Set<TransactionFingerprint> findExistingFingerprints(UUID connectionId, Collection<TransactionFingerprint> fingerprints) {
+        var existing = new HashSet<TransactionFingerprint>();
+        var pending = List.copyOf(fingerprints);
+        var connection = UuidBinary.toBytes(connectionId);
+
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            var chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            var arguments = new ArrayList<Object>(chunk.size() + 1);
+            arguments.add(connection);
+            chunk.forEach(fingerprint -> arguments.add(UuidBinary.toBytes(fingerprint.toUuid())));
+
+            jdbcTemplate.query(SELECT_EXISTING_FINGERPRINTS + "(" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+                    resultSet -> { existing.add(TransactionFingerprint.fromUuid(UuidBinary.fromBytes(resultSet.getBytes(1)))); },
+                    arguments.toArray());
+        }
+        return existing;
+    }
+
+    @Override
+    public List<TransactionFingerprint> findFingerprintsSince(UUID connectionId, Instant since) {
+        return jdbcTemplate.query(SELECT_FINGERPRINTS_SINCE,
+                (resultSet, row) -> TransactionFingerprint.fromUuid(UuidBinary.fromBytes(resultSet.getBytes(1))),
+                UuidBinary.toBytes(connectionId), Timestamp.from(since));
+    }
+}
@@ -0,0 +1,27 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.scheduling;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.sync.OpenBankingSyncEngine;
+import com.LcEncode.apexRecon.bankMigrationService.application.sync.SyncReport;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Sincroniza as conexões ativas no cron configurado. O scheduler não sobrepõe execuções do mesmo job; uma execução
+ * que passa do intervalo só atrasa a próxima.
+ */
+public class OpenBankingSyncJob {
+    private final OpenBankingSyncEngine engine;
+    private volatile SyncReport lastReport;
+
+    public OpenBankingSyncJob(OpenBankingSyncEngine engine) {
+        this.engine = engine;
+    }
+
+    @Scheduled(cron = "${apexrecon.sync.schedule.cron:0 */5 * * * *}", zone = "${apexrecon.sync.schedule.zone:UTC}")
+    public void run() {
+        lastReport = engine.syncActiveConnections();
+    }
+
+    public SyncReport lastReport() {
+        return lastReport;
+    }
+}
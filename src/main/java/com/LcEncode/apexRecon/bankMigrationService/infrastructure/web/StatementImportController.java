@@ -0,0 +1,46 @@
+package com.LcEncode.apexRecon.bankMigrationService.infrastructure.web;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.statementImport.StatementFormat;
+import com.LcEncode.apexRecon.bankMigrationService.application.statementImport.StatementUploadResult;
+import com.LcEncode.apexRecon.bankMigrationService.application.statementImport.StatementUploadService;
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.DomainException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * POST /organizations/{organizationId}/bank-connections/{connectionId}/statement-imports com o arquivo (CNAB 240,
+ * CNAB 400 ou OFX) como corpo; format é opcional e, sem ele, o formato é detectado pelo conteúdo. Responde com o
+ * relatório da leitura (registros rejeitados com número e posição) e a contagem de transações novas e repetidas.
+ */
+@RestController
+@RequestMapping("/organizations/{organizationId}/bank-connections/{connectionId}/statement-imports")
+public class StatementImportController {
+    private final StatementUploadService uploads;
+
+    public StatementImportController(StatementUploadService uploads) {
+        this.uploads = uploads;
+    }
+
+    @PostMapping
+    public ResponseEntity<StatementUploadResult> upload(@PathVariable UUID organizationId, @PathVariable UUID connectionId,
+                                                        @RequestParam(required = false) StatementFormat format,
+                                                        HttpServletRequest request) throws IOException {
+        return ResponseEntity.of(uploads.upload(organizationId, connectionId, format, request.getInputStream()));
+    }
+
+    @ExceptionHandler(DomainException.class)
+    public ProblemDetail unreadableStatement(DomainException exception) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.UNPROCESSABLE_ENTITY, exception.getMessage());
+    }
+}
@@ -0,0 +1,142 @@
+package com.LcEncode.apexRecon.invoicingService.application.importing;
+
+import com.LcEncode.apexRecon.invoicingService.domain.gateway.ImportedInvoice;
+import com.LcEncode.apexRecon.invoicingService.domain.gateway.ImportedInvoicesListener;
+import com.LcEncode.apexRecon.invoicingService.domain.repository.InvoiceImportRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Importação em massa de faturas (50k-500k por arquivo) em três estágios:
+ * - leitura: a thread do job lê o arquivo em sequência e agrupa as linhas em blocos de batchSize faturas;
+ * - validação: cada bloco é lido (parse) e validado em paralelo no pool de parallelism threads, com os erros de cada
+ *   linha coletados como ImportRowError em vez de exceções;
+ * - gravação: a thread do job grava os blocos validados na ordem do arquivo, um bloco por transação.
+ * No máximo maxInFlight blocos ficam entre a leitura e a gravação, então a memória é limitada pelo bloco e não pelo
+ * arquivo, e a validação dos próximos blocos corre enquanto o anterior é gravado.
+ */
+public class BulkInvoiceImporter implements AutoCloseable {
+    private final InvoiceImportRepository repository;
+    private final ImportedInvoicesListener listener;
+    private final ExecutorService validation;
+    private final int batchSize;
+    private final int maxInFlight;
+
+    private record RawInvoice(long line, List<String> lines) {}
+
+    private record ValidatedBatch(long records, List<ImportedInvoice> invoices, long items, List<ImportRowError> errors, long lastLine) {}
+
+    public BulkInvoiceImporter(InvoiceImportRepository repository, ImportedInvoicesListener listener, int parallelism, int batchSize) {
+        if (repository == null || listener == null) { throw new IllegalArgumentException("Repository and listener must be provided"); }
+        if (parallelism <= 0 || batchSize <= 0) { throw new IllegalArgumentException("Import parallelism and batch size must be greater than 0"); }
+
+        this.repository = repository;
+        this.listener = listener;
+        this.validation = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("invoice-import-validation-", 0).daemon().factory());
+        this.batchSize = batchSize;
+        this.maxInFlight = parallelism * 2;
+    }
+
+    /**
+     * Executa o job até o fim do input (que não é fechado). Uma falha de leitura ou de gravação encerra o job como
+     * FAILED; os blocos gravados antes continuam gravados (committedThroughLine).
+     */
+    public void run(InvoiceImportJob job, Reader input, InvoiceRecordParser parser) {
+        job.started();
+        var pending = new ArrayDeque<CompletableFuture<ValidatedBatch>>();
+        try {
+            var reader = new BufferedReader(input, 1 << 16);
+            long number = 0;
+            if (parser.hasHeader()) {
+                number++;
+                var problem = parser.checkHeader(reader.readLine());
+                if (problem != null) {
+                    job.failed(problem);
+                    return;
+                }
+            }
+
+            var batch = new ArrayList<RawInvoice>(batchSize);
+            List<String> group = null;
+            String groupKey = null;
+            long groupLine = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                if (line.isBlank()) { continue; }
+
+                var key = parser.groupKey(line);
+                if (group != null && (key == null || !key.equals(groupKey))) {
+                    batch.add(new RawInvoice(groupLine, group));
+                    group = null;
+                    if (batch.size() == batchSize) {
+                        submit(job.organizationId(), parser, batch, pending, job);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                if (group == null) {
+                    group = new ArrayList<>(1);
+                    groupKey = key;
+                    groupLine = number;
+                }
+                group.add(line);
+            }
+            if (group != null) { batch.add(new RawInvoice(groupLine, group)); }
+            if (!batch.isEmpty()) { submit(job.organizationId(), parser, batch, pending, job); }
+            while (!pending.isEmpty()) { write(job, pending.removeFirst().join()); }
+
+            job.completed();
+        } catch (IOException | RuntimeException e) {
+            pending.forEach(future -> future.cancel(false));
+            var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            job.failed(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        }
+    }
+
+    private void submit(UUID organizationId, InvoiceRecordParser parser, List<RawInvoice> batch,
+                        ArrayDeque<CompletableFuture<ValidatedBatch>> pending, InvoiceImportJob job) {
+        pending.addLast(CompletableFuture.supplyAsync(() -> validate(organizationId, parser, batch), validation));
+        while (pending.size() > maxInFlight) { write(job, pending.removeFirst().join()); }
+    }
+
+    private static ValidatedBatch validate(UUID organizationId, InvoiceRecordParser parser, List<RawInvoice> batch) {
+        var invoices = new ArrayList<ImportedInvoice>(batch.size());
+        var errors = new ArrayList<ImportRowError>();
+        long items = 0;
+        for (var raw : batch) {
+            var record = parser.parse(raw.line(), raw.lines());
+            var outcome = InvoiceRecordValidator.validate(organizationId, record);
+            if (outcome.error() != null) {
+                errors.add(outcome.error());
+            } else {
+                invoices.add(new ImportedInvoice(outcome.invoice(), record.reference()));
+                items += outcome.invoice().getItemCount();
+            }
+        }
+        var last = batch.getLast();
+        return new ValidatedBatch(batch.size(), invoices, items, errors, last.line() + last.lines().size() - 1);
+    }
+
+    private void write(InvoiceImportJob job, ValidatedBatch batch) {
+        if (!batch.invoices().isEmpty()) {
+            repository.insert(batch.invoices().stream().map(ImportedInvoice::invoice).toList());
+            listener.imported(job.organizationId(), batch.invoices());
+        }
+        job.committed(batch.records(), batch.invoices().size(), batch.items(), batch.errors(), batch.lastLine());
+    }
+
+    @Override
+    public void close() {
+        validation.shutdownNow();
+    }
+}
@@ -0,0 +1,75 @@
+package com.LcEncode.apexRecon.invoicingService.application.importing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV com cabeçalho fixo, uma linha por item; linhas consecutivas com a mesma reference formam uma fatura e os campos
+ * da fatura (customer_id, due_date, amount_due) vêm da primeira delas. amount_due vazio: o total dos itens.
+ * Campos entre aspas seguem a RFC 4180 ("" é uma aspa), mas não podem conter quebra de linha.
+ */
+public class CsvInvoiceRecordParser implements InvoiceRecordParser {
+    static final String HEADER = "reference,customer_id,due_date,amount_due,description,quantity,unit_price";
+    private static final int COLUMNS = 7;
+
+    @Override
+    public boolean hasHeader() {
+        return true;
+    }
+
+    @Override
+    public String checkHeader(String header) {
+        if (header == null) { return "Empty CSV file"; }
+
+        var normalized = header.startsWith("\uFEFF") ? header.substring(1) : header;
+        return HEADER.equalsIgnoreCase(normalized.replace(" ", "")) ? null : "CSV header must be: " + HEADER;
+    }
+
+    @Override
+    public String groupKey(String line) {
+        var first = fields(line, 1);
+        return first.isEmpty() ? "" : first.getFirst();
+    }
+
+    @Override
+    public InvoiceRecord parse(long line, List<String> lines) {
+        var head = fields(lines.getFirst(), COLUMNS + 1);
+        var reference = head.isEmpty() ? null : head.getFirst();
+        var items = new ArrayList<InvoiceRecord.Item>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            var fields = i == 0 ? head : fields(lines.get(i), COLUMNS + 1);
+            if (fields.size() != COLUMNS) { return InvoiceRecord.malformed(line + i, reference, "Expected " + COLUMNS + " columns"); }
+
+            items.add(new InvoiceRecord.Item(fields.get(4), fields.get(5), fields.get(6)));
+        }
+        return new InvoiceRecord(line, reference, head.get(1), head.get(2), head.get(3).isEmpty() ? null : head.get(3), items, null);
+    }
+
+    /**
+     * Até limit campos da linha (menos, quando a linha tem menos); o que passa de limit é ignorado.
+     */
+    static List<String> fields(String line, int limit) {
+        var fields = new ArrayList<String>(limit);
+        var field = new StringBuilder();
+        var quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            var c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else { quoted = false; }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+                if (fields.size() == limit) { return fields; }
+            } else { field.append(c); }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+}
@@ -0,0 +1,10 @@
+package com.LcEncode.apexRecon.invoicingService.application.importing;
+
+/**
+ * Fatura rejeitada: linha do arquivo onde o registro começa, referência informada pelo ERP (se houver) e motivo.
+ */
+public record ImportRowError(
+        long line,
+        String reference,
+        String reason
+) {}
@@ -0,0 +1,29 @@
+package com.LcEncode.apexRecon.invoicingService.application.importing;
+
+import com.LcEncode.apexRecon.invoicingService.domain.exception.ValidateException;
+
+public enum InvoiceImportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    InvoiceImportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * Pelo Content-Type da requisição, ignorando parâmetros (charset).
+     */
+    public static InvoiceImportFormat fromContentType(String value) {
+        var mediaType = value == null ? "" : value.split(";", 2)[0].trim();
+        for (var format : values()) {
+            if (format.contentType.equalsIgnoreCase(mediaType)) { return format; }
+        }
+        throw new ValidateException("Unsupported invoice import content type: " + value);
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,106 @@
+package com.LcEncode.apexRecon.invoicingService.application.importing;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Estado de uma importação. Só a thread que executa o job altera os contadores; progress() pode ser chamado de
+ * qualquer thread a qualquer momento.
+ */
+public final class InvoiceImportJob {
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final UUID id;
+    private final UUID organizationId;
+    private final InvoiceImportFormat format;
+    private final int maxErrors;
+    private final Instant submittedAt = Instant.now();
+    private final List<ImportRowError> errors = new ArrayList<>();
+    private volatile Status status = Status.QUEUED;
+    private volatile long records;
+    private volatile long imported;
+    private volatile long items;
+    private volatile long rejected;
+    private volatile long committedThroughLine;
+    private volatile String failure;
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+
+    InvoiceImportJob(UUID id, UUID organizationId, InvoiceImportFormat format, int maxErrors) {
+        this.id = id;
+        this.organizationId = organizationId;
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    public UUID id() {
+        return id;
+    }
+
+    public UUID organizationId() {
+        return organizationId;
+    }
+
+    public InvoiceImportFormat format() {
+        return format;
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    void started() {
+        startedNanos = System.nanoTime();
+        status = Status.RUNNING;
+    }
+
+    void committed(long records, long imported, long items, List<ImportRowError> rejected, long throughLine) {
+        this.records += records;
+        this.imported += imported;
+        this.items += items;
+        this.rejected += rejected.size();
+        this.committedThroughLine = throughLine;
+        synchronized (errors) {
+            for (var error : rejected) {
+                if (errors.size() == maxErrors) { break; }
+                errors.add(error);
+            }
+        }
+    }
+
+    void completed() {
+        finishedNanos = System.nanoTime();
+        status = Status.COMPLETED;
+    }
+
+    void failed(String reason) {
+        failure = reason;
+        if (startedNanos == 0) { startedNanos = System.nanoTime(); }
+        finishedNanos = System.nanoTime();
+        status = Status.FAILED;
+    }
+
+    public InvoiceImportProgress progress() {
+        List<ImportRowError> snapshot;
+        synchronized (errors) {
+            snapshot = List.copyOf(errors);
+        }
+        var started = startedNanos;
+        var finished = finishedNanos;
+        var elapsed = started == 0 ? Duration.ZERO : Duration.ofNanos((finished == 0 ? System.nanoTime() : finished) - started);
+        return new InvoiceImportProgress(id, organizationId, format, status, submittedAt, records, imported, items,
+                rejected, committedThroughLine, snapshot, failure, elapsed);
+    }
+}
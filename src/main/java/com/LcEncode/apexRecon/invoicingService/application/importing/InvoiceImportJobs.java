@@ -0,0 +1,97 @@
+package com.LcEncode.apexRecon.invoicingService.application.importing;
+
+import com.LcEncode.apexRecon.invoicingService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.shared.domain.identifier.Ids;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Jobs de importação: o corpo da requisição é copiado para um arquivo em spoolDirectory (a requisição termina antes
+ * da importação) e o job roda em uma das maxConcurrentJobs threads; os demais esperam como QUEUED. Os últimos
+ * retainedJobs jobs ficam consultáveis; o arquivo é apagado quando o job termina.
+ */
+public class InvoiceImportJobs implements AutoCloseable {
+    private final BulkInvoiceImporter importer;
+    private final Map<InvoiceImportFormat, InvoiceRecordParser> parsers;
+    private final Path spoolDirectory;
+    private final int maxErrors;
+    private final ExecutorService runners;
+    private final Map<UUID, InvoiceImportJob> jobs;
+
+    public InvoiceImportJobs(BulkInvoiceImporter importer, Map<InvoiceImportFormat, InvoiceRecordParser> parsers, Path spoolDirectory,
+                             int maxConcurrentJobs, int retainedJobs, int maxErrors) {
+        if (importer == null || parsers == null || spoolDirectory == null) { throw new IllegalArgumentException("Importer, parsers and spool directory must be provided"); }
+        if (maxConcurrentJobs <= 0 || retainedJobs <= 0 || maxErrors < 0) {
+            throw new IllegalArgumentException("Concurrent and retained jobs must be greater than 0 and max errors not negative");
+        }
+
+        this.importer = importer;
+        this.parsers = Map.copyOf(parsers);
+        this.spoolDirectory = spoolDirectory;
+        this.maxErrors = maxErrors;
+        this.runners = Executors.newFixedThreadPool(maxConcurrentJobs, Thread.ofPlatform().name("invoice-import-", 0).factory());
+        this.jobs = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, InvoiceImportJob> eldest) {
+                return size() > retainedJobs && eldest.getValue().isFinished();
+            }
+        };
+    }
+
+    public InvoiceImportJob submit(UUID organizationId, InvoiceImportFormat format, InputStream body) throws IOException {
+        if (organizationId == null || format == null || body == null) { throw new ValidateException("Organization, format and body must be provided."); }
+        var parser = parsers.get(format);
+        if (parser == null) { throw new ValidateException("Unsupported invoice import format: " + format); }
+
+        Files.createDirectories(spoolDirectory);
+        var file = Files.createTempFile(spoolDirectory, "invoice-import-", "." + format.name().toLowerCase());
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        var job = new InvoiceImportJob(Ids.next(), organizationId, format, maxErrors);
+        synchronized (jobs) {
+            jobs.put(job.id(), job);
+        }
+        runners.execute(() -> run(job, parser, file));
+        return job;
+    }
+
+    public Optional<InvoiceImportJob> find(UUID organizationId, UUID jobId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(jobId)).filter(job -> job.organizationId().equals(organizationId));
+        }
+    }
+
+    private void run(InvoiceImportJob job, InvoiceRecordParser parser, Path file) {
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            importer.run(job, reader, parser);
+        } catch (IOException | UncheckedIOException e) {
+            job.failed(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) { }
+        }
+    }
+
+    @Override
+    public void close() {
+        runners.shutdownNow();
+    }
+}
@@ -0,0 +1,36 @@
+package com.LcEncode.apexRecon.invoicingService.application.importing;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fotografia de um job de importação. records: faturas lidas do arquivo; imported e items: gravados; rejected:
+ * faturas inválidas (errors guarda no máximo maxErrors detalhes). committedThroughLine: todas as faturas que começam
+ * até essa linha já foram gravadas ou rejeitadas; um job FAILED pode ser reenviado a partir da linha seguinte.
+ */
+public record InvoiceImportProgress(
+        UUID jobId,
+        UUID organizationId,
+        InvoiceImportFormat format,
+        InvoiceImportJob.Status status,
+        Instant submittedAt,
+        long records,
+        long imported,
+        long items,
+        long rejected,
+        long committedThroughLine,
+        List<ImportRowError> errors,
+        String failure,
+        Duration elapsed
+) {
+    public InvoiceImportProgress {
+        errors = List.copyOf(errors);
+    }
+
+    public double invoicesPerSecond() {
+        var seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds == 0 ? 0 : imported / seconds;
+    }
+}
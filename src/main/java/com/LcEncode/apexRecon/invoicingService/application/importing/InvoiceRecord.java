@@ -0,0 +1,23 @@
+package com.LcEncode.apexRecon.invoicingService.application.importing;
+
+import java.util.List;
+
+/**
+ * Uma fatura como veio do arquivo, ainda em texto: line é a primeira linha do registro. malformed != null quando o
+ * registro nem pôde ser lido (JSON inválido, colunas faltando) e traz o motivo.
+ */
+public record InvoiceRecord(
+        long line,
+        String reference,
+        String customerId,
+        String dueDate,
+        String amountDue,
+        List<Item> items,
+        String malformed
+) {
+    public record Item(String description, String quantity, String unitPrice) {}
+
+    public static InvoiceRecord malformed(long line, String reference, String reason) {
+        return new InvoiceRecord(line, reference, null, null, null, List.of(), reason);
+    }
+}
@@ -0,0 +1,27 @@
+package com.LcEncode.apexRecon.invoicingService.application.importing;
+
+import java.util.List;
+
+/**
+ * Formato de entrada da importação. O BulkInvoiceImporter lê as linhas em sequência e agrupa as de uma mesma fatura
+ * por groupKey; parse roda em paralelo nas threads de validação e não lança exceção: registro ilegível volta como
+ * InvoiceRecord.malformed.
+ */
+public interface InvoiceRecordParser {
+
+    /**
+     * null quando a primeira linha é um cabeçalho aceito (ou o formato não tem cabeçalho); caso contrário o motivo.
+     */
+    default String checkHeader(String header) {
+        return null;
+    }
+
+    boolean hasHeader();
+
+    /**
+     * Linhas consecutivas com a mesma chave são uma fatura; null: cada linha é uma fatura.
+     */
+    String groupKey(String line);
+
+    InvoiceRecord parse(long line, List<String> lines);
+}
@@ -0,0 +1,112 @@
+package com.LcEncode.apexRecon.invoicingService.application.importing;
+
+import com.LcEncode.apexRecon.invoicingService.domain.model.Invoice;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceItem;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.UUID;
+
+/**
+ * Converte um InvoiceRecord em Invoice emitida (SENT) com as regras dos builders, via violation(): uma linha
+ * inválida vira ImportRowError sem ValidateException. Sem estado; roda em paralelo nas threads de validação.
+ */
+final class InvoiceRecordValidator {
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    record Outcome(Invoice invoice, ImportRowError error) {}
+
+    private InvoiceRecordValidator() {}
+
+    /**
+     * Um overflow de Money que escape das violation() (a soma dos itens, por exemplo) também vira erro da linha, e não
+     * falha do job.
+     */
+    static Outcome validate(UUID organizationId, InvoiceRecord record) {
+        try {
+            return convert(organizationId, record);
+        } catch (ArithmeticException e) {
+            return rejected(record, "Invoice amounts exceed the supported range (" + Money.MAX.toBigDecimal().toPlainString() + ")");
+        }
+    }
+
+    private static Outcome convert(UUID organizationId, InvoiceRecord record) {
+        if (record.malformed() != null) { return rejected(record, record.malformed()); }
+
+        var customerId = uuid(record.customerId());
+        if (customerId == null) { return rejected(record, "Customer id must be a UUID"); }
+        var dueDate = date(record.dueDate());
+        if (dueDate == null) { return rejected(record, "Due date must be an ISO date (yyyy-MM-dd)"); }
+        if (record.items().isEmpty()) { return rejected(record, "An invoice must be have at least one item."); }
+
+        var items = new ArrayList<InvoiceItem>(record.items().size());
+        for (var item : record.items()) {
+            if (item.description() != null && item.description().length() > MAX_DESCRIPTION_LENGTH) {
+                return rejected(record, "Invoice item description must have at most " + MAX_DESCRIPTION_LENGTH + " characters");
+            }
+
+            var builder = InvoiceItem.builder()
+                    .description(item.description())
+                    .quantity(integer(item.quantity()))
+                    .unitPrice(decimal(item.unitPrice()));
+            var violation = builder.violation();
+            if (violation != null) { return rejected(record, violation); }
+            items.add(builder.build());
+        }
+
+        var builder = Invoice.builder()
+                .organizationId(organizationId)
+                .customerId(customerId)
+                .localDate(dueDate)
+                .items(items);
+        var total = items.stream().map(InvoiceItem::getTotal).reduce(Money.ZERO, Money::plus);
+        var amountDue = record.amountDue() == null ? total.toBigDecimal() : decimal(record.amountDue());
+        builder.amountDue(amountDue);
+
+        var violation = builder.violation();
+        if (violation != null) { return rejected(record, violation); }
+        if (amountDue.signum() <= 0 || amountDue.compareTo(total.toBigDecimal()) > 0) {
+            return rejected(record, "Invoice amount due must be greater than 0 and at most the items total");
+        }
+
+        var invoice = builder.build();
+        invoice.markAsSent();
+        return new Outcome(invoice, null);
+    }
+
+    private static Outcome rejected(InvoiceRecord record, String reason) {
+        return new Outcome(null, new ImportRowError(record.line(), record.reference(), reason));
+    }
+
+    private static UUID uuid(String value) {
+        if (value == null || value.length() != 36) { return null; }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) { return null; }
+    }
+
+    private static LocalDate date(String value) {
+        if (value == null || value.length() != 10) { return null; }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) { return null; }
+    }
+
+    private static Integer integer(String value) {
+        if (value == null || value.isEmpty() || value.length() > 9) { return null; }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) < '0' || value.charAt(i) > '9') { return null; }
+        }
+        return Integer.parseInt(value);
+    }
+
+    private static BigDecimal decimal(String value) {
+        if (value == null || value.isEmpty()) { return null; }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) { return null; }
+    }
+}
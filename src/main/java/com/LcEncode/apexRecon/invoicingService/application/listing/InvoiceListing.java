@@ -0,0 +1,46 @@
+package com.LcEncode.apexRecon.invoicingService.application.listing;
+
+import com.LcEncode.apexRecon.invoicingService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.invoicingService.domain.model.listing.InvoiceListingFilter;
+import com.LcEncode.apexRecon.invoicingService.domain.model.listing.InvoicePage;
+import com.LcEncode.apexRecon.invoicingService.domain.repository.InvoiceListingRepository;
+
+import java.util.List;
+
+/**
+ * Listagem paginada por keyset: cada página busca limit + 1 linhas depois da posição do cursor (a linha extra só diz
+ * se há próxima página), então a página 5000 custa o mesmo que a primeira. Não há total nem salto para página N;
+ * a navegação é sempre pelo nextCursor.
+ */
+public class InvoiceListing {
+    private final InvoiceListingRepository repository;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public InvoiceListing(InvoiceListingRepository repository, int defaultLimit, int maxLimit) {
+        if (repository == null) { throw new IllegalArgumentException("Repository must be provided"); }
+        if (defaultLimit <= 0 || maxLimit < defaultLimit) { throw new IllegalArgumentException("Listing limits must satisfy 0 < default <= max"); }
+
+        this.repository = repository;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * cursor null ou vazio: primeira página. limit null: o padrão configurado.
+     */
+    public InvoicePage page(InvoiceListingFilter filter, String cursor, Integer limit) {
+        if (filter == null) { throw new ValidateException("Listing filter must be provided."); }
+        var size = limit == null ? defaultLimit : limit;
+        if (size <= 0 || size > maxLimit) { throw new ValidateException("Page size must be between 1 and " + maxLimit + "."); }
+
+        var after = cursor == null || cursor.isBlank() ? null : ListingCursor.decode(cursor, filter);
+        var rows = repository.list(filter, after, size + 1);
+        if (rows.size() <= size) { return new InvoicePage(List.copyOf(rows), null); }
+
+        var items = List.copyOf(rows.subList(0, size));
+        var last = items.getLast();
+        var next = new InvoiceListingRepository.Position(last.dueDate(), last.invoiceId());
+        return new InvoicePage(items, ListingCursor.encode(filter, next));
+    }
+}
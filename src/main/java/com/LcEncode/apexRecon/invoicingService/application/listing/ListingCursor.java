@@ -0,0 +1,54 @@
+package com.LcEncode.apexRecon.invoicingService.application.listing;
+
+import com.LcEncode.apexRecon.invoicingService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.invoicingService.domain.model.listing.InvoiceListingFilter;
+import com.LcEncode.apexRecon.invoicingService.domain.repository.InvoiceListingRepository;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor opaco da listagem, Base64 URL-safe de: versão, assinatura do filtro, dueDate (epochDay, ou ausente) e
+ * invoiceId da última linha entregue. Não é assinado: só posiciona a busca e não dá acesso além do filtro, que a
+ * API recebe de novo a cada página.
+ */
+final class ListingCursor {
+    private static final byte VERSION = 1;
+    private static final byte NO_DUE_DATE = 0;
+    private static final byte DUE_DATE = 1;
+    private static final int LENGTH = 1 + 4 + 1 + 8 + 16;
+
+    private ListingCursor() {}
+
+    static String encode(InvoiceListingFilter filter, InvoiceListingRepository.Position position) {
+        var buffer = ByteBuffer.allocate(LENGTH)
+                .put(VERSION)
+                .putInt(filter.fingerprint())
+                .put(position.dueDate() == null ? NO_DUE_DATE : DUE_DATE)
+                .putLong(position.dueDate() == null ? 0 : position.dueDate().toEpochDay())
+                .putLong(position.invoiceId().getMostSignificantBits())
+                .putLong(position.invoiceId().getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    static InvoiceListingRepository.Position decode(String cursor, InvoiceListingFilter filter) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) { throw new ValidateException("Invalid listing cursor."); }
+        if (bytes.length != LENGTH) { throw new ValidateException("Invalid listing cursor."); }
+
+        var buffer = ByteBuffer.wrap(bytes);
+        if (buffer.get() != VERSION) { throw new ValidateException("Unsupported listing cursor version."); }
+        if (buffer.getInt() != filter.fingerprint()) { throw new ValidateException("Listing cursor was issued for a different filter."); }
+
+        var flag = buffer.get();
+        var epochDay = buffer.getLong();
+        if (flag != NO_DUE_DATE && flag != DUE_DATE) { throw new ValidateException("Invalid listing cursor."); }
+
+        var dueDate = flag == DUE_DATE ? LocalDate.ofEpochDay(epochDay) : null;
+        return new InvoiceListingRepository.Position(dueDate, new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
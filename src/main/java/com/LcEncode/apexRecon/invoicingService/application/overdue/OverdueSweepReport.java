@@ -0,0 +1,20 @@
+package com.LcEncode.apexRecon.invoicingService.application.overdue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Resultado de uma varredura: faturas vencidas, faturas puladas por estarem travadas (vencem na próxima), blocos
+ * (uma transação cada) e duração.
+ */
+public record OverdueSweepReport(
+        LocalDate asOf,
+        long transitioned,
+        long skipped,
+        int chunks,
+        Duration elapsed
+) {
+    public double transitionsPerSecond() {
+        return elapsed.isZero() ? 0 : transitioned / (elapsed.toNanos() / 1e9);
+    }
+}
@@ -0,0 +1,53 @@
+package com.LcEncode.apexRecon.invoicingService.application.overdue;
+
+import com.LcEncode.apexRecon.invoicingService.domain.gateway.InvoiceEventPublisher;
+import com.LcEncode.apexRecon.invoicingService.domain.repository.OverdueInvoiceRepository;
+import com.LcEncode.apexRecon.invoicingService.domain.service.OverdueSweepCriteria;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Vence em lote as faturas que passaram do dueDate, sem carregar agregados: para cada status de origem, percorre o
+ * índice (status, due_date) em blocos de chunkSize com cursor (keyset), e cada bloco é uma transação curta que
+ * atualiza as linhas e publica os eventos. Memória e tamanho de transação ficam limitados ao bloco, independente de
+ * quantas faturas vencem.
+ * Pode rodar em mais de uma instância ao mesmo tempo: as linhas travadas por outra varredura são puladas e contadas
+ * em skipped. Um bloco curto não encerra o status; só o cursor que não encontra mais nenhuma fatura.
+ */
+public class OverdueSweeper {
+    private final OverdueInvoiceRepository repository;
+    private final InvoiceEventPublisher publisher;
+    private final int chunkSize;
+
+    public OverdueSweeper(OverdueInvoiceRepository repository, InvoiceEventPublisher publisher, int chunkSize) {
+        if (repository == null || publisher == null) { throw new IllegalArgumentException("Repository and publisher must be provided"); }
+        if (chunkSize <= 0) { throw new IllegalArgumentException("Overdue sweep chunk size must be greater than 0"); }
+
+        this.repository = repository;
+        this.publisher = publisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public OverdueSweepReport sweep(LocalDate today) {
+        var criteria = OverdueSweepCriteria.asOf(today);
+        var started = System.nanoTime();
+        long transitioned = 0;
+        long skipped = 0;
+        var chunks = 0;
+
+        for (var status : criteria.fromStatuses()) {
+            OverdueInvoiceRepository.Cursor cursor = null;
+            OverdueInvoiceRepository.Chunk chunk;
+            do {
+                chunk = repository.markOverdue(criteria, status, cursor, chunkSize, publisher);
+                transitioned += chunk.transitioned();
+                skipped += chunk.skipped();
+                chunks++;
+                cursor = chunk.last();
+            } while (!chunk.isEmpty());
+        }
+
+        return new OverdueSweepReport(today, transitioned, skipped, chunks, Duration.ofNanos(System.nanoTime() - started));
+    }
+}
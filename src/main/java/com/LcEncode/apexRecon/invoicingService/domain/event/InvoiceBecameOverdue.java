@@ -0,0 +1,20 @@
+package com.LcEncode.apexRecon.invoicingService.domain.event;
+
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceStatus;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Uma fatura passou para OVERDUE. asOf é a data de referência da varredura que a venceu.
+ */
+public record InvoiceBecameOverdue(
+        UUID invoiceId,
+        UUID organizationId,
+        UUID customerId,
+        LocalDate dueDate,
+        Money amountDue,
+        InvoiceStatus previousStatus,
+        LocalDate asOf
+) {}
@@ -0,0 +1,12 @@
+package com.LcEncode.apexRecon.invoicingService.domain.gateway;
+
+import com.LcEncode.apexRecon.invoicingService.domain.model.Invoice;
+
+/**
+ * Fatura gravada por uma importação junto com a referência da linha do arquivo (número da NF no sistema de origem),
+ * que a Invoice não guarda mas costuma aparecer na descrição do crédito bancário.
+ */
+public record ImportedInvoice(
+        Invoice invoice,
+        String reference
+) {}
@@ -0,0 +1,15 @@
+package com.LcEncode.apexRecon.invoicingService.domain.gateway;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Avisado depois que um lote de faturas importadas foi gravado, para quem mantém estado derivado dos ledgers fora
+ * do banco (ex.: cache de itens em aberto e índice de referências da conciliação).
+ */
+@FunctionalInterface
+public interface ImportedInvoicesListener {
+    ImportedInvoicesListener NOOP = (organizationId, invoices) -> {};
+
+    void imported(UUID organizationId, List<ImportedInvoice> invoices);
+}
@@ -0,0 +1,23 @@
+package com.LcEncode.apexRecon.invoicingService.domain.gateway;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Estado derivado de invoices_ledger que outro contexto mantém no banco (ex.: aging da conciliação) e que precisa
+ * mudar na mesma transação que grava o lote importado. lock roda antes do INSERT no ledger e apply depois dele, para
+ * seguir a ordem de locks de quem mantém a projeção.
+ */
+public interface ImportedInvoicesProjection {
+    ImportedInvoicesProjection NOOP = new ImportedInvoicesProjection() {
+        @Override
+        public void lock(UUID organizationId) {}
+
+        @Override
+        public void apply(UUID organizationId, List<UUID> invoiceIds) {}
+    };
+
+    void lock(UUID organizationId);
+
+    void apply(UUID organizationId, List<UUID> invoiceIds);
+}
@@ -0,0 +1,14 @@
+package com.LcEncode.apexRecon.invoicingService.domain.gateway;
+
+import com.LcEncode.apexRecon.invoicingService.domain.event.InvoiceBecameOverdue;
+
+import java.util.List;
+
+public interface InvoiceEventPublisher {
+
+    /**
+     * Publica os eventos na ordem da lista e só retorna depois que o broker confirmou todos; caso contrário lança
+     * exceção. Entrega at-least-once: o consumidor deduplica por invoiceId + tipo do evento.
+     */
+    void publish(List<InvoiceBecameOverdue> events);
+}
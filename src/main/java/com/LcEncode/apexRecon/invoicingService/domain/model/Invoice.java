@@ -3,28 +3,35 @@ package com.LcEncode.apexRecon.invoicingService.domain.model;
 import com.LcEncode.apexRecon.invoicingService.domain.exception.*;
 import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceItem;
 import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceStatus;
-import org.springframework.cglib.core.Local;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.PaymentApplyResult;
+import com.LcEncode.apexRecon.shared.domain.identifier.Ids;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class Invoice {
     private final UUID invoice_id;
     private final UUID organization_id;
     private final UUID customer_id;
-    private BigDecimal totalAmount;
-    private BigDecimal amountDue;
+    private Money totalAmount;
+    private Money amountDue;
     private InvoiceStatus status;
     private LocalDate dueDate;
     private final LocalDate issueDate;
     private LocalDate paymentDate;
-    private final List<InvoiceItem> items = new ArrayList<>();
+    // Itens indexados por itemId mantendo a ordem de inserção: remoção em O(1) sem perder a ordem das linhas.
+    private final Map<UUID, InvoiceItem> items = new LinkedHashMap<>();
     private String voidReason;
 
-    private Invoice(UUID invoice_id, UUID organization_id, UUID customer_id, BigDecimal totalAmount, BigDecimal amountDue, InvoiceStatus status, LocalDate dueDate, LocalDate issueDate,List<InvoiceItem> items) {
+    private Invoice(UUID invoice_id, UUID organization_id, UUID customer_id, Money totalAmount, Money amountDue, InvoiceStatus status, LocalDate dueDate, LocalDate issueDate,List<InvoiceItem> items) {
         if (invoice_id == null || organization_id == null || customer_id == null || totalAmount == null || amountDue == null || status == null || dueDate == null || issueDate == null || items.isEmpty()) {
             throw new ValidateException("All core Invoice must be provided.");
         }
@@ -37,7 +44,7 @@ public class Invoice {
         this.status = status;
         this.dueDate = dueDate;
         this.issueDate = issueDate;
-        this.items.addAll(items);
+        items.forEach(item -> this.items.put(item.getItemId(), item));
     }
 
     public static InvoiceBuilder builder() {
@@ -65,34 +72,59 @@ public class Invoice {
         }
 
         setStatus(InvoiceStatus.PAID);
-        setAmountDue(BigDecimal.ZERO);
+        setAmountDue(Money.ZERO);
         setPaymentDate(LocalDate.now());
     }
 
     public void applyPartialPayment(BigDecimal amountPaid) {
-        if (!this.isPayable()) {
-            throw new InvoiceAlreadyPaidException(String.format("""
+        applyPartialPayment(amountPaid == null ? null : Money.of(amountPaid));
+    }
+
+    public void applyPartialPayment(Money amountPaid) {
+        var result = tryApplyPartialPayment(amountPaid);
+
+        switch (result.outcome()) {
+            case ACCEPTED -> { }
+            case INVALID_AMOUNT -> throw new DomainException("Amount paid must be provided.");
+            case ILLEGAL_STATE -> throw new InvoiceAlreadyPaidException(String.format("""
                     Invoice ID: %s
                     Status: %s
                     """, getInvoice_id(), getStatus()));
-        }
-
-        BigDecimal newAmountDue = this.amountDue.subtract(amountPaid);
-        if (newAmountDue.compareTo(BigDecimal.ZERO) < 0) {
-            throw new OverpaymentException(String.format("""
+            case OVERPAYMENT -> throw new OverpaymentException(String.format("""
                     Invoice ID: %s
                     Amount Due: %.2f
                     Amount Paid: %.2f
-                    """, getInvoice_id(), getAmountDue(), amountPaid));
+                    """, getInvoice_id(), getAmountDue().toBigDecimal(), amountPaid.toBigDecimal()));
         }
+    }
+
+    /**
+     * Mesmas regras de applyPartialPayment sem lançar exceção; a fatura só é alterada quando o resultado é ACCEPTED.
+     */
+    public PaymentApplyResult tryApplyPartialPayment(Money amountPaid) {
+        if (amountPaid == null) { return PaymentApplyResult.invalidAmount(); }
+        if (!this.isPayable()) { return PaymentApplyResult.illegalState(); }
+
+        Money newAmountDue = this.amountDue.minus(amountPaid);
+        if (newAmountDue.isNegative()) { return PaymentApplyResult.overpayment(newAmountDue.abs()); }
 
         setAmountDue(newAmountDue);
-        setStatus(InvoiceStatus.PARTIALLY_PAID);
+        // Como no InvoiceLedger: a fatura vencida continua OVERDUE até ser quitada.
+        if (getStatus() != InvoiceStatus.OVERDUE) { setStatus(InvoiceStatus.PARTIALLY_PAID); }
         setPaymentDate(LocalDate.now());
+        return PaymentApplyResult.accepted();
     }
 
     public void markAsOverdue() {
-        if (LocalDate.now().isAfter(getDueDate()) && getStatus() == InvoiceStatus.SENT || getStatus() == InvoiceStatus.PARTIALLY_PAID) {
+        markAsOverdue(LocalDate.now());
+    }
+
+    /**
+     * Vence a fatura se today já passou do dueDate e ela ainda espera pagamento (SENT ou PARTIALLY_PAID).
+     * O OverdueSweeper aplica a mesma regra em lote (OverdueSweepCriteria); as duas precisam continuar equivalentes.
+     */
+    public void markAsOverdue(LocalDate today) {
+        if (today.isAfter(getDueDate()) && (getStatus() == InvoiceStatus.SENT || getStatus() == InvoiceStatus.PARTIALLY_PAID)) {
             setStatus(InvoiceStatus.OVERDUE);
         }
     }
@@ -102,22 +134,43 @@ public class Invoice {
         if (reason == null || reason.isBlank()) { throw new DomainException("A reason to void the invoice must be provided."); }
 
         setStatus(InvoiceStatus.VOID);
-        setAmountDue(BigDecimal.ZERO);
+        setAmountDue(Money.ZERO);
         setVoidReason(reason);
     }
 
     public void addItem(InvoiceItem item) {
         if (getStatus() != InvoiceStatus.DRAFT) { throw new InvoiceTransitionException("Items only can be add in DRAFT status"); }
+        if (item == null) { throw new DomainException("Invoice item must be provided."); }
+        if (this.items.containsKey(item.getItemId())) { throw new DomainException("Invoice item already added: " + item.getItemId()); }
+
+        this.items.put(item.getItemId(), item);
+        applyTotalDelta(item.getTotal());
+    }
+
+    /**
+     * Inclusão em lote: valida todos os itens antes de alterar o agregado e atualiza os totais uma única vez.
+     */
+    public void addItems(Collection<InvoiceItem> newItems) {
+        if (getStatus() != InvoiceStatus.DRAFT) { throw new InvoiceTransitionException("Items only can be add in DRAFT status"); }
+        if (newItems == null || newItems.isEmpty()) { throw new DomainException("At least one invoice item must be provided."); }
+
+        var seen = new HashSet<UUID>(newItems.size() * 2);
+        var delta = Money.ZERO;
+        for (var item : newItems) {
+            if (item == null) { throw new DomainException("Invoice item must be provided."); }
+            if (this.items.containsKey(item.getItemId()) || !seen.add(item.getItemId())) { throw new DomainException("Invoice item already added: " + item.getItemId()); }
+            delta = delta.plus(item.getTotal());
+        }
 
-        this.items.add(item);
-        recalculateTotals();
+        newItems.forEach(item -> this.items.put(item.getItemId(), item));
+        applyTotalDelta(delta);
     }
 
     public void removeItem(UUID itemId) {
         if (getStatus() != InvoiceStatus.DRAFT) { throw new InvoiceTransitionException("Items only can be remove in DRAFT status"); }
 
-        this.items.removeIf(item -> item.getItemId().equals(itemId));
-        recalculateTotals();
+        var removed = this.items.remove(itemId);
+        if (removed != null) { applyTotalDelta(removed.getTotal().times(-1)); }
     }
 
     public void updateDueDate(LocalDate newDueDate) {
@@ -126,10 +179,11 @@ public class Invoice {
         this.setDueDate(newDueDate);
     }
 
-    private void recalculateTotals() {
-        setTotalAmount(this.items.stream()
-                .map(InvoiceItem::getTotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add));
+    /**
+     * Mantém o total corrente sem reler os itens: cada inclusão ou remoção soma apenas o total da própria linha.
+     */
+    private void applyTotalDelta(Money delta) {
+        setTotalAmount(getTotalAmount().plus(delta));
 
         if (getStatus() == InvoiceStatus.DRAFT) { setAmountDue(getTotalAmount()); }
     }
@@ -156,11 +210,11 @@ public class Invoice {
         return customer_id;
     }
 
-    public BigDecimal getTotalAmount() {
+    public Money getTotalAmount() {
         return totalAmount;
     }
 
-    public BigDecimal getAmountDue() {
+    public Money getAmountDue() {
         return amountDue;
     }
 
@@ -181,14 +235,22 @@ public class Invoice {
     }
 
     public List<InvoiceItem> getItems() {
-        return items;
+        return List.copyOf(items.values());
+    }
+
+    public InvoiceItem getItem(UUID itemId) {
+        return items.get(itemId);
+    }
+
+    public int getItemCount() {
+        return items.size();
     }
 
     public String getVoidReason() {
         return voidReason;
     }
 
-    private void setAmountDue(BigDecimal amountDue) {
+    private void setAmountDue(Money amountDue) {
         this.amountDue = amountDue;
     }
 
@@ -204,7 +266,7 @@ public class Invoice {
         this.voidReason = voidReason;
     }
 
-    private void setTotalAmount(BigDecimal totalAmount) {
+    private void setTotalAmount(Money totalAmount) {
         this.totalAmount = totalAmount;
     }
 
@@ -222,17 +284,29 @@ public class Invoice {
                 Amount Due: %.2f
                 Status: %s
                 Due Date: %s
-                """, getInvoice_id(), getOrganization_id(), getCustomer_id(), getTotalAmount(), getAmountDue(), getStatus(), getDueDate());
+                """, getInvoice_id(), getOrganization_id(), getCustomer_id(), getTotalAmount().toBigDecimal(), getAmountDue().toBigDecimal(), getStatus(), getDueDate());
     }
 
     public static class InvoiceBuilder {
-        private BigDecimal totalAmount;
+        private UUID organizationId;
+        private UUID customerId;
+        private Money totalAmount;
         private BigDecimal amountDue;
         private LocalDate dueDate;
         private List<InvoiceItem> items = new ArrayList<>();
 
         public InvoiceBuilder() {}
 
+        public InvoiceBuilder organizationId(UUID organizationId) {
+            this.organizationId = organizationId;
+            return this;
+        }
+
+        public InvoiceBuilder customerId(UUID customerId) {
+            this.customerId = customerId;
+            return this;
+        }
+
         public InvoiceBuilder amountDue(BigDecimal amountDue) {
             this.amountDue = amountDue;
             return this;
@@ -247,16 +321,31 @@ public class Invoice {
             this.items.addAll(items);
             this.totalAmount = this.items.stream()
                     .map(InvoiceItem::getTotal)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+                    .reduce(Money.ZERO, Money::plus);
             return this;
         }
 
+        /**
+         * As mesmas regras de build() sem lançar exceção: null quando a fatura pode ser construída, ou o motivo da
+         * primeira violação. Para validação em massa, onde a linha inválida é dado e não erro.
+         */
+        public String violation() {
+            if (amountDue == null) { return "Invoice amount due must be provided."; }
+            if (amountDue.stripTrailingZeros().scale() > Money.SCALE) { return "Invoice amount due must have at most 4 decimal places"; }
+            if (dueDate == null) { return "Invoice due date must be provided."; }
+            if (items.isEmpty()) { return "An invoice must be have at least one item."; }
+            return null;
+        }
+
+        /**
+         * organizationId e customerId não informados são gerados.
+         */
         public Invoice build() {
-            if (amountDue == null) { throw new ValidateException("Invoice amount due must be provided."); }
-            if (dueDate == null) { throw new ValidateException("Invoice due date must be provided."); }
-            if (items.isEmpty()) { throw new ValidateException("An invoice must be have at least one item."); }
+            var violation = violation();
+            if (violation != null) { throw new ValidateException(violation); }
 
-            return new Invoice(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), this.totalAmount, this.amountDue, InvoiceStatus.DRAFT, this.dueDate, LocalDate.now(), this.items);
+            return new Invoice(Ids.next(), organizationId == null ? UUID.randomUUID() : organizationId, customerId == null ? UUID.randomUUID() : customerId,
+                    this.totalAmount, Money.of(this.amountDue), InvoiceStatus.DRAFT, this.dueDate, LocalDate.now(), this.items);
         }
     }
 }
@@ -0,0 +1,19 @@
+package com.LcEncode.apexRecon.invoicingService.domain.model.listing;
+
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceStatus;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Linha da listagem de faturas: o necessário para a tela, sem itens nem pagamentos.
+ */
+public record InvoiceListItem(
+        UUID invoiceId,
+        UUID customerId,
+        InvoiceStatus status,
+        LocalDate dueDate,
+        Money totalAmount,
+        Money amountDue
+) {}
@@ -0,0 +1,42 @@
+package com.LcEncode.apexRecon.invoicingService.domain.model.listing;
+
+import com.LcEncode.apexRecon.invoicingService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceStatus;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Filtro da listagem: organização obrigatória, cliente opcional (null: todos) e statuses (vazio: todos).
+ * DRAFT e VOID não chegam ao ledger e não são filtros válidos.
+ */
+public record InvoiceListingFilter(
+        UUID organizationId,
+        UUID customerId,
+        Set<InvoiceStatus> statuses
+) {
+    public InvoiceListingFilter {
+        if (organizationId == null) { throw new ValidateException("Organization must be provided."); }
+        if (statuses == null) { statuses = Set.of(); }
+        if (statuses.contains(InvoiceStatus.DRAFT) || statuses.contains(InvoiceStatus.VOID)) { throw new ValidateException("Draft and void invoices are not listed."); }
+
+        statuses = Set.copyOf(statuses);
+    }
+
+    public static InvoiceListingFilter organization(UUID organizationId) {
+        return new InvoiceListingFilter(organizationId, null, Set.of());
+    }
+
+    /**
+     * Assinatura estável entre instâncias (não usa hashCode de enum), gravada no cursor para recusar um cursor
+     * emitido para outro filtro.
+     */
+    public int fingerprint() {
+        var hash = organizationId.hashCode();
+        hash = 31 * hash + (customerId == null ? 0 : customerId.hashCode());
+        for (var status : InvoiceStatus.values()) {
+            if (statuses.contains(status)) { hash = 31 * hash + status.name().hashCode(); }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,15 @@
+package com.LcEncode.apexRecon.invoicingService.domain.model.listing;
+
+import java.util.List;
+
+/**
+ * Uma página da listagem. nextCursor é opaco e null na última página.
+ */
+public record InvoicePage(
+        List<InvoiceListItem> items,
+        String nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -2,6 +2,8 @@ package com.LcEncode.apexRecon.invoicingService.domain.model.useCase;
 
 import com.LcEncode.apexRecon.invoicingService.domain.exception.DomainException;
 import com.LcEncode.apexRecon.invoicingService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.shared.domain.identifier.Ids;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
 
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -10,13 +12,14 @@ public class InvoiceItem {
     private final UUID itemId;
     private final String description;
     private final Integer quantity;
-    private final BigDecimal unitPrice;
+    private final Money unitPrice;
+    private final Money total;
 
-    private InvoiceItem(UUID itemId, String description, Integer quantity, BigDecimal unitPrice) {
+    private InvoiceItem(UUID itemId, String description, Integer quantity, Money unitPrice) {
         if (quantity == null || quantity <= 0) {
             throw new DomainException("Item quantity must be greater than 0");
         }
-        if (unitPrice.compareTo(BigDecimal.ZERO) < 0) {
+        if (unitPrice.isNegative()) {
             throw new DomainException("Item unit price must be greater than 0");
         }
         if (itemId == null || description.isBlank()) {
@@ -27,6 +30,7 @@ public class InvoiceItem {
         this.description = description;
         this.quantity = quantity;
         this.unitPrice = unitPrice;
+        this.total = unitPrice.times(quantity);
     }
 
     public static InvoiceItemBuilder builder() {
@@ -45,12 +49,12 @@ public class InvoiceItem {
         return quantity;
     }
 
-    public BigDecimal getUnitPrice() {
+    public Money getUnitPrice() {
         return unitPrice;
     }
 
-    public BigDecimal getTotal() {
-        return this.unitPrice.multiply(new BigDecimal(this.quantity));
+    public Money getTotal() {
+        return total;
     }
 
     @Override
@@ -60,7 +64,7 @@ public class InvoiceItem {
                 Description: %s
                 Quantity: %d
                 Unit Price: %.2f
-                """, getItemId(), getDescription(), getQuantity(), getUnitPrice());
+                """, getItemId(), getDescription(), getQuantity(), getUnitPrice().toBigDecimal());
     }
 
     public static class InvoiceItemBuilder {
@@ -85,12 +89,26 @@ public class InvoiceItem {
             return this;
         }
 
+        /**
+         * As mesmas regras de build() sem lançar exceção: null quando o item pode ser construído, ou o motivo da
+         * primeira violação.
+         */
+        public String violation() {
+            if (description == null || description.isBlank()) { return "Invoice item description must be provided. "; }
+            if (quantity == null || quantity <= 0) { return "Invoice Item quantity must be provided or must be greater than 0"; }
+            if (unitPrice == null || unitPrice.compareTo(BigDecimal.ZERO) <= 0) { return "Invoice Item unit price must be provided or must be greater than 0"; }
+            if (unitPrice.stripTrailingZeros().scale() > Money.SCALE) { return "Invoice Item unit price must have at most 4 decimal places"; }
+            if (unitPrice.multiply(BigDecimal.valueOf(quantity)).compareTo(Money.MAX.toBigDecimal()) > 0) {
+                return "Invoice Item total (quantity x unit price) must be at most " + Money.MAX.toBigDecimal().toPlainString();
+            }
+            return null;
+        }
+
         public InvoiceItem build() {
-            if (description.isBlank()) { throw new ValidateException("Invoice item description must be provided. "); }
-            if (quantity == null || quantity <= 0) { throw new ValidateException("Invoice Item quantity must be provided or must be greater than 0"); }
-            if (unitPrice.compareTo(BigDecimal.ZERO) <= 0) { throw new ValidateException("Invoice Item unit price must be provided or must be greater than 0"); }
+            var violation = violation();
+            if (violation != null) { throw new ValidateException(violation); }
 
-            return new InvoiceItem(UUID.randomUUID(), this.description, this.quantity, this.unitPrice);
+            return new InvoiceItem(Ids.next(), this.description, this.quantity, Money.of(this.unitPrice));
         }
     }
 }
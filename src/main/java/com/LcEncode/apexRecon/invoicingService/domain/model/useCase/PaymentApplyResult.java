@@ -0,0 +1,43 @@
+package com.LcEncode.apexRecon.invoicingService.domain.model.useCase;
+
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+/**
+ * Resultado de Invoice.tryApplyPartialPayment sem exceção. Os resultados sem valor são instâncias únicas;
+ * apenas OVERPAYMENT carrega o excedente em relação ao amountDue.
+ */
+public record PaymentApplyResult(
+        Outcome outcome,
+        Money excess
+) {
+    public enum Outcome {
+        ACCEPTED,
+        INVALID_AMOUNT,
+        OVERPAYMENT,
+        ILLEGAL_STATE
+    }
+
+    private static final PaymentApplyResult ACCEPTED = new PaymentApplyResult(Outcome.ACCEPTED, Money.ZERO);
+    private static final PaymentApplyResult INVALID_AMOUNT = new PaymentApplyResult(Outcome.INVALID_AMOUNT, Money.ZERO);
+    private static final PaymentApplyResult ILLEGAL_STATE = new PaymentApplyResult(Outcome.ILLEGAL_STATE, Money.ZERO);
+
+    public static PaymentApplyResult accepted() {
+        return ACCEPTED;
+    }
+
+    public static PaymentApplyResult invalidAmount() {
+        return INVALID_AMOUNT;
+    }
+
+    public static PaymentApplyResult illegalState() {
+        return ILLEGAL_STATE;
+    }
+
+    public static PaymentApplyResult overpayment(Money excess) {
+        return new PaymentApplyResult(Outcome.OVERPAYMENT, excess);
+    }
+
+    public boolean isAccepted() {
+        return outcome == Outcome.ACCEPTED;
+    }
+}
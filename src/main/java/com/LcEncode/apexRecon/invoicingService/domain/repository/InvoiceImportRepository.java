@@ -0,0 +1,13 @@
+package com.LcEncode.apexRecon.invoicingService.domain.repository;
+
+import com.LcEncode.apexRecon.invoicingService.domain.model.Invoice;
+
+import java.util.List;
+
+public interface InvoiceImportRepository {
+
+    /**
+     * Grava as faturas (já emitidas) e seus itens em uma transação, junto com o ImportedInvoicesProjection.
+     */
+    void insert(List<Invoice> invoices);
+}
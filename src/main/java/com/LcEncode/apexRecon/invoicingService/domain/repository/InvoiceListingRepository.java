@@ -0,0 +1,23 @@
+package com.LcEncode.apexRecon.invoicingService.domain.repository;
+
+import com.LcEncode.apexRecon.invoicingService.domain.model.listing.InvoiceListItem;
+import com.LcEncode.apexRecon.invoicingService.domain.model.listing.InvoiceListingFilter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface InvoiceListingRepository {
+
+    /**
+     * Posição na ordem da listagem: (dueDate, invoiceId), com as faturas sem vencimento (dueDate null) primeiro,
+     * como o MySQL ordena NULL.
+     */
+    record Position(LocalDate dueDate, UUID invoiceId) {}
+
+    /**
+     * Até limit faturas que satisfazem o filtro, estritamente depois de after (null: início), na ordem da listagem.
+     * O custo depende de limit, não da posição.
+     */
+    List<InvoiceListItem> list(InvoiceListingFilter filter, Position after, int limit);
+}
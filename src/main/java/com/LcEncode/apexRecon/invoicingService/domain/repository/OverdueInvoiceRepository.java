@@ -0,0 +1,34 @@
+package com.LcEncode.apexRecon.invoicingService.domain.repository;
+
+import com.LcEncode.apexRecon.invoicingService.domain.gateway.InvoiceEventPublisher;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceStatus;
+import com.LcEncode.apexRecon.invoicingService.domain.service.OverdueSweepCriteria;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface OverdueInvoiceRepository {
+
+    /**
+     * Posição da varredura dentro de um status: a última fatura lida, na ordem (dueDate, invoiceId).
+     */
+    record Cursor(LocalDate dueDate, UUID invoiceId) {}
+
+    /**
+     * Resultado de um bloco: faturas vencidas, faturas puladas (travadas por outra transação ou que mudaram de status
+     * entre a leitura e o lock; as travadas ficam para a próxima varredura) e o novo cursor, a última fatura lida. Só
+     * um bloco sem nenhuma das duas encerra o status.
+     */
+    record Chunk(int transitioned, int skipped, Cursor last) {
+        public boolean isEmpty() {
+            return transitioned == 0 && skipped == 0;
+        }
+    }
+
+    /**
+     * Em uma transação: lê até limit faturas em status que satisfazem o critério, a partir do cursor (null: início),
+     * passa para OVERDUE as que não estão travadas e publica um InvoiceBecameOverdue para cada. Se a publicação falhar,
+     * nada é gravado.
+     */
+    Chunk markOverdue(OverdueSweepCriteria criteria, InvoiceStatus status, Cursor after, int limit, InvoiceEventPublisher publisher);
+}
@@ -0,0 +1,33 @@
+package com.LcEncode.apexRecon.invoicingService.domain.service;
+
+import com.LcEncode.apexRecon.invoicingService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceStatus;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Regra de Invoice.markAsOverdue(today) escrita como filtro de conjunto: status em fromStatuses e dueDate anterior a
+ * dueBefore (= today). É o que o OverdueSweeper traduz para o WHERE do UPDATE em lote.
+ */
+public record OverdueSweepCriteria(
+        Set<InvoiceStatus> fromStatuses,
+        LocalDate dueBefore
+) {
+    private static final Set<InvoiceStatus> AWAITING_PAYMENT = EnumSet.of(InvoiceStatus.SENT, InvoiceStatus.PARTIALLY_PAID);
+
+    public OverdueSweepCriteria {
+        if (fromStatuses == null || fromStatuses.isEmpty() || dueBefore == null) { throw new ValidateException("Overdue sweep statuses and date must be provided."); }
+
+        fromStatuses = Set.copyOf(fromStatuses);
+    }
+
+    public static OverdueSweepCriteria asOf(LocalDate today) {
+        return new OverdueSweepCriteria(AWAITING_PAYMENT, today);
+    }
+
+    public boolean matches(InvoiceStatus status, LocalDate dueDate) {
+        return fromStatuses.contains(status) && dueDate.isBefore(dueBefore);
+    }
+}
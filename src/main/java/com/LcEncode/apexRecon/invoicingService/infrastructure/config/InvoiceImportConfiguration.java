@@ -0,0 +1,42 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.config;
+
+import com.LcEncode.apexRecon.invoicingService.application.importing.BulkInvoiceImporter;
+import com.LcEncode.apexRecon.invoicingService.application.importing.CsvInvoiceRecordParser;
+import com.LcEncode.apexRecon.invoicingService.application.importing.InvoiceImportFormat;
+import com.LcEncode.apexRecon.invoicingService.application.importing.InvoiceImportJobs;
+import com.LcEncode.apexRecon.invoicingService.domain.gateway.ImportedInvoicesListener;
+import com.LcEncode.apexRecon.invoicingService.domain.repository.InvoiceImportRepository;
+import com.LcEncode.apexRecon.invoicingService.infrastructure.importing.NdjsonInvoiceRecordParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(InvoiceImportProperties.class)
+public class InvoiceImportConfiguration {
+
+    /**
+     * Todos os ImportedInvoicesListener do contexto são avisados, na ordem dos beans.
+     */
+    @Bean(destroyMethod = "close")
+    public BulkInvoiceImporter bulkInvoiceImporter(InvoiceImportRepository repository, ObjectProvider<ImportedInvoicesListener> listeners, InvoiceImportProperties properties) {
+        var all = listeners.orderedStream().toList();
+        ImportedInvoicesListener listener = all.isEmpty()
+                ? ImportedInvoicesListener.NOOP
+                : (organizationId, invoices) -> all.forEach(each -> each.imported(organizationId, invoices));
+        return new BulkInvoiceImporter(repository, listener, properties.effectiveParallelism(), properties.batchSize());
+    }
+
+    @Bean(destroyMethod = "close")
+    public InvoiceImportJobs invoiceImportJobs(BulkInvoiceImporter importer, ObjectMapper objectMapper, InvoiceImportProperties properties) {
+        var parsers = Map.of(
+                InvoiceImportFormat.NDJSON, new NdjsonInvoiceRecordParser(objectMapper),
+                InvoiceImportFormat.CSV, new CsvInvoiceRecordParser());
+        return new InvoiceImportJobs(importer, parsers, properties.effectiveSpoolDirectory(), properties.maxConcurrentJobs(),
+                properties.retainedJobs(), properties.maxErrors());
+    }
+}
@@ -0,0 +1,32 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * apexrecon.invoicing.import.*: importação de faturas em massa. batch-size é o número de faturas por transação;
+ * parallelism 0 usa uma thread de validação por núcleo; insert-chunk-size é o número de linhas por INSERT.
+ */
+@ConfigurationProperties("apexrecon.invoicing.import")
+public record InvoiceImportProperties(
+        @DefaultValue("2000") int batchSize,
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("1000") int insertChunkSize,
+        @DefaultValue("1") int maxConcurrentJobs,
+        @DefaultValue("100") int retainedJobs,
+        @DefaultValue("1000") int maxErrors,
+        @DefaultValue("") String spoolDirectory
+) {
+    public int effectiveParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * spool-directory vazio: apexrecon-invoice-imports dentro de java.io.tmpdir.
+     */
+    public Path effectiveSpoolDirectory() {
+        return spoolDirectory.isBlank() ? Path.of(System.getProperty("java.io.tmpdir"), "apexrecon-invoice-imports") : Path.of(spoolDirectory);
+    }
+}
@@ -0,0 +1,17 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.config;
+
+import com.LcEncode.apexRecon.invoicingService.application.listing.InvoiceListing;
+import com.LcEncode.apexRecon.invoicingService.domain.repository.InvoiceListingRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(InvoiceListingProperties.class)
+public class InvoiceListingConfiguration {
+
+    @Bean
+    public InvoiceListing invoiceListing(InvoiceListingRepository repository, InvoiceListingProperties properties) {
+        return new InvoiceListing(repository, properties.defaultLimit(), properties.maxLimit());
+    }
+}
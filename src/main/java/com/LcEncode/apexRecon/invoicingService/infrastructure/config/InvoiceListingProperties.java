@@ -0,0 +1,14 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * apexrecon.invoicing.listing.*: tamanho de página da listagem de faturas quando o cliente não informa limit, e o
+ * máximo aceito.
+ */
+@ConfigurationProperties("apexrecon.invoicing.listing")
+public record InvoiceListingProperties(
+        @DefaultValue("50") int defaultLimit,
+        @DefaultValue("500") int maxLimit
+) {}
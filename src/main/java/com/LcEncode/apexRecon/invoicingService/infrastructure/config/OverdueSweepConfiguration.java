@@ -0,0 +1,44 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.config;
+
+import com.LcEncode.apexRecon.invoicingService.application.overdue.OverdueSweeper;
+import com.LcEncode.apexRecon.invoicingService.domain.gateway.InvoiceEventPublisher;
+import com.LcEncode.apexRecon.invoicingService.domain.repository.OverdueInvoiceRepository;
+import com.LcEncode.apexRecon.invoicingService.infrastructure.messaging.RabbitInvoiceEventPublisher;
+import com.LcEncode.apexRecon.invoicingService.infrastructure.scheduling.OverdueSweepJob;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(OverdueSweepProperties.class)
+public class OverdueSweepConfiguration {
+
+    @Bean
+    public TopicExchange invoicesExchange(OverdueSweepProperties properties) {
+        return new TopicExchange(properties.exchange(), true, false);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(InvoiceEventPublisher.class)
+    public RabbitInvoiceEventPublisher rabbitInvoiceEventPublisher(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper, OverdueSweepProperties properties) {
+        return new RabbitInvoiceEventPublisher(rabbitTemplate, objectMapper, properties.exchange(), properties.confirmTimeout());
+    }
+
+    @Bean
+    public OverdueSweeper overdueSweeper(OverdueInvoiceRepository repository, InvoiceEventPublisher publisher, OverdueSweepProperties properties) {
+        return new OverdueSweeper(repository, publisher, properties.chunkSize());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "apexrecon.invoicing.overdue-sweep", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public OverdueSweepJob overdueSweepJob(OverdueSweeper sweeper, OverdueSweepProperties properties) {
+        return new OverdueSweepJob(sweeper, Clock.system(properties.zone()));
+    }
+}
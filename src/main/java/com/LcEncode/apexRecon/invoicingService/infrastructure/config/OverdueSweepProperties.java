@@ -0,0 +1,21 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * apexrecon.invoicing.overdue-sweep.*: varredura de vencimento das faturas. cron e zone definem quando roda e qual
+ * é o "hoje" usado como referência; chunk-size é o número de faturas por transação.
+ */
+@ConfigurationProperties("apexrecon.invoicing.overdue-sweep")
+public record OverdueSweepProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0 10 0 * * *") String cron,
+        @DefaultValue("America/Sao_Paulo") ZoneId zone,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("apexrecon.invoices") String exchange,
+        @DefaultValue("5s") Duration confirmTimeout
+) {}
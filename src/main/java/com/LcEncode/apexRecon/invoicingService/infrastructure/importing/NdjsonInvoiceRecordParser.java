@@ -0,0 +1,63 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.importing;
+
+import com.LcEncode.apexRecon.invoicingService.application.importing.InvoiceRecord;
+import com.LcEncode.apexRecon.invoicingService.application.importing.InvoiceRecordParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Uma fatura por linha:
+ * {"reference": "NF-1", "customerId": "...", "dueDate": "2026-01-31", "amountDue": 100.00,
+ *  "items": [{"description": "...", "quantity": 1, "unitPrice": 100.00}]}
+ * amountDue é opcional (o total dos itens). Valores podem vir como número ou string; números são lidos como
+ * BigDecimal, sem passar por double.
+ */
+public class NdjsonInvoiceRecordParser implements InvoiceRecordParser {
+    private final ObjectReader reader;
+
+    public NdjsonInvoiceRecordParser(ObjectMapper objectMapper) {
+        this.reader = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    }
+
+    @Override
+    public boolean hasHeader() {
+        return false;
+    }
+
+    @Override
+    public String groupKey(String line) {
+        return null;
+    }
+
+    @Override
+    public InvoiceRecord parse(long line, List<String> lines) {
+        JsonNode node;
+        try {
+            node = reader.readTree(lines.getFirst());
+        } catch (JsonProcessingException e) { return InvoiceRecord.malformed(line, null, "Invalid JSON: " + e.getOriginalMessage()); }
+        if (node == null || !node.isObject()) { return InvoiceRecord.malformed(line, null, "Each line must be a JSON object"); }
+
+        var reference = text(node.get("reference"));
+        var itemsNode = node.get("items");
+        if (itemsNode != null && !itemsNode.isArray()) { return InvoiceRecord.malformed(line, reference, "items must be an array"); }
+
+        var items = new ArrayList<InvoiceRecord.Item>(itemsNode == null ? 0 : itemsNode.size());
+        if (itemsNode != null) {
+            for (var item : itemsNode) {
+                items.add(new InvoiceRecord.Item(text(item.get("description")), text(item.get("quantity")), text(item.get("unitPrice"))));
+            }
+        }
+        return new InvoiceRecord(line, reference, text(node.get("customerId")), text(node.get("dueDate")), text(node.get("amountDue")), items, null);
+    }
+
+    private static String text(JsonNode node) {
+        if (node == null || node.isNull()) { return null; }
+        return node.isNumber() ? node.decimalValue().toPlainString() : node.asText();
+    }
+}
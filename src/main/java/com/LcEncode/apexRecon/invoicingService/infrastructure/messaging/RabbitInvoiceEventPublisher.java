@@ -0,0 +1,75 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.messaging;
+
+import com.LcEncode.apexRecon.invoicingService.domain.event.InvoiceBecameOverdue;
+import com.LcEncode.apexRecon.invoicingService.domain.gateway.InvoiceEventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Publica os eventos de um bloco em um único canal com uma espera de confirmação no fim, como o relay das
+ * transações bancárias. messageId é invoiceId + tipo; o header organizationId permite particionar no consumidor.
+ */
+public class RabbitInvoiceEventPublisher implements InvoiceEventPublisher {
+    private static final String OVERDUE = "invoice.overdue";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final String exchange;
+    private final Duration confirmTimeout;
+
+    private record InvoiceOverdueMessage(
+            UUID invoiceId,
+            UUID organizationId,
+            UUID customerId,
+            LocalDate dueDate,
+            BigDecimal amountDue,
+            String previousStatus,
+            LocalDate asOf
+    ) {}
+
+    public RabbitInvoiceEventPublisher(RabbitTemplate rabbitTemplate, ObjectMapper objectMapper, String exchange, Duration confirmTimeout) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.exchange = exchange;
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    @Override
+    public void publish(List<InvoiceBecameOverdue> events) {
+        if (events.isEmpty()) { return; }
+
+        rabbitTemplate.invoke(operations -> {
+            for (var event : events) { operations.send(exchange, OVERDUE, toMessage(event)); }
+            operations.waitForConfirmsOrDie(confirmTimeout.toMillis());
+            return null;
+        });
+    }
+
+    @RegisterReflectionForBinding(InvoiceOverdueMessage.class)
+    private Message toMessage(InvoiceBecameOverdue event) {
+        var properties = new MessageProperties();
+        properties.setMessageId(event.invoiceId() + ":" + OVERDUE);
+        properties.setType(OVERDUE);
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setHeader("organizationId", event.organizationId().toString());
+
+        try {
+            return new Message(objectMapper.writeValueAsBytes(new InvoiceOverdueMessage(event.invoiceId(), event.organizationId(), event.customerId(),
+                    event.dueDate(), event.amountDue().toBigDecimal(), event.previousStatus().name(), event.asOf())), properties);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize overdue event of invoice " + event.invoiceId(), e);
+        }
+    }
+}
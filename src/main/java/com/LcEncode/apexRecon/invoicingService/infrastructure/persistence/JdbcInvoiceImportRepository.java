@@ -0,0 +1,89 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.persistence;
+
+import com.LcEncode.apexRecon.invoicingService.domain.gateway.ImportedInvoicesProjection;
+import com.LcEncode.apexRecon.invoicingService.domain.model.Invoice;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceItem;
+import com.LcEncode.apexRecon.invoicingService.domain.repository.InvoiceImportRepository;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.MultiRowInsert;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Grava um bloco da importação em uma transação: invoices_ledger e invoice_items em INSERT multi-linha (uma ida ao
+ * banco por chunkSize linhas). O ImportedInvoicesProjection (aging da conciliação) entra na mesma transação: lock de
+ * cada organização antes dos INSERTs, em ordem de organization_id, e apply depois deles.
+ */
+@Repository
+public class JdbcInvoiceImportRepository implements InvoiceImportRepository {
+    private static final String INSERT_INVOICES = "INSERT INTO invoices_ledger (invoice_id, organization_id, customer_id, total_amount, amount_due, status, due_date) VALUES ";
+    private static final String INVOICE_ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ITEMS = "INSERT INTO invoice_items (invoice_id, line, item_id, description, quantity, unit_price, total) VALUES ";
+    private static final String ITEM_ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    // O MySQL aceita no máximo 65535 placeholders por statement; 7 colunas nas duas tabelas.
+    private static final int MAX_CHUNK_SIZE = 9_000;
+
+    private record ItemRow(Invoice invoice, int line, InvoiceItem item) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final ImportedInvoicesProjection projection;
+
+    public JdbcInvoiceImportRepository(JdbcTemplate jdbcTemplate,
+                                       @Value("${apexrecon.invoicing.import.insert-chunk-size:1000}") int chunkSize,
+                                       Optional<ImportedInvoicesProjection> projection) {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) { throw new IllegalArgumentException("Invoice import insert chunk size must be between 1 and " + MAX_CHUNK_SIZE); }
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.projection = projection.orElse(ImportedInvoicesProjection.NOOP);
+    }
+
+    @Override
+    @Transactional
+    public void insert(List<Invoice> invoices) {
+        if (invoices.isEmpty()) { return; }
+
+        var byOrganization = new TreeMap<UUID, List<UUID>>(UuidBinary.BINARY_ORDER);
+        invoices.forEach(invoice -> byOrganization.computeIfAbsent(invoice.getOrganization_id(), id -> new ArrayList<>()).add(invoice.getInvoice_id()));
+        byOrganization.keySet().forEach(projection::lock);
+
+        MultiRowInsert.insert(jdbcTemplate, INSERT_INVOICES, INVOICE_ROW, 7, invoices, chunkSize, (statement, index, invoice) -> {
+            statement.setBytes(index++, UuidBinary.toBytes(invoice.getInvoice_id()));
+            statement.setBytes(index++, UuidBinary.toBytes(invoice.getOrganization_id()));
+            statement.setBytes(index++, UuidBinary.toBytes(invoice.getCustomer_id()));
+            statement.setBigDecimal(index++, invoice.getTotalAmount().toBigDecimal());
+            statement.setBigDecimal(index++, invoice.getAmountDue().toBigDecimal());
+            statement.setString(index++, LedgerStatusColumn.of(invoice.getStatus()));
+            statement.setDate(index++, Date.valueOf(invoice.getDueDate()));
+            return index;
+        });
+
+        var items = new ArrayList<ItemRow>(invoices.size());
+        for (var invoice : invoices) {
+            var line = 0;
+            for (var item : invoice.getItems()) { items.add(new ItemRow(invoice, line++, item)); }
+        }
+        MultiRowInsert.insert(jdbcTemplate, INSERT_ITEMS, ITEM_ROW, 7, items, chunkSize, (statement, index, row) -> {
+            statement.setBytes(index++, UuidBinary.toBytes(row.invoice().getInvoice_id()));
+            statement.setInt(index++, row.line());
+            statement.setBytes(index++, UuidBinary.toBytes(row.item().getItemId()));
+            statement.setString(index++, row.item().getDescription());
+            statement.setInt(index++, row.item().getQuantity());
+            statement.setBigDecimal(index++, row.item().getUnitPrice().toBigDecimal());
+            statement.setBigDecimal(index++, row.item().getTotal().toBigDecimal());
+            return index;
+        });
+
+        byOrganization.forEach(projection::apply);
+    }
+}
@@ -0,0 +1,84 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.persistence;
+
+import com.LcEncode.apexRecon.invoicingService.domain.model.listing.InvoiceListItem;
+import com.LcEncode.apexRecon.invoicingService.domain.model.listing.InvoiceListingFilter;
+import com.LcEncode.apexRecon.invoicingService.domain.repository.InvoiceListingRepository;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Listagem sobre os índices estreitos idx_listing_org e idx_listing_org_customer do invoices_ledger (V19), forçados
+ * na consulta: igualdade na organização (e no cliente), busca por (due_date, invoice_id) a partir do cursor e leitura
+ * na ordem do índice até LIMIT linhas, sem filesort. Os índices só têm colunas imutáveis; status e valores vêm da
+ * chave primária, e o filtro de status (um IN com todos os statuses pedidos) é aplicado sobre cada linha lida, sem
+ * alterar a ordem.
+ * Faturas sem vencimento vêm primeiro, como o MySQL ordena NULL: são lidas por uma consulta própria (due_date IS
+ * NULL), já que a comparação do cursor nunca é verdadeira para NULL.
+ */
+@Repository
+public class JdbcInvoiceListingRepository implements InvoiceListingRepository {
+    private static final String SELECT_COLUMNS = "SELECT invoice_id, customer_id, status, due_date, total_amount, amount_due FROM invoices_ledger FORCE INDEX ";
+    private static final String WITHOUT_DUE_DATE = " AND due_date IS NULL";
+    private static final String WITHOUT_DUE_DATE_AFTER = " AND due_date IS NULL AND invoice_id > ?";
+    private static final String WITH_DUE_DATE = " AND due_date IS NOT NULL";
+    private static final String WITH_DUE_DATE_AFTER = " AND (due_date > ? OR (due_date = ? AND invoice_id > ?))";
+    private static final String ORDER_AND_LIMIT = " ORDER BY due_date, invoice_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcInvoiceListingRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<InvoiceListItem> list(InvoiceListingFilter filter, Position after, int limit) {
+        if (after != null && after.dueDate() != null) {
+            var dueDate = Date.valueOf(after.dueDate());
+            return query(filter, WITH_DUE_DATE_AFTER, limit, dueDate, dueDate, UuidBinary.toBytes(after.invoiceId()));
+        }
+
+        var items = after == null
+                ? query(filter, WITHOUT_DUE_DATE, limit)
+                : query(filter, WITHOUT_DUE_DATE_AFTER, limit, UuidBinary.toBytes(after.invoiceId()));
+        if (items.size() < limit) { items.addAll(query(filter, WITH_DUE_DATE, limit - items.size())); }
+        return items;
+    }
+
+    private List<InvoiceListItem> query(InvoiceListingFilter filter, String seek, int limit, Object... seekArguments) {
+        var sql = new StringBuilder(SELECT_COLUMNS);
+        var arguments = new ArrayList<Object>(8);
+        arguments.add(UuidBinary.toBytes(filter.organizationId()));
+        if (filter.customerId() == null) {
+            sql.append("(idx_listing_org) WHERE organization_id = ?");
+        } else {
+            sql.append("(idx_listing_org_customer) WHERE organization_id = ? AND customer_id = ?");
+            arguments.add(UuidBinary.toBytes(filter.customerId()));
+        }
+        if (!filter.statuses().isEmpty()) {
+            sql.append(" AND status IN (").append(String.join(", ", Collections.nCopies(filter.statuses().size(), "?"))).append(')');
+            filter.statuses().stream().map(LedgerStatusColumn::of).sorted().forEach(arguments::add);
+        }
+
+        sql.append(seek);
+        arguments.addAll(List.of(seekArguments));
+        arguments.add(limit);
+
+        return new ArrayList<>(jdbcTemplate.query(sql.append(ORDER_AND_LIMIT).toString(), (resultSet, row) -> {
+            Date dueDate = resultSet.getDate("due_date");
+            return new InvoiceListItem(
+                    UuidBinary.fromBytes(resultSet.getBytes("invoice_id")),
+                    UuidBinary.fromBytes(resultSet.getBytes("customer_id")),
+                    LedgerStatusColumn.toInvoiceStatus(resultSet.getString("status")),
+                    dueDate == null ? null : dueDate.toLocalDate(),
+                    Money.of(resultSet.getBigDecimal("total_amount")),
+                    Money.of(resultSet.getBigDecimal("amount_due")));
+        }, arguments.toArray()));
+    }
+}
@@ -0,0 +1,97 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.persistence;
+
+import com.LcEncode.apexRecon.invoicingService.domain.event.InvoiceBecameOverdue;
+import com.LcEncode.apexRecon.invoicingService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.invoicingService.domain.gateway.InvoiceEventPublisher;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceStatus;
+import com.LcEncode.apexRecon.invoicingService.domain.repository.OverdueInvoiceRepository;
+import com.LcEncode.apexRecon.invoicingService.domain.service.OverdueSweepCriteria;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * Vencimento em lote sobre invoices_ledger. O status da fatura é gravado com o vocabulário do ledger (SENT é OPEN
+ * enquanto não há pagamento). Cada bloco percorre idx_status_due_date em ordem (due_date, invoice_id) a partir do
+ * cursor, sem filesort e sem reler as linhas já processadas.
+ * O bloco lê o intervalo do cursor sem travar e depois trava essas linhas por id com SKIP LOCKED (READ COMMITTED):
+ * as que uma conciliação está gravando são puladas e contadas, e o cursor avança pelo intervalo lido, não só pelo
+ * travado. O UPDATE incrementa version, então uma conciliação que leu a fatura antes conflita e replaneja com o novo
+ * status.
+ */
+@Repository
+public class JdbcOverdueInvoiceRepository implements OverdueInvoiceRepository {
+    private static final String SELECT_RANGE = "SELECT invoice_id, due_date FROM invoices_ledger WHERE status = ? AND due_date < ?";
+    private static final String AFTER_CURSOR = " AND (due_date > ? OR (due_date = ? AND invoice_id > ?))";
+    private static final String ORDER_AND_LIMIT = " ORDER BY due_date, invoice_id LIMIT ?";
+    private static final String LOCK_UNLOCKED = """
+            SELECT invoice_id, organization_id, customer_id, due_date, amount_due
+            FROM invoices_ledger
+            WHERE status = ? AND invoice_id IN (%s)
+            ORDER BY due_date, invoice_id
+            FOR UPDATE SKIP LOCKED""";
+    private static final String UPDATE_OVERDUE = "UPDATE invoices_ledger SET status = 'OVERDUE', version = version + 1 WHERE invoice_id IN ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcOverdueInvoiceRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public Chunk markOverdue(OverdueSweepCriteria criteria, InvoiceStatus status, Cursor after, int limit, InvoiceEventPublisher publisher) {
+        if (!criteria.fromStatuses().contains(status)) { throw new ValidateException("Status " + status + " is not swept by " + criteria); }
+
+        var arguments = new ArrayList<Object>(6);
+        arguments.add(LedgerStatusColumn.of(status));
+        arguments.add(Date.valueOf(criteria.dueBefore()));
+        var sql = SELECT_RANGE;
+        if (after != null) {
+            sql += AFTER_CURSOR;
+            arguments.add(Date.valueOf(after.dueDate()));
+            arguments.add(Date.valueOf(after.dueDate()));
+            arguments.add(UuidBinary.toBytes(after.invoiceId()));
+        }
+        arguments.add(limit);
+
+        var range = jdbcTemplate.query(sql + ORDER_AND_LIMIT, (resultSet, row) -> new Cursor(
+                resultSet.getDate("due_date").toLocalDate(),
+                UuidBinary.fromBytes(resultSet.getBytes("invoice_id"))), arguments.toArray());
+        if (range.isEmpty()) { return new Chunk(0, 0, after); }
+
+        // O status é conferido de novo: entre a leitura e o lock uma conciliação pode ter pago a fatura.
+        var lockArguments = new ArrayList<Object>(range.size() + 1);
+        lockArguments.add(LedgerStatusColumn.of(status));
+        range.forEach(cursor -> lockArguments.add(UuidBinary.toBytes(cursor.invoiceId())));
+        var events = jdbcTemplate.query(LOCK_UNLOCKED.formatted(String.join(", ", Collections.nCopies(range.size(), "?"))),
+                (resultSet, row) -> new InvoiceBecameOverdue(
+                        UuidBinary.fromBytes(resultSet.getBytes("invoice_id")),
+                        UuidBinary.fromBytes(resultSet.getBytes("organization_id")),
+                        UuidBinary.fromBytes(resultSet.getBytes("customer_id")),
+                        resultSet.getDate("due_date").toLocalDate(),
+                        Money.of(resultSet.getBigDecimal("amount_due")),
+                        status,
+                        criteria.dueBefore()), lockArguments.toArray());
+        var last = range.getLast();
+        if (events.isEmpty()) { return new Chunk(0, range.size(), last); }
+
+        var ids = new ArrayList<Object>(events.size());
+        events.forEach(event -> ids.add(UuidBinary.toBytes(event.invoiceId())));
+        var updated = jdbcTemplate.update(UPDATE_OVERDUE + "(" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")", ids.toArray());
+        if (updated != events.size()) { throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(UPDATE_OVERDUE, events.size(), updated); }
+
+        // Publica antes do commit: uma falha do broker desfaz o bloco, que volta na próxima varredura.
+        publisher.publish(events);
+
+        return new Chunk(events.size(), range.size() - events.size(), last);
+    }
+}
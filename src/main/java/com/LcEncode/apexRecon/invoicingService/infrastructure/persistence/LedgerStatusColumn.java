@@ -0,0 +1,33 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.persistence;
+
+import com.LcEncode.apexRecon.invoicingService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceStatus;
+
+/**
+ * Status da fatura no vocabulário do invoices_ledger: SENT é OPEN enquanto não há pagamento; DRAFT e VOID não
+ * chegam ao ledger.
+ */
+final class LedgerStatusColumn {
+
+    private LedgerStatusColumn() {}
+
+    static String of(InvoiceStatus status) {
+        return switch (status) {
+            case SENT -> "OPEN";
+            case PARTIALLY_PAID -> "PARTIALLY_PAID";
+            case OVERDUE -> "OVERDUE";
+            case PAID -> "PAID";
+            default -> throw new ValidateException("Invoice status " + status + " has no ledger counterpart");
+        };
+    }
+
+    static InvoiceStatus toInvoiceStatus(String column) {
+        return switch (column) {
+            case "OPEN" -> InvoiceStatus.SENT;
+            case "PARTIALLY_PAID" -> InvoiceStatus.PARTIALLY_PAID;
+            case "OVERDUE" -> InvoiceStatus.OVERDUE;
+            case "PAID" -> InvoiceStatus.PAID;
+            default -> throw new IllegalStateException("Unknown invoice ledger status " + column);
+        };
+    }
+}
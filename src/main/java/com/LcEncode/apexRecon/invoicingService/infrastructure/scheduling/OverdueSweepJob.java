@@ -0,0 +1,31 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.scheduling;
+
+import com.LcEncode.apexRecon.invoicingService.application.overdue.OverdueSweepReport;
+import com.LcEncode.apexRecon.invoicingService.application.overdue.OverdueSweeper;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Dispara o OverdueSweeper no cron configurado, com o "hoje" no fuso das faturas.
+ */
+public class OverdueSweepJob {
+    private final OverdueSweeper sweeper;
+    private final Clock clock;
+    private volatile OverdueSweepReport lastReport;
+
+    public OverdueSweepJob(OverdueSweeper sweeper, Clock clock) {
+        this.sweeper = sweeper;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${apexrecon.invoicing.overdue-sweep.cron:0 10 0 * * *}", zone = "${apexrecon.invoicing.overdue-sweep.zone:America/Sao_Paulo}")
+    public void run() {
+        lastReport = sweeper.sweep(LocalDate.now(clock));
+    }
+
+    public OverdueSweepReport lastReport() {
+        return lastReport;
+    }
+}
@@ -0,0 +1,54 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.web;
+
+import com.LcEncode.apexRecon.invoicingService.application.importing.InvoiceImportFormat;
+import com.LcEncode.apexRecon.invoicingService.application.importing.InvoiceImportJobs;
+import com.LcEncode.apexRecon.invoicingService.application.importing.InvoiceImportProgress;
+import com.LcEncode.apexRecon.invoicingService.domain.exception.ValidateException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * POST /organizations/{organizationId}/invoice-imports com corpo NDJSON (application/x-ndjson) ou CSV (text/csv):
+ * responde 202 com o job assim que o corpo é recebido. GET .../invoice-imports/{jobId}: progresso, throughput e as
+ * linhas rejeitadas.
+ */
+@RestController
+@RequestMapping("/organizations/{organizationId}/invoice-imports")
+public class InvoiceImportController {
+    private final InvoiceImportJobs jobs;
+
+    public InvoiceImportController(InvoiceImportJobs jobs) {
+        this.jobs = jobs;
+    }
+
+    @PostMapping
+    public ResponseEntity<InvoiceImportProgress> submit(@PathVariable UUID organizationId, HttpServletRequest request) throws IOException {
+        var format = InvoiceImportFormat.fromContentType(request.getContentType());
+        var job = jobs.submit(organizationId, format, request.getInputStream());
+        return ResponseEntity.accepted()
+                .location(URI.create("/organizations/" + organizationId + "/invoice-imports/" + job.id()))
+                .body(job.progress());
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<InvoiceImportProgress> progress(@PathVariable UUID organizationId, @PathVariable UUID jobId) {
+        return ResponseEntity.of(jobs.find(organizationId, jobId).map(job -> job.progress()));
+    }
+
+    @ExceptionHandler(ValidateException.class)
+    public ProblemDetail invalidRequest(ValidateException exception) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+}
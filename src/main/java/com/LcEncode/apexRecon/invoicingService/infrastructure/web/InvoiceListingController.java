@@ -0,0 +1,66 @@
+package com.LcEncode.apexRecon.invoicingService.infrastructure.web;
+
+import com.LcEncode.apexRecon.invoicingService.application.listing.InvoiceListing;
+import com.LcEncode.apexRecon.invoicingService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.invoicingService.domain.model.listing.InvoiceListItem;
+import com.LcEncode.apexRecon.invoicingService.domain.model.listing.InvoiceListingFilter;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceStatus;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * GET /organizations/{organizationId}/invoices?customerId=&status=&limit=&cursor=
+ * status pode se repetir; a próxima página é pedida com o nextCursor da resposta e os mesmos filtros.
+ */
+@RestController
+@RequestMapping("/organizations/{organizationId}/invoices")
+public class InvoiceListingController {
+    private final InvoiceListing listing;
+
+    public InvoiceListingController(InvoiceListing listing) {
+        this.listing = listing;
+    }
+
+    @GetMapping
+    public InvoicePageResponse list(@PathVariable UUID organizationId,
+                                    @RequestParam(required = false) UUID customerId,
+                                    @RequestParam(name = "status", required = false) Set<InvoiceStatus> statuses,
+                                    @RequestParam(required = false) Integer limit,
+                                    @RequestParam(required = false) String cursor) {
+        var page = listing.page(new InvoiceListingFilter(organizationId, customerId, statuses), cursor, limit);
+        return new InvoicePageResponse(page.items().stream().map(InvoiceResponse::of).toList(), page.nextCursor());
+    }
+
+    @ExceptionHandler(ValidateException.class)
+    public ProblemDetail invalidRequest(ValidateException exception) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    public record InvoicePageResponse(List<InvoiceResponse> items, String nextCursor) {}
+
+    public record InvoiceResponse(
+            UUID invoiceId,
+            UUID customerId,
+            InvoiceStatus status,
+            LocalDate dueDate,
+            BigDecimal totalAmount,
+            BigDecimal amountDue
+    ) {
+        static InvoiceResponse of(InvoiceListItem item) {
+            return new InvoiceResponse(item.invoiceId(), item.customerId(), item.status(), item.dueDate(),
+                    item.totalAmount().toBigDecimal(), item.amountDue().toBigDecimal());
+        }
+    }
+}
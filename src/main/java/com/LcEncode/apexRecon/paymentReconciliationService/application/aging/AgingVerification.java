@@ -0,0 +1,32 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.aging;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.aging.AgingBucket;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Comparação da projeção com o recálculo a partir de invoices_ledger. Cada divergência traz o valor gravado e o
+ * esperado de uma faixa de um cliente (ou do total da organização).
+ */
+public record AgingVerification(
+        UUID organizationId,
+        LocalDate asOf,
+        int rowsCompared,
+        List<Mismatch> mismatches
+) {
+    public record Mismatch(
+            UUID customerId,
+            AgingBucket bucket,
+            Money storedAmount,
+            Money expectedAmount,
+            long storedInvoices,
+            long expectedInvoices
+    ) {}
+
+    public boolean isConsistent() {
+        return mismatches.isEmpty();
+    }
+}
@@ -0,0 +1,31 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.aging;
+
+import com.LcEncode.apexRecon.invoicingService.domain.gateway.ImportedInvoicesProjection;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.ArAgingRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Faturas importadas entram no aging dentro da transação da importação: o lock vem antes do INSERT no ledger, na
+ * mesma ordem do commit da conciliação, e o apply relê a data já travada para somar o lote na faixa certa.
+ */
+public class ArAgingImportProjection implements ImportedInvoicesProjection {
+    private final ArAgingRepository repository;
+
+    public ArAgingImportProjection(ArAgingRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void lock(UUID organizationId) {
+        repository.lockAsOf(organizationId);
+    }
+
+    @Override
+    public void apply(UUID organizationId, List<UUID> invoiceIds) {
+        if (invoiceIds.isEmpty()) { return; }
+
+        repository.applyNewInvoices(organizationId, repository.lockAsOf(organizationId), invoiceIds);
+    }
+}
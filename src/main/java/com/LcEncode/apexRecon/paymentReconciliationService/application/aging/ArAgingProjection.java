@@ -0,0 +1,101 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.aging;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.aging.AgingBalance;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.aging.AgingBucket;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.aging.AgingSummary;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.ArAgingRepository;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Aging do contas a receber por organização e cliente, mantido de forma incremental: o commit da conciliação aplica
+ * o delta de cada fatura paga, e o roll-over diário move entre faixas só as faturas que cruzam um limite no dia. A
+ * leitura do dashboard é de no máximo cinco linhas, independente do número de faturas. Cada organização tem a própria
+ * data de referência, e o roll-over avança uma organização por vez.
+ * verify/rebuild recalculam a partir de invoices_ledger para conferir (ou corrigir) a projeção.
+ */
+public class ArAgingProjection {
+    private final ArAgingRepository repository;
+
+    public ArAgingProjection(ArAgingRepository repository) {
+        this.repository = repository;
+    }
+
+    public AgingSummary organization(UUID organizationId) {
+        return customer(organizationId, AgingBalance.ORGANIZATION_TOTAL);
+    }
+
+    public AgingSummary customer(UUID organizationId, UUID customerId) {
+        if (organizationId == null || customerId == null) { throw new IllegalArgumentException("Organization and customer ids must be provided"); }
+
+        return AgingSummary.of(organizationId, customerId, repository.asOf(organizationId), repository.find(organizationId, customerId));
+    }
+
+    /**
+     * Avança cada organização dia a dia até today (recupera dias perdidos) e depois o calendário. Devolve quantos
+     * dias avançou somando todas as organizações.
+     */
+    public int rollOver(LocalDate today) {
+        var days = 0;
+        for (var organizationId : repository.organizations()) {
+            for (var asOf = repository.asOf(organizationId); asOf.isBefore(today); asOf = asOf.plusDays(1)) {
+                repository.rollOver(organizationId, asOf.plusDays(1));
+                days++;
+            }
+        }
+        repository.advanceCalendar(today);
+        return days;
+    }
+
+    public AgingVerification verify(UUID organizationId) {
+        var snapshot = repository.snapshot(organizationId);
+        var stored = index(snapshot.stored());
+        var expected = index(snapshot.computed());
+
+        var keys = new HashSet<Key>(stored.keySet());
+        keys.addAll(expected.keySet());
+
+        var mismatches = new ArrayList<AgingVerification.Mismatch>();
+        for (var key : keys) {
+            var actual = stored.get(key);
+            var wanted = expected.get(key);
+            var actualAmount = actual == null ? Money.ZERO : actual.amount();
+            var wantedAmount = wanted == null ? Money.ZERO : wanted.amount();
+            var actualInvoices = actual == null ? 0 : actual.invoices();
+            var wantedInvoices = wanted == null ? 0 : wanted.invoices();
+
+            if (!actualAmount.equals(wantedAmount) || actualInvoices != wantedInvoices) {
+                mismatches.add(new AgingVerification.Mismatch(key.customerId(), key.bucket(), actualAmount, wantedAmount, actualInvoices, wantedInvoices));
+            }
+        }
+        return new AgingVerification(organizationId, snapshot.asOf(), keys.size(), mismatches);
+    }
+
+    /**
+     * Confere e, havendo divergência, recalcula a organização. Devolve a verificação de antes do recálculo.
+     */
+    public AgingVerification rebuild(UUID organizationId) {
+        var verification = verify(organizationId);
+        if (!verification.isConsistent()) { repository.rebuild(organizationId); }
+        return verification;
+    }
+
+    public List<UUID> organizations() {
+        return repository.organizations();
+    }
+
+    private record Key(UUID customerId, AgingBucket bucket) {}
+
+    private static Map<Key, AgingBalance> index(List<AgingBalance> balances) {
+        var index = new HashMap<Key, AgingBalance>(balances.size() * 2);
+        balances.forEach(balance -> index.put(new Key(balance.customerId(), balance.bucket()), balance));
+        return index;
+    }
+}
@@ -0,0 +1,47 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Eventos do OpenLedgerCache por organização (exportação de métricas). Chamado na thread do acesso, às vezes com o
+ * lock da organização: a implementação não deve bloquear.
+ */
+public interface CacheObserver {
+    CacheObserver NOOP = new CacheObserver() {
+        @Override
+        public void hit(UUID organizationId) {}
+
+        @Override
+        public void miss(UUID organizationId) {}
+
+        @Override
+        public void loaded(UUID organizationId, Duration elapsed) {}
+
+        @Override
+        public void resident(UUID organizationId, int items, long bytes) {}
+
+        @Override
+        public void evicted(UUID organizationId, EvictionCause cause) {}
+    };
+
+    void hit(UUID organizationId);
+
+    void miss(UUID organizationId);
+
+    void loaded(UUID organizationId, Duration elapsed);
+
+    /**
+     * Tamanho residente da organização após uma carga ou gravação.
+     */
+    void resident(UUID organizationId, int items, long bytes);
+
+    void evicted(UUID organizationId, EvictionCause cause);
+
+    enum EvictionCause {
+        SIZE,
+        IDLE,
+        EXPIRED,
+        INVALIDATED
+    }
+}
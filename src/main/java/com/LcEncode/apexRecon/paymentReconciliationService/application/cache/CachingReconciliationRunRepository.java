@@ -0,0 +1,32 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.cache;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ConcurrentLedgerUpdateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.ReconciliationRunRepository;
+
+/**
+ * Write-through do OpenLedgerCache: grava a run no repositório e, só depois do commit, aplica o estado final dos
+ * ledgers no cache. Um conflito de versão indica que o cache da organização pode estar defasado; ela é descartada
+ * para que o replanejamento leia do banco.
+ * Deve ser chamado fora de uma transação externa: dentro dela, o cache veria um estado que ainda pode sofrer rollback.
+ */
+public class CachingReconciliationRunRepository implements ReconciliationRunRepository {
+    private final ReconciliationRunRepository delegate;
+    private final OpenLedgerCache cache;
+
+    public CachingReconciliationRunRepository(ReconciliationRunRepository delegate, OpenLedgerCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public void commit(ReconciliationRun run) {
+        try {
+            delegate.commit(run);
+        } catch (ConcurrentLedgerUpdateException e) {
+            cache.invalidate(run.organizationId());
+            throw e;
+        }
+        cache.writeThrough(run);
+    }
+}
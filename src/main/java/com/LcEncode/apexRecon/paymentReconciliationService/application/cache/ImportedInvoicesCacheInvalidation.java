@@ -0,0 +1,24 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.cache;
+
+import com.LcEncode.apexRecon.invoicingService.domain.gateway.ImportedInvoice;
+import com.LcEncode.apexRecon.invoicingService.domain.gateway.ImportedInvoicesListener;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Faturas importadas em lote entram no ledger fora de uma ReconciliationRun: a organização sai do cache e é
+ * recarregada na próxima leitura, em vez de receber milhares de put.
+ */
+public class ImportedInvoicesCacheInvalidation implements ImportedInvoicesListener {
+    private final OpenLedgerCache cache;
+
+    public ImportedInvoicesCacheInvalidation(OpenLedgerCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void imported(UUID organizationId, List<ImportedInvoice> invoices) {
+        cache.invalidate(organizationId);
+    }
+}
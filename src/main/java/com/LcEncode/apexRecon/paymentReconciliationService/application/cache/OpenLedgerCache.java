@@ -0,0 +1,236 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.cache;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.CacheObserver.EvictionCause;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.OpenLedgerRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Cache em processo dos itens em aberto (OPEN/PARTIALLY_PAID/OVERDUE e UNMATCHED/PARTIALLY_MATCHED) de cada organização ativa.
+ * - carga preguiçosa: a primeira leitura de uma organização carrega as duas listas do OpenLedgerRepository, uma
+ *   carga por vez por organização; as outras leituras da mesma organização esperam por ela;
+ * - write-through: cada estado gravado com sucesso (writeThrough/put) atualiza o cache; itens que chegam a
+ *   PAID/MATCHED saem na hora;
+ * - despejo: organizações sem acesso há idleTimeout saem, e acima de maxResidentItems saem as menos usadas
+ *   recentemente; depois de maxAge a organização é recarregada, o que limita a defasagem diante de gravações que não
+ *   passam por este cache (outra instância, ajustes manuais).
+ * As leituras devolvem cópias dos ledgers.
+ */
+public class OpenLedgerCache {
+    private final OpenLedgerRepository repository;
+    private final Settings settings;
+    private final CacheObserver observer;
+    private final LongSupplier nanoTime;
+    private final Map<UUID, OrganizationOpenItems> organizations = new ConcurrentHashMap<>();
+    private final AtomicLong lastIdleSweep = new AtomicLong();
+
+    /**
+     * maxResidentItems: limite de ledgers em memória somando todas as organizações; idleTimeout: tempo sem acesso
+     * até a organização sair; maxAge: tempo desde a carga até a próxima leitura recarregar do banco.
+     */
+    public record Settings(
+            int maxResidentItems,
+            Duration idleTimeout,
+            Duration maxAge
+    ) {
+        public Settings {
+            if (maxResidentItems <= 0) { throw new IllegalArgumentException("Max resident items must be greater than 0"); }
+            if (idleTimeout == null || !idleTimeout.isPositive() || maxAge == null || !maxAge.isPositive()) {
+                throw new IllegalArgumentException("Idle timeout and max age must be positive");
+            }
+        }
+
+        public static Settings defaults() {
+            return new Settings(500_000, Duration.ofMinutes(15), Duration.ofMinutes(5));
+        }
+    }
+
+    public OpenLedgerCache(OpenLedgerRepository repository, Settings settings, CacheObserver observer) {
+        this(repository, settings, observer, System::nanoTime);
+    }
+
+    OpenLedgerCache(OpenLedgerRepository repository, Settings settings, CacheObserver observer, LongSupplier nanoTime) {
+        if (repository == null || settings == null || observer == null) { throw new IllegalArgumentException("Repository, settings and observer must be provided"); }
+
+        this.repository = repository;
+        this.settings = settings;
+        this.observer = observer;
+        this.nanoTime = nanoTime;
+        this.lastIdleSweep.set(nanoTime.getAsLong());
+    }
+
+    public List<InvoiceLedger> openInvoices(UUID organizationId) {
+        return read(organizationId, OrganizationOpenItems::invoices);
+    }
+
+    public List<BankTransactionLedger> openBankTransactions(UUID organizationId) {
+        return read(organizationId, OrganizationOpenItems::transactions);
+    }
+
+    /**
+     * Aplica o estado final dos ledgers de uma run já gravada. Organizações fora do cache são ignoradas: a próxima
+     * leitura carrega do banco.
+     */
+    public void writeThrough(ReconciliationRun run) {
+        writeThrough(run.organizationId(), items -> {
+            run.invoices().forEach(items::put);
+            run.bankTransactions().forEach(items::put);
+        });
+    }
+
+    /**
+     * Estado gravado de um ledger criado ou alterado fora de uma ReconciliationRun (ex.: fatura nova).
+     */
+    public void put(InvoiceLedger invoice) {
+        writeThrough(invoice.getOrganizationId(), items -> items.put(invoice));
+    }
+
+    public void put(BankTransactionLedger transaction) {
+        writeThrough(transaction.getOrganizationId(), items -> items.put(transaction));
+    }
+
+    /**
+     * Descarta a organização; a próxima leitura recarrega do banco. Usado quando o cache pode estar defasado
+     * (ex.: conflito de versão no commit).
+     */
+    public void invalidate(UUID organizationId) {
+        if (organizations.remove(organizationId) != null) { observer.evicted(organizationId, EvictionCause.INVALIDATED); }
+    }
+
+    public void invalidateAll() {
+        organizations.keySet().forEach(this::invalidate);
+    }
+
+    /**
+     * Descarta as organizações residentes aceitas pelo filtro (ex.: as que mudaram de dono no anel de shards).
+     */
+    public void invalidateIf(Predicate<UUID> filter) {
+        organizations.keySet().stream().filter(filter).forEach(this::invalidate);
+    }
+
+    public long residentItems() {
+        return organizations.values().stream().mapToLong(OrganizationOpenItems::size).sum();
+    }
+
+    public long estimatedBytes() {
+        return organizations.values().stream().mapToLong(OrganizationOpenItems::estimatedBytes).sum();
+    }
+
+    public int residentOrganizations() {
+        return organizations.size();
+    }
+
+    /**
+     * Organizações residentes, da mais recentemente usada para a menos.
+     */
+    public List<OpenLedgerCacheStats> stats() {
+        var now = nanoTime.getAsLong();
+        var stats = new ArrayList<OpenLedgerCacheStats>(organizations.size());
+        organizations.forEach((organizationId, items) -> stats.add(new OpenLedgerCacheStats(organizationId,
+                items.invoiceCount(), items.transactionCount(), items.estimatedBytes(), items.hits(), items.misses(),
+                Duration.ofNanos(items.lastLoadNanos()), Duration.ofNanos(now - items.lastAccess()))));
+        stats.sort(Comparator.comparing(OpenLedgerCacheStats::idle));
+        return stats;
+    }
+
+    /**
+     * Remove as organizações sem acesso há idleTimeout. Também roda sozinho, no máximo uma vez por quarto de
+     * idleTimeout, durante as leituras.
+     */
+    public void evictIdle() {
+        var now = nanoTime.getAsLong();
+        lastIdleSweep.set(now);
+        organizations.forEach((organizationId, items) -> {
+            if (now - items.lastAccess() >= settings.idleTimeout().toNanos() && organizations.remove(organizationId, items)) {
+                observer.evicted(organizationId, EvictionCause.IDLE);
+            }
+        });
+    }
+
+    private <T> List<T> read(UUID organizationId, Function<OrganizationOpenItems, List<T>> reader) {
+        if (organizationId == null) { throw new IllegalArgumentException("Organization id must be provided"); }
+
+        var now = nanoTime.getAsLong();
+        if (now - lastIdleSweep.get() >= settings.idleTimeout().toNanos() / 4) { evictIdle(); }
+
+        var items = organizations.computeIfAbsent(organizationId, id -> new OrganizationOpenItems(now));
+        items.touch(now);
+
+        boolean loaded;
+        List<T> result;
+        items.lock.lock();
+        try {
+            var expired = items.isLoaded() && now - items.loadedAt() >= settings.maxAge().toNanos();
+            if (expired) { observer.evicted(organizationId, EvictionCause.EXPIRED); }
+
+            loaded = !items.isLoaded() || expired;
+            if (loaded) {
+                observer.miss(organizationId);
+                var started = nanoTime.getAsLong();
+                var invoices = repository.findOpenInvoices(organizationId);
+                var transactions = repository.findOpenBankTransactions(organizationId);
+                var elapsed = nanoTime.getAsLong() - started;
+
+                items.load(invoices, transactions, started, elapsed);
+                observer.loaded(organizationId, Duration.ofNanos(elapsed));
+                observer.resident(organizationId, items.size(), items.estimatedBytes());
+            } else {
+                items.hit();
+                observer.hit(organizationId);
+            }
+            result = reader.apply(items);
+        } finally { items.lock.unlock(); }
+
+        if (loaded) { enforceSize(organizationId); }
+        return result;
+    }
+
+    private void writeThrough(UUID organizationId, Consumer<OrganizationOpenItems> write) {
+        var items = organizations.get(organizationId);
+        if (items == null) { return; }
+
+        items.lock.lock();
+        try {
+            if (!items.isLoaded()) { return; }
+
+            write.accept(items);
+            observer.resident(organizationId, items.size(), items.estimatedBytes());
+        } finally { items.lock.unlock(); }
+        enforceSize(organizationId);
+    }
+
+    /**
+     * Acima de maxResidentItems, despeja as organizações usadas há mais tempo, poupando a que acabou de crescer: ela
+     * acabou de ser usada e seria recarregada no próximo acesso.
+     */
+    private void enforceSize(UUID current) {
+        var resident = residentItems();
+        if (resident <= settings.maxResidentItems()) { return; }
+
+        var candidates = new ArrayList<>(organizations.entrySet());
+        candidates.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess()));
+        for (var entry : candidates) {
+            if (resident <= settings.maxResidentItems()) { return; }
+            if (entry.getKey().equals(current)) { continue; }
+
+            if (organizations.remove(entry.getKey(), entry.getValue())) {
+                resident -= entry.getValue().size();
+                observer.evicted(entry.getKey(), EvictionCause.SIZE);
+            }
+        }
+    }
+}
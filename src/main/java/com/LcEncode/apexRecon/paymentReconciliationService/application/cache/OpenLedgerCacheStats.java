@@ -0,0 +1,24 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Situação de uma organização no OpenLedgerCache. hits/misses contam leituras desde que a organização entrou no cache (cada carga é um miss); idle é o tempo
+ * desde o último acesso.
+ */
+public record OpenLedgerCacheStats(
+        UUID organizationId,
+        int openInvoices,
+        int openBankTransactions,
+        long estimatedBytes,
+        long hits,
+        long misses,
+        Duration lastLoad,
+        Duration idle
+) {
+    public double hitRatio() {
+        var requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,154 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.cache;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Itens em aberto de uma organização no cache. Guarda cópias próprias dos ledgers e entrega cópias na leitura: quem
+ * lê pode aplicar pagamentos à vontade sem alterar o cache antes do commit.
+ * O lock é um ReentrantLock porque é mantido durante a carga do banco, e os consumidores rodam em virtual threads.
+ */
+final class OrganizationOpenItems {
+    // Estimativa do objeto do ledger + Money + UUIDs + nó do HashMap, em uma JVM com compressed oops.
+    static final int BYTES_PER_INVOICE = 200;
+    static final int BYTES_PER_BANK_TRANSACTION = 220;
+
+    final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<UUID, InvoiceLedger> invoices = new HashMap<>();
+    private final Map<UUID, BankTransactionLedger> transactions = new HashMap<>();
+    private boolean loaded;
+    private volatile long loadedAt;
+    private volatile long lastAccess;
+    private volatile long lastLoadNanos;
+    private volatile long hits;
+    private volatile long misses;
+
+    OrganizationOpenItems(long now) {
+        this.lastAccess = now;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    void load(List<InvoiceLedger> openInvoices, List<BankTransactionLedger> openTransactions, long now, long elapsedNanos) {
+        invoices.clear();
+        transactions.clear();
+        openInvoices.forEach(this::put);
+        openTransactions.forEach(this::put);
+        loaded = true;
+        loadedAt = now;
+        lastLoadNanos = elapsedNanos;
+        misses++;
+    }
+
+    void hit() {
+        hits++;
+    }
+
+    void touch(long now) {
+        lastAccess = now;
+    }
+
+    List<InvoiceLedger> invoices() {
+        var copies = new ArrayList<InvoiceLedger>(invoices.size());
+        invoices.values().forEach(invoice -> copies.add(copy(invoice)));
+        return copies;
+    }
+
+    List<BankTransactionLedger> transactions() {
+        var copies = new ArrayList<BankTransactionLedger>(transactions.size());
+        transactions.values().forEach(transaction -> copies.add(copy(transaction)));
+        return copies;
+    }
+
+    /**
+     * Estado gravado de um ledger: aberto entra (ou substitui), fechado sai. Uma versão mais antiga que a do cache é
+     * ignorada, então gravações fora de ordem não fazem o cache regredir.
+     */
+    void put(InvoiceLedger invoice) {
+        var cached = invoices.get(invoice.getId());
+        if (cached != null && cached.getVersion() > invoice.getVersion()) { return; }
+
+        if (invoice.isOpen()) {
+            invoices.put(invoice.getId(), copy(invoice));
+        } else { invoices.remove(invoice.getId()); }
+    }
+
+    void put(BankTransactionLedger transaction) {
+        var cached = transactions.get(transaction.getBankTransactionId());
+        if (cached != null && cached.getVersion() > transaction.getVersion()) { return; }
+
+        if (transaction.isOpen()) {
+            transactions.put(transaction.getBankTransactionId(), copy(transaction));
+        } else { transactions.remove(transaction.getBankTransactionId()); }
+    }
+
+    int invoiceCount() {
+        return invoices.size();
+    }
+
+    int transactionCount() {
+        return transactions.size();
+    }
+
+    int size() {
+        return invoices.size() + transactions.size();
+    }
+
+    long estimatedBytes() {
+        return (long) invoices.size() * BYTES_PER_INVOICE + (long) transactions.size() * BYTES_PER_BANK_TRANSACTION;
+    }
+
+    long loadedAt() {
+        return loadedAt;
+    }
+
+    long lastAccess() {
+        return lastAccess;
+    }
+
+    long lastLoadNanos() {
+        return lastLoadNanos;
+    }
+
+    long hits() {
+        return hits;
+    }
+
+    long misses() {
+        return misses;
+    }
+
+    private static InvoiceLedger copy(InvoiceLedger invoice) {
+        return InvoiceLedger.builder()
+                .id(invoice.getId())
+                .organizationId(invoice.getOrganizationId())
+                .dueDate(invoice.getDueDate())
+                .amountDue(invoice.getAmountDue())
+                .status(invoice.getStatus())
+                .version(invoice.getVersion())
+                .build();
+    }
+
+    private static BankTransactionLedger copy(BankTransactionLedger transaction) {
+        return BankTransactionLedger.builder()
+                .bankTransactionId(transaction.getBankTransactionId())
+                .organizationId(transaction.getOrganizationId())
+                .amount(transaction.getAmount())
+                .transactionDate(transaction.getTransactionDate())
+                .description(transaction.getDescription())
+                .amountUnmatched(transaction.getAmountUnmatched())
+                .status(transaction.getStatus())
+                .version(transaction.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.consumer;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.OpenLedgerCache;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.OrganizationReconciler;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.BankTransactionLedgerRepository;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entrada da conciliação para cada transação ingerida: grava o ledger na thread do listener, antes do ack, e então
+ * agenda a conciliação da organização na lane dela. Uma reentrega não duplica o ledger e volta a agendar. Uma queda
+ * depois do ack e antes da lane não perde a transação: o ledger já está gravado e entra na próxima conciliação da
+ * organização.
+ * Agendamentos da mesma organização se juntam: enquanto uma conciliação espera na fila, as mensagens seguintes não
+ * enfileiram outra, pois ela vai ler o cache só quando começar. Ao começar, a organização sai de pending e a próxima
+ * mensagem agenda uma nova execução.
+ */
+public class BankTransactionConsumer {
+    private final BankTransactionLedgerRepository ledgers;
+    private final OpenLedgerCache cache;
+    private final OrganizationTaskSubmitter submitter;
+    private final OrganizationReconciler reconciler;
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    public BankTransactionConsumer(BankTransactionLedgerRepository ledgers, OpenLedgerCache cache, OrganizationTaskSubmitter submitter,
+                                   OrganizationReconciler reconciler) {
+        if (ledgers == null || cache == null || submitter == null || reconciler == null) {
+            throw new IllegalArgumentException("Ledgers, cache, submitter and reconciler must be provided");
+        }
+
+        this.ledgers = ledgers;
+        this.cache = cache;
+        this.submitter = submitter;
+        this.reconciler = reconciler;
+    }
+
+    /**
+     * Grava o ledger e agenda a conciliação. ValidateException para uma conexão desconhecida ou uma transação
+     * inválida (a mensagem não adianta ser reentregue); RejectedExecutionException quando a lane está cheia ou a
+     * organização é de outra instância (a mensagem volta ao broker).
+     */
+    public void accept(IngestedBankTransaction transaction) {
+        if (transaction == null || transaction.connectionId() == null) { throw new ValidateException("Bank transaction connection must be provided."); }
+
+        var organizationId = ledgers.findOrganizationByConnection(transaction.connectionId())
+                .orElseThrow(() -> new ValidateException("Unknown bank connection " + transaction.connectionId()));
+        var ledger = BankTransactionLedger.builder()
+                .bankTransactionId(transaction.id())
+                .organizationId(organizationId)
+                .amount(transaction.amount())
+                .transactionDate(transaction.transactionDate())
+                .description(transaction.description())
+                .build();
+        if (ledgers.insertIfAbsent(ledger)) { cache.put(ledger); }
+
+        schedule(organizationId);
+    }
+
+    private void schedule(UUID organizationId) {
+        if (!pending.add(organizationId)) { return; }
+
+        try {
+            submitter.submit(organizationId, () -> {
+                pending.remove(organizationId);
+                reconciler.reconcile(organizationId);
+            });
+        } catch (RuntimeException e) {
+            pending.remove(organizationId);
+            throw e;
+        }
+    }
+}
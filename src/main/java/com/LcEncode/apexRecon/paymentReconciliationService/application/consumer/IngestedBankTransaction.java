@@ -0,0 +1,17 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.consumer;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Transação publicada pela ingestão (outbox do bankMigrationService). id é o id da transação ingerida e vira o
+ * bank_transaction_id do ledger.
+ */
+public record IngestedBankTransaction(
+        UUID id,
+        UUID connectionId,
+        BigDecimal amount,
+        Instant transactionDate,
+        String description
+) {}
@@ -0,0 +1,25 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.consumer;
+
+import java.time.Duration;
+
+/**
+ * Situação de uma lane do OrganizationLaneExecutor. depth/capacity: fila atual e limite (a partir dele, submit espera);
+ * queueWait: da submissão ao início da execução; processing: duração da execução do handler.
+ */
+public record LaneStats(
+        int lane,
+        int depth,
+        int capacity,
+        long processed,
+        long failed,
+        long rejected,
+        Duration averageQueueWait,
+        Duration maxQueueWait,
+        Duration averageProcessing,
+        Duration maxProcessing,
+        String lastError
+) {
+    public double utilization() {
+        return capacity == 0 ? 0 : (double) depth / capacity;
+    }
+}
@@ -0,0 +1,203 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.consumer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runtime dos consumidores da conciliação: cada organizationId cai sempre na mesma de laneCount lanes, e cada lane
+ * tem uma fila limitada e um único executor (virtual thread). Eventos de uma organização executam um de cada vez, na
+ * ordem de submissão, então dois workers nunca disputam as mesmas linhas de invoices_ledger/bank_transactions_ledger;
+ * organizações em lanes diferentes executam em paralelo.
+ * Backpressure: com a fila da lane cheia, submit bloqueia o chamador (tipicamente o listener do broker, que para de
+ * consumir) por até offerTimeout e então lança RejectedExecutionException; a mensagem volta ao broker.
+ * Uma falha no handler (qualquer Throwable) é contada na lane e não interrompe a fila: a política de retry é do handler.
+ */
+public class OrganizationLaneExecutor implements AutoCloseable {
+    private final Lane[] lanes;
+    private final Duration offerTimeout;
+    private volatile boolean accepting = true;
+
+    // counted = false: tarefa de controle (STOP, barreira do awaitQueued), fora das estatísticas da lane.
+    private record Task(Runnable runnable, long enqueuedAt, boolean counted) {}
+
+    private static final Task STOP = new Task(() -> {}, 0, false);
+
+    public OrganizationLaneExecutor(String name, int laneCount, int queueCapacity, Duration offerTimeout) {
+        if (laneCount <= 0 || queueCapacity <= 0) { throw new IllegalArgumentException("Lane count and queue capacity must be greater than 0"); }
+        if (offerTimeout == null || offerTimeout.isNegative()) { throw new IllegalArgumentException("Offer timeout must be zero or positive"); }
+
+        this.offerTimeout = offerTimeout;
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) { lanes[i] = new Lane(i, queueCapacity, name); }
+    }
+
+    /**
+     * Enfileira a tarefa na lane da organização, esperando até offerTimeout por espaço.
+     */
+    public void submit(UUID organizationId, Runnable task) {
+        var lane = lanes[laneOf(organizationId)];
+        if (!accepting) { throw new RejectedExecutionException("Lane executor is closed"); }
+
+        try {
+            if (!lane.queue.offer(new Task(task, System.nanoTime(), true), offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                lane.rejected.incrementAndGet();
+                throw new RejectedExecutionException("Lane " + lane.index + " is full (" + lane.queue.size() + " queued) for organization " + organizationId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for lane " + lane.index, e);
+        }
+    }
+
+    /**
+     * Como submit, sem esperar: false se a fila da lane estiver cheia.
+     */
+    public boolean trySubmit(UUID organizationId, Runnable task) {
+        var lane = lanes[laneOf(organizationId)];
+        if (!accepting) { throw new RejectedExecutionException("Lane executor is closed"); }
+
+        if (lane.queue.offer(new Task(task, System.nanoTime(), true))) { return true; }
+        lane.rejected.incrementAndGet();
+        return false;
+    }
+
+    public int laneOf(UUID organizationId) {
+        if (organizationId == null) { throw new IllegalArgumentException("Organization id must be provided"); }
+
+        // Mistura os 128 bits: nos UUIDv7 os bits altos são o timestamp e concentrariam organizações criadas juntas.
+        var hash = organizationId.getMostSignificantBits() ^ organizationId.getLeastSignificantBits();
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) Long.remainderUnsigned(hash, lanes.length);
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    public List<LaneStats> stats() {
+        var stats = new ArrayList<LaneStats>(lanes.length);
+        for (var lane : lanes) { stats.add(lane.stats()); }
+        return stats;
+    }
+
+    public LaneStats stats(int lane) {
+        if (lane < 0 || lane >= lanes.length) { throw new IllegalArgumentException("Lane must be between 0 and " + (lanes.length - 1)); }
+
+        return lanes[lane].stats();
+    }
+
+    /**
+     * Espera terminarem as tarefas enfileiradas até agora em todas as lanes: uma barreira entra no fim de cada fila.
+     * Tarefas submetidas depois podem ou não ter executado. false se o timeout vencer antes.
+     */
+    public boolean awaitQueued(Duration timeout) {
+        var deadline = System.nanoTime() + timeout.toNanos();
+        var barrier = new CountDownLatch(lanes.length);
+        try {
+            for (var lane : lanes) {
+                if (!lane.queue.offer(new Task(barrier::countDown, 0, false), deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) { return false; }
+            }
+            return barrier.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Para de aceitar tarefas, executa as que já estão nas filas e encerra as lanes. Um submit que já esperava por
+     * espaço durante o close pode entrar depois do fim da lane e não ser executado.
+     */
+    @Override
+    public void close() {
+        accepting = false;
+        try {
+            for (var lane : lanes) { lane.queue.put(STOP); }
+            for (var lane : lanes) { lane.worker.join(); }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Lane {
+        private final int index;
+        private final BlockingQueue<Task> queue;
+        private final Thread worker;
+        private final AtomicLong rejected = new AtomicLong();
+
+        // Escritos apenas pelo worker da lane; volatile para leitura consistente em stats().
+        private volatile long processed;
+        private volatile long failed;
+        private volatile long totalWaitNanos;
+        private volatile long maxWaitNanos;
+        private volatile long totalProcessingNanos;
+        private volatile long maxProcessingNanos;
+        private volatile String lastError;
+
+        Lane(int index, int capacity, String name) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.worker = Thread.ofVirtual().name(name + "-lane-" + index).start(this::run);
+        }
+
+        private void run() {
+            while (true) {
+                Task task;
+                try {
+                    task = queue.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (task == STOP) { return; }
+                if (!task.counted()) {
+                    execute(task);
+                    continue;
+                }
+
+                var started = System.nanoTime();
+                execute(task);
+                var finished = System.nanoTime();
+
+                var wait = started - task.enqueuedAt();
+                var processing = finished - started;
+                totalWaitNanos += wait;
+                totalProcessingNanos += processing;
+                if (wait > maxWaitNanos) { maxWaitNanos = wait; }
+                if (processing > maxProcessingNanos) { maxProcessingNanos = processing; }
+                processed++;
+            }
+        }
+
+        /**
+         * Qualquer Throwable da tarefa (Error incluso) é contado em failed e a lane segue com a próxima; só uma
+         * interrupção do worker é relançada e encerra a lane, como no take.
+         */
+        private void execute(Task task) {
+            try {
+                task.runnable().run();
+            } catch (Throwable e) {
+                failed++;
+                lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+                if (Thread.currentThread().isInterrupted()) { throw e; }
+            }
+        }
+
+        LaneStats stats() {
+            var count = processed;
+            return new LaneStats(index, queue.size(), queue.size() + queue.remainingCapacity(), count, failed, rejected.get(),
+                    Duration.ofNanos(count == 0 ? 0 : totalWaitNanos / count), Duration.ofNanos(maxWaitNanos),
+                    Duration.ofNanos(count == 0 ? 0 : totalProcessingNanos / count), Duration.ofNanos(maxProcessingNanos),
+                    lastError);
+        }
+    }
+}
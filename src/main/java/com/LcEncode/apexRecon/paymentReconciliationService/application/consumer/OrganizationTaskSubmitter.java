@@ -0,0 +1,13 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.consumer;
+
+import java.util.UUID;
+
+/**
+ * Para onde vai a conciliação de uma organização: as lanes (OrganizationLaneExecutor.submit) ou, com o sharding
+ * ligado, o ShardCoordinator.submit, que antes confere se a organização é desta instância. Os dois recusam com
+ * RejectedExecutionException, e a mensagem volta ao broker.
+ */
+@FunctionalInterface
+public interface OrganizationTaskSubmitter {
+    void submit(UUID organizationId, Runnable task);
+}
@@ -0,0 +1,77 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.eventlog;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.DomainException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerSnapshot;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerType;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.LedgerEventRepository;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.UUID;
+
+/**
+ * Modo event-log dos ledgers: cada commit de uma ReconciliationRun vira um evento por ledger alterado (INSERT em
+ * sequência), em vez de um UPDATE na linha do ledger. Um snapshot entra junto no primeiro evento de cada ledger e a
+ * cada snapshotInterval eventos, a partir do estado já calculado na run; rebuild lê o último snapshot e aplica no
+ * máximo snapshotInterval - 1 eventos.
+ */
+public class LedgerEventLog {
+    private final LedgerEventRepository repository;
+    private final int snapshotInterval;
+    private final Clock clock;
+
+    public LedgerEventLog(LedgerEventRepository repository, int snapshotInterval, Clock clock) {
+        if (repository == null || clock == null) { throw new IllegalArgumentException("Repository and clock must be provided"); }
+        if (snapshotInterval <= 0) { throw new IllegalArgumentException("Snapshot interval must be greater than 0"); }
+
+        this.repository = repository;
+        this.snapshotInterval = snapshotInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * Grava os eventos da run na transação do chamador. Não avança a versão dos ledgers: isso é do repositório da run,
+     * depois do commit.
+     */
+    public void append(ReconciliationRun run) {
+        var events = run.ledgerEvents(clock.instant());
+        var snapshots = new ArrayList<LedgerSnapshot>();
+        for (var invoice : run.invoices()) {
+            if (snapshotDue(invoice.getVersion() + 1)) { snapshots.add(snapshotOf(invoice)); }
+        }
+        for (var transaction : run.bankTransactions()) {
+            if (snapshotDue(transaction.getVersion() + 1)) { snapshots.add(snapshotOf(transaction)); }
+        }
+        repository.append(run.organizationId(), events, snapshots);
+    }
+
+    /**
+     * Estado atual do ledger: último snapshot mais a cauda.
+     */
+    public LedgerSnapshot rebuild(UUID ledgerId) {
+        var snapshot = repository.latestSnapshot(ledgerId)
+                .orElseThrow(() -> new DomainException("Ledger " + ledgerId + " has no events"));
+        return snapshot.replay(repository.events(ledgerId, snapshot.sequence()));
+    }
+
+    public int snapshotInterval() {
+        return snapshotInterval;
+    }
+
+    private boolean snapshotDue(long sequence) {
+        return sequence == 1 || sequence % snapshotInterval == 0;
+    }
+
+    private static LedgerSnapshot snapshotOf(InvoiceLedger invoice) {
+        return new LedgerSnapshot(invoice.getId(), invoice.getOrganizationId(), LedgerType.INVOICE, invoice.getVersion() + 1,
+                invoice.getAmountDue(), invoice.getStatus());
+    }
+
+    private static LedgerSnapshot snapshotOf(BankTransactionLedger transaction) {
+        return new LedgerSnapshot(transaction.getBankTransactionId(), transaction.getOrganizationId(), LedgerType.BANK_TRANSACTION,
+                transaction.getVersion() + 1, transaction.getAmountUnmatched(), transaction.getStatus());
+    }
+}
@@ -0,0 +1,125 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.export;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.export.AllocationExportRow;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.UUID;
+
+/**
+ * Escreve as linhas da exportação em CSV ou NDJSON reaproveitando o mesmo StringBuilder e o mesmo char[] a cada
+ * linha: UUIDs em hexadecimal e valores a partir das unidades mínimas do Money, sem String intermediária por campo.
+ * Todos os campos são ids, números, datas ou enums, então não há o que escapar em nenhum dos dois formatos.
+ */
+final class AllocationExportEncoder {
+    private static final String CSV_HEADER = "allocation_id,created_at,allocated_amount,payment_id,payment_date,invoice_id,"
+            + "customer_id,invoice_due_date,invoice_total_amount,invoice_status,bank_transaction_id,bank_transaction_amount,"
+            + "bank_transaction_date\n";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final AllocationExportFormat format;
+    private final Writer writer;
+    private final StringBuilder line = new StringBuilder(512);
+    private char[] chars = new char[512];
+
+    AllocationExportEncoder(AllocationExportFormat format, Writer writer) {
+        this.format = format;
+        this.writer = writer;
+    }
+
+    void writeHeader() throws IOException {
+        if (format == AllocationExportFormat.CSV) { writer.write(CSV_HEADER); }
+    }
+
+    void write(AllocationExportRow row) throws IOException {
+        line.setLength(0);
+        if (format == AllocationExportFormat.CSV) {
+            csv(row);
+        } else { json(row); }
+        line.append('\n');
+
+        var length = line.length();
+        if (chars.length < length) { chars = new char[Math.max(length, chars.length * 2)]; }
+        line.getChars(0, length, chars, 0);
+        writer.write(chars, 0, length);
+    }
+
+    private void csv(AllocationExportRow row) {
+        uuid(row.allocationId()).append(',');
+        temporal(DateTimeFormatter.ISO_INSTANT, row.createdAt()).append(',');
+        money(row.allocatedAmount()).append(',');
+        uuid(row.paymentId()).append(',');
+        temporal(DateTimeFormatter.ISO_INSTANT, row.paymentDate()).append(',');
+        uuid(row.invoiceId()).append(',');
+        uuid(row.customerId()).append(',');
+        temporal(DateTimeFormatter.ISO_LOCAL_DATE, row.invoiceDueDate()).append(',');
+        money(row.invoiceTotalAmount()).append(',');
+        line.append(row.invoiceStatus().name()).append(',');
+        uuid(row.bankTransactionId()).append(',');
+        money(row.bankTransactionAmount()).append(',');
+        temporal(DateTimeFormatter.ISO_INSTANT, row.bankTransactionDate());
+    }
+
+    private void json(AllocationExportRow row) {
+        line.append("{\"allocationId\":\"");
+        uuid(row.allocationId()).append("\",\"createdAt\":");
+        quoted(DateTimeFormatter.ISO_INSTANT, row.createdAt()).append(",\"allocatedAmount\":");
+        money(row.allocatedAmount()).append(",\"paymentId\":\"");
+        uuid(row.paymentId()).append("\",\"paymentDate\":");
+        quoted(DateTimeFormatter.ISO_INSTANT, row.paymentDate()).append(",\"invoiceId\":\"");
+        uuid(row.invoiceId()).append("\",\"customerId\":\"");
+        uuid(row.customerId()).append("\",\"invoiceDueDate\":");
+        quoted(DateTimeFormatter.ISO_LOCAL_DATE, row.invoiceDueDate()).append(",\"invoiceTotalAmount\":");
+        money(row.invoiceTotalAmount()).append(",\"invoiceStatus\":\"");
+        line.append(row.invoiceStatus().name()).append("\",\"bankTransactionId\":\"");
+        uuid(row.bankTransactionId()).append("\",\"bankTransactionAmount\":");
+        money(row.bankTransactionAmount()).append(",\"bankTransactionDate\":");
+        quoted(DateTimeFormatter.ISO_INSTANT, row.bankTransactionDate()).append('}');
+    }
+
+    private StringBuilder uuid(UUID id) {
+        hex(id.getMostSignificantBits() >>> 32, 8).append('-');
+        hex(id.getMostSignificantBits() >>> 16, 4).append('-');
+        hex(id.getMostSignificantBits(), 4).append('-');
+        hex(id.getLeastSignificantBits() >>> 48, 4).append('-');
+        return hex(id.getLeastSignificantBits(), 12);
+    }
+
+    private StringBuilder hex(long value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) { line.append(HEX[(int) (value >>> shift) & 0xF]); }
+        return line;
+    }
+
+    // Money.SCALE = 4: 10_000 unidades mínimas por unidade.
+    private StringBuilder money(Money amount) {
+        var minor = amount.minorUnits();
+        var units = minor / 10_000;
+        var fraction = Math.abs(minor % 10_000);
+        if (minor < 0 && units == 0) { line.append('-'); }
+        line.append(units).append('.');
+        for (int divisor = 1_000; divisor > 0; divisor /= 10) { line.append((char) ('0' + fraction / divisor % 10)); }
+        return line;
+    }
+
+    /**
+     * CSV: campo vazio para valor ausente.
+     */
+    private StringBuilder temporal(DateTimeFormatter formatter, TemporalAccessor value) {
+        if (value != null) { formatter.formatTo(value, line); }
+        return line;
+    }
+
+    /**
+     * JSON: string entre aspas, ou null.
+     */
+    private StringBuilder quoted(DateTimeFormatter formatter, TemporalAccessor value) {
+        if (value == null) { return line.append("null"); }
+
+        line.append('"');
+        formatter.formatTo(value, line);
+        return line.append('"');
+    }
+}
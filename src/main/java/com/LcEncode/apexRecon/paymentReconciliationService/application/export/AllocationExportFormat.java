@@ -0,0 +1,31 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.export;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+
+public enum AllocationExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    AllocationExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static AllocationExportFormat fromParameter(String value) {
+        for (var format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) { return format; }
+        }
+        throw new ValidateException("Unsupported export format: " + value);
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,90 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.export;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ExportCapacityException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.AllocationExportRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Exportação de auditoria das allocations de uma organização, de tamanho ilimitado e memória constante: cada linha
+ * lida do banco é codificada e escrita no OutputStream antes da próxima ser lida, e o buffer de escrita tem tamanho
+ * fixo (bufferSize), então o heap não cresce com o número de linhas. Um cliente lento desacelera a leitura do banco
+ * em vez de acumular linhas na memória.
+ * A saída é ordenada por allocationId; para retomar uma exportação interrompida, passe o último allocationId recebido
+ * como afterAllocationId. O cabeçalho do CSV só é escrito quando a exportação começa do início.
+ */
+public class AllocationExporter {
+    private final AllocationExportRepository repository;
+    private final Semaphore permits;
+    private final int bufferSize;
+
+    public AllocationExporter(AllocationExportRepository repository, int maxConcurrent, int bufferSize) {
+        if (repository == null) { throw new IllegalArgumentException("Repository must be provided"); }
+        if (maxConcurrent <= 0) { throw new IllegalArgumentException("Max concurrent exports must be greater than 0"); }
+        if (bufferSize <= 0) { throw new IllegalArgumentException("Export buffer size must be greater than 0"); }
+
+        this.repository = repository;
+        this.permits = new Semaphore(maxConcurrent);
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Reserva uma das exportações simultâneas ou lança ExportCapacityException, antes de qualquer byte ser escrito.
+     * A reserva é liberada ao fechar o Export.
+     */
+    public Export start(UUID organizationId, UUID afterAllocationId, AllocationExportFormat format) {
+        if (organizationId == null || format == null) { throw new ValidateException("Organization and export format must be provided."); }
+        if (!permits.tryAcquire()) { throw new ExportCapacityException("Too many allocation exports in progress"); }
+
+        return new Export(organizationId, afterAllocationId, format);
+    }
+
+    public final class Export implements AutoCloseable {
+        private final UUID organizationId;
+        private final UUID afterAllocationId;
+        private final AllocationExportFormat format;
+        private boolean closed;
+
+        private Export(UUID organizationId, UUID afterAllocationId, AllocationExportFormat format) {
+            this.organizationId = organizationId;
+            this.afterAllocationId = afterAllocationId;
+            this.format = format;
+        }
+
+        /**
+         * Escreve a exportação inteira em out (que não é fechado) e retorna o número de linhas.
+         */
+        public long writeTo(OutputStream out) throws IOException {
+            var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferSize);
+            var encoder = new AllocationExportEncoder(format, writer);
+            if (afterAllocationId == null) { encoder.writeHeader(); }
+
+            long rows;
+            try {
+                rows = repository.forEach(organizationId, afterAllocationId, row -> {
+                    try {
+                        encoder.write(row);
+                    } catch (IOException e) { throw new UncheckedIOException(e); }
+                });
+            } catch (UncheckedIOException e) { throw e.getCause(); }
+            writer.flush();
+            return rows;
+        }
+
+        @Override
+        public void close() {
+            if (closed) { return; }
+
+            closed = true;
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation;
+
+import java.util.UUID;
+
+/**
+ * Recebe cada conflito e cada nova tentativa do OptimisticReconciliationExecutor (exportação de métricas).
+ * Chamado na thread da execução: a implementação não deve bloquear.
+ */
+public interface ContentionObserver {
+    ContentionObserver NOOP = new ContentionObserver() {
+        @Override
+        public void conflict(UUID organizationId) {}
+
+        @Override
+        public void retry(UUID organizationId, int attempt) {}
+
+        @Override
+        public void exhausted(UUID organizationId) {}
+
+        @Override
+        public void forgotten(UUID organizationId) {}
+    };
+
+    void conflict(UUID organizationId);
+
+    void retry(UUID organizationId, int attempt);
+
+    void exhausted(UUID organizationId);
+
+    /**
+     * A organização saiu dos contadores do executor (a menos usada além de maxTrackedOrganizations).
+     */
+    void forgotten(UUID organizationId);
+}
@@ -0,0 +1,20 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation;
+
+import java.util.UUID;
+
+/**
+ * Disputa pelos ledgers de uma organização desde o início do processo. conflicts: commits recusados pelo
+ * compare-and-set; retries: replanejamentos feitos por causa deles; exhausted: execuções que desistiram após maxAttempts.
+ */
+public record LedgerContention(
+        UUID organizationId,
+        long commits,
+        long conflicts,
+        long retries,
+        long exhausted
+) {
+    public double conflictRate() {
+        var attempts = commits + conflicts;
+        return attempts == 0 ? 0 : (double) conflicts / attempts;
+    }
+}
@@ -0,0 +1,188 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.AllocateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ConcurrentLedgerUpdateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.LedgerTransitionException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.OverpaymentException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.PaymentAmoutException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.ReconciliationRunRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Executa uma conciliação com controle otimista: o planner lê os ledgers (com a versão) e roda a alocação, e o commit
+ * só grava se nenhum ledger mudou desde a leitura. Em ConcurrentLedgerUpdateException nada foi gravado; o planner é
+ * chamado de novo, sobre o estado novo, até maxAttempts vezes, com espera aleatória crescente entre as tentativas para
+ * que duas execuções em disputa não colidam de novo no mesmo instante.
+ * O planner precisa reler tudo a cada chamada: reaproveitar ledgers da tentativa anterior conflita para sempre.
+ * Runs concluídas e recusas de applyPayment/applyAllocation que escapam do planner vão para o ReconciliationObserver.
+ * Os contadores por organização guardam as maxTrackedOrganizations usadas mais recentemente; a despejada é avisada ao
+ * ContentionObserver (forgotten). O execute só toca a entrada da própria organização; o corte das excedentes roda
+ * à parte, por uma thread de cada vez, e apenas quando o mapa passou do limite.
+ */
+public class OptimisticReconciliationExecutor {
+    private final ReconciliationRunRepository repository;
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final ContentionObserver observer;
+    private final ReconciliationObserver runObserver;
+    private final int maxTrackedOrganizations;
+    private final ConcurrentHashMap<UUID, Counters> contention = new ConcurrentHashMap<>();
+    private final AtomicLong accessClock = new AtomicLong();
+    private final ReentrantLock trimLock = new ReentrantLock();
+
+    private static final class Counters {
+        private volatile long lastUsed;
+        private final LongAdder commits = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+    }
+
+    public OptimisticReconciliationExecutor(ReconciliationRunRepository repository, int maxAttempts, Duration baseBackoff,
+                                            ContentionObserver observer, ReconciliationObserver runObserver, int maxTrackedOrganizations) {
+        if (repository == null || observer == null || runObserver == null) { throw new IllegalArgumentException("Repository and observers must be provided"); }
+        if (maxAttempts <= 0 || maxTrackedOrganizations <= 0) { throw new IllegalArgumentException("Max attempts and tracked organizations must be greater than 0"); }
+        if (baseBackoff == null || baseBackoff.isNegative()) { throw new IllegalArgumentException("Base backoff must be zero or positive"); }
+
+        this.repository = repository;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.observer = observer;
+        this.runObserver = runObserver;
+        this.maxTrackedOrganizations = maxTrackedOrganizations;
+    }
+
+    /**
+     * Planeja e grava a conciliação da organização, replanejando em conflito. Devolve a run efetivamente gravada;
+     * esgotadas as tentativas, relança o último ConcurrentLedgerUpdateException.
+     */
+    public ReconciliationRun execute(UUID organizationId, Supplier<ReconciliationRun> planner) {
+        if (organizationId == null || planner == null) { throw new IllegalArgumentException("Organization id and planner must be provided"); }
+
+        var counters = countersFor(organizationId);
+        var started = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            var run = plan(planner);
+            if (!organizationId.equals(run.organizationId())) {
+                throw new IllegalArgumentException("Planner returned a run for organization " + run.organizationId());
+            }
+            if (run.isEmpty()) {
+                runObserver.completed(run, System.nanoTime() - started);
+                return run;
+            }
+
+            try {
+                repository.commit(run);
+                counters.commits.increment();
+                runObserver.completed(run, System.nanoTime() - started);
+                return run;
+            } catch (ConcurrentLedgerUpdateException e) {
+                counters.conflicts.increment();
+                observer.conflict(organizationId);
+                if (attempt >= maxAttempts) {
+                    counters.exhausted.increment();
+                    observer.exhausted(organizationId);
+                    throw e;
+                }
+
+                counters.retries.increment();
+                observer.retry(organizationId, attempt + 1);
+                pause(attempt);
+            }
+        }
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Organizações com pelo menos um conflito, da mais disputada para a menos.
+     */
+    public List<LedgerContention> contention() {
+        var snapshot = new ArrayList<LedgerContention>();
+        contention.forEach((organizationId, counters) -> {
+            var conflicts = counters.conflicts.sum();
+            if (conflicts > 0) {
+                snapshot.add(new LedgerContention(organizationId, counters.commits.sum(), conflicts, counters.retries.sum(), counters.exhausted.sum()));
+            }
+        });
+        snapshot.sort(Comparator.comparingLong(LedgerContention::conflicts).reversed());
+        return snapshot;
+    }
+
+    public int trackedOrganizations() {
+        return contention.size();
+    }
+
+    private Counters countersFor(UUID organizationId) {
+        var tick = accessClock.incrementAndGet();
+        var counters = contention.compute(organizationId, (id, current) -> {
+            var touched = current == null ? new Counters() : current;
+            touched.lastUsed = tick;
+            return touched;
+        });
+
+        if (contention.size() > maxTrackedOrganizations) { trim(); }
+        return counters;
+    }
+
+    /**
+     * Despeja as organizações usadas há mais tempo até voltar a maxTrackedOrganizations. Quem chega com o corte já
+     * em andamento segue sem esperar; o excedente momentâneo é absorvido no próximo corte.
+     */
+    private void trim() {
+        if (!trimLock.tryLock()) { return; }
+        try {
+            var excess = contention.size() - maxTrackedOrganizations;
+            if (excess <= 0) { return; }
+
+            var eldest = contention.entrySet().stream()
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue().lastUsed))
+                    .sorted(Map.Entry.comparingByValue())
+                    .limit(excess)
+                    .toList();
+            for (var entry : eldest) {
+                // Só sai se ninguém usou a organização depois da leitura acima.
+                var removed = contention.computeIfPresent(entry.getKey(), (id, counters) -> counters.lastUsed == entry.getValue() ? null : counters) == null;
+                if (removed) { observer.forgotten(entry.getKey()); }
+            }
+        } finally { trimLock.unlock(); }
+    }
+
+    private ReconciliationRun plan(Supplier<ReconciliationRun> planner) {
+        try {
+            return planner.get();
+        } catch (PaymentAmoutException | AllocateException | LedgerTransitionException | OverpaymentException e) {
+            runObserver.rejected(e.getClass());
+            throw e;
+        }
+    }
+
+    private void pause(int attempt) {
+        var ceiling = baseBackoff.toNanos() << Math.min(attempt - 1, 10);
+        if (ceiling <= 0) { return; }
+
+        // Full jitter: espera uniforme em [0, base * 2^(tentativa - 1)).
+        try {
+            var nanos = ThreadLocalRandom.current().nextLong(ceiling);
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry reconciliation", e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.OpenLedgerCache;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerType;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.Payment;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.AllocationSolver;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.LedgerMatchingEngine;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.MatchTolerance;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Conciliação automática de uma organização, executada na lane dela. Cada planejamento relê os itens em aberto do
+ * OpenLedgerCache (cópias; um conflito de versão descarta a organização do cache) e monta o seu próprio
+ * LedgerMatchingEngine, então o replanejamento do OptimisticReconciliationExecutor nunca reaproveita estado velho.
+ * As transações são avaliadas da mais antiga para a mais nova: primeiro a fatura de valor mais próximo pelo engine;
+ * sem ela, o AllocationSolver procura um conjunto de faturas que o crédito quite. As alocações entram nos ledgers
+ * por tryApplyAllocation/tryApplyPayment; cada recusa vai para o ReconciliationObserver no ponto em que o resultado
+ * volta, e a transação recusada fica para a próxima execução.
+ */
+public class OrganizationReconciler {
+    private final OpenLedgerCache cache;
+    private final OptimisticReconciliationExecutor executor;
+    private final AllocationSolver solver;
+    private final MatchTolerance tolerance;
+    private final ZoneId zoneId;
+    private final ReconciliationObserver observer;
+
+    public OrganizationReconciler(OpenLedgerCache cache, OptimisticReconciliationExecutor executor, AllocationSolver solver,
+                                  MatchTolerance tolerance, ZoneId zoneId, ReconciliationObserver observer) {
+        if (cache == null || executor == null || solver == null || observer == null) {
+            throw new IllegalArgumentException("Cache, executor, solver and observer must be provided");
+        }
+        if (tolerance == null || zoneId == null) { throw new IllegalArgumentException("Tolerance and zone must be provided"); }
+
+        this.cache = cache;
+        this.executor = executor;
+        this.solver = solver;
+        this.tolerance = tolerance;
+        this.zoneId = zoneId;
+        this.observer = observer;
+    }
+
+    /**
+     * Planeja e grava a conciliação da organização; devolve a run gravada (vazia quando nada casou).
+     */
+    public ReconciliationRun reconcile(UUID organizationId) {
+        if (organizationId == null) { throw new IllegalArgumentException("Organization id must be provided"); }
+
+        return executor.execute(organizationId, () -> plan(organizationId));
+    }
+
+    ReconciliationRun plan(UUID organizationId) {
+        var invoices = cache.openInvoices(organizationId);
+        var transactions = new ArrayList<>(cache.openBankTransactions(organizationId));
+        if (invoices.isEmpty() || transactions.isEmpty()) {
+            return new ReconciliationRun(organizationId, List.of(), List.of(), List.of(), transactions.size());
+        }
+        transactions.sort(Comparator.comparing(BankTransactionLedger::getTransactionDate));
+
+        var engine = new LedgerMatchingEngine(zoneId);
+        var byId = new HashMap<UUID, InvoiceLedger>(invoices.size() * 2);
+        for (var invoice : invoices) {
+            engine.track(invoice);
+            byId.put(invoice.getId(), invoice);
+        }
+
+        var payments = new ArrayList<Payment>();
+        var changedInvoices = new LinkedHashMap<UUID, InvoiceLedger>();
+        var changedTransactions = new ArrayList<BankTransactionLedger>();
+        for (var transaction : transactions) {
+            if (engine.openInvoiceCount(organizationId) == 0) { break; }
+
+            var payment = match(engine, transaction, invoices);
+            if (payment == null || !apply(payment, transaction, byId)) { continue; }
+
+            payments.add(payment);
+            changedTransactions.add(transaction);
+            for (var allocation : payment.getAllocations()) {
+                var invoice = byId.get(allocation.invoiceId());
+                changedInvoices.put(invoice.getId(), invoice);
+                engine.track(invoice);
+            }
+        }
+        return new ReconciliationRun(organizationId, payments, List.copyOf(changedInvoices.values()), changedTransactions, transactions.size());
+    }
+
+    private Payment match(LedgerMatchingEngine engine, BankTransactionLedger transaction, List<InvoiceLedger> invoices) {
+        var candidates = engine.findInvoiceCandidates(transaction, tolerance, 1);
+        if (!candidates.isEmpty()) {
+            var invoice = candidates.getFirst().invoice();
+            return Payment.builder()
+                    .organizationId(transaction.getOrganizationId())
+                    .paymentDate(transaction.getTransactionDate())
+                    .allocation(invoice.getId(), transaction.getBankTransactionId(), transaction.getAmountUnmatched().min(invoice.getAmountDue()))
+                    .build();
+        }
+        return solver.solveForTransaction(transaction, invoices, tolerance).asPayment().orElse(null);
+    }
+
+    /**
+     * A transação recebe o total do pagamento de uma vez: recusada, nenhum ledger muda. Depois disso cada fatura
+     * recebe a sua parte, que o engine e o solver limitam ao amountDue; uma recusa ali é um pagamento inconsistente
+     * e aborta o planejamento inteiro.
+     */
+    boolean apply(Payment payment, BankTransactionLedger transaction, Map<UUID, InvoiceLedger> invoices) {
+        var allocated = transaction.tryApplyAllocation(payment.getTotalAmount());
+        if (!allocated.isAccepted()) {
+            observer.rejected(LedgerType.BANK_TRANSACTION, allocated.outcome());
+            return false;
+        }
+
+        for (var allocation : payment.getAllocations()) {
+            var result = invoices.get(allocation.invoiceId()).tryApplyPayment(allocation.amount());
+            if (!result.isAccepted()) {
+                observer.rejected(LedgerType.INVOICE, result.outcome());
+                throw new IllegalStateException("Invoice " + allocation.invoiceId() + " rejected allocation of payment " + payment.getPaymentId() + ": " + result.outcome());
+            }
+        }
+        return true;
+    }
+}
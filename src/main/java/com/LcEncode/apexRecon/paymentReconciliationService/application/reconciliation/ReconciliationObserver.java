@@ -0,0 +1,42 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerType;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerApplyResult;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.SolverListener;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.SolverStats;
+
+/**
+ * Resultado das conciliações (exportação de métricas): cada run concluída pelo OptimisticReconciliationExecutor, cada
+ * tryApplyPayment/tryApplyAllocation recusado pelo planner (pelo ledger e o outcome), cada applyPayment/applyAllocation
+ * cuja exceção escapou do planejamento e cada busca do AllocationSolver. Chamado na thread da execução: a
+ * implementação não deve bloquear.
+ */
+public interface ReconciliationObserver extends SolverListener {
+    ReconciliationObserver NOOP = new ReconciliationObserver() {
+        @Override
+        public void completed(ReconciliationRun run, long elapsedNanos) {}
+
+        @Override
+        public void rejected(LedgerType ledger, LedgerApplyResult.Outcome outcome) {}
+
+        @Override
+        public void rejected(Class<? extends RuntimeException> rejection) {}
+
+        @Override
+        public void searched(SolverStats stats) {}
+    };
+
+    /**
+     * Run gravada, ou vazia (nada a conciliar entre as avaliadas). elapsedNanos: do primeiro planejamento ao commit,
+     * com as novas tentativas.
+     */
+    void completed(ReconciliationRun run, long elapsedNanos);
+
+    /**
+     * Resultado diferente de ACCEPTED devolvido por tryApplyPayment (INVOICE) ou tryApplyAllocation (BANK_TRANSACTION).
+     */
+    void rejected(LedgerType ledger, LedgerApplyResult.Outcome outcome);
+
+    void rejected(Class<? extends RuntimeException> rejection);
+}
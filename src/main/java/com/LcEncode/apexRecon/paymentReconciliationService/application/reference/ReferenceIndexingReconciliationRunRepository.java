@@ -0,0 +1,42 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.reference;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.ReconciliationRunRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.reference.DescriptionReferenceIndex;
+
+import java.util.HashMap;
+import java.util.UUID;
+
+/**
+ * Mantém o DescriptionReferenceIndex depois do commit de uma run: a descrição de cada transação alocada (gravada em
+ * bank_transactions_ledger.description na ingestão, inclusive a de extratos enviados por upload) é aprendida para o
+ * cliente da fatura, e as faturas que deixaram de estar em aberto (PAID, ou VOID com amountDue zerado) saem do
+ * índice depois do aprendizado. Uma run que falha não altera o índice.
+ */
+public class ReferenceIndexingReconciliationRunRepository implements ReconciliationRunRepository {
+    private final ReconciliationRunRepository delegate;
+    private final DescriptionReferenceIndex index;
+
+    public ReferenceIndexingReconciliationRunRepository(ReconciliationRunRepository delegate, DescriptionReferenceIndex index) {
+        this.delegate = delegate;
+        this.index = index;
+    }
+
+    @Override
+    public void commit(ReconciliationRun run) {
+        delegate.commit(run);
+
+        var transactions = new HashMap<UUID, BankTransactionLedger>();
+        run.bankTransactions().forEach(transaction -> transactions.put(transaction.getBankTransactionId(), transaction));
+        for (var payment : run.payments()) {
+            for (var allocation : payment.getAllocations()) {
+                var transaction = transactions.get(allocation.bankTransactionId());
+                if (transaction != null && transaction.getDescription() != null) {
+                    index.learnFromInvoice(run.organizationId(), allocation.invoiceId(), transaction.getDescription());
+                }
+            }
+        }
+        run.invoices().forEach(index::onLedgerUpdated);
+    }
+}
@@ -0,0 +1,127 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Anel de hash consistente das organizações entre as instâncias da conciliação. Cada instância ocupa virtualNodes
+ * pontos do anel e é dona das organizações entre o ponto anterior e cada um dos seus. Uma instância que entra ou sai
+ * move só a sua fatia (~1/n das organizações); as demais continuam com o mesmo dono.
+ * Imutável e determinístico: instâncias com o mesmo conjunto de membros calculam o mesmo anel e a mesma version.
+ */
+public final class ConsistentHashRing {
+    public static final ConsistentHashRing EMPTY = new ConsistentHashRing(List.of(), new long[0], new String[0], 0);
+
+    private final List<String> members;
+    private final long[] points;
+    private final String[] owners;
+    private final long version;
+
+    private ConsistentHashRing(List<String> members, long[] points, String[] owners, long version) {
+        this.members = members;
+        this.points = points;
+        this.owners = owners;
+        this.version = version;
+    }
+
+    public static ConsistentHashRing of(Collection<String> members, int virtualNodes) {
+        if (members == null || members.stream().anyMatch(Objects::isNull)) { throw new IllegalArgumentException("Members must be provided"); }
+        if (virtualNodes <= 0) { throw new IllegalArgumentException("Virtual nodes must be greater than 0"); }
+        if (members.isEmpty()) { return EMPTY; }
+
+        var sorted = members.stream().distinct().sorted().toList();
+        var positions = new long[sorted.size() * virtualNodes][];
+        var version = hash(virtualNodes + "");
+        for (int m = 0; m < sorted.size(); m++) {
+            version = mix(version ^ hash(sorted.get(m)));
+            for (int v = 0; v < virtualNodes; v++) { positions[m * virtualNodes + v] = new long[]{hash(sorted.get(m) + "#" + v), m}; }
+        }
+        // Empate de pontos (raro) desempata pelo membro, para o anel não depender da ordem de entrada.
+        Arrays.sort(positions, (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+
+        var points = new long[positions.length];
+        var owners = new String[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            points[i] = positions[i][0];
+            owners[i] = sorted.get((int) positions[i][1]);
+        }
+        return new ConsistentHashRing(sorted, points, owners, version);
+    }
+
+    /**
+     * Instância dona da organização, ou null com o anel vazio.
+     */
+    public String ownerOf(UUID organizationId) {
+        if (organizationId == null) { throw new IllegalArgumentException("Organization id must be provided"); }
+        if (points.length == 0) { return null; }
+
+        var index = Arrays.binarySearch(points, position(organizationId));
+        if (index < 0) { index = -index - 1; }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public boolean contains(String member) {
+        return members.contains(member);
+    }
+
+    public List<String> members() {
+        return members;
+    }
+
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    /**
+     * Identifica o conjunto de membros (e virtualNodes); 0 para o anel vazio.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Fração do anel que pertence ao membro, de 0 a 1.
+     */
+    public double share(String member) {
+        if (!members.contains(member)) { return 0; }
+        if (members.size() == 1) { return 1; }
+
+        // Cada ponto cobre o arco desde o ponto anterior; a subtração em 64 bits já dá a volta no primeiro.
+        var owned = 0.0;
+        for (int i = 0; i < points.length; i++) {
+            if (owners[i].equals(member)) { owned += unsigned(points[i] - points[i == 0 ? points.length - 1 : i - 1]); }
+        }
+        return owned / 0x1p64;
+    }
+
+    // Posição diferente da usada nas lanes (OrganizationLaneExecutor.laneOf): a fatia de uma instância não se
+    // concentra em poucas lanes.
+    private static long position(UUID organizationId) {
+        var hash = organizationId.getMostSignificantBits() * 31 + organizationId.getLeastSignificantBits();
+        return mix(hash);
+    }
+
+    // FNV-1a de 64 bits seguido do mix: estável entre JVMs, ao contrário de String.hashCode com 32 bits.
+    private static long hash(String value) {
+        var hash = 0xcbf29ce484222325L;
+        for (var b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private static double unsigned(long value) {
+        return value >= 0 ? value : 0x1p64 + value;
+    }
+}
@@ -0,0 +1,231 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.sharding;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.OpenLedgerCache;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.consumer.OrganizationLaneExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Divide as organizações entre as instâncias da conciliação pelo ConsistentHashRing dos membros ACTIVE do
+ * ShardMembership: cada organização é carregada, cacheada e conciliada por uma única instância.
+ * Passagem de uma fatia, a cada refresh que muda o anel:
+ * 1. o dono anterior troca o anel e passa a recusar as organizações que perdeu (submit lança RejectedExecutionException
+ *    e a mensagem volta ao broker);
+ * 2. drena as lanes (as tarefas já enfileiradas terminam), descarta do cache as organizações que mudaram de dono e
+ *    publica appliedRing com a version do anel novo; se a drenagem não terminar em drainTimeout, tenta de novo no
+ *    próximo refresh sem publicar;
+ * 3. o novo dono trata as organizações recebidas como PENDING até ver esse appliedRing, o dono anterior sumir do
+ *    registro (queda) ou passar handoffTimeout.
+ * join entra no anel e recebe a sua fatia pelo mesmo protocolo; leave sai do anel, drena e publica LEAVING já com o
+ * anel sem esta instância, e as outras assumem sem esperar. Com mudanças em sequência só a última passagem é
+ * acompanhada: se duas instâncias chegarem a processar a mesma organização, o controle de versão dos ledgers continua
+ * garantindo a correção, ao custo de conflitos.
+ */
+public class ShardCoordinator {
+    private final String instanceId;
+    private final ShardMembership membership;
+    private final OrganizationLaneExecutor lanes;
+    private final OpenLedgerCache cache;
+    private final Settings settings;
+    private final LongSupplier nanoTime;
+    // submit verifica a posse e enfileira sob o read lock; a troca do anel espera esses submits, então a barreira da
+    // drenagem fica atrás de tudo o que foi aceito com o anel antigo.
+    private final ReentrantReadWriteLock submissions = new ReentrantReadWriteLock();
+    private volatile View view = new View(ConsistentHashRing.EMPTY, null, Map.of(), 0, null);
+
+    // Guardado pelo monitor: anel de onde partiu a passagem ainda não drenada e publicada.
+    private ConsistentHashRing releaseFrom;
+
+    /**
+     * previous: anel anterior enquanto a passagem para ring não termina. state null antes do join.
+     */
+    private record View(
+            ConsistentHashRing ring,
+            ConsistentHashRing previous,
+            Map<String, ShardMember> members,
+            long changedAt,
+            ShardMember.State state
+    ) {}
+
+    /**
+     * virtualNodes: pontos de cada instância no anel (mais pontos, fatias mais parelhas); handoffTimeout: espera máxima
+     * pelo dono anterior; drainTimeout: espera máxima pelas lanes a cada tentativa de drenagem.
+     */
+    public record Settings(
+            int virtualNodes,
+            Duration handoffTimeout,
+            Duration drainTimeout
+    ) {
+        public Settings {
+            if (virtualNodes <= 0) { throw new IllegalArgumentException("Virtual nodes must be greater than 0"); }
+            if (handoffTimeout == null || handoffTimeout.isNegative() || drainTimeout == null || !drainTimeout.isPositive()) {
+                throw new IllegalArgumentException("Handoff timeout must be zero or positive and drain timeout positive");
+            }
+        }
+
+        public static Settings defaults() {
+            return new Settings(128, Duration.ofMinutes(2), Duration.ofSeconds(30));
+        }
+    }
+
+    public ShardCoordinator(String instanceId, ShardMembership membership, OrganizationLaneExecutor lanes, OpenLedgerCache cache, Settings settings) {
+        this(instanceId, membership, lanes, cache, settings, System::nanoTime);
+    }
+
+    ShardCoordinator(String instanceId, ShardMembership membership, OrganizationLaneExecutor lanes, OpenLedgerCache cache, Settings settings,
+                     LongSupplier nanoTime) {
+        if (instanceId == null || instanceId.isBlank()) { throw new IllegalArgumentException("Instance id must be provided"); }
+        if (membership == null || lanes == null || cache == null || settings == null) {
+            throw new IllegalArgumentException("Membership, lanes, cache and settings must be provided");
+        }
+
+        this.instanceId = instanceId;
+        this.membership = membership;
+        this.lanes = lanes;
+        this.cache = cache;
+        this.settings = settings;
+        this.nanoTime = nanoTime;
+    }
+
+    public ShardOwnership ownership(UUID organizationId) {
+        var view = this.view;
+        if (view.state() != ShardMember.State.ACTIVE || !instanceId.equals(view.ring().ownerOf(organizationId))) { return ShardOwnership.FOREIGN; }
+        if (view.previous() == null) { return ShardOwnership.OWNED; }
+
+        var previousOwner = view.previous().ownerOf(organizationId);
+        if (previousOwner == null || previousOwner.equals(instanceId) || released(view, previousOwner)) { return ShardOwnership.OWNED; }
+        return ShardOwnership.PENDING;
+    }
+
+    /**
+     * Enfileira a tarefa na lane da organização se ela for desta instância (OWNED); senão lança
+     * RejectedExecutionException, como a backpressure das lanes.
+     */
+    public void submit(UUID organizationId, Runnable task) {
+        submissions.readLock().lock();
+        try {
+            var ownership = ownership(organizationId);
+            if (ownership != ShardOwnership.OWNED) {
+                throw new RejectedExecutionException("Organization " + organizationId + " is " + ownership + " on " + instanceId);
+            }
+            lanes.submit(organizationId, task);
+        } finally { submissions.readLock().unlock(); }
+    }
+
+    /**
+     * Entra no anel: as organizações da fatia desta instância ficam PENDING até os donos atuais as soltarem.
+     */
+    public synchronized void join() {
+        if (view.state() != null) { return; }
+
+        var members = others(membership.members());
+        var current = ring(members, false);
+        change(new View(ring(members, true), current.isEmpty() ? null : current, members, nanoTime.getAsLong(), ShardMember.State.ACTIVE), current);
+    }
+
+    /**
+     * Relê o registro: com um anel novo, recusa o que perdeu, drena e publica; senão só atualiza o que os outros
+     * membros publicaram e encerra a passagem em andamento quando todos os donos anteriores soltaram.
+     */
+    public synchronized void refresh() {
+        var current = view;
+        if (current.state() == null) { return; }
+
+        var members = others(membership.members());
+        var ring = ring(members, current.state() == ShardMember.State.ACTIVE);
+        if (ring.version() != current.ring().version()) {
+            change(new View(ring, current.ring(), members, nanoTime.getAsLong(), current.state()), current.ring());
+            return;
+        }
+
+        var next = new View(ring, current.previous(), members, current.changedAt(), current.state());
+        view = next.previous() != null && handedOff(next) ? new View(ring, null, members, current.changedAt(), current.state()) : next;
+        release();
+    }
+
+    /**
+     * Sai do anel: recusa tudo, drena e publica LEAVING. Chamar antes de sair do registro.
+     */
+    public synchronized void leave() {
+        var current = view;
+        if (current.state() != ShardMember.State.ACTIVE) { return; }
+
+        var members = others(membership.members());
+        change(new View(ring(members, false), current.ring(), members, nanoTime.getAsLong(), ShardMember.State.LEAVING), current.ring());
+    }
+
+    public boolean isActive() {
+        return view.state() == ShardMember.State.ACTIVE;
+    }
+
+    public ConsistentHashRing ring() {
+        return view.ring();
+    }
+
+    public String instanceId() {
+        return instanceId;
+    }
+
+    private void change(View next, ConsistentHashRing from) {
+        submissions.writeLock().lock();
+        try {
+            view = next;
+        } finally { submissions.writeLock().unlock(); }
+
+        // Uma passagem ainda não drenada parte do anel mais antigo: ela também precisa ser solta.
+        if (releaseFrom == null) { releaseFrom = from; }
+        release();
+    }
+
+    /**
+     * Drena e publica a passagem pendente. Descarta do cache também o que esta instância recebe: o que sobrou de uma
+     * posse antiga pode estar defasado.
+     */
+    private void release() {
+        if (releaseFrom == null || !lanes.awaitQueued(settings.drainTimeout())) { return; }
+
+        var from = releaseFrom;
+        var current = view;
+        cache.invalidateIf(organizationId -> moved(from, current.ring(), organizationId));
+        releaseFrom = null;
+        membership.publish(current.state(), current.ring().version());
+    }
+
+    private boolean moved(ConsistentHashRing from, ConsistentHashRing to, UUID organizationId) {
+        var before = from.ownerOf(organizationId);
+        var after = to.ownerOf(organizationId);
+        return !Objects.equals(before, after) && (instanceId.equals(before) || instanceId.equals(after));
+    }
+
+    private boolean released(View view, String previousOwner) {
+        var member = view.members().get(previousOwner);
+        return member == null || member.appliedRing() == view.ring().version()
+                || nanoTime.getAsLong() - view.changedAt() >= settings.handoffTimeout().toNanos();
+    }
+
+    private boolean handedOff(View view) {
+        return view.previous().members().stream().allMatch(member -> member.equals(instanceId) || released(view, member));
+    }
+
+    private ConsistentHashRing ring(Map<String, ShardMember> members, boolean withSelf) {
+        var ids = new ArrayList<String>(members.size() + 1);
+        members.values().stream().filter(member -> member.state() == ShardMember.State.ACTIVE).forEach(member -> ids.add(member.instanceId()));
+        if (withSelf) { ids.add(instanceId); }
+        return ConsistentHashRing.of(ids, settings.virtualNodes());
+    }
+
+    private Map<String, ShardMember> others(List<ShardMember> members) {
+        return members.stream()
+                .filter(member -> !member.instanceId().equals(instanceId))
+                .collect(Collectors.toUnmodifiableMap(ShardMember::instanceId, member -> member, (first, second) -> second));
+    }
+}
@@ -0,0 +1,26 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.sharding;
+
+/**
+ * Uma instância da conciliação como publicada no registro (Eureka): state e appliedRing, a version do anel para o
+ * qual ela já drenou e soltou tudo o que não é mais dela.
+ */
+public record ShardMember(
+        String instanceId,
+        State state,
+        long appliedRing
+) {
+    public ShardMember {
+        if (instanceId == null || instanceId.isBlank() || state == null) { throw new IllegalArgumentException("Instance id and state must be provided"); }
+    }
+
+    public enum State {
+        /**
+         * No anel.
+         */
+        ACTIVE,
+        /**
+         * Saindo: fora do anel das outras instâncias, drena o que ainda tem antes de sair do registro.
+         */
+        LEAVING
+    }
+}
@@ -0,0 +1,21 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.sharding;
+
+import java.util.List;
+
+/**
+ * Registro das instâncias da conciliação (Eureka em produção). A visão pode estar atrasada e diferir entre
+ * instâncias por alguns ciclos de refresh; o ShardCoordinator só conclui uma passagem quando o dono anterior publica o
+ * mesmo anel.
+ */
+public interface ShardMembership {
+
+    /**
+     * Instâncias registradas que já publicaram estado, inclusive esta, se já aparecer no registro.
+     */
+    List<ShardMember> members();
+
+    /**
+     * Publica o estado desta instância e o anel que ela já aplicou.
+     */
+    void publish(ShardMember.State state, long appliedRing);
+}
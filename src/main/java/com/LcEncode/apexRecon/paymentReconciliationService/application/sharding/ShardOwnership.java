@@ -0,0 +1,19 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.sharding;
+
+/**
+ * Situação de uma organização para esta instância.
+ */
+public enum ShardOwnership {
+    /**
+     * Desta instância: carrega, cacheia e concilia.
+     */
+    OWNED,
+    /**
+     * Passou a ser desta instância, mas o dono anterior ainda não confirmou que drenou; volta ao broker.
+     */
+    PENDING,
+    /**
+     * De outra instância.
+     */
+    FOREIGN
+}
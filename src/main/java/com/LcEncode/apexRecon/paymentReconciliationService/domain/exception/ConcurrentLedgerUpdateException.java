@@ -0,0 +1,26 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Um ledger mudou (ou deixou de existir) entre a leitura e o UPDATE condicional da conciliação: nada foi gravado e a
+ * execução deve ser refeita a partir de uma nova leitura.
+ */
+public class ConcurrentLedgerUpdateException extends RuntimeException {
+    private final UUID organizationId;
+    private final UUID ledgerId;
+
+    public ConcurrentLedgerUpdateException(UUID organizationId, UUID ledgerId, String message) {
+        super(message);
+        this.organizationId = organizationId;
+        this.ledgerId = ledgerId;
+    }
+
+    public UUID getOrganizationId() {
+        return organizationId;
+    }
+
+    public UUID getLedgerId() {
+        return ledgerId;
+    }
+}
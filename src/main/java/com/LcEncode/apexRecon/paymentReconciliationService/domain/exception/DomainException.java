@@ -0,0 +1,7 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.exception;
+
+public class DomainException extends RuntimeException {
+    public DomainException(String message) {
+        super(message);
+    }
+}
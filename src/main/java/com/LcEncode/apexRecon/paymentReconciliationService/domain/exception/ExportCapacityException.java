@@ -0,0 +1,10 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.exception;
+
+/**
+ * Todas as exportações simultâneas permitidas estão em andamento; cada uma prende uma conexão do pool até o fim.
+ */
+public class ExportCapacityException extends DomainException {
+    public ExportCapacityException(String message) {
+        super(message);
+    }
+}
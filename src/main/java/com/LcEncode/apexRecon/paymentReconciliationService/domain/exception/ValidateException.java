@@ -0,0 +1,7 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.exception;
+
+public class ValidateException extends RuntimeException {
+    public ValidateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,34 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.aging;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.DomainException;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.util.UUID;
+
+/**
+ * Saldo em aberto e quantidade de faturas de um cliente (ou da organização inteira, customerId = ORGANIZATION_TOTAL)
+ * em uma faixa de atraso.
+ */
+public record AgingBalance(
+        UUID organizationId,
+        UUID customerId,
+        AgingBucket bucket,
+        Money amount,
+        long invoices
+) {
+    public static final UUID ORGANIZATION_TOTAL = new UUID(0, 0);
+
+    public AgingBalance {
+        if (organizationId == null || customerId == null || bucket == null || amount == null) {
+            throw new DomainException("All core aging balance must be provided.");
+        }
+    }
+
+    public boolean isOrganizationTotal() {
+        return ORGANIZATION_TOTAL.equals(customerId);
+    }
+
+    public boolean isEmpty() {
+        return amount.isZero() && invoices == 0;
+    }
+}
@@ -0,0 +1,50 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.aging;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Faixas de atraso do aging, por dias desde o vencimento na data de referência da projeção. code é o valor gravado
+ * em ar_aging.bucket.
+ */
+public enum AgingBucket {
+    CURRENT(0),
+    DAYS_1_30(1),
+    DAYS_31_60(2),
+    DAYS_61_90(3),
+    DAYS_90_PLUS(4);
+
+    private final int code;
+
+    AgingBucket(int code) {
+        this.code = code;
+    }
+
+    public int code() {
+        return code;
+    }
+
+    /**
+     * Faixa de uma fatura na data de referência: a vencer até o próprio dia do vencimento (ou sem vencimento), depois
+     * 1-30, 31-60, 61-90 e 90+ dias. Mesma regra do CASE usado no SQL da projeção.
+     */
+    public static AgingBucket of(LocalDate dueDate, LocalDate asOf) {
+        if (dueDate == null) { return CURRENT; }
+
+        var days = ChronoUnit.DAYS.between(dueDate, asOf);
+        if (days <= 0) { return CURRENT; }
+        if (days <= 30) { return DAYS_1_30; }
+        if (days <= 60) { return DAYS_31_60; }
+        if (days <= 90) { return DAYS_61_90; }
+        return DAYS_90_PLUS;
+    }
+
+    public static AgingBucket fromCode(int code) {
+        for (var bucket : values()) {
+            if (bucket.code == code) { return bucket; }
+        }
+        throw new ValidateException("Unknown aging bucket code: " + code);
+    }
+}
@@ -0,0 +1,44 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.aging;
+
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Aging de um cliente ou da organização (customerId = AgingBalance.ORGANIZATION_TOTAL) na data asOf, com todas as
+ * faixas presentes (zeradas quando não há saldo).
+ */
+public record AgingSummary(
+        UUID organizationId,
+        UUID customerId,
+        LocalDate asOf,
+        Map<AgingBucket, Money> amounts,
+        Map<AgingBucket, Long> invoices
+) {
+    public static AgingSummary of(UUID organizationId, UUID customerId, LocalDate asOf, List<AgingBalance> balances) {
+        var amounts = new EnumMap<AgingBucket, Money>(AgingBucket.class);
+        var invoices = new EnumMap<AgingBucket, Long>(AgingBucket.class);
+        for (var bucket : AgingBucket.values()) {
+            amounts.put(bucket, Money.ZERO);
+            invoices.put(bucket, 0L);
+        }
+        for (var balance : balances) {
+            amounts.merge(balance.bucket(), balance.amount(), Money::plus);
+            invoices.merge(balance.bucket(), balance.invoices(), Long::sum);
+        }
+        return new AgingSummary(organizationId, customerId, asOf, Collections.unmodifiableMap(amounts), Collections.unmodifiableMap(invoices));
+    }
+
+    public Money total() {
+        return amounts.values().stream().reduce(Money.ZERO, Money::plus);
+    }
+
+    public Money overdue() {
+        return total().minus(amounts.get(AgingBucket.CURRENT));
+    }
+}
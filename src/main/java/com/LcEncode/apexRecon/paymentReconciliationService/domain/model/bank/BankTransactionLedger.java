@@ -1,9 +1,13 @@
 package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank;
 
 import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.AllocateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.DomainException;
 import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.LedgerTransitionException;
 import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.OverpaymentException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerApplyResult;
 import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -12,35 +16,79 @@ import java.util.UUID;
 public class BankTransactionLedger {
     private final UUID bankTransactionId;
     private final UUID organizationId;
-    private final BigDecimal amount;
+    private final Money amount;
     private final Instant transactionDate;
     private final String description;
-    private BigDecimal amountUnmatched;
+    private Money amountUnmatched;
     private LedgerStatus status;
+    private long version; // Versão lida do banco; o UPDATE só vale se a linha ainda estiver nela
+
+    private BankTransactionLedger(UUID bankTransactionId, UUID organizationId, Money amount, Instant transactionDate, String description, Money amountUnmatched, LedgerStatus status, long version) {
+        if (bankTransactionId == null || organizationId == null || amount == null || transactionDate == null || amountUnmatched == null || status == null) {
+            throw new DomainException("All core bank transaction ledger must be provided.");
+        }
+
+        this.bankTransactionId = bankTransactionId;
+        this.organizationId = organizationId;
+        this.amount = amount;
+        this.transactionDate = transactionDate;
+        this.description = description;
+        this.amountUnmatched = amountUnmatched;
+        this.status = status;
+        this.version = version;
+    }
+
+    public static BankTransactionLedgerBuilder builder() { return new BankTransactionLedgerBuilder(); }
 
     public void applyAllocation(BigDecimal amountToAllocate) {
-        if (amountToAllocate == null || amountToAllocate.compareTo(BigDecimal.ZERO) <= 0) {
+        if (amountToAllocate == null) {
             throw new AllocateException("The amount to be allocated must be positive");
         }
-        if (getStatus() == LedgerStatus.MATCHED) {
-            throw new LedgerTransitionException("Was not possible to allocated value from transaction ledger that has already been reconciled (MATCHED)");
-        }
 
-        var newAmountUnmatched = getAmountUnmatched().subtract(amountToAllocate);
-        if (newAmountUnmatched.compareTo(BigDecimal.ZERO) < 0) {
-            throw new OverpaymentException(String.format("""
+        applyAllocation(Money.of(amountToAllocate));
+    }
+
+    public void applyAllocation(Money amountToAllocate) {
+        var result = tryApplyAllocation(amountToAllocate);
+
+        switch (result.outcome()) {
+            case ACCEPTED -> { }
+            case INVALID_AMOUNT -> throw new AllocateException("The amount to be allocated must be positive");
+            case ILLEGAL_STATE -> throw new LedgerTransitionException("Was not possible to allocated value from transaction ledger that has already been reconciled (MATCHED)");
+            case OVERPAYMENT -> throw new OverpaymentException(String.format("""
                     Transaction Ledger: %s
                     Attempted over-allocation:
                         Not reconciled: %.2f
                         Allocated: %.2f
-                    """, getBankTransactionId(), getAmountUnmatched(), amountToAllocate));
+                    """, getBankTransactionId(), getAmountUnmatched().toBigDecimal(), amountToAllocate.toBigDecimal()));
         }
+    }
+
+    /**
+     * Mesmas regras de applyAllocation, mas a rejeição vem no resultado em vez de uma exceção.
+     * O ledger só é alterado quando o resultado é ACCEPTED.
+     */
+    public LedgerApplyResult tryApplyAllocation(Money amountToAllocate) {
+        if (amountToAllocate == null || !amountToAllocate.isPositive()) { return LedgerApplyResult.invalidAmount(); }
+        if (getStatus() == LedgerStatus.MATCHED) { return LedgerApplyResult.illegalState(); }
+
+        var newAmountUnmatched = getAmountUnmatched().minus(amountToAllocate);
+        if (newAmountUnmatched.isNegative()) { return LedgerApplyResult.overpayment(newAmountUnmatched.abs()); }
 
         setAmountUnmatched(newAmountUnmatched);
 
-        if (newAmountUnmatched.compareTo(BigDecimal.ZERO) == 0) {
+        if (newAmountUnmatched.isZero()) {
             setStatus(LedgerStatus.MATCHED);
-        } else { setStatus(LedgerStatus.PARTIALLY_PAID); }
+        } else { setStatus(LedgerStatus.PARTIALLY_MATCHED); }
+
+        return LedgerApplyResult.accepted();
+    }
+
+    /**
+     * Uma transação está aberta enquanto ainda existe valor a conciliar (UNMATCHED ou PARTIALLY_MATCHED).
+     */
+    public boolean isOpen() {
+        return getStatus() != LedgerStatus.MATCHED && getAmountUnmatched().isPositive();
     }
 
     public UUID getBankTransactionId() {
@@ -51,7 +99,7 @@ public class BankTransactionLedger {
         return organizationId;
     }
 
-    public BigDecimal getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
@@ -63,7 +111,7 @@ public class BankTransactionLedger {
         return description;
     }
 
-    public BigDecimal getAmountUnmatched() {
+    public Money getAmountUnmatched() {
         return amountUnmatched;
     }
 
@@ -71,11 +119,97 @@ public class BankTransactionLedger {
         return status;
     }
 
-    private void setAmountUnmatched(BigDecimal amountUnmatched) {
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Chamado pelo repositório depois que o UPDATE condicional (WHERE version = ?) gravou o novo estado.
+     */
+    public void markCommitted() {
+        this.version++;
+    }
+
+    private void setAmountUnmatched(Money amountUnmatched) {
         this.amountUnmatched = amountUnmatched;
     }
 
     private void setStatus(LedgerStatus status) {
         this.status = status;
     }
+
+    public static class BankTransactionLedgerBuilder {
+        private UUID bankTransactionId;
+        private UUID organizationId;
+        private Money amount;
+        private Instant transactionDate;
+        private String description;
+        private Money amountUnmatched;
+        private LedgerStatus status = LedgerStatus.UNMATCHED;
+        private long version;
+
+        public BankTransactionLedgerBuilder() {}
+
+        public BankTransactionLedgerBuilder bankTransactionId(UUID bankTransactionId) {
+            this.bankTransactionId = bankTransactionId;
+            return this;
+        }
+
+        public BankTransactionLedgerBuilder organizationId(UUID organizationId) {
+            this.organizationId = organizationId;
+            return this;
+        }
+
+        public BankTransactionLedgerBuilder amount(BigDecimal amount) {
+            this.amount = amount == null ? null : Money.of(amount);
+            return this;
+        }
+
+        public BankTransactionLedgerBuilder amount(Money amount) {
+            this.amount = amount;
+            return this;
+        }
+
+        public BankTransactionLedgerBuilder transactionDate(Instant transactionDate) {
+            this.transactionDate = transactionDate;
+            return this;
+        }
+
+        public BankTransactionLedgerBuilder description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        public BankTransactionLedgerBuilder amountUnmatched(BigDecimal amountUnmatched) {
+            this.amountUnmatched = amountUnmatched == null ? null : Money.of(amountUnmatched);
+            return this;
+        }
+
+        public BankTransactionLedgerBuilder amountUnmatched(Money amountUnmatched) {
+            this.amountUnmatched = amountUnmatched;
+            return this;
+        }
+
+        public BankTransactionLedgerBuilder status(LedgerStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        public BankTransactionLedgerBuilder version(long version) {
+            this.version = version;
+            return this;
+        }
+
+        public BankTransactionLedger build() {
+            if (bankTransactionId == null) { throw new ValidateException("Bank transaction ledger ID must be provided."); }
+            if (organizationId == null) { throw new ValidateException("Bank transaction ledger organization ID must be provided."); }
+            if (amount == null || !amount.isPositive()) { throw new ValidateException("Bank transaction ledger amount must be provided or must be greater than 0"); }
+            if (transactionDate == null) { throw new ValidateException("Bank transaction ledger transaction date must be provided."); }
+
+            if (version < 0) { throw new ValidateException("Bank transaction ledger version must not be negative."); }
+
+            var unmatched = this.amountUnmatched == null ? this.amount : this.amountUnmatched;
+            return new BankTransactionLedger(this.bankTransactionId, this.organizationId, this.amount, this.transactionDate, this.description, unmatched, this.status, this.version);
+        }
+    }
 }
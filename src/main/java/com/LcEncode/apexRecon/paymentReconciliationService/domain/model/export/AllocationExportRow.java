@@ -0,0 +1,28 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.export;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Uma linha da exportação de auditoria: a allocation com o pagamento, a fatura e a transação bancária a que
+ * pertence. Os status são os do ledger no momento da exportação.
+ */
+public record AllocationExportRow(
+        UUID allocationId,
+        Instant createdAt,
+        Money allocatedAmount,
+        UUID paymentId,
+        Instant paymentDate,
+        UUID invoiceId,
+        UUID customerId,
+        LocalDate invoiceDueDate,
+        Money invoiceTotalAmount,
+        LedgerStatus invoiceStatus,
+        UUID bankTransactionId,
+        Money bankTransactionAmount,
+        Instant bankTransactionDate
+) {}
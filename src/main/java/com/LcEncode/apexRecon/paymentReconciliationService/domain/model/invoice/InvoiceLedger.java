@@ -1,9 +1,13 @@
 package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice;
 
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.DomainException;
 import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.LedgerTransitionException;
 import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.OverpaymentException;
 import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.PaymentAmoutException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerApplyResult;
 import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -14,28 +18,75 @@ public class InvoiceLedger {
     private final UUID id;
     private final UUID organizationId;
     private final LocalDate dueDate;
-    private BigDecimal amountDue;
+    private Money amountDue;
     private LedgerStatus status;
+    private long version; // Versão lida do banco; o UPDATE só vale se a linha ainda estiver nela
+
+    private InvoiceLedger(UUID id, UUID organizationId, LocalDate dueDate, Money amountDue, LedgerStatus status, long version) {
+        if (id == null || organizationId == null || amountDue == null || status == null) {
+            throw new DomainException("All core invoice ledger must be provided.");
+        }
+
+        this.id = id;
+        this.organizationId = organizationId;
+        this.dueDate = dueDate;
+        this.amountDue = amountDue;
+        this.status = status;
+        this.version = version;
+    }
+
+    public static InvoiceLedgerBuilder builder() { return new InvoiceLedgerBuilder(); }
 
     public void applyPayment(BigDecimal amountToApply) {
-        if (amountToApply == null || amountToApply.compareTo(BigDecimal.ZERO) <= 0) { throw new PaymentAmoutException("Payment amout cannot be lower than 0 or null"); }
-        if (getStatus() == LedgerStatus.PAID) { throw new LedgerTransitionException("It´s not possible to apply payment to an already PAID invoice ledger"); }
+        if (amountToApply == null) { throw new PaymentAmoutException("Payment amout cannot be lower than 0 or null"); }
+
+        applyPayment(Money.of(amountToApply));
+    }
 
-        var newAmountDue = getAmountDue().subtract(amountToApply);
-        if (newAmountDue.compareTo(BigDecimal.ZERO) < 0) {
-            throw new OverpaymentException(String.format("""
+    public void applyPayment(Money amountToApply) {
+        var result = tryApplyPayment(amountToApply);
+
+        switch (result.outcome()) {
+            case ACCEPTED -> { }
+            case INVALID_AMOUNT -> throw new PaymentAmoutException("Payment amout cannot be lower than 0 or null");
+            case ILLEGAL_STATE -> throw new LedgerTransitionException("It´s not possible to apply payment to an already PAID invoice ledger");
+            case OVERPAYMENT -> throw new OverpaymentException(String.format("""
                     Invoice Ledger: %s
                     Overpayment Attempt:
                         Due: %.2f
                         Applied: %.2f
-                    """, getId(), getAmountDue(),amountToApply));
+                    """, getId(), getAmountDue().toBigDecimal(), amountToApply.toBigDecimal()));
         }
+    }
+
+    /**
+     * Mesmas regras de applyPayment, mas a rejeição vem no resultado em vez de uma exceção.
+     * Usado pela conciliação automática em lote; o ledger só é alterado quando o resultado é ACCEPTED.
+     */
+    public LedgerApplyResult tryApplyPayment(Money amountToApply) {
+        if (amountToApply == null || !amountToApply.isPositive()) { return LedgerApplyResult.invalidAmount(); }
+        if (getStatus() == LedgerStatus.PAID) { return LedgerApplyResult.illegalState(); }
+
+        var newAmountDue = getAmountDue().minus(amountToApply);
+        if (newAmountDue.isNegative()) { return LedgerApplyResult.overpayment(newAmountDue.abs()); }
 
         setAmountDue(newAmountDue);
 
-        if (newAmountDue.compareTo(BigDecimal.ZERO) == 0) {
+        // Pagamento parcial de uma fatura vencida a mantém OVERDUE: voltar a PARTIALLY_PAID faria a próxima varredura
+        // vencê-la de novo e publicar outro InvoiceBecameOverdue com o mesmo messageId.
+        if (newAmountDue.isZero()) {
             setStatus(LedgerStatus.PAID);
-        } else { setStatus(LedgerStatus.PARTIALLY_PAID); }
+        } else if (getStatus() != LedgerStatus.OVERDUE) { setStatus(LedgerStatus.PARTIALLY_PAID); }
+
+        return LedgerApplyResult.accepted();
+    }
+
+    /**
+     * Um invoice ledger está aberto enquanto ainda existe saldo a receber (OPEN, PARTIALLY_PAID ou OVERDUE).
+     */
+    public boolean isOpen() {
+        return (getStatus() == LedgerStatus.OPEN || getStatus() == LedgerStatus.PARTIALLY_PAID || getStatus() == LedgerStatus.OVERDUE)
+                && getAmountDue().isPositive();
     }
 
     public UUID getId() {
@@ -50,7 +101,7 @@ public class InvoiceLedger {
         return dueDate;
     }
 
-    public BigDecimal getAmountDue() {
+    public Money getAmountDue() {
         return amountDue;
     }
 
@@ -58,11 +109,78 @@ public class InvoiceLedger {
         return status;
     }
 
-    private void setAmountDue(BigDecimal amountDue) {
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Chamado pelo repositório depois que o UPDATE condicional (WHERE version = ?) gravou o novo estado.
+     */
+    public void markCommitted() {
+        this.version++;
+    }
+
+    private void setAmountDue(Money amountDue) {
         this.amountDue = amountDue;
     }
 
     private void setStatus(LedgerStatus status) {
         this.status = status;
     }
+
+    public static class InvoiceLedgerBuilder {
+        private UUID id;
+        private UUID organizationId;
+        private LocalDate dueDate;
+        private Money amountDue;
+        private LedgerStatus status = LedgerStatus.OPEN;
+        private long version;
+
+        public InvoiceLedgerBuilder() {}
+
+        public InvoiceLedgerBuilder id(UUID id) {
+            this.id = id;
+            return this;
+        }
+
+        public InvoiceLedgerBuilder organizationId(UUID organizationId) {
+            this.organizationId = organizationId;
+            return this;
+        }
+
+        public InvoiceLedgerBuilder dueDate(LocalDate dueDate) {
+            this.dueDate = dueDate;
+            return this;
+        }
+
+        public InvoiceLedgerBuilder amountDue(BigDecimal amountDue) {
+            this.amountDue = amountDue == null ? null : Money.of(amountDue);
+            return this;
+        }
+
+        public InvoiceLedgerBuilder amountDue(Money amountDue) {
+            this.amountDue = amountDue;
+            return this;
+        }
+
+        public InvoiceLedgerBuilder status(LedgerStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        public InvoiceLedgerBuilder version(long version) {
+            this.version = version;
+            return this;
+        }
+
+        public InvoiceLedger build() {
+            if (id == null) { throw new ValidateException("Invoice ledger ID must be provided."); }
+            if (organizationId == null) { throw new ValidateException("Invoice ledger organization ID must be provided."); }
+            if (amountDue == null || amountDue.isNegative()) { throw new ValidateException("Invoice ledger amount due must be provided or must be greater than or equal to 0"); }
+
+            if (version < 0) { throw new ValidateException("Invoice ledger version must not be negative."); }
+
+            return new InvoiceLedger(this.id, this.organizationId, this.dueDate, this.amountDue, this.status, this.version);
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.DomainException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Uma alteração gravada de um ledger no log append-only: quanto saiu do saldo (amountDue ou amountUnmatched) e o
+ * status resultante. sequence é a posição no stream do ledger, começando em 1 e sem buracos; dois commits a partir
+ * da mesma leitura disputam a mesma sequence e só um grava.
+ */
+public record LedgerEvent(
+        UUID ledgerId,
+        UUID organizationId,
+        LedgerType ledgerType,
+        long sequence,
+        LedgerEventType type,
+        Money amount,
+        LedgerStatus status,
+        Instant recordedAt
+) {
+    public LedgerEvent {
+        if (ledgerId == null || organizationId == null || ledgerType == null || type == null || amount == null || status == null || recordedAt == null) {
+            throw new DomainException("All core ledger event must be provided.");
+        }
+        if (sequence <= 0) { throw new DomainException("Ledger event sequence must be greater than 0."); }
+        if (amount.isNegative() || (type == LedgerEventType.STATUS_CHANGED) != amount.isZero()) {
+            throw new DomainException("Ledger event " + type + " cannot carry amount " + amount.toBigDecimal());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger;
+
+public enum LedgerEventType {
+    // amount: total aplicado ao invoice ledger no commit.
+    PAYMENT_APPLIED,
+    // amount: total alocado da transação no commit.
+    ALLOCATION_APPLIED,
+    // Só o status mudou; amount é zero.
+    STATUS_CHANGED
+}
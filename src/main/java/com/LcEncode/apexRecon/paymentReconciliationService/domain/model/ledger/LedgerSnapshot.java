@@ -0,0 +1,52 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.DomainException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Estado de um ledger logo depois do evento sequence: saldo (amountDue ou amountUnmatched) e status. O estado atual é
+ * o último snapshot mais a cauda de eventos depois dele (replay).
+ */
+public record LedgerSnapshot(
+        UUID ledgerId,
+        UUID organizationId,
+        LedgerType ledgerType,
+        long sequence,
+        Money balance,
+        LedgerStatus status
+) {
+    public LedgerSnapshot {
+        if (ledgerId == null || organizationId == null || ledgerType == null || balance == null || status == null) {
+            throw new DomainException("All core ledger snapshot must be provided.");
+        }
+        if (sequence < 0 || balance.isNegative()) { throw new DomainException("Ledger snapshot sequence and balance must not be negative."); }
+    }
+
+    /**
+     * Aplica a cauda em ordem; o status de cada evento entra por LedgerStatus.then. Cada evento precisa ser o seguinte
+     * ao anterior: um buraco ou um evento de outro ledger indica cauda incompleta e lança DomainException em vez de
+     * devolver um saldo errado.
+     */
+    public LedgerSnapshot replay(List<LedgerEvent> tail) {
+        if (tail.isEmpty()) { return this; }
+
+        var minorUnits = balance.minorUnits();
+        var folded = status;
+        var expected = sequence + 1;
+        var last = tail.getLast();
+        for (var event : tail) {
+            if (event.sequence() != expected++ || !event.ledgerId().equals(ledgerId)) {
+                throw new DomainException("Ledger " + ledgerId + " expected event " + (expected - 1) + " but got " + event.sequence() + " of " + event.ledgerId());
+            }
+            minorUnits -= event.amount().minorUnits();
+            folded = folded.then(event.status());
+        }
+        if (minorUnits < 0) { throw new DomainException("Ledger " + ledgerId + " balance would be negative after event " + last.sequence()); }
+
+        return new LedgerSnapshot(ledgerId, organizationId, ledgerType, last.sequence(), Money.ofMinor(minorUnits), folded);
+    }
+}
@@ -0,0 +1,6 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger;
+
+public enum LedgerType {
+    INVOICE,
+    BANK_TRANSACTION
+}
@@ -1,10 +1,15 @@
 package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment;
 
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.AllocateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.DomainException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
 import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.ReconciliationAllocation;
+import com.LcEncode.apexRecon.shared.domain.identifier.Ids;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,10 +17,22 @@ public class Payment {
     private final UUID paymentId;
     private final UUID organizationId;
     private final Instant paymentDate;
-    private final BigDecimal totalAmount;
+    private final Money totalAmount;
     private final List<ReconciliationAllocation> allocations = new ArrayList<>();
 
+    private Payment(UUID paymentId, UUID organizationId, Instant paymentDate, Money totalAmount, List<ReconciliationAllocation> allocations) {
+        if (paymentId == null || organizationId == null || paymentDate == null || totalAmount == null || allocations.isEmpty()) {
+            throw new DomainException("All core payment must be provided.");
+        }
 
+        this.paymentId = paymentId;
+        this.organizationId = organizationId;
+        this.paymentDate = paymentDate;
+        this.totalAmount = totalAmount;
+        this.allocations.addAll(allocations);
+    }
+
+    public static PaymentBuilder builder() { return new PaymentBuilder(); }
 
     public UUID getPaymentId() {
         return paymentId;
@@ -29,11 +46,66 @@ public class Payment {
         return paymentDate;
     }
 
-    public BigDecimal getTotalAmount() {
+    public Money getTotalAmount() {
         return totalAmount;
     }
 
     public List<ReconciliationAllocation> getAllocations() {
-        return allocations;
+        return Collections.unmodifiableList(allocations);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("""
+                Payment ID: %s
+                Organization ID: %s
+                Payment Date: %s
+                Total Amount: %.2f
+                Allocations: %d
+                """, getPaymentId(), getOrganizationId(), getPaymentDate(), getTotalAmount().toBigDecimal(), getAllocations().size());
+    }
+
+    public static class PaymentBuilder {
+        private UUID organizationId;
+        private Instant paymentDate;
+        private final List<AllocationLine> lines = new ArrayList<>();
+
+        private record AllocationLine(UUID invoiceId, UUID bankTransactionId, Money amount) {}
+
+        public PaymentBuilder() {}
+
+        public PaymentBuilder organizationId(UUID organizationId) {
+            this.organizationId = organizationId;
+            return this;
+        }
+
+        public PaymentBuilder paymentDate(Instant paymentDate) {
+            this.paymentDate = paymentDate;
+            return this;
+        }
+
+        public PaymentBuilder allocation(UUID invoiceId, UUID bankTransactionId, Money amount) {
+            if (invoiceId == null || bankTransactionId == null) { throw new AllocateException("Allocation invoice and bank transaction must be provided"); }
+            if (amount == null || !amount.isPositive()) { throw new AllocateException("The amount to be allocated must be positive"); }
+
+            this.lines.add(new AllocationLine(invoiceId, bankTransactionId, amount));
+            return this;
+        }
+
+        public Payment build() {
+            if (organizationId == null) { throw new ValidateException("Payment organization ID must be provided."); }
+            if (paymentDate == null) { throw new ValidateException("Payment date must be provided."); }
+            if (lines.isEmpty()) { throw new ValidateException("A payment must be have at least one allocation."); }
+
+            var paymentId = Ids.next();
+            var allocations = new ArrayList<ReconciliationAllocation>(lines.size());
+            var totalAmount = Money.ZERO;
+            for (var line : lines) {
+                allocations.add(new ReconciliationAllocation(paymentId, line.invoiceId(), line.bankTransactionId(), line.amount()));
+                totalAmount = totalAmount.plus(line.amount());
+            }
+
+            return new Payment(paymentId, this.organizationId, this.paymentDate, totalAmount, allocations);
+        }
     }
 }
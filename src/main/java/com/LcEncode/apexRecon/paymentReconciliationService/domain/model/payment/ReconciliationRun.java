@@ -0,0 +1,112 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.DomainException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerEvent;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerEventType;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerType;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado de uma execução de conciliação de uma organização: os Payments gerados e o estado final dos ledgers
+ * alterados por eles. É persistido de forma atômica: ou tudo é gravado, ou nada.
+ * consideredBankTransactions: transações em aberto que o planner avaliou, conciliadas ou não (base da taxa de match);
+ * nunca menor que as alteradas pela run.
+ */
+public record ReconciliationRun(
+        UUID organizationId,
+        List<Payment> payments,
+        List<InvoiceLedger> invoices,
+        List<BankTransactionLedger> bankTransactions,
+        int consideredBankTransactions
+) {
+    public ReconciliationRun {
+        if (organizationId == null || payments == null || invoices == null || bankTransactions == null) {
+            throw new DomainException("All core reconciliation run must be provided.");
+        }
+        if (consideredBankTransactions < bankTransactions.size()) {
+            throw new DomainException("A reconciliation run cannot change more bank transactions than it considered.");
+        }
+        if (payments.stream().anyMatch(payment -> !organizationId.equals(payment.getOrganizationId()))
+                || invoices.stream().anyMatch(invoice -> !organizationId.equals(invoice.getOrganizationId()))
+                || bankTransactions.stream().anyMatch(transaction -> !organizationId.equals(transaction.getOrganizationId()))) {
+            throw new DomainException("A reconciliation run must contain only items from organization " + organizationId);
+        }
+
+        payments = List.copyOf(payments);
+        invoices = List.copyOf(invoices);
+        bankTransactions = List.copyOf(bankTransactions);
+    }
+
+    /**
+     * Run sem a contagem do planner: considera só as transações que ela alterou.
+     */
+    public ReconciliationRun(UUID organizationId, List<Payment> payments, List<InvoiceLedger> invoices, List<BankTransactionLedger> bankTransactions) {
+        this(organizationId, payments, invoices, bankTransactions, bankTransactions == null ? 0 : bankTransactions.size());
+    }
+
+    public int allocationCount() {
+        return payments.stream().mapToInt(payment -> payment.getAllocations().size()).sum();
+    }
+
+    /**
+     * Fração das transações avaliadas que recebeu alguma alocação nesta run.
+     */
+    public double matchRate() {
+        return consideredBankTransactions == 0 ? 0 : (double) bankTransactions.size() / consideredBankTransactions;
+    }
+
+    /**
+     * Das transações alocadas, a fração conciliada por completo (MATCHED); as PARTIALLY_MATCHED ficam com saldo para
+     * tratamento manual.
+     */
+    public double autoMatchRatio() {
+        if (bankTransactions.isEmpty()) { return 0; }
+
+        var matched = 0;
+        for (var transaction : bankTransactions) {
+            if (transaction.getStatus() == LedgerStatus.MATCHED) { matched++; }
+        }
+        return (double) matched / bankTransactions.size();
+    }
+
+    /**
+     * Um evento por ledger alterado, com o total que a run aplicou a ele e o status final; sequence é a versão lida
+     * mais um. Um ledger sem valor aplicado na run gera STATUS_CHANGED.
+     */
+    public List<LedgerEvent> ledgerEvents(Instant recordedAt) {
+        var paid = new HashMap<UUID, Money>();
+        var allocated = new HashMap<UUID, Money>();
+        for (var payment : payments) {
+            for (var allocation : payment.getAllocations()) {
+                paid.merge(allocation.invoiceId(), allocation.amount(), Money::plus);
+                allocated.merge(allocation.bankTransactionId(), allocation.amount(), Money::plus);
+            }
+        }
+
+        var events = new ArrayList<LedgerEvent>(invoices.size() + bankTransactions.size());
+        for (var invoice : invoices) {
+            var amount = paid.getOrDefault(invoice.getId(), Money.ZERO);
+            events.add(new LedgerEvent(invoice.getId(), organizationId, LedgerType.INVOICE, invoice.getVersion() + 1,
+                    amount.isZero() ? LedgerEventType.STATUS_CHANGED : LedgerEventType.PAYMENT_APPLIED, amount, invoice.getStatus(), recordedAt));
+        }
+        for (var transaction : bankTransactions) {
+            var amount = allocated.getOrDefault(transaction.getBankTransactionId(), Money.ZERO);
+            events.add(new LedgerEvent(transaction.getBankTransactionId(), organizationId, LedgerType.BANK_TRANSACTION, transaction.getVersion() + 1,
+                    amount.isZero() ? LedgerEventType.STATUS_CHANGED : LedgerEventType.ALLOCATION_APPLIED, amount, transaction.getStatus(), recordedAt));
+        }
+        return events;
+    }
+
+    public boolean isEmpty() {
+        return payments.isEmpty() && invoices.isEmpty() && bankTransactions.isEmpty();
+    }
+}
@@ -0,0 +1,44 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject;
+
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+/**
+ * Resultado de applyPayment/applyAllocation sem exceção, para a conciliação automática em lote, onde a maioria das
+ * tentativas é rejeitada. Os resultados sem valor são instâncias únicas; apenas OVERPAYMENT carrega o excedente.
+ * excess: quanto do valor informado ultrapassou o saldo em aberto.
+ */
+public record LedgerApplyResult(
+        Outcome outcome,
+        Money excess
+) {
+    public enum Outcome {
+        ACCEPTED,
+        INVALID_AMOUNT,
+        OVERPAYMENT,
+        ILLEGAL_STATE
+    }
+
+    private static final LedgerApplyResult ACCEPTED = new LedgerApplyResult(Outcome.ACCEPTED, Money.ZERO);
+    private static final LedgerApplyResult INVALID_AMOUNT = new LedgerApplyResult(Outcome.INVALID_AMOUNT, Money.ZERO);
+    private static final LedgerApplyResult ILLEGAL_STATE = new LedgerApplyResult(Outcome.ILLEGAL_STATE, Money.ZERO);
+
+    public static LedgerApplyResult accepted() {
+        return ACCEPTED;
+    }
+
+    public static LedgerApplyResult invalidAmount() {
+        return INVALID_AMOUNT;
+    }
+
+    public static LedgerApplyResult illegalState() {
+        return ILLEGAL_STATE;
+    }
+
+    public static LedgerApplyResult overpayment(Money excess) {
+        return new LedgerApplyResult(Outcome.OVERPAYMENT, excess);
+    }
+
+    public boolean isAccepted() {
+        return outcome == Outcome.ACCEPTED;
+    }
+}
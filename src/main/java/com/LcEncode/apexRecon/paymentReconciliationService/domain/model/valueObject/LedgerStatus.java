@@ -3,9 +3,19 @@ package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueOb
 public enum LedgerStatus {
     OPEN,
     PARTIALLY_PAID,
+    // Vencida e ainda com saldo; marcada pelo OverdueSweeper. Segue aceitando pagamentos.
+    OVERDUE,
     PAID,
 
     UNMATCHED,
     PARTIALLY_MATCHED,
-    MATCHED
+    MATCHED;
+
+    /**
+     * Status do ledger depois de um evento gravado com status event. OVERDUE fica só na linha (o OverdueSweeper não
+     * grava evento), então um evento calculado antes da varredura não o desfaz; só a quitação (PAID) o substitui.
+     */
+    public LedgerStatus then(LedgerStatus event) {
+        return this == OVERDUE && event != PAID ? OVERDUE : event;
+    }
 }
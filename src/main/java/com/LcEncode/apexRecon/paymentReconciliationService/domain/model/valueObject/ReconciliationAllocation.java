@@ -1,6 +1,8 @@
 package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject;
 
-import java.math.BigDecimal;
+import com.LcEncode.apexRecon.shared.domain.identifier.Ids;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
 import java.util.UUID;
 
 public record ReconciliationAllocation(
@@ -8,12 +10,12 @@ public record ReconciliationAllocation(
         UUID paymentId,
         UUID invoiceId,
         UUID bankTransactionId,
-        BigDecimal amount
+        Money amount
 ) {
     public ReconciliationAllocation(UUID paymentId,
                                     UUID invoiceId,
                                     UUID bankTransactionId,
-                                    BigDecimal amount) {
-        this(UUID.randomUUID(), paymentId, invoiceId, bankTransactionId, amount);
+                                    Money amount) {
+        this(Ids.next(), paymentId, invoiceId, bankTransactionId, amount);
     }
 }
@@ -0,0 +1,16 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.repository;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.export.AllocationExportRow;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface AllocationExportRepository {
+
+    /**
+     * Entrega ao sink, uma a uma e em ordem de allocationId, as allocations da organização depois de
+     * afterAllocationId (null: desde a primeira). Nenhuma linha é retida depois de entregue; uma exceção do sink
+     * interrompe a leitura. Retorna quantas linhas foram entregues.
+     */
+    long forEach(UUID organizationId, UUID afterAllocationId, Consumer<AllocationExportRow> sink);
+}
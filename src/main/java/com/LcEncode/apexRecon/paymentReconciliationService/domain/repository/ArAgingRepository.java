@@ -0,0 +1,65 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.repository;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.aging.AgingBalance;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface ArAgingRepository {
+
+    /**
+     * Fotografia consistente de uma organização: o que está gravado na projeção e o que sai de invoices_ledger
+     * agora, as duas na mesma data de referência.
+     */
+    record Snapshot(LocalDate asOf, List<AgingBalance> stored, List<AgingBalance> computed) {}
+
+    /**
+     * Data de referência da organização; a do calendário enquanto ela não tem linha própria.
+     */
+    LocalDate asOf(UUID organizationId);
+
+    /**
+     * Data até onde o roll-over já avançou todas as organizações; é a data inicial de uma organização nova.
+     */
+    LocalDate calendar();
+
+    /**
+     * Faixas gravadas de um cliente; customerId = AgingBalance.ORGANIZATION_TOTAL lê o total da organização.
+     */
+    List<AgingBalance> find(UUID organizationId, UUID customerId);
+
+    Snapshot snapshot(UUID organizationId);
+
+    /**
+     * Recalcula a organização a partir de invoices_ledger e substitui o que está gravado, em uma transação.
+     */
+    void rebuild(UUID organizationId);
+
+    /**
+     * Avança a data de referência da organização em um dia (asOf + 1 = day), movendo para a faixa seguinte só as
+     * faturas dela que cruzam um limite nesse dia. Uma transação por organização.
+     */
+    void rollOver(UUID organizationId, LocalDate day);
+
+    /**
+     * Registra que todas as organizações já chegaram a day; nunca volta o calendário.
+     */
+    void advanceCalendar(LocalDate day);
+
+    /**
+     * Organizações com faturas no ledger ou com saldo na projeção.
+     */
+    List<UUID> organizations();
+
+    /**
+     * Trava a data de referência (FOR SHARE) na transação corrente, antes de ela tocar invoices_ledger, e a devolve.
+     */
+    LocalDate lockAsOf(UUID organizationId);
+
+    /**
+     * Soma à projeção faturas que a transação corrente acabou de inserir em invoices_ledger, agrupadas por cliente e
+     * faixa em relação a asOf (o valor devolvido por lockAsOf).
+     */
+    void applyNewInvoices(UUID organizationId, LocalDate asOf, List<UUID> invoiceIds);
+}
@@ -0,0 +1,20 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.repository;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface BankTransactionLedgerRepository {
+
+    /**
+     * Organização dona da conexão bancária de onde a transação veio; vazio para uma conexão desconhecida.
+     */
+    Optional<UUID> findOrganizationByConnection(UUID connectionId);
+
+    /**
+     * Grava o ledger de uma transação recém-ingerida. false se ele já existe (mensagem reentregue): o ledger gravado
+     * antes fica como está.
+     */
+    boolean insertIfAbsent(BankTransactionLedger transaction);
+}
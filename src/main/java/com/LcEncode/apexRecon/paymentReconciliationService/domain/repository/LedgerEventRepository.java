@@ -0,0 +1,52 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.repository;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerEvent;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerSnapshot;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface LedgerEventRepository {
+
+    /**
+     * Resultado de um passo do projetor: eventos aplicados (em reproject, positions encontradas), positions sem evento
+     * e ledgers cujas linhas não puderam ser alcançadas (ficam para o próximo evento ou a próxima releitura).
+     */
+    record ProjectionResult(int events, List<Long> gaps, List<UUID> stuckLedgers) {
+        public static final ProjectionResult EMPTY = new ProjectionResult(0, List.of(), List.of());
+    }
+
+    /**
+     * Acrescenta os eventos e os snapshots na transação do chamador, só com INSERTs. Se outro commit já gravou a
+     * mesma (ledger, sequence), nada é gravado e a chamada lança ConcurrentLedgerUpdateException.
+     */
+    void append(UUID organizationId, List<LedgerEvent> events, List<LedgerSnapshot> snapshots);
+
+    /**
+     * Snapshot de maior sequence do ledger.
+     */
+    Optional<LedgerSnapshot> latestSnapshot(UUID ledgerId);
+
+    /**
+     * Eventos do ledger com sequence maior que afterSequence, em ordem.
+     */
+    List<LedgerEvent> events(UUID ledgerId, long afterSequence);
+
+    /**
+     * Em uma transação: aplica às linhas de invoices_ledger e bank_transactions_ledger os próximos limit eventos
+     * gravados antes de settledBefore, com um UPDATE por ledger (os eventos do mesmo ledger no lote se somam), e
+     * avança o checkpoint. Uma linha atrás do lote (evento que commitou depois que o checkpoint passou por ele) é
+     * alcançada a partir de ledger_events; a que não pode ser alcançada fica em stuckLedgers, sem desfazer o lote.
+     * gaps são as positions puladas até o checkpoint, que podem ser de INSERTs ainda não commitados.
+     */
+    ProjectionResult project(int limit, Instant settledBefore);
+
+    /**
+     * Relê as positions (gaps de um project anterior) e alcança as linhas dos ledgers dos eventos encontrados. gaps
+     * do resultado são as que continuam sem evento.
+     */
+    ProjectionResult reproject(Collection<Long> positions);
+}
@@ -0,0 +1,20 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.repository;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface OpenLedgerRepository {
+
+    /**
+     * Invoice ledgers da organização em OPEN, PARTIALLY_PAID ou OVERDUE, com a versão atual.
+     */
+    List<InvoiceLedger> findOpenInvoices(UUID organizationId);
+
+    /**
+     * Bank transaction ledgers da organização em UNMATCHED ou PARTIALLY_MATCHED, com a versão atual.
+     */
+    List<BankTransactionLedger> findOpenBankTransactions(UUID organizationId);
+}
@@ -0,0 +1,13 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.repository;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+
+public interface ReconciliationRunRepository {
+
+    /**
+     * Grava Payments, ReconciliationAllocations e o novo saldo/status dos ledgers em uma única transação.
+     * Cada ledger só é gravado se ainda estiver na versão lida; caso contrário nada é gravado e a chamada lança
+     * ConcurrentLedgerUpdateException. Em sucesso, a versão em memória dos ledgers avança.
+     */
+    void commit(ReconciliationRun run);
+}
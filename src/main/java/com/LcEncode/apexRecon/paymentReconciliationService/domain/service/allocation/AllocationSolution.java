@@ -0,0 +1,18 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.Payment;
+
+import java.util.Optional;
+
+public record AllocationSolution(
+        Payment payment,
+        SolverStats stats
+) {
+    public boolean isSolved() {
+        return stats.outcome() == SolverOutcome.SOLVED;
+    }
+
+    public Optional<Payment> asPayment() {
+        return Optional.ofNullable(payment);
+    }
+}
@@ -0,0 +1,133 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.Payment;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.LedgerMatchingEngine;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.MatchTolerance;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Resolve alocações muitos-para-muitos: um crédito quitando várias faturas ou vários créditos quitando uma fatura.
+ * A busca trabalha direto sobre as unidades mínimas do Money (escala DECIMAL(19,4) das migrations), e cada
+ * chamada respeita o SolverBudget, de forma que o custo por item é previsível e reportado em SolverStats (também
+ * entregue ao SolverListener).
+ */
+public class AllocationSolver {
+    private final SolverBudget budget;
+    private final ZoneId zoneId;
+    private final SolverListener listener;
+
+    public AllocationSolver() {
+        this(SolverBudget.defaults(), LedgerMatchingEngine.DEFAULT_ZONE);
+    }
+
+    public AllocationSolver(SolverBudget budget, ZoneId zoneId) {
+        this(budget, zoneId, SolverListener.NOOP);
+    }
+
+    public AllocationSolver(SolverBudget budget, ZoneId zoneId, SolverListener listener) {
+        if (budget == null) { throw new ValidateException("Solver budget must be provided."); }
+        if (zoneId == null) { throw new ValidateException("Solver zone must be provided."); }
+        if (listener == null) { throw new ValidateException("Solver listener must be provided."); }
+
+        this.budget = budget;
+        this.zoneId = zoneId;
+        this.listener = listener;
+    }
+
+    /**
+     * Subconjunto das faturas cujo amountDue soma o amountUnmatched do crédito dentro da tolerância.
+     * Quando o crédito veio a menor, a última fatura recebe apenas o restante e fica PARTIALLY_PAID.
+     */
+    public AllocationSolution solveForTransaction(BankTransactionLedger transaction, List<InvoiceLedger> invoices, MatchTolerance tolerance) {
+        var reference = LocalDate.ofInstant(transaction.getTransactionDate(), zoneId);
+        var candidates = invoices.stream()
+                .filter(InvoiceLedger::isOpen)
+                .filter(invoice -> invoice.getOrganizationId().equals(transaction.getOrganizationId()))
+                .filter(invoice -> !invoice.getAmountDue().isGreaterThan(transaction.getAmountUnmatched().plus(tolerance.shortfall())))
+                .sorted(Comparator.comparingLong(invoice -> distanceDays(invoice.getDueDate(), reference)))
+                .limit(budget.maxCandidates())
+                .toList();
+
+        var credit = transaction.getAmountUnmatched();
+        var result = search(candidates, InvoiceLedger::getAmountDue,
+                credit.minus(tolerance.excess()), credit.plus(tolerance.shortfall()), credit);
+        var stats = new SolverStats(result.outcome(), candidates.size(), result.nodesVisited(), result.elapsedNanos());
+        listener.searched(stats);
+        if (result.outcome() != SolverOutcome.SOLVED) { return new AllocationSolution(null, stats); }
+
+        var builder = Payment.builder()
+                .organizationId(transaction.getOrganizationId())
+                .paymentDate(transaction.getTransactionDate());
+        var remaining = credit;
+        for (int index : result.chosen()) {
+            if (remaining.signum() <= 0) { break; }
+            var invoice = candidates.get(index);
+            var amount = remaining.min(invoice.getAmountDue());
+            builder.allocation(invoice.getId(), transaction.getBankTransactionId(), amount);
+            remaining = remaining.minus(amount);
+        }
+        return new AllocationSolution(builder.build(), stats);
+    }
+
+    /**
+     * Caminho inverso: subconjunto dos créditos cujo amountUnmatched soma o amountDue da fatura (pagamento dividido).
+     * Quando os créditos excedem o devido, o último crédito é alocado parcialmente e fica PARTIALLY_MATCHED.
+     */
+    public AllocationSolution solveForInvoice(InvoiceLedger invoice, List<BankTransactionLedger> transactions, MatchTolerance tolerance) {
+        var reference = invoice.getDueDate() == null ? LocalDate.now(zoneId) : invoice.getDueDate();
+        var candidates = transactions.stream()
+                .filter(BankTransactionLedger::isOpen)
+                .filter(transaction -> transaction.getOrganizationId().equals(invoice.getOrganizationId()))
+                .filter(transaction -> !transaction.getAmountUnmatched().isGreaterThan(invoice.getAmountDue().plus(tolerance.excess())))
+                .sorted(Comparator.comparingLong(transaction -> distanceDays(LocalDate.ofInstant(transaction.getTransactionDate(), zoneId), reference)))
+                .limit(budget.maxCandidates())
+                .toList();
+
+        var due = invoice.getAmountDue();
+        var result = search(candidates, BankTransactionLedger::getAmountUnmatched,
+                due.minus(tolerance.shortfall()), due.plus(tolerance.excess()), due);
+        var stats = new SolverStats(result.outcome(), candidates.size(), result.nodesVisited(), result.elapsedNanos());
+        listener.searched(stats);
+        if (result.outcome() != SolverOutcome.SOLVED) { return new AllocationSolution(null, stats); }
+
+        Instant paymentDate = null;
+        var builder = Payment.builder().organizationId(invoice.getOrganizationId());
+        var remaining = due;
+        for (int index : result.chosen()) {
+            if (remaining.signum() <= 0) { break; }
+            var transaction = candidates.get(index);
+            var amount = remaining.min(transaction.getAmountUnmatched());
+            builder.allocation(invoice.getId(), transaction.getBankTransactionId(), amount);
+            remaining = remaining.minus(amount);
+            if (paymentDate == null || transaction.getTransactionDate().isAfter(paymentDate)) { paymentDate = transaction.getTransactionDate(); }
+        }
+        return new AllocationSolution(builder.paymentDate(paymentDate).build(), stats);
+    }
+
+    public SolverBudget getBudget() {
+        return budget;
+    }
+
+    private <T> SubsetSumSearch.Result search(List<T> candidates, Function<T, Money> amountOf, Money min, Money max, Money target) {
+        long[] amounts = new long[candidates.size()];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = amountOf.apply(candidates.get(i)).minorUnits();
+        }
+        return SubsetSumSearch.search(amounts, min.minorUnits(), max.minorUnits(), target.minorUnits(), budget);
+    }
+
+    private static long distanceDays(LocalDate date, LocalDate reference) {
+        return date == null ? Long.MAX_VALUE : Math.abs(ChronoUnit.DAYS.between(reference, date));
+    }
+}
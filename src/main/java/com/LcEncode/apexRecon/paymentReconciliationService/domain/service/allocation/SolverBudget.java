@@ -0,0 +1,24 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+
+import java.time.Duration;
+
+/**
+ * Limites rígidos de uma busca: número de candidatos considerados, nós visitados e tempo de parede por item.
+ */
+public record SolverBudget(
+        int maxCandidates,
+        long maxNodes,
+        Duration maxTime
+) {
+    public SolverBudget {
+        if (maxCandidates <= 0 || maxCandidates > 62) { throw new ValidateException("Solver max candidates must be between 1 and 62"); }
+        if (maxNodes <= 0) { throw new ValidateException("Solver max nodes must be greater than 0"); }
+        if (maxTime == null || maxTime.isNegative() || maxTime.isZero()) { throw new ValidateException("Solver max time must be provided or must be greater than 0"); }
+    }
+
+    public static SolverBudget defaults() {
+        return new SolverBudget(24, 1_000_000, Duration.ofMillis(10));
+    }
+}
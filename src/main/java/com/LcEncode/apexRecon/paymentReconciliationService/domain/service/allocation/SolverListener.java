@@ -0,0 +1,12 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation;
+
+/**
+ * Avisado ao fim de cada busca do AllocationSolver com o SolverStats dela (exportação de métricas). Chamado na
+ * thread da conciliação: a implementação não deve bloquear.
+ */
+@FunctionalInterface
+public interface SolverListener {
+    SolverListener NOOP = stats -> {};
+
+    void searched(SolverStats stats);
+}
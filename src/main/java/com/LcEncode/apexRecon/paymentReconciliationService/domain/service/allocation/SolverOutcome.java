@@ -0,0 +1,7 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation;
+
+public enum SolverOutcome {
+    SOLVED,
+    NO_SOLUTION,
+    BUDGET_EXHAUSTED
+}
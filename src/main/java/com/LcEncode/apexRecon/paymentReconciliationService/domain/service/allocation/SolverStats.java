@@ -0,0 +1,11 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation;
+
+/**
+ * Custo de uma busca, exposto para métricas: quantos candidatos entraram, quantos nós foram visitados e quanto tempo levou.
+ */
+public record SolverStats(
+        SolverOutcome outcome,
+        int candidateCount,
+        long nodesVisited,
+        long elapsedNanos
+) {}
@@ -0,0 +1,173 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation;
+
+import java.util.Arrays;
+
+/**
+ * Busca de subconjunto cuja soma caia em [min, max], preferindo a soma mais próxima de target e, em empate, menos itens.
+ * Trabalha em unidades mínimas inteiras (long), nunca em BigDecimal.
+ * Usa meet-in-the-middle quando as duas metades cabem no orçamento de nós; caso contrário, cai para uma busca em
+ * profundidade com poda, que para ao esgotar nós ou tempo e devolve a melhor solução encontrada até ali.
+ */
+final class SubsetSumSearch {
+    private static final int MAX_HALF_BITS = 20;
+    private static final int DEADLINE_CHECK_MASK = 0xFFF;
+
+    record Result(int[] chosen, long sum, SolverOutcome outcome, long nodesVisited, long elapsedNanos) {}
+
+    private final long[] amounts;
+    private final long min;
+    private final long max;
+    private final long target;
+    private final long maxNodes;
+    private final long startedAt;
+    private final long deadline;
+
+    private long nodes;
+    private boolean exhausted;
+    private long bestMask = -1;
+    private long bestSum;
+
+    private SubsetSumSearch(long[] amounts, long min, long max, long target, SolverBudget budget) {
+        this.amounts = amounts;
+        this.min = Math.max(1, min);
+        this.max = max;
+        this.target = target;
+        this.maxNodes = budget.maxNodes();
+        this.startedAt = System.nanoTime();
+        this.deadline = startedAt + budget.maxTime().toNanos();
+    }
+
+    static Result search(long[] amounts, long min, long max, long target, SolverBudget budget) {
+        var search = new SubsetSumSearch(amounts, min, max, target, budget);
+        search.run();
+        return search.result();
+    }
+
+    private void run() {
+        if (amounts.length == 0 || min > max) { return; }
+
+        int leftBits = amounts.length / 2;
+        int rightBits = amounts.length - leftBits;
+        long enumerationCost = (1L << leftBits) + (1L << rightBits);
+        if (rightBits <= MAX_HALF_BITS && enumerationCost <= maxNodes && fitsPacked(leftBits, rightBits)) {
+            meetInTheMiddle(leftBits, rightBits);
+        } else {
+            depthFirst();
+        }
+    }
+
+    private boolean fitsPacked(int leftBits, int rightBits) {
+        long rightTotal = 0;
+        for (int i = leftBits; i < amounts.length; i++) {
+            rightTotal += amounts[i];
+        }
+        return rightTotal < (1L << (62 - rightBits));
+    }
+
+    private void meetInTheMiddle(int leftBits, int rightBits) {
+        // Somas da metade direita empacotadas como (soma << rightBits | máscara) para ordenar sem objetos.
+        int rightSize = 1 << rightBits;
+        long[] rightSums = new long[rightSize];
+        long[] packed = new long[rightSize];
+        for (int mask = 1; mask < rightSize; mask++) {
+            if (!tick()) { return; }
+            int low = Integer.numberOfTrailingZeros(mask);
+            rightSums[mask] = rightSums[mask & (mask - 1)] + amounts[leftBits + low];
+            packed[mask] = (rightSums[mask] << rightBits) | mask;
+        }
+        Arrays.sort(packed);
+
+        int leftSize = 1 << leftBits;
+        long[] leftSums = new long[leftSize];
+        long rightMaskBits = rightSize - 1L;
+        long maxPackable = (1L << (62 - rightBits)) - 1;
+        for (int mask = 0; mask < leftSize; mask++) {
+            if (!tick()) { return; }
+            if (mask > 0) {
+                int low = Integer.numberOfTrailingZeros(mask);
+                leftSums[mask] = leftSums[mask & (mask - 1)] + amounts[low];
+            }
+
+            long leftSum = leftSums[mask];
+            if (leftSum > max) { continue; }
+
+            long ideal = Math.min(Math.max(0, target - leftSum), maxPackable);
+            int at = Arrays.binarySearch(packed, ideal << rightBits);
+            int insertion = at >= 0 ? at : -at - 1;
+            for (int i = Math.max(0, insertion - 1); i <= Math.min(rightSize - 1, insertion); i++) {
+                long rightSum = packed[i] >>> rightBits;
+                long rightMask = packed[i] & rightMaskBits;
+                offer(((long) mask) | (rightMask << leftBits), leftSum + rightSum);
+            }
+        }
+    }
+
+    private void depthFirst() {
+        // Ordem decrescente de valor: as podas por soma excedida e por restante insuficiente ficam mais fortes.
+        Integer[] order = new Integer[amounts.length];
+        for (int i = 0; i < order.length; i++) { order[i] = i; }
+        Arrays.sort(order, (a, b) -> Long.compare(amounts[b], amounts[a]));
+
+        long[] sorted = new long[amounts.length];
+        long[] suffix = new long[amounts.length + 1];
+        for (int i = 0; i < order.length; i++) { sorted[i] = amounts[order[i]]; }
+        for (int i = sorted.length - 1; i >= 0; i--) { suffix[i] = suffix[i + 1] + sorted[i]; }
+
+        dfs(sorted, suffix, order, 0, 0L, 0L);
+    }
+
+    private boolean dfs(long[] sorted, long[] suffix, Integer[] order, int index, long sum, long mask) {
+        if (!tick()) { return false; }
+        if (sum >= min && sum <= max) {
+            offer(mask, sum);
+            if (sum == target) { return false; }
+        }
+        if (index == sorted.length || sum + suffix[index] < min) { return true; }
+
+        long withItem = sum + sorted[index];
+        if (withItem <= max && !dfs(sorted, suffix, order, index + 1, withItem, mask | (1L << order[index]))) {
+            return false;
+        }
+        return dfs(sorted, suffix, order, index + 1, sum, mask);
+    }
+
+    private void offer(long mask, long sum) {
+        if (mask == 0 || sum < min || sum > max) { return; }
+        if (bestMask < 0) {
+            bestMask = mask;
+            bestSum = sum;
+            return;
+        }
+
+        long distance = Math.abs(sum - target);
+        long bestDistance = Math.abs(bestSum - target);
+        if (distance < bestDistance || (distance == bestDistance && Long.bitCount(mask) < Long.bitCount(bestMask))) {
+            bestMask = mask;
+            bestSum = sum;
+        }
+    }
+
+    private boolean tick() {
+        nodes++;
+        if (nodes > maxNodes || ((nodes & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() > deadline)) {
+            exhausted = true;
+            return false;
+        }
+        return true;
+    }
+
+    private Result result() {
+        long elapsed = System.nanoTime() - startedAt;
+        if (bestMask < 0) {
+            return new Result(new int[0], 0, exhausted ? SolverOutcome.BUDGET_EXHAUSTED : SolverOutcome.NO_SOLUTION, nodes, elapsed);
+        }
+
+        int[] chosen = new int[Long.bitCount(bestMask)];
+        long remaining = bestMask;
+        for (int i = 0; i < chosen.length; i++) {
+            chosen[i] = Long.numberOfTrailingZeros(remaining);
+            remaining &= remaining - 1;
+        }
+        return new Result(chosen, bestSum, SolverOutcome.SOLVED, nodes, elapsed);
+    }
+}
@@ -0,0 +1,136 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching;
+
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Índice ordenado por valor e, dentro de cada valor, por data.
+ * Uma consulta custa O(log n) para localizar a faixa de valores mais O(limit) por valor distinto visitado,
+ * independente de quantos itens em aberto a organização possui.
+ * Não é thread-safe: o acesso é serializado pelo OrganizationMatchBook.
+ */
+final class AmountDateIndex<T> {
+    private static final LocalDate UNDATED = LocalDate.MAX;
+
+    private final NavigableMap<Money, NavigableMap<LocalDate, Map<UUID, T>>> byAmount = new TreeMap<>();
+    private final Map<UUID, Position> positions = new HashMap<>();
+
+    private record Position(Money amount, LocalDate date) {}
+
+    record Hit<T>(T item, Money amount, long distanceDays) {}
+
+    void put(UUID id, Money amount, LocalDate date, T item) {
+        remove(id);
+
+        var key = date == null ? UNDATED : date;
+        byAmount.computeIfAbsent(amount, k -> new TreeMap<>())
+                .computeIfAbsent(key, k -> new LinkedHashMap<>())
+                .put(id, item);
+        positions.put(id, new Position(amount, key));
+    }
+
+    boolean remove(UUID id) {
+        var position = positions.remove(id);
+        if (position == null) { return false; }
+
+        var dates = byAmount.get(position.amount());
+        var items = dates.get(position.date());
+        items.remove(id);
+        if (items.isEmpty()) {
+            dates.remove(position.date());
+            if (dates.isEmpty()) { byAmount.remove(position.amount()); }
+        }
+        return true;
+    }
+
+    boolean contains(UUID id) {
+        return positions.containsKey(id);
+    }
+
+    int size() {
+        return positions.size();
+    }
+
+    /**
+     * Retorna até limit itens com valor entre min e max (inclusive), ordenados pela distância do valor até target
+     * e, em caso de empate, pela proximidade da data até reference.
+     */
+    List<Hit<T>> nearest(Money min, Money max, Money target, LocalDate reference, int limit) {
+        var hits = new ArrayList<Hit<T>>();
+        if (limit <= 0 || min.compareTo(max) > 0) { return hits; }
+
+        var below = byAmount.subMap(min, true, target, false).descendingMap().entrySet().iterator();
+        var above = byAmount.subMap(target, true, max, true).entrySet().iterator();
+        var nextBelow = below.hasNext() ? below.next() : null;
+        var nextAbove = above.hasNext() ? above.next() : null;
+        Money cutoff = null;
+
+        while (nextBelow != null || nextAbove != null) {
+            Map.Entry<Money, NavigableMap<LocalDate, Map<UUID, T>>> current;
+            if (nextAbove == null || (nextBelow != null && distance(nextBelow.getKey(), target).compareTo(distance(nextAbove.getKey(), target)) < 0)) {
+                current = nextBelow;
+                nextBelow = below.hasNext() ? below.next() : null;
+            } else {
+                current = nextAbove;
+                nextAbove = above.hasNext() ? above.next() : null;
+            }
+
+            var amountDistance = distance(current.getKey(), target);
+            if (cutoff != null && amountDistance.compareTo(cutoff) > 0) { break; }
+
+            collectNearestDates(current.getKey(), current.getValue(), reference, limit, hits);
+            if (cutoff == null && hits.size() >= limit) { cutoff = amountDistance; }
+        }
+
+        hits.sort(Comparator.<Hit<T>, Money>comparing(hit -> distance(hit.amount(), target))
+                .thenComparingLong(Hit::distanceDays));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    private void collectNearestDates(Money amount, NavigableMap<LocalDate, Map<UUID, T>> dates, LocalDate reference, int limit, List<Hit<T>> hits) {
+        Iterator<Map.Entry<LocalDate, Map<UUID, T>>> before = dates.headMap(reference, false).descendingMap().entrySet().iterator();
+        Iterator<Map.Entry<LocalDate, Map<UUID, T>>> after = dates.tailMap(reference, true).entrySet().iterator();
+        var nextBefore = before.hasNext() ? before.next() : null;
+        var nextAfter = after.hasNext() ? after.next() : null;
+        var taken = 0;
+
+        while (taken < limit && (nextBefore != null || nextAfter != null)) {
+            Map.Entry<LocalDate, Map<UUID, T>> current;
+            if (nextAfter == null || (nextBefore != null && days(nextBefore.getKey(), reference) < days(nextAfter.getKey(), reference))) {
+                current = nextBefore;
+                nextBefore = before.hasNext() ? before.next() : null;
+            } else {
+                current = nextAfter;
+                nextAfter = after.hasNext() ? after.next() : null;
+            }
+
+            var distanceDays = days(current.getKey(), reference);
+            for (var item : current.getValue().values()) {
+                if (taken >= limit) { break; }
+                hits.add(new Hit<>(item, amount, distanceDays));
+                taken++;
+            }
+        }
+    }
+
+    private static Money distance(Money amount, Money target) {
+        return amount.minus(target).abs();
+    }
+
+    private static long days(LocalDate date, LocalDate reference) {
+        if (date.equals(UNDATED)) { return Long.MAX_VALUE; }
+        return Math.abs(ChronoUnit.DAYS.between(reference, date));
+    }
+}
@@ -0,0 +1,18 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+/**
+ * difference: valor não conciliado da transação menos o valor devido da fatura consultada.
+ * dueDateDistanceDays: distância em dias entre a data da transação e o vencimento da fatura.
+ */
+public record BankTransactionMatchCandidate(
+        BankTransactionLedger transaction,
+        Money difference,
+        long dueDateDistanceDays
+) {
+    public boolean isExact() {
+        return difference.signum() == 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+/**
+ * difference: valor do crédito menos o valor devido da fatura (negativo quando o crédito veio a menor).
+ * dueDateDistanceDays: distância em dias entre a data da transação e o vencimento da fatura.
+ */
+public record InvoiceMatchCandidate(
+        InvoiceLedger invoice,
+        Money difference,
+        long dueDateDistanceDays
+) {
+    public boolean isExact() {
+        return difference.signum() == 0;
+    }
+}
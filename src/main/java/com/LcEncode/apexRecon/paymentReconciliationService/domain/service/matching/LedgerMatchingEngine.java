@@ -0,0 +1,119 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.ReconciliationAllocation;
+import com.LcEncode.apexRecon.shared.domain.identifier.Ids;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Motor de conciliação automática: mantém, por organizationId, um índice ordenado por valor das faturas em aberto
+ * (OPEN/PARTIALLY_PAID/OVERDUE) e das transações bancárias não conciliadas, e responde consultas exatas ou por faixa de
+ * tolerância sem percorrer todos os itens em aberto.
+ * Os ledgers devem ser registrados novamente via track() após cada applyPayment/applyAllocation; itens que deixam
+ * de estar em aberto saem do índice.
+ */
+public class LedgerMatchingEngine {
+    public static final ZoneId DEFAULT_ZONE = ZoneId.of("America/Sao_Paulo");
+
+    private final Map<UUID, OrganizationMatchBook> books = new ConcurrentHashMap<>();
+    private final ZoneId zoneId;
+
+    public LedgerMatchingEngine() {
+        this(DEFAULT_ZONE);
+    }
+
+    public LedgerMatchingEngine(ZoneId zoneId) {
+        if (zoneId == null) { throw new ValidateException("Matching engine zone must be provided."); }
+
+        this.zoneId = zoneId;
+    }
+
+    public void track(InvoiceLedger invoice) {
+        book(invoice.getOrganizationId()).track(invoice);
+    }
+
+    public void track(BankTransactionLedger transaction) {
+        book(transaction.getOrganizationId()).track(transaction);
+    }
+
+    public boolean untrackInvoice(UUID organizationId, UUID invoiceId) {
+        var book = books.get(organizationId);
+        return book != null && book.untrackInvoice(invoiceId);
+    }
+
+    public boolean untrackBankTransaction(UUID organizationId, UUID bankTransactionId) {
+        var book = books.get(organizationId);
+        return book != null && book.untrackBankTransaction(bankTransactionId);
+    }
+
+    public void evictOrganization(UUID organizationId) {
+        books.remove(organizationId);
+    }
+
+    /**
+     * Faturas em aberto da mesma organização cujo amountDue casa com o amountUnmatched da transação dentro da
+     * tolerância. Ordenação: diferença de valor (exatas primeiro) e depois proximidade do vencimento.
+     */
+    public List<InvoiceMatchCandidate> findInvoiceCandidates(BankTransactionLedger transaction, MatchTolerance tolerance, int limit) {
+        if (!transaction.isOpen()) { return List.of(); }
+
+        var book = books.get(transaction.getOrganizationId());
+        return book == null ? List.of() : book.findInvoices(transaction, tolerance, limit);
+    }
+
+    /**
+     * Caminho inverso: transações não conciliadas da mesma organização que podem quitar a fatura.
+     */
+    public List<BankTransactionMatchCandidate> findBankTransactionCandidates(InvoiceLedger invoice, MatchTolerance tolerance, int limit) {
+        if (!invoice.isOpen()) { return List.of(); }
+
+        var book = books.get(invoice.getOrganizationId());
+        return book == null ? List.of() : book.findBankTransactions(invoice, tolerance, limit);
+    }
+
+    /**
+     * Propostas de alocação, na ordem de ranking, para o crédito informado. Todas as propostas compartilham o mesmo
+     * paymentId, pois são alternativas para o mesmo pagamento; o valor proposto é o menor entre o não conciliado da
+     * transação e o devido da fatura, de forma que applyAllocation e applyPayment aceitem a proposta.
+     */
+    public List<ReconciliationAllocation> proposeAllocations(BankTransactionLedger transaction, MatchTolerance tolerance, int limit) {
+        var candidates = findInvoiceCandidates(transaction, tolerance, limit);
+        if (candidates.isEmpty()) { return List.of(); }
+
+        var paymentId = Ids.next();
+        return candidates.stream()
+                .map(candidate -> new ReconciliationAllocation(
+                        paymentId,
+                        candidate.invoice().getId(),
+                        transaction.getBankTransactionId(),
+                        transaction.getAmountUnmatched().min(candidate.invoice().getAmountDue())))
+                .toList();
+    }
+
+    public int openInvoiceCount(UUID organizationId) {
+        var book = books.get(organizationId);
+        return book == null ? 0 : book.openInvoiceCount();
+    }
+
+    public int openBankTransactionCount(UUID organizationId) {
+        var book = books.get(organizationId);
+        return book == null ? 0 : book.openBankTransactionCount();
+    }
+
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    private OrganizationMatchBook book(UUID organizationId) {
+        if (organizationId == null) { throw new ValidateException("Organization ID must be provided."); }
+
+        return books.computeIfAbsent(organizationId, id -> new OrganizationMatchBook(zoneId));
+    }
+}
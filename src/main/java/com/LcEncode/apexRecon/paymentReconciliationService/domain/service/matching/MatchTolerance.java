@@ -0,0 +1,27 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+/**
+ * Faixa aceita entre o valor do crédito e o valor em aberto da fatura.
+ * shortfall: quanto o crédito pode vir abaixo do devido (ex.: tarifa bancária de R$ 3,50).
+ * excess: quanto o crédito pode vir acima do devido.
+ */
+public record MatchTolerance(
+        Money shortfall,
+        Money excess
+) {
+    public MatchTolerance {
+        if (shortfall == null || shortfall.isNegative()) { throw new ValidateException("Match tolerance shortfall must be provided or must be greater than or equal to 0"); }
+        if (excess == null || excess.isNegative()) { throw new ValidateException("Match tolerance excess must be provided or must be greater than or equal to 0"); }
+    }
+
+    public static MatchTolerance exact() {
+        return new MatchTolerance(Money.ZERO, Money.ZERO);
+    }
+
+    public static MatchTolerance shortfallOf(Money shortfall) {
+        return new MatchTolerance(shortfall, Money.ZERO);
+    }
+}
@@ -0,0 +1,76 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Itens em aberto de uma única organização: faturas indexadas por amountDue e transações por amountUnmatched.
+ */
+final class OrganizationMatchBook {
+    private final ZoneId zoneId;
+    private final AmountDateIndex<InvoiceLedger> openInvoices = new AmountDateIndex<>();
+    private final AmountDateIndex<BankTransactionLedger> openTransactions = new AmountDateIndex<>();
+
+    OrganizationMatchBook(ZoneId zoneId) {
+        this.zoneId = zoneId;
+    }
+
+    synchronized void track(InvoiceLedger invoice) {
+        if (invoice.isOpen()) {
+            openInvoices.put(invoice.getId(), invoice.getAmountDue(), invoice.getDueDate(), invoice);
+        } else { openInvoices.remove(invoice.getId()); }
+    }
+
+    synchronized void track(BankTransactionLedger transaction) {
+        if (transaction.isOpen()) {
+            openTransactions.put(transaction.getBankTransactionId(), transaction.getAmountUnmatched(), localDate(transaction), transaction);
+        } else { openTransactions.remove(transaction.getBankTransactionId()); }
+    }
+
+    synchronized boolean untrackInvoice(UUID invoiceId) {
+        return openInvoices.remove(invoiceId);
+    }
+
+    synchronized boolean untrackBankTransaction(UUID bankTransactionId) {
+        return openTransactions.remove(bankTransactionId);
+    }
+
+    synchronized List<InvoiceMatchCandidate> findInvoices(BankTransactionLedger transaction, MatchTolerance tolerance, int limit) {
+        Money credit = transaction.getAmountUnmatched();
+        return openInvoices.nearest(credit.minus(tolerance.excess()), credit.plus(tolerance.shortfall()), credit, localDate(transaction), limit)
+                .stream()
+                .map(hit -> new InvoiceMatchCandidate(hit.item(), credit.minus(hit.amount()), hit.distanceDays()))
+                .toList();
+    }
+
+    synchronized List<BankTransactionMatchCandidate> findBankTransactions(InvoiceLedger invoice, MatchTolerance tolerance, int limit) {
+        Money due = invoice.getAmountDue();
+        var reference = invoice.getDueDate() == null ? LocalDate.now(zoneId) : invoice.getDueDate();
+        return openTransactions.nearest(due.minus(tolerance.shortfall()), due.plus(tolerance.excess()), due, reference, limit)
+                .stream()
+                .map(hit -> new BankTransactionMatchCandidate(hit.item(), hit.amount().minus(due), hit.distanceDays()))
+                .toList();
+    }
+
+    synchronized int openInvoiceCount() {
+        return openInvoices.size();
+    }
+
+    synchronized int openBankTransactionCount() {
+        return openTransactions.size();
+    }
+
+    synchronized boolean isEmpty() {
+        return openInvoices.size() == 0 && openTransactions.size() == 0;
+    }
+
+    private LocalDate localDate(BankTransactionLedger transaction) {
+        return LocalDate.ofInstant(transaction.getTransactionDate(), zoneId);
+    }
+}
@@ -0,0 +1,90 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.reference;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Normaliza descrições bancárias brasileiras ("PIX RECEBIDO 12.345.678/0001-90 FULANO LTDA NF 4471"):
+ * remove acentos, passa para maiúsculas, junta documentos pontuados (CNPJ/CPF) em um único token numérico
+ * e descarta palavras de ruído do extrato.
+ */
+final class DescriptionNormalizer {
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MAX_TOKEN_LENGTH = 32;
+    private static final Set<String> NOISE = Set.of(
+            "PIX", "TED", "DOC", "TEF", "BOLETO", "RECEBIDO", "RECEBIDA", "RECEB", "TRANSF", "TRANSFERENCIA",
+            "CREDITO", "CRED", "PAGTO", "PAGAMENTO", "PGTO", "DEP", "DEPOSITO", "NF", "NFE", "NFS", "FAT", "FATURA",
+            "LTDA", "ME", "EPP", "EIRELI", "SA", "DE", "DA", "DO", "DOS", "DAS", "E");
+
+    private DescriptionNormalizer() {}
+
+    static List<String> tokens(String text) {
+        var tokens = new ArrayList<String>();
+        if (text == null || text.isBlank()) { return tokens; }
+
+        var normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
+        var current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) { continue; }
+
+            if (isAsciiLetterOrDigit(c)) {
+                current.append(Character.toUpperCase(c));
+            } else if (isDocumentSeparator(c) && current.length() > 0 && isAllDigits(current) && nextIsDigit(normalized, i)) {
+                // 12.345.678/0001-90 vira um único token 12345678000190
+                continue;
+            } else {
+                flush(current, tokens);
+            }
+        }
+        flush(current, tokens);
+        return tokens;
+    }
+
+    static boolean isNumeric(String token) {
+        return isAllDigits(token);
+    }
+
+    /**
+     * Trigramas de um token alfabético, empacotados em um int (3 x 8 bits) para evitar uma String por trigrama.
+     */
+    static int[] trigrams(String token) {
+        if (token.length() < 3) { return new int[0]; }
+
+        int[] grams = new int[token.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (token.charAt(i) << 16) | (token.charAt(i + 1) << 8) | token.charAt(i + 2);
+        }
+        return grams;
+    }
+
+    private static void flush(StringBuilder current, List<String> tokens) {
+        if (current.length() >= MIN_TOKEN_LENGTH && current.length() <= MAX_TOKEN_LENGTH) {
+            var token = current.toString();
+            if (!NOISE.contains(token)) { tokens.add(token); }
+        }
+        current.setLength(0);
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isDocumentSeparator(char c) {
+        return c == '.' || c == '/' || c == '-';
+    }
+
+    private static boolean nextIsDigit(CharSequence text, int index) {
+        return index + 1 < text.length() && Character.isDigit(text.charAt(index + 1));
+    }
+
+    private static boolean isAllDigits(CharSequence text) {
+        if (text.isEmpty()) { return false; }
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9') { return false; }
+        }
+        return true;
+    }
+}
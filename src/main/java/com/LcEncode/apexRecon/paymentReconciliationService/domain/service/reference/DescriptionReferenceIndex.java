@@ -0,0 +1,130 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.reference;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Índice invertido por organização sobre as descrições bancárias: tokens normalizados e trigramas apontando para
+ * faturas e clientes. É alimentado incrementalmente (indexInvoice quando a fatura chega, learnCustomer quando uma
+ * transação é conciliada) e resolve uma descrição em um conjunto ranqueado de candidatos sem varrer os itens em aberto.
+ * A memória é limitada em três níveis: chaves por documento, faturas fechadas (PAID/VOID) removidas e organizações
+ * ociosas descartadas por LRU, já que o índice pode ser reconstruído a partir do banco.
+ */
+public class DescriptionReferenceIndex {
+    private final int maxOrganizations;
+    private final int maxKeysPerDocument;
+    private final double maxDocumentFrequency;
+    private final Map<UUID, OrganizationReferenceIndex> organizations;
+
+    public DescriptionReferenceIndex() {
+        this(2_000, 128, 0.2);
+    }
+
+    public DescriptionReferenceIndex(int maxOrganizations, int maxKeysPerDocument, double maxDocumentFrequency) {
+        if (maxOrganizations <= 0) { throw new ValidateException("Reference index max organizations must be greater than 0"); }
+        if (maxKeysPerDocument <= 0) { throw new ValidateException("Reference index max keys per document must be greater than 0"); }
+        if (maxDocumentFrequency <= 0 || maxDocumentFrequency > 1) { throw new ValidateException("Reference index max document frequency must be between 0 and 1"); }
+
+        this.maxOrganizations = maxOrganizations;
+        this.maxKeysPerDocument = maxKeysPerDocument;
+        this.maxDocumentFrequency = maxDocumentFrequency;
+        this.organizations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, OrganizationReferenceIndex> eldest) {
+                return size() > DescriptionReferenceIndex.this.maxOrganizations;
+            }
+        };
+    }
+
+    /**
+     * references: textos que identificam a fatura no extrato (número da NF, CNPJ/CPF e nome do cliente).
+     */
+    public void indexInvoice(UUID organizationId, UUID invoiceId, UUID customerId, Collection<String> references) {
+        if (invoiceId == null || customerId == null) { throw new ValidateException("Invoice and customer must be provided to be indexed."); }
+
+        organization(organizationId).indexInvoice(invoiceId, customerId, references);
+    }
+
+    /**
+     * Aprende a descrição de uma transação já conciliada para o cliente, para que próximos créditos do mesmo pagador
+     * sejam encontrados mesmo sem número de fatura.
+     */
+    public void learnCustomer(UUID organizationId, UUID customerId, String description) {
+        if (customerId == null) { throw new ValidateException("Customer must be provided to be learned."); }
+
+        organization(organizationId).learnCustomer(customerId, description);
+    }
+
+    /**
+     * learnCustomer para o cliente da fatura indexada; false quando a fatura não está no índice (ex.: organização
+     * descartada pela LRU), caso em que nada é aprendido.
+     */
+    public boolean learnFromInvoice(UUID organizationId, UUID invoiceId, String description) {
+        var index = existing(organizationId);
+        return index != null && index.learnFromInvoice(invoiceId, description);
+    }
+
+    public boolean closeInvoice(UUID organizationId, UUID invoiceId) {
+        var index = existing(organizationId);
+        return index != null && index.closeInvoice(invoiceId);
+    }
+
+    /**
+     * Remove a fatura do índice assim que o ledger deixa de estar em aberto.
+     */
+    public void onLedgerUpdated(InvoiceLedger invoice) {
+        if (!invoice.isOpen()) { closeInvoice(invoice.getOrganizationId(), invoice.getId()); }
+    }
+
+    public boolean forgetCustomer(UUID organizationId, UUID customerId) {
+        var index = existing(organizationId);
+        return index != null && index.forgetCustomer(customerId);
+    }
+
+    public List<ReferenceCandidate> resolve(UUID organizationId, String description, int limit) {
+        var index = existing(organizationId);
+        return index == null ? List.of() : index.search(description, limit, maxDocumentFrequency);
+    }
+
+    public void evictOrganization(UUID organizationId) {
+        synchronized (organizations) {
+            organizations.remove(organizationId);
+        }
+    }
+
+    public int documentCount(UUID organizationId) {
+        var index = existing(organizationId);
+        return index == null ? 0 : index.documentCount();
+    }
+
+    public long estimatedBytes(UUID organizationId) {
+        var index = existing(organizationId);
+        return index == null ? 0 : index.estimatedBytes();
+    }
+
+    public int organizationCount() {
+        synchronized (organizations) {
+            return organizations.size();
+        }
+    }
+
+    private OrganizationReferenceIndex organization(UUID organizationId) {
+        if (organizationId == null) { throw new ValidateException("Organization ID must be provided."); }
+
+        synchronized (organizations) {
+            return organizations.computeIfAbsent(organizationId, id -> new OrganizationReferenceIndex(maxKeysPerDocument));
+        }
+    }
+
+    private OrganizationReferenceIndex existing(UUID organizationId) {
+        synchronized (organizations) {
+            return organizations.get(organizationId);
+        }
+    }
+}
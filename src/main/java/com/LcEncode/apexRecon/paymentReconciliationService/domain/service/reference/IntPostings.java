@@ -0,0 +1,62 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.reference;
+
+import java.util.Arrays;
+
+/**
+ * Lista de postings compacta: ordinais de documentos em um int[] ordenado, sem boxing.
+ */
+final class IntPostings {
+    private static final int[] EMPTY = new int[0];
+
+    private int[] ordinals = EMPTY;
+    private int size;
+
+    boolean add(int ordinal) {
+        if (size > 0 && ordinals[size - 1] < ordinal) {
+            ensureCapacity();
+            ordinals[size++] = ordinal;
+            return true;
+        }
+
+        int at = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (at >= 0) { return false; }
+
+        int insertion = -at - 1;
+        ensureCapacity();
+        System.arraycopy(ordinals, insertion, ordinals, insertion + 1, size - insertion);
+        ordinals[insertion] = ordinal;
+        size++;
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return ordinals[index];
+    }
+
+    /**
+     * Reescreve a lista com os ordinais remapeados; ordinais mapeados para -1 são descartados.
+     */
+    void remap(int[] mapping) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int mapped = mapping[ordinals[i]];
+            if (mapped >= 0) { ordinals[kept++] = mapped; }
+        }
+        size = kept;
+        ordinals = size == 0 ? EMPTY : Arrays.copyOf(ordinals, size);
+    }
+
+    long estimatedBytes() {
+        return 16L + 16L + 4L * ordinals.length;
+    }
+
+    private void ensureCapacity() {
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, Math.max(4, size + (size >> 1)));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.reference;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Índice invertido de uma organização. Cada documento é uma fatura em aberto (com suas referências: número, CNPJ,
+ * nome do cliente) ou o perfil aprendido de um cliente (tokens vistos em descrições já conciliadas para ele).
+ * Documentos removidos viram tombstones e as postings são compactadas quando os removidos passam de metade dos vivos.
+ */
+final class OrganizationReferenceIndex {
+    private static final double TOKEN_WEIGHT = 1.0;
+    private static final double NUMERIC_TOKEN_WEIGHT = 2.0;
+    private static final double TRIGRAM_WEIGHT = 0.25;
+    private static final int COMPACTION_MIN_DEAD = 64;
+
+    private record Document(UUID invoiceId, UUID customerId) {}
+
+    private final int maxKeysPerDocument;
+    private final Map<String, IntPostings> tokenPostings = new HashMap<>();
+    private final Map<Integer, IntPostings> trigramPostings = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<UUID, Integer> invoiceOrdinals = new HashMap<>();
+    private final Map<UUID, Integer> customerOrdinals = new HashMap<>();
+    private final BitSet dead = new BitSet();
+    private int[] keyCounts = new int[16];
+    private int deadCount;
+
+    OrganizationReferenceIndex(int maxKeysPerDocument) {
+        this.maxKeysPerDocument = maxKeysPerDocument;
+    }
+
+    synchronized void indexInvoice(UUID invoiceId, UUID customerId, Collection<String> references) {
+        var ordinal = invoiceOrdinals.computeIfAbsent(invoiceId, id -> newDocument(new Document(id, customerId)));
+        for (var reference : references) {
+            addText(ordinal, reference);
+        }
+    }
+
+    synchronized void learnCustomer(UUID customerId, String text) {
+        var ordinal = customerOrdinals.computeIfAbsent(customerId, id -> newDocument(new Document(null, id)));
+        addText(ordinal, text);
+    }
+
+    synchronized boolean learnFromInvoice(UUID invoiceId, String text) {
+        var invoice = invoiceOrdinals.get(invoiceId);
+        if (invoice == null) { return false; }
+
+        learnCustomer(documents.get(invoice).customerId(), text);
+        return true;
+    }
+
+    synchronized boolean closeInvoice(UUID invoiceId) {
+        var ordinal = invoiceOrdinals.remove(invoiceId);
+        if (ordinal == null) { return false; }
+
+        markDead(ordinal);
+        return true;
+    }
+
+    synchronized boolean forgetCustomer(UUID customerId) {
+        var ordinal = customerOrdinals.remove(customerId);
+        if (ordinal == null) { return false; }
+
+        markDead(ordinal);
+        return true;
+    }
+
+    synchronized List<ReferenceCandidate> search(String description, int limit, double maxDocumentFrequency) {
+        int live = documents.size() - deadCount;
+        if (live == 0 || limit <= 0) { return List.of(); }
+
+        int maxDf = Math.max(1, (int) (live * maxDocumentFrequency));
+        var scores = new HashMap<Integer, Double>();
+        for (var token : DescriptionNormalizer.tokens(description)) {
+            var weight = DescriptionNormalizer.isNumeric(token) ? NUMERIC_TOKEN_WEIGHT : TOKEN_WEIGHT;
+            accumulate(tokenPostings.get(token), weight, live, maxDf, scores);
+
+            if (!DescriptionNormalizer.isNumeric(token)) {
+                for (int gram : DescriptionNormalizer.trigrams(token)) {
+                    accumulate(trigramPostings.get(gram), TRIGRAM_WEIGHT, live, maxDf, scores);
+                }
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(entry -> {
+                    var document = documents.get(entry.getKey());
+                    return new ReferenceCandidate(document.invoiceId(), document.customerId(), entry.getValue());
+                })
+                .toList();
+    }
+
+    synchronized int documentCount() {
+        return documents.size() - deadCount;
+    }
+
+    synchronized long estimatedBytes() {
+        long bytes = 64L * documents.size() + 4L * keyCounts.length;
+        for (var entry : tokenPostings.entrySet()) {
+            bytes += 40L + 2L * entry.getKey().length() + entry.getValue().estimatedBytes();
+        }
+        bytes += 48L * trigramPostings.size();
+        for (var postings : trigramPostings.values()) {
+            bytes += postings.estimatedBytes();
+        }
+        return bytes;
+    }
+
+    private void accumulate(IntPostings postings, double weight, int live, int maxDf, Map<Integer, Double> scores) {
+        if (postings == null || postings.size() == 0 || postings.size() > maxDf) { return; }
+
+        double idf = Math.log(1.0 + (double) live / postings.size());
+        for (int i = 0; i < postings.size(); i++) {
+            int ordinal = postings.get(i);
+            if (!dead.get(ordinal)) { scores.merge(ordinal, weight * idf, Double::sum); }
+        }
+    }
+
+    private int newDocument(Document document) {
+        documents.add(document);
+        int ordinal = documents.size() - 1;
+        if (ordinal >= keyCounts.length) { keyCounts = Arrays.copyOf(keyCounts, keyCounts.length * 2); }
+        return ordinal;
+    }
+
+    private void addText(int ordinal, String text) {
+        for (var token : DescriptionNormalizer.tokens(text)) {
+            if (keyCounts[ordinal] >= maxKeysPerDocument) { return; }
+            if (tokenPostings.computeIfAbsent(token, key -> new IntPostings()).add(ordinal)) { keyCounts[ordinal]++; }
+
+            if (!DescriptionNormalizer.isNumeric(token)) {
+                for (int gram : DescriptionNormalizer.trigrams(token)) {
+                    if (keyCounts[ordinal] >= maxKeysPerDocument) { return; }
+                    if (trigramPostings.computeIfAbsent(gram, key -> new IntPostings()).add(ordinal)) { keyCounts[ordinal]++; }
+                }
+            }
+        }
+    }
+
+    private void markDead(int ordinal) {
+        dead.set(ordinal);
+        deadCount++;
+        if (deadCount >= COMPACTION_MIN_DEAD && deadCount * 2 > documents.size() - deadCount) { compact(); }
+    }
+
+    private void compact() {
+        int[] mapping = new int[documents.size()];
+        var survivors = new ArrayList<Document>(documents.size() - deadCount);
+        var survivorKeyCounts = new int[Math.max(16, documents.size() - deadCount)];
+        for (int ordinal = 0; ordinal < documents.size(); ordinal++) {
+            if (dead.get(ordinal)) {
+                mapping[ordinal] = -1;
+            } else {
+                mapping[ordinal] = survivors.size();
+                survivorKeyCounts[survivors.size()] = keyCounts[ordinal];
+                survivors.add(documents.get(ordinal));
+            }
+        }
+
+        tokenPostings.values().forEach(postings -> postings.remap(mapping));
+        tokenPostings.values().removeIf(postings -> postings.size() == 0);
+        trigramPostings.values().forEach(postings -> postings.remap(mapping));
+        trigramPostings.values().removeIf(postings -> postings.size() == 0);
+        invoiceOrdinals.replaceAll((id, ordinal) -> mapping[ordinal]);
+        customerOrdinals.replaceAll((id, ordinal) -> mapping[ordinal]);
+
+        documents.clear();
+        documents.addAll(survivors);
+        keyCounts = survivorKeyCounts;
+        dead.clear();
+        deadCount = 0;
+    }
+}
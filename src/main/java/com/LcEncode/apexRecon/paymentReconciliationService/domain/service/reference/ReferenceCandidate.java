@@ -0,0 +1,12 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.reference;
+
+import java.util.UUID;
+
+/**
+ * invoiceId é nulo quando o candidato vem de referências aprendidas do cliente (nome do pagador, CNPJ) e não de uma fatura.
+ */
+public record ReferenceCandidate(
+        UUID invoiceId,
+        UUID customerId,
+        double score
+) {}
@@ -0,0 +1,64 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.command;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.aging.AgingVerification;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.aging.ArAgingProjection;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Comando de manutenção da projeção de aging; só age quando a aplicação sobe com a opção:
+ *   --aging-verify=<organizationId|all>   confere a projeção contra invoices_ledger
+ *   --aging-rebuild=<organizationId|all>  confere e recalcula as organizações divergentes
+ * Imprime uma linha por organização (e por divergência) e encerra a aplicação com código 0 se tudo estava
+ * consistente, ou 1 caso contrário. Use com --spring.main.web-application-type=none.
+ */
+public class ArAgingRebuildCommand implements ApplicationRunner {
+    private static final String VERIFY = "aging-verify";
+    private static final String REBUILD = "aging-rebuild";
+
+    private final ArAgingProjection projection;
+    private final ConfigurableApplicationContext context;
+    private final PrintStream out;
+
+    public ArAgingRebuildCommand(ArAgingProjection projection, ConfigurableApplicationContext context) {
+        this.projection = projection;
+        this.context = context;
+        this.out = System.out;
+    }
+
+    @Override
+    public void run(ApplicationArguments arguments) {
+        var rebuild = arguments.containsOption(REBUILD);
+        if (!rebuild && !arguments.containsOption(VERIFY)) { return; }
+
+        var values = arguments.getOptionValues(rebuild ? REBUILD : VERIFY);
+        var target = values == null || values.isEmpty() ? "all" : values.getFirst();
+        List<UUID> organizations = "all".equals(target) ? projection.organizations() : List.of(UUID.fromString(target));
+
+        var inconsistent = 0;
+        for (var organizationId : organizations) {
+            var verification = rebuild ? projection.rebuild(organizationId) : projection.verify(organizationId);
+            print(verification, rebuild);
+            if (!verification.isConsistent()) { inconsistent++; }
+        }
+        out.printf("aging %s: %d organizations, %d inconsistent%n", rebuild ? "rebuild" : "verify", organizations.size(), inconsistent);
+
+        var exitCode = inconsistent == 0 ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+
+    private void print(AgingVerification verification, boolean rebuilt) {
+        out.printf("%s as of %s: %d rows, %s%n", verification.organizationId(), verification.asOf(), verification.rowsCompared(),
+                verification.isConsistent() ? "consistent" : verification.mismatches().size() + " mismatches" + (rebuilt ? " (rebuilt)" : ""));
+        for (var mismatch : verification.mismatches()) {
+            out.printf("  customer %s %s: amount %s (expected %s), invoices %d (expected %d)%n", mismatch.customerId(), mismatch.bucket(),
+                    mismatch.storedAmount(), mismatch.expectedAmount(), mismatch.storedInvoices(), mismatch.expectedInvoices());
+        }
+    }
+}
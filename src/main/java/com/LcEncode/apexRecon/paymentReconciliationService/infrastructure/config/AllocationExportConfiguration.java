@@ -0,0 +1,17 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.export.AllocationExporter;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.AllocationExportRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AllocationExportProperties.class)
+public class AllocationExportConfiguration {
+
+    @Bean
+    public AllocationExporter allocationExporter(AllocationExportRepository repository, AllocationExportProperties properties) {
+        return new AllocationExporter(repository, properties.maxConcurrent(), properties.bufferSize());
+    }
+}
@@ -0,0 +1,14 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * apexrecon.reconciliation.export.*: exportações de auditoria simultâneas (cada uma prende uma conexão do pool
+ * enquanto dura) e tamanho do buffer de escrita da resposta, em chars.
+ */
+@ConfigurationProperties("apexrecon.reconciliation.export")
+public record AllocationExportProperties(
+        @DefaultValue("2") int maxConcurrent,
+        @DefaultValue("65536") int bufferSize
+) {}
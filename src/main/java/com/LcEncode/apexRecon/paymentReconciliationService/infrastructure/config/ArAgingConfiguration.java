@@ -0,0 +1,38 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.aging.ArAgingImportProjection;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.aging.ArAgingProjection;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.ArAgingRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.command.ArAgingRebuildCommand;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.scheduling.ArAgingRollOverJob;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(ArAgingProperties.class)
+public class ArAgingConfiguration {
+
+    @Bean
+    public ArAgingProjection arAgingProjection(ArAgingRepository repository) {
+        return new ArAgingProjection(repository);
+    }
+
+    @Bean
+    public ArAgingImportProjection arAgingImportProjection(ArAgingRepository repository) {
+        return new ArAgingImportProjection(repository);
+    }
+
+    @Bean
+    public ArAgingRollOverJob arAgingRollOverJob(ArAgingProjection projection, ArAgingProperties properties) {
+        return new ArAgingRollOverJob(projection, Clock.system(properties.zone()));
+    }
+
+    @Bean
+    public ArAgingRebuildCommand arAgingRebuildCommand(ArAgingProjection projection, ConfigurableApplicationContext context) {
+        return new ArAgingRebuildCommand(projection, context);
+    }
+}
@@ -0,0 +1,15 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.ZoneId;
+
+/**
+ * apexrecon.reconciliation.aging.*: quando o roll-over diário das faixas roda e em qual fuso "hoje" é calculado.
+ */
+@ConfigurationProperties("apexrecon.reconciliation.aging")
+public record ArAgingProperties(
+        @DefaultValue("0 1 0 * * *") String rollOverCron,
+        @DefaultValue("America/Sao_Paulo") ZoneId zone
+) {}
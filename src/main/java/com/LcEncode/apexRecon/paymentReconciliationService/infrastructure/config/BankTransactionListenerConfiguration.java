@@ -0,0 +1,32 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.consumer.BankTransactionConsumer;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.messaging.BankTransactionListener;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Queue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ReconciliationListenerProperties.class)
+@ConditionalOnProperty(prefix = "apexrecon.reconciliation.listener", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BankTransactionListenerConfiguration {
+
+    @Bean
+    public Queue reconciliationBankTransactionsQueue(ReconciliationListenerProperties properties) {
+        return new Queue(properties.queue(), true);
+    }
+
+    @Bean
+    public Binding reconciliationBankTransactionsBinding(ReconciliationListenerProperties properties) {
+        return new Binding(properties.queue(), Binding.DestinationType.QUEUE, properties.exchange(), properties.routingKey(), null);
+    }
+
+    @Bean
+    public BankTransactionListener bankTransactionListener(BankTransactionConsumer bankTransactionConsumer, ObjectMapper objectMapper) {
+        return new BankTransactionListener(bankTransactionConsumer, objectMapper);
+    }
+}
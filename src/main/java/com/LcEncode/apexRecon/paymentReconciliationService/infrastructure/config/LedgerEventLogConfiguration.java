@@ -0,0 +1,42 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.eventlog.LedgerEventLog;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.LedgerEventRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.metrics.MicrometerLedgerProjectionObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.persistence.JdbcEventLogOpenLedgerRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.scheduling.LedgerProjectionJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+
+@Configuration
+@EnableConfigurationProperties(LedgerEventLogProperties.class)
+@ConditionalOnProperty(prefix = "apexrecon.reconciliation.event-log", name = "enabled", havingValue = "true")
+public class LedgerEventLogConfiguration {
+
+    @Bean
+    public LedgerEventLog ledgerEventLog(LedgerEventRepository repository, LedgerEventLogProperties properties) {
+        return new LedgerEventLog(repository, properties.snapshotInterval(), Clock.systemUTC());
+    }
+
+    /**
+     * Substitui o JdbcOpenLedgerRepository: as linhas podem estar atrás dos eventos ainda não projetados.
+     */
+    @Bean
+    @Primary
+    public JdbcEventLogOpenLedgerRepository eventLogOpenLedgerRepository(JdbcTemplate jdbcTemplate) {
+        return new JdbcEventLogOpenLedgerRepository(jdbcTemplate);
+    }
+
+    @Bean
+    public LedgerProjectionJob ledgerProjectionJob(LedgerEventRepository repository, LedgerEventLogProperties properties, MeterRegistry meterRegistry) {
+        return new LedgerProjectionJob(repository, properties.projectionBatchSize(), properties.settleWindow(), properties.gapTimeout(),
+                properties.maxTrackedGaps(), new MicrometerLedgerProjectionObserver(meterRegistry), Clock.systemUTC());
+    }
+}
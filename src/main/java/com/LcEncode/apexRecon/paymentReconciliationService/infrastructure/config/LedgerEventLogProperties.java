@@ -0,0 +1,22 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * apexrecon.reconciliation.event-log.*: ledgers gravados como eventos. settle-window deve passar da duração da maior
+ * transação de commit de uma run; antes disso o projetor não aplica o evento. Um evento que commita depois disso é
+ * relido pela sua position até gap-timeout.
+ */
+@ConfigurationProperties("apexrecon.reconciliation.event-log")
+public record LedgerEventLogProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("50") int snapshotInterval,
+        @DefaultValue("1000") int projectionBatchSize,
+        @DefaultValue("200ms") Duration projectionInterval,
+        @DefaultValue("5s") Duration settleWindow,
+        @DefaultValue("1m") Duration gapTimeout,
+        @DefaultValue("10000") int maxTrackedGaps
+) {}
@@ -0,0 +1,37 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import com.LcEncode.apexRecon.invoicingService.domain.gateway.ImportedInvoicesListener;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.CachingReconciliationRunRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.ImportedInvoicesCacheInvalidation;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.OpenLedgerCache;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.OpenLedgerRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.metrics.MicrometerCacheObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.persistence.JdbcReconciliationRunRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(OpenLedgerCacheProperties.class)
+public class OpenLedgerCacheConfiguration {
+
+    @Bean
+    public OpenLedgerCache openLedgerCache(OpenLedgerRepository repository, OpenLedgerCacheProperties properties, MeterRegistry meterRegistry) {
+        var settings = new OpenLedgerCache.Settings(properties.maxResidentItems(), properties.idleTimeout(), properties.maxAge());
+        return new OpenLedgerCache(repository, settings, new MicrometerCacheObserver(meterRegistry));
+    }
+
+    /**
+     * Decorado pelo ReferenceIndexConfiguration, que expõe a versão @Primary.
+     */
+    @Bean
+    public CachingReconciliationRunRepository cachingReconciliationRunRepository(JdbcReconciliationRunRepository repository, OpenLedgerCache cache) {
+        return new CachingReconciliationRunRepository(repository, cache);
+    }
+
+    @Bean
+    public ImportedInvoicesListener openLedgerCacheInvalidation(OpenLedgerCache cache) {
+        return new ImportedInvoicesCacheInvalidation(cache);
+    }
+}
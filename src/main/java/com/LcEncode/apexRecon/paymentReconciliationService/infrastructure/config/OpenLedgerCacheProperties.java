@@ -0,0 +1,18 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * apexrecon.reconciliation.cache.*: cache dos itens em aberto por organização. max-resident-items limita a memória
+ * (~200 bytes por ledger), idle-timeout libera organizações inativas e max-age limita a defasagem diante de
+ * gravações feitas por outras instâncias.
+ */
+@ConfigurationProperties("apexrecon.reconciliation.cache")
+public record OpenLedgerCacheProperties(
+        @DefaultValue("500000") int maxResidentItems,
+        @DefaultValue("15m") Duration idleTimeout,
+        @DefaultValue("5m") Duration maxAge
+) {}
@@ -0,0 +1,20 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * apexrecon.reconciliation.optimistic.*: quantas vezes uma conciliação é replanejada após conflito de versão nos
+ * ledgers, a espera base (com jitter, dobrando a cada tentativa) entre elas e quantas organizações mantêm contadores
+ * de disputa. A cada sampleInterval, as hotOrganizations mais disputadas viram séries com a tag organization.
+ */
+@ConfigurationProperties("apexrecon.reconciliation.optimistic")
+public record OptimisticReconciliationProperties(
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("10ms") Duration backoff,
+        @DefaultValue("2000") int maxTrackedOrganizations,
+        @DefaultValue("10") int hotOrganizations,
+        @DefaultValue("1m") Duration sampleInterval
+) {}
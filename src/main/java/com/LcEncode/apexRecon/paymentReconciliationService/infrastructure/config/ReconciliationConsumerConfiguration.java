@@ -0,0 +1,88 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.OpenLedgerCache;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.consumer.BankTransactionConsumer;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.consumer.OrganizationLaneExecutor;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.consumer.OrganizationTaskSubmitter;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.OptimisticReconciliationExecutor;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.OrganizationReconciler;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.sharding.ShardCoordinator;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.BankTransactionLedgerRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.ReconciliationRunRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.AllocationSolver;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.SolverBudget;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.LedgerMatchingEngine;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.MatchTolerance;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.metrics.MicrometerContentionObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.metrics.MicrometerLaneMetrics;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.metrics.MicrometerReconciliationObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.scheduling.ContentionSampleJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Optional;
+
+@Configuration
+@EnableConfigurationProperties({ReconciliationLaneProperties.class, OptimisticReconciliationProperties.class})
+public class ReconciliationConsumerConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public OrganizationLaneExecutor reconciliationLaneExecutor(ReconciliationLaneProperties properties) {
+        return new OrganizationLaneExecutor("reconciliation", properties.count(), properties.queueCapacity(), properties.offerTimeout());
+    }
+
+    @Bean
+    public MicrometerLaneMetrics reconciliationLaneMetrics(OrganizationLaneExecutor reconciliationLaneExecutor) {
+        return new MicrometerLaneMetrics(reconciliationLaneExecutor, "reconciliation");
+    }
+
+    @Bean
+    public MicrometerReconciliationObserver reconciliationObserver(MeterRegistry meterRegistry) {
+        var budget = SolverBudget.defaults();
+        return new MicrometerReconciliationObserver(meterRegistry, budget.maxCandidates(), budget.maxTime());
+    }
+
+    @Bean
+    public AllocationSolver allocationSolver(MicrometerReconciliationObserver reconciliationObserver) {
+        return new AllocationSolver(SolverBudget.defaults(), LedgerMatchingEngine.DEFAULT_ZONE, reconciliationObserver);
+    }
+
+    @Bean
+    public MicrometerContentionObserver contentionObserver(MeterRegistry meterRegistry, OptimisticReconciliationProperties properties) {
+        return new MicrometerContentionObserver(meterRegistry, properties.hotOrganizations());
+    }
+
+    @Bean
+    public OptimisticReconciliationExecutor optimisticReconciliationExecutor(ReconciliationRunRepository repository, OptimisticReconciliationProperties properties,
+                                                                             MicrometerContentionObserver contentionObserver,
+                                                                             MicrometerReconciliationObserver reconciliationObserver) {
+        return new OptimisticReconciliationExecutor(repository, properties.maxAttempts(), properties.backoff(),
+                contentionObserver, reconciliationObserver, properties.maxTrackedOrganizations());
+    }
+
+    @Bean
+    public ContentionSampleJob contentionSampleJob(OptimisticReconciliationExecutor optimisticReconciliationExecutor, MicrometerContentionObserver contentionObserver) {
+        return new ContentionSampleJob(optimisticReconciliationExecutor, contentionObserver);
+    }
+
+    @Bean
+    public OrganizationReconciler organizationReconciler(OpenLedgerCache cache, OptimisticReconciliationExecutor optimisticReconciliationExecutor,
+                                                         AllocationSolver allocationSolver, MicrometerReconciliationObserver reconciliationObserver) {
+        return new OrganizationReconciler(cache, optimisticReconciliationExecutor, allocationSolver, MatchTolerance.exact(),
+                LedgerMatchingEngine.DEFAULT_ZONE, reconciliationObserver);
+    }
+
+    /**
+     * Com o sharding ligado, a conciliação passa pelo ShardCoordinator, que só aceita as organizações desta instância.
+     */
+    @Bean
+    public BankTransactionConsumer bankTransactionConsumer(BankTransactionLedgerRepository ledgers, OpenLedgerCache cache,
+                                                           OrganizationLaneExecutor reconciliationLaneExecutor,
+                                                           Optional<ShardCoordinator> shardCoordinator, OrganizationReconciler organizationReconciler) {
+        OrganizationTaskSubmitter submitter = shardCoordinator.<OrganizationTaskSubmitter>map(coordinator -> coordinator::submit)
+                .orElse(reconciliationLaneExecutor::submit);
+        return new BankTransactionConsumer(ledgers, cache, submitter, organizationReconciler);
+    }
+}
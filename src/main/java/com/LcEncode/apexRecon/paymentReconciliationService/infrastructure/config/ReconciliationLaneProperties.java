@@ -0,0 +1,17 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * apexrecon.reconciliation.lanes.*: lanes por organização dos consumidores da conciliação. count fixa o paralelismo
+ * máximo entre organizações; queue-capacity e offer-timeout definem quando a backpressure chega ao broker.
+ */
+@ConfigurationProperties("apexrecon.reconciliation.lanes")
+public record ReconciliationLaneProperties(
+        @DefaultValue("32") int count,
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("30s") Duration offerTimeout
+) {}
@@ -0,0 +1,16 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * apexrecon.reconciliation.listener.*: fila da conciliação ligada ao exchange das transações ingeridas. exchange e
+ * routing-key precisam bater com apexrecon.outbox.*; com enabled=false nenhuma transação chega às lanes.
+ */
+@ConfigurationProperties("apexrecon.reconciliation.listener")
+public record ReconciliationListenerProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("apexrecon.reconciliation.bank-transactions") String queue,
+        @DefaultValue("apexrecon.bank-transactions") String exchange,
+        @DefaultValue("bank-transaction.ingested") String routingKey
+) {}
@@ -0,0 +1,62 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.OpenLedgerCache;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.consumer.OrganizationLaneExecutor;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.sharding.ShardCoordinator;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.discovery.EurekaShardMembership;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.scheduling.ShardRebalanceJob;
+import com.netflix.appinfo.ApplicationInfoManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ReconciliationShardingProperties.class)
+@ConditionalOnProperty(prefix = "apexrecon.reconciliation.sharding", name = "enabled", havingValue = "true")
+public class ReconciliationShardingConfiguration {
+
+    @Bean
+    public EurekaShardMembership shardMembership(DiscoveryClient discoveryClient, ApplicationInfoManager applicationInfoManager,
+                                                 ReconciliationShardingProperties properties) {
+        return new EurekaShardMembership(discoveryClient, applicationInfoManager, properties.serviceId());
+    }
+
+    @Bean
+    public ShardCoordinator shardCoordinator(EurekaShardMembership membership, OrganizationLaneExecutor reconciliationLaneExecutor,
+                                             OpenLedgerCache cache, ReconciliationShardingProperties properties) {
+        var settings = new ShardCoordinator.Settings(properties.virtualNodes(), properties.handoffTimeout(), properties.drainTimeout());
+        return new ShardCoordinator(membership.instanceId(), membership, reconciliationLaneExecutor, cache, settings);
+    }
+
+    /**
+     * Entra no anel depois do registro no Eureka e sai (drenando) antes de as lanes fecharem e de o registro ser
+     * cancelado: a fase padrão do SmartLifecycle sobe por último e para primeiro.
+     */
+    @Bean
+    public SmartLifecycle shardCoordinatorLifecycle(ShardCoordinator coordinator) {
+        return new SmartLifecycle() {
+            @Override
+            public void start() {
+                coordinator.join();
+            }
+
+            @Override
+            public void stop() {
+                coordinator.leave();
+            }
+
+            @Override
+            public boolean isRunning() {
+                return coordinator.isActive();
+            }
+        };
+    }
+
+    @Bean
+    public ShardRebalanceJob shardRebalanceJob(ShardCoordinator coordinator) {
+        return new ShardRebalanceJob(coordinator);
+    }
+}
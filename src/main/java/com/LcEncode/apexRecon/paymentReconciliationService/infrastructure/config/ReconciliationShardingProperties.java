@@ -0,0 +1,20 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * apexrecon.reconciliation.sharding.*: divisão das organizações entre as instâncias registradas no Eureka como
+ * service-id. handoff-timeout deve cobrir a propagação do registro (replicação + fetch) mais uma drenagem.
+ */
+@ConfigurationProperties("apexrecon.reconciliation.sharding")
+public record ReconciliationShardingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("apexRecon") String serviceId,
+        @DefaultValue("128") int virtualNodes,
+        @DefaultValue("5s") Duration refreshInterval,
+        @DefaultValue("2m") Duration handoffTimeout,
+        @DefaultValue("30s") Duration drainTimeout
+) {}
@@ -0,0 +1,42 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import com.LcEncode.apexRecon.invoicingService.domain.gateway.ImportedInvoicesListener;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.CachingReconciliationRunRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reference.ReferenceIndexingReconciliationRunRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.reference.DescriptionReferenceIndex;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(ReferenceIndexProperties.class)
+public class ReferenceIndexConfiguration {
+
+    @Bean
+    public DescriptionReferenceIndex descriptionReferenceIndex(ReferenceIndexProperties properties) {
+        return new DescriptionReferenceIndex(properties.maxOrganizations(), properties.maxKeysPerDocument(), properties.maxDocumentFrequency());
+    }
+
+    /**
+     * Quem depende de ReconciliationRunRepository recebe a versão que mantém o cache e o índice atualizados.
+     */
+    @Bean
+    @Primary
+    public ReferenceIndexingReconciliationRunRepository referenceIndexingReconciliationRunRepository(CachingReconciliationRunRepository repository,
+                                                                                                    DescriptionReferenceIndex index) {
+        return new ReferenceIndexingReconciliationRunRepository(repository, index);
+    }
+
+    /**
+     * Faturas importadas entram no índice com a referência da linha do arquivo (número da NF).
+     */
+    @Bean
+    public ImportedInvoicesListener referenceIndexFeed(DescriptionReferenceIndex index) {
+        return (organizationId, invoices) -> invoices.forEach(imported -> index.indexInvoice(organizationId,
+                imported.invoice().getInvoice_id(), imported.invoice().getCustomer_id(),
+                imported.reference() == null ? List.of() : List.of(imported.reference())));
+    }
+}
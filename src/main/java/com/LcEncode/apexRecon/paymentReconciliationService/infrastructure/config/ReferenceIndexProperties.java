@@ -0,0 +1,16 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * apexrecon.reconciliation.reference-index.*: índice de referências das descrições bancárias. max-organizations
+ * limita as organizações em memória (LRU), max-keys-per-document os tokens e trigramas de cada fatura ou cliente e
+ * max-document-frequency descarta na busca chaves presentes em mais que essa fração dos documentos.
+ */
+@ConfigurationProperties("apexrecon.reconciliation.reference-index")
+public record ReferenceIndexProperties(
+        @DefaultValue("2000") int maxOrganizations,
+        @DefaultValue("128") int maxKeysPerDocument,
+        @DefaultValue("0.2") double maxDocumentFrequency
+) {}
@@ -0,0 +1,55 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.discovery;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.sharding.ShardMember;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.sharding.ShardMembership;
+import com.netflix.appinfo.ApplicationInfoManager;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * ShardMembership sobre o Eureka: o estado de cada instância vai nos metadados do registro. Uma publicação chega às
+ * outras instâncias depois da próxima replicação desta e do próximo fetch do registro delas (~30s cada, por padrão);
+ * instâncias sem os metadados (ainda não entraram no anel) ficam de fora.
+ */
+public class EurekaShardMembership implements ShardMembership {
+    static final String STATE = "apexrecon-shard-state";
+    static final String APPLIED_RING = "apexrecon-shard-applied-ring";
+
+    private final DiscoveryClient discoveryClient;
+    private final ApplicationInfoManager applicationInfoManager;
+    private final String serviceId;
+
+    public EurekaShardMembership(DiscoveryClient discoveryClient, ApplicationInfoManager applicationInfoManager, String serviceId) {
+        this.discoveryClient = discoveryClient;
+        this.applicationInfoManager = applicationInfoManager;
+        this.serviceId = serviceId;
+    }
+
+    public String instanceId() {
+        return applicationInfoManager.getInfo().getInstanceId();
+    }
+
+    @Override
+    public List<ShardMember> members() {
+        return discoveryClient.getInstances(serviceId).stream()
+                .map(instance -> member(instance.getInstanceId(), instance.getMetadata()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public void publish(ShardMember.State state, long appliedRing) {
+        applicationInfoManager.registerAppMetadata(Map.of(STATE, state.name(), APPLIED_RING, Long.toString(appliedRing)));
+    }
+
+    private static ShardMember member(String instanceId, Map<String, String> metadata) {
+        var state = metadata.get(STATE);
+        var appliedRing = metadata.get(APPLIED_RING);
+        if (instanceId == null || state == null || appliedRing == null) { return null; }
+
+        return new ShardMember(instanceId, ShardMember.State.valueOf(state), Long.parseLong(appliedRing));
+    }
+}
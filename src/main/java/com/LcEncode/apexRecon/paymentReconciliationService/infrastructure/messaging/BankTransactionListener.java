@@ -0,0 +1,50 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.messaging;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.consumer.BankTransactionConsumer;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.consumer.IngestedBankTransaction;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.DomainException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+
+import java.io.IOException;
+
+/**
+ * Consome as transações publicadas pelo relay da outbox (RabbitBankTransactionPublisher). O ack sai quando o
+ * consumer retorna, isto é, com o ledger gravado e a conciliação na lane. Mensagem ilegível, conexão desconhecida ou
+ * transação inválida são rejeitadas sem requeue; a recusa das lanes (cheia, organização de outra instância) devolve
+ * a mensagem ao broker. Os campos extras da mensagem (provider, ingestedAt) são ignorados.
+ */
+public class BankTransactionListener {
+    private final BankTransactionConsumer consumer;
+    private final ObjectMapper objectMapper;
+
+    public BankTransactionListener(BankTransactionConsumer consumer, ObjectMapper objectMapper) {
+        this.consumer = consumer;
+        this.objectMapper = objectMapper;
+    }
+
+    // Desserializado pelo Jackson via reflexão: o processamento AOT registra o record para a imagem nativa.
+    @RegisterReflectionForBinding(IngestedBankTransaction.class)
+    @RabbitListener(queues = "${apexrecon.reconciliation.listener.queue:apexrecon.reconciliation.bank-transactions}")
+    public void onMessage(Message message) {
+        IngestedBankTransaction transaction;
+        try {
+            transaction = objectMapper.readerFor(IngestedBankTransaction.class)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(message.getBody());
+        } catch (IOException e) {
+            throw new AmqpRejectAndDontRequeueException("Unreadable bank transaction message " + message.getMessageProperties().getMessageId(), e);
+        }
+
+        try {
+            consumer.accept(transaction);
+        } catch (ValidateException | DomainException e) {
+            throw new AmqpRejectAndDontRequeueException(e.getMessage(), e);
+        }
+    }
+}
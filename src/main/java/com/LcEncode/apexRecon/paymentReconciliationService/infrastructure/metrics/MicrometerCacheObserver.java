@@ -0,0 +1,109 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.metrics;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.CacheObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Métricas do OpenLedgerCache com a tag organization: leituras (result=hit|miss), tempo de carga e tamanho residente
+ * (itens e bytes estimados). Os meters de uma organização saem do registry quando ela é despejada do cache, então a
+ * cardinalidade acompanha as organizações residentes; os despejos por causa ficam sem a tag.
+ */
+public class MicrometerCacheObserver implements CacheObserver {
+    private final MeterRegistry registry;
+    private final Map<UUID, OrganizationMeters> organizations = new ConcurrentHashMap<>();
+
+    public MicrometerCacheObserver(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void hit(UUID organizationId) {
+        meters(organizationId).hits.increment();
+    }
+
+    @Override
+    public void miss(UUID organizationId) {
+        meters(organizationId).misses.increment();
+    }
+
+    @Override
+    public void loaded(UUID organizationId, Duration elapsed) {
+        meters(organizationId).load.record(elapsed);
+    }
+
+    @Override
+    public void resident(UUID organizationId, int items, long bytes) {
+        var meters = meters(organizationId);
+        meters.items.set(items);
+        meters.bytes.set(bytes);
+    }
+
+    @Override
+    public void evicted(UUID organizationId, EvictionCause cause) {
+        Counter.builder("apexrecon.reconciliation.ledger.cache.evictions")
+                .description("Organizações despejadas do cache de itens em aberto")
+                .tag("cause", cause.name().toLowerCase())
+                .register(registry)
+                .increment();
+
+        // Uma recarga por EXPIRED mantém a organização no cache; os meters continuam.
+        if (cause == EvictionCause.EXPIRED) { return; }
+        var meters = organizations.remove(organizationId);
+        if (meters != null) { meters.all().forEach(registry::remove); }
+    }
+
+    private OrganizationMeters meters(UUID organizationId) {
+        return organizations.computeIfAbsent(organizationId, id -> new OrganizationMeters(registry, id.toString()));
+    }
+
+    private static final class OrganizationMeters {
+        private final AtomicLong items = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private final Counter hits;
+        private final Counter misses;
+        private final Timer load;
+        private final Gauge itemsGauge;
+        private final Gauge bytesGauge;
+
+        OrganizationMeters(MeterRegistry registry, String organization) {
+            this.hits = requests(registry, organization, "hit");
+            this.misses = requests(registry, organization, "miss");
+            this.load = Timer.builder("apexrecon.reconciliation.ledger.cache.load")
+                    .description("Carga dos itens em aberto da organização a partir do banco")
+                    .tag("organization", organization)
+                    .register(registry);
+            this.itemsGauge = Gauge.builder("apexrecon.reconciliation.ledger.cache.resident.items", items, AtomicLong::get)
+                    .description("Ledgers em aberto da organização em memória")
+                    .tag("organization", organization)
+                    .register(registry);
+            this.bytesGauge = Gauge.builder("apexrecon.reconciliation.ledger.cache.resident.bytes", bytes, AtomicLong::get)
+                    .description("Memória estimada dos ledgers da organização em cache")
+                    .tag("organization", organization)
+                    .baseUnit("bytes")
+                    .register(registry);
+        }
+
+        List<Meter> all() {
+            return List.of(hits, misses, load, itemsGauge, bytesGauge);
+        }
+
+        private static Counter requests(MeterRegistry registry, String organization, String result) {
+            return Counter.builder("apexrecon.reconciliation.ledger.cache.requests")
+                    .description("Leituras de itens em aberto servidas pelo cache (hit) ou pelo banco (miss)")
+                    .tag("organization", organization)
+                    .tag("result", result)
+                    .register(registry);
+        }
+    }
+}
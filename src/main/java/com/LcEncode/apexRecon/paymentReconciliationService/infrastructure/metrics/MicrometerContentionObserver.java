@@ -0,0 +1,70 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.metrics;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.ContentionObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.LedgerContention;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Conflitos e novas tentativas de commit dos ledgers em contadores globais, sem tag por organização. As organizações
+ * mais disputadas aparecem só na amostra (sample): até hotOrganizations séries com a tag organization, substituídas
+ * por inteiro a cada amostragem.
+ */
+public class MicrometerContentionObserver implements ContentionObserver {
+    private final Counter conflicts;
+    private final Counter retries;
+    private final Counter exhausted;
+    private final MultiGauge hotConflicts;
+    private final int hotOrganizations;
+
+    public MicrometerContentionObserver(MeterRegistry registry, int hotOrganizations) {
+        if (hotOrganizations < 0) { throw new IllegalArgumentException("Hot organizations must be zero or positive"); }
+
+        this.conflicts = Counter.builder("apexrecon.reconciliation.ledger.conflicts")
+                .description("Commits recusados pelo compare-and-set de versão")
+                .register(registry);
+        this.retries = Counter.builder("apexrecon.reconciliation.ledger.retries")
+                .description("Replanejamentos após conflito de versão")
+                .register(registry);
+        this.exhausted = Counter.builder("apexrecon.reconciliation.ledger.retries.exhausted")
+                .description("Conciliações abandonadas após esgotar as tentativas")
+                .register(registry);
+        this.hotConflicts = MultiGauge.builder("apexrecon.reconciliation.ledger.hot.conflicts")
+                .description("Conflitos acumulados das organizações mais disputadas na última amostra")
+                .register(registry);
+        this.hotOrganizations = hotOrganizations;
+    }
+
+    @Override
+    public void conflict(UUID organizationId) {
+        conflicts.increment();
+    }
+
+    @Override
+    public void retry(UUID organizationId, int attempt) {
+        retries.increment();
+    }
+
+    @Override
+    public void exhausted(UUID organizationId) {
+        exhausted.increment();
+    }
+
+    @Override
+    public void forgotten(UUID organizationId) {}
+
+    /**
+     * Recebe o ranking de OptimisticReconciliationExecutor.contention() e publica as primeiras hotOrganizations.
+     */
+    public void sample(List<LedgerContention> contention) {
+        hotConflicts.register(contention.stream()
+                .limit(hotOrganizations)
+                .map(entry -> MultiGauge.Row.of(Tags.of("organization", entry.organizationId().toString()), entry.conflicts()))
+                .toList(), true);
+    }
+}
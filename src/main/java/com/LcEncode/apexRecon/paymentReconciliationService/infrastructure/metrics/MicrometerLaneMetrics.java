@@ -0,0 +1,56 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.metrics;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.consumer.LaneStats;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.consumer.OrganizationLaneExecutor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Situação de cada lane do OrganizationLaneExecutor com a tag lane (laneCount valores fixos): profundidade da fila,
+ * espera média na fila e tarefas concluídas, com falha e recusadas. Lido só no scrape; o submit não muda.
+ */
+public class MicrometerLaneMetrics implements MeterBinder {
+    private final OrganizationLaneExecutor executor;
+    private final String name;
+
+    public MicrometerLaneMetrics(OrganizationLaneExecutor executor, String name) {
+        this.executor = executor;
+        this.name = name;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (int i = 0; i < executor.laneCount(); i++) {
+            var lane = i;
+            var tag = String.valueOf(lane);
+            Gauge.builder("apexrecon.lane.depth", executor, value -> value.stats(lane).depth())
+                    .description("Tarefas na fila da lane")
+                    .tag("executor", name)
+                    .tag("lane", tag)
+                    .register(registry);
+            TimeGauge.builder("apexrecon.lane.queue.wait", executor, TimeUnit.NANOSECONDS, value -> value.stats(lane).averageQueueWait().toNanos())
+                    .description("Espera média da submissão ao início da execução")
+                    .tag("executor", name)
+                    .tag("lane", tag)
+                    .register(registry);
+            tasks(registry, lane, tag, "succeeded", stats -> stats.processed() - stats.failed());
+            tasks(registry, lane, tag, "failed", LaneStats::failed);
+            tasks(registry, lane, tag, "rejected", LaneStats::rejected);
+        }
+    }
+
+    private void tasks(MeterRegistry registry, int lane, String tag, String outcome, ToDoubleFunction<LaneStats> count) {
+        FunctionCounter.builder("apexrecon.lane.tasks", executor, value -> count.applyAsDouble(value.stats(lane)))
+                .description("Tarefas da lane por resultado")
+                .tag("executor", name)
+                .tag("lane", tag)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
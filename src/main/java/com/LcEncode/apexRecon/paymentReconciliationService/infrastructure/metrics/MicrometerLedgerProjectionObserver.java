@@ -0,0 +1,35 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.metrics;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.scheduling.LedgerProjectionObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.UUID;
+
+/**
+ * Ledgers travados e positions abandonadas pelo projetor do event-log, sem tags: um valor acima de zero pede olhar a
+ * linha contra ledger_events.
+ */
+public class MicrometerLedgerProjectionObserver implements LedgerProjectionObserver {
+    private final Counter stuck;
+    private final Counter abandoned;
+
+    public MicrometerLedgerProjectionObserver(MeterRegistry registry) {
+        this.stuck = Counter.builder("apexrecon.ledger.projection.stuck")
+                .description("Ledgers cuja linha não pôde ser alcançada pelo projetor")
+                .register(registry);
+        this.abandoned = Counter.builder("apexrecon.ledger.projection.gaps.abandoned")
+                .description("Positions puladas que não apareceram em ledger_events")
+                .register(registry);
+    }
+
+    @Override
+    public void stuck(UUID ledgerId) {
+        stuck.increment();
+    }
+
+    @Override
+    public void gapAbandoned(long position) {
+        abandoned.increment();
+    }
+}
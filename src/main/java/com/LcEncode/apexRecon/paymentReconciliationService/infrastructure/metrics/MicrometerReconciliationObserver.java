@@ -0,0 +1,143 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.metrics;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.ReconciliationObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.AllocateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.LedgerTransitionException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.OverpaymentException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.PaymentAmoutException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerType;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerApplyResult;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.SolverOutcome;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.SolverStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas das conciliações, sem a tag organization (cardinalidade fixa):
+ * - apexrecon.reconciliation.run.match.rate / auto.match.ratio: uma amostra por run (0 a 1), e run.duration por outcome;
+ * - apexrecon.reconciliation.solver.candidates / solver.duration: tamanho do conjunto de candidatos e tempo de cada
+ *   busca do AllocationSolver, por outcome;
+ * - apexrecon.reconciliation.ledger.apply.rejections: tryApplyPayment/tryApplyAllocation recusados pelo planner,
+ *   pelas tags ledger e outcome;
+ * - apexrecon.reconciliation.ledger.rejections: applyPayment/applyAllocation cuja exceção escapou do planner, pela tag
+ *   exception.
+ * Os meters são registrados no construtor; a gravação só indexa arrays e um mapa já populado, sem alocar.
+ */
+public class MicrometerReconciliationObserver implements ReconciliationObserver {
+    private static final SolverOutcome[] OUTCOMES = SolverOutcome.values();
+    private static final LedgerType[] LEDGERS = LedgerType.values();
+    private static final LedgerApplyResult.Outcome[] APPLY_OUTCOMES = LedgerApplyResult.Outcome.values();
+    private static final List<Class<? extends RuntimeException>> REJECTIONS = List.of(
+            PaymentAmoutException.class, AllocateException.class, LedgerTransitionException.class, OverpaymentException.class);
+    private static final double[] RATIO_BUCKETS = {0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 1.0};
+
+    private final MeterRegistry registry;
+    private final DistributionSummary matchRate;
+    private final DistributionSummary autoMatchRatio;
+    private final Timer committedRuns;
+    private final Timer emptyRuns;
+    private final DistributionSummary[] candidates = new DistributionSummary[OUTCOMES.length];
+    private final Timer[] solverDuration = new Timer[OUTCOMES.length];
+    private final Counter[][] applyRejections = new Counter[LEDGERS.length][APPLY_OUTCOMES.length];
+    private final Map<Class<?>, Counter> rejections = new ConcurrentHashMap<>();
+
+    public MicrometerReconciliationObserver(MeterRegistry registry, int maxCandidates, Duration maxSolverTime) {
+        this.registry = registry;
+        this.matchRate = ratio(registry, "apexrecon.reconciliation.run.match.rate", "Fração das transações avaliadas que recebeu alocação na run");
+        this.autoMatchRatio = ratio(registry, "apexrecon.reconciliation.run.auto.match.ratio", "Fração das transações alocadas conciliada por completo na run");
+        this.committedRuns = run(registry, "committed");
+        this.emptyRuns = run(registry, "empty");
+
+        for (var outcome : OUTCOMES) {
+            var tag = outcome.name().toLowerCase(Locale.ROOT);
+            candidates[outcome.ordinal()] = DistributionSummary.builder("apexrecon.reconciliation.solver.candidates")
+                    .description("Candidatos entregues a uma busca do AllocationSolver")
+                    .tag("outcome", tag)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(1.0)
+                    .maximumExpectedValue((double) maxCandidates)
+                    .register(registry);
+            // Buscas acima de maxTime saem como BUDGET_EXHAUSTED; o histograma vai um pouco além para mostrar o estouro.
+            solverDuration[outcome.ordinal()] = Timer.builder("apexrecon.reconciliation.solver.duration")
+                    .description("Tempo de uma busca do AllocationSolver")
+                    .tag("outcome", tag)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofNanos(1_000))
+                    .maximumExpectedValue(maxSolverTime.multipliedBy(4))
+                    .register(registry);
+        }
+        for (var ledger : LEDGERS) {
+            for (var outcome : APPLY_OUTCOMES) {
+                if (outcome == LedgerApplyResult.Outcome.ACCEPTED) { continue; }
+
+                applyRejections[ledger.ordinal()][outcome.ordinal()] = Counter.builder("apexrecon.reconciliation.ledger.apply.rejections")
+                        .description("tryApplyPayment/tryApplyAllocation recusados durante o planejamento de uma conciliação")
+                        .tag("ledger", ledger.name().toLowerCase(Locale.ROOT))
+                        .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                        .register(registry);
+            }
+        }
+        REJECTIONS.forEach(type -> rejections.put(type, rejection(registry, type)));
+    }
+
+    @Override
+    public void completed(ReconciliationRun run, long elapsedNanos) {
+        (run.isEmpty() ? emptyRuns : committedRuns).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (run.consideredBankTransactions() == 0) { return; }
+
+        matchRate.record(run.matchRate());
+        if (!run.bankTransactions().isEmpty()) { autoMatchRatio.record(run.autoMatchRatio()); }
+    }
+
+    @Override
+    public void rejected(LedgerType ledger, LedgerApplyResult.Outcome outcome) {
+        var counter = applyRejections[ledger.ordinal()][outcome.ordinal()];
+        if (counter != null) { counter.increment(); }
+    }
+
+    @Override
+    public void rejected(Class<? extends RuntimeException> rejection) {
+        var counter = rejections.get(rejection);
+        if (counter == null) { counter = rejections.computeIfAbsent(rejection, type -> rejection(registry, rejection)); }
+        counter.increment();
+    }
+
+    @Override
+    public void searched(SolverStats stats) {
+        var outcome = stats.outcome().ordinal();
+        candidates[outcome].record(stats.candidateCount());
+        solverDuration[outcome].record(stats.elapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private static DistributionSummary ratio(MeterRegistry registry, String name, String description) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .serviceLevelObjectives(RATIO_BUCKETS)
+                .register(registry);
+    }
+
+    private static Timer run(MeterRegistry registry, String outcome) {
+        return Timer.builder("apexrecon.reconciliation.run.duration")
+                .description("Conciliação de uma organização, do primeiro planejamento ao commit")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Counter rejection(MeterRegistry registry, Class<?> type) {
+        return Counter.builder("apexrecon.reconciliation.ledger.rejections")
+                .description("applyPayment/applyAllocation recusados durante o planejamento de uma conciliação")
+                .tag("exception", type.getSimpleName())
+                .register(registry);
+    }
+}
@@ -0,0 +1,77 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.persistence;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.export.AllocationExportRow;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.AllocationExportRepository;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Leitura em streaming do Connector/J (fetch size Integer.MIN_VALUE): o servidor envia as linhas conforme a consulta
+ * as produz e o driver entrega uma de cada vez, sem carregar o resultado. O cursor de servidor (useCursorFetch)
+ * materializaria o resultado inteiro numa tabela temporária antes da primeira linha; aqui a primeira linha sai
+ * assim que é lida de idx_org_allocation, e cada join é uma busca pela chave primária, sem ordenação.
+ * A conexão fica dedicada à leitura até o fim; o driver estende net_write_timeout (netTimeoutForStreamingResults)
+ * para clientes lentos.
+ */
+@Repository
+public class JdbcAllocationExportRepository implements AllocationExportRepository {
+    private static final String SELECT_ALLOCATIONS = """
+            SELECT a.allocation_id, a.created_at, a.allocated_amount,
+                   a.payment_id, p.payment_date,
+                   a.invoice_id, i.customer_id, i.due_date, i.total_amount, i.status AS invoice_status,
+                   a.bank_transaction_id, b.amount AS bank_transaction_amount, b.transaction_date
+            FROM reconciliation_allocations a FORCE INDEX (idx_org_allocation)
+            JOIN payments p ON p.payment_id = a.payment_id
+            JOIN invoices_ledger i ON i.invoice_id = a.invoice_id
+            JOIN bank_transactions_ledger b ON b.bank_transaction_id = a.bank_transaction_id
+            WHERE a.organization_id = ?""";
+    private static final String AFTER_ALLOCATION = " AND a.allocation_id > ?";
+    private static final String ORDER = " ORDER BY a.allocation_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcAllocationExportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long forEach(UUID organizationId, UUID afterAllocationId, Consumer<AllocationExportRow> sink) {
+        var sql = SELECT_ALLOCATIONS + (afterAllocationId == null ? "" : AFTER_ALLOCATION) + ORDER;
+        var rows = new long[1];
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            statement.setBytes(1, UuidBinary.toBytes(organizationId));
+            if (afterAllocationId != null) { statement.setBytes(2, UuidBinary.toBytes(afterAllocationId)); }
+            return statement;
+        }, resultSet -> {
+            Timestamp createdAt = resultSet.getTimestamp("created_at");
+            Date dueDate = resultSet.getDate("due_date");
+            sink.accept(new AllocationExportRow(
+                    UuidBinary.fromBytes(resultSet.getBytes("allocation_id")),
+                    createdAt == null ? null : createdAt.toInstant(),
+                    Money.of(resultSet.getBigDecimal("allocated_amount")),
+                    UuidBinary.fromBytes(resultSet.getBytes("payment_id")),
+                    resultSet.getTimestamp("payment_date").toInstant(),
+                    UuidBinary.fromBytes(resultSet.getBytes("invoice_id")),
+                    UuidBinary.fromBytes(resultSet.getBytes("customer_id")),
+                    dueDate == null ? null : dueDate.toLocalDate(),
+                    Money.of(resultSet.getBigDecimal("total_amount")),
+                    LedgerStatus.valueOf(resultSet.getString("invoice_status")),
+                    UuidBinary.fromBytes(resultSet.getBytes("bank_transaction_id")),
+                    Money.of(resultSet.getBigDecimal("bank_transaction_amount")),
+                    resultSet.getTimestamp("transaction_date").toInstant()));
+            rows[0]++;
+        });
+        return rows[0];
+    }
+}
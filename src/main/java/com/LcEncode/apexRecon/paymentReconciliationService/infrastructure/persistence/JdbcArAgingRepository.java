@@ -0,0 +1,231 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.persistence;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.aging.AgingBalance;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.aging.AgingBucket;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.ArAgingRepository;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Projeção de aging em ar_aging: uma linha por (organização, cliente, faixa) e as linhas de total da organização
+ * (customer_id zerado), atualizadas por deltas com INSERT ... ON DUPLICATE KEY UPDATE.
+ * Cada organização tem a própria data de referência em ar_aging_organization_state. Quem altera a projeção trava
+ * antes a linha da organização: o roll-over com FOR UPDATE, as gravações (commit da conciliação, importação, rebuild)
+ * com FOR SHARE via lockAsOf, sempre antes de tocar invoices_ledger. Assim o roll-over de uma organização nunca corre
+ * junto com um delta dela calculado na data anterior, e organizações diferentes não disputam lock nenhum.
+ * ar_aging_state guarda só o calendário do roll-over, de onde sai a data de uma organização que ainda não tem linha.
+ */
+@Repository
+public class JdbcArAgingRepository implements ArAgingRepository {
+    private static final String SELECT_CALENDAR = "SELECT as_of FROM ar_aging_state WHERE id = 1";
+    private static final String ADVANCE_CALENDAR = "UPDATE ar_aging_state SET as_of = ? WHERE id = 1 AND as_of < ?";
+    private static final String SELECT_AS_OF = "SELECT as_of FROM ar_aging_organization_state WHERE organization_id = ?";
+    private static final String SELECT_AS_OF_FOR_SHARE = SELECT_AS_OF + " FOR SHARE";
+    private static final String SELECT_AS_OF_FOR_UPDATE = SELECT_AS_OF + " FOR UPDATE";
+    private static final String INSERT_AS_OF = "INSERT IGNORE INTO ar_aging_organization_state (organization_id, as_of) VALUES (?, ?)";
+    private static final String UPDATE_AS_OF = "UPDATE ar_aging_organization_state SET as_of = ? WHERE organization_id = ?";
+    static final String OPEN_STATUSES = "('OPEN', 'PARTIALLY_PAID', 'OVERDUE')";
+    private static final int MAX_IN_LIST = 10_000;
+
+    /**
+     * Aplica um delta ao cliente da fatura e ao total da organização; parâmetros: valor, faturas, as_of, invoice_id,
+     * organization_id.
+     */
+    static final String APPLY_INVOICE_DELTA = """
+            INSERT INTO ar_aging (organization_id, customer_id, bucket, amount, invoices)
+            SELECT * FROM (
+                SELECT l.organization_id, IF(scope.total, %s, l.customer_id) AS customer_id, %s AS bucket, ? AS amount, ? AS invoices
+                FROM (SELECT CAST(? AS DATE) AS as_of) reference
+                CROSS JOIN invoices_ledger l
+                CROSS JOIN (SELECT FALSE AS total UNION ALL SELECT TRUE) scope
+                WHERE l.invoice_id = ? AND l.organization_id = ?
+            ) AS delta
+            ON DUPLICATE KEY UPDATE amount = ar_aging.amount + delta.amount, invoices = ar_aging.invoices + delta.invoices"""
+            .formatted(organizationTotal(), bucket("l.due_date", "reference.as_of"));
+
+    private static final String APPLY_NEW_INVOICES = """
+            INSERT INTO ar_aging (organization_id, customer_id, bucket, amount, invoices)
+            SELECT * FROM (
+                SELECT l.organization_id, IF(scope.total, %s, l.customer_id) AS customer_id, %s AS bucket, SUM(l.amount_due) AS amount, COUNT(*) AS invoices
+                FROM (SELECT CAST(? AS DATE) AS as_of) reference
+                CROSS JOIN invoices_ledger l
+                CROSS JOIN (SELECT FALSE AS total UNION ALL SELECT TRUE) scope
+                WHERE l.status IN %s AND l.invoice_id IN (%%s)
+                GROUP BY 1, 2, 3
+            ) AS delta
+            ON DUPLICATE KEY UPDATE amount = ar_aging.amount + delta.amount, invoices = ar_aging.invoices + delta.invoices"""
+            .formatted(organizationTotal(), bucket("l.due_date", "reference.as_of"), OPEN_STATUSES);
+    private static final String SELECT_BALANCES = "SELECT organization_id, customer_id, bucket, amount, invoices FROM ar_aging WHERE organization_id = ?";
+    private static final String SELECT_CUSTOMER = SELECT_BALANCES + " AND customer_id = ?";
+    private static final String COMPUTE = """
+            SELECT l.organization_id, IF(scope.total, %s, l.customer_id) AS customer_id, %s AS bucket, SUM(l.amount_due) AS amount, COUNT(*) AS invoices
+            FROM (SELECT CAST(? AS DATE) AS as_of) reference
+            CROSS JOIN invoices_ledger l
+            CROSS JOIN (SELECT FALSE AS total UNION ALL SELECT TRUE) scope
+            WHERE l.organization_id = ? AND l.status IN %s
+            GROUP BY 1, 2, 3""".formatted(organizationTotal(), bucket("l.due_date", "reference.as_of"), OPEN_STATUSES);
+    private static final String DELETE_ORGANIZATION = "DELETE FROM ar_aging WHERE organization_id = ?";
+    private static final String INSERT_COMPUTED = "INSERT INTO ar_aging (organization_id, customer_id, bucket, amount, invoices) " + COMPUTE;
+    /**
+     * Faturas da organização com vencimento em um dia saem da faixa "from" e entram na "to"; parâmetros: to, from,
+     * organization_id, due_date.
+     */
+    private static final String MOVE_CROSSING = """
+            INSERT INTO ar_aging (organization_id, customer_id, bucket, amount, invoices)
+            SELECT * FROM (
+                SELECT l.organization_id, IF(scope.total, %1$s, l.customer_id) AS customer_id, moves.bucket, SUM(moves.direction * l.amount_due) AS amount, SUM(moves.direction) AS invoices
+                FROM invoices_ledger l
+                CROSS JOIN (SELECT FALSE AS total UNION ALL SELECT TRUE) scope
+                CROSS JOIN (SELECT ? AS bucket, 1 AS direction UNION ALL SELECT ?, -1) moves
+                WHERE l.organization_id = ? AND l.due_date = ? AND l.status IN %2$s
+                GROUP BY 1, 2, 3
+            ) AS delta
+            ON DUPLICATE KEY UPDATE amount = ar_aging.amount + delta.amount, invoices = ar_aging.invoices + delta.invoices"""
+            .formatted(organizationTotal(), OPEN_STATUSES);
+    private static final String SELECT_ORGANIZATIONS = """
+            SELECT DISTINCT organization_id FROM invoices_ledger
+            UNION
+            SELECT DISTINCT organization_id FROM ar_aging""";
+
+    private static final RowMapper<AgingBalance> BALANCE = (resultSet, row) -> new AgingBalance(
+            UuidBinary.fromBytes(resultSet.getBytes("organization_id")),
+            UuidBinary.fromBytes(resultSet.getBytes("customer_id")),
+            AgingBucket.fromCode(resultSet.getInt("bucket")),
+            Money.of(resultSet.getBigDecimal("amount")),
+            resultSet.getLong("invoices"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcArAgingRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public LocalDate asOf(UUID organizationId) {
+        var asOf = jdbcTemplate.queryForList(SELECT_AS_OF, Date.class, (Object) UuidBinary.toBytes(organizationId));
+        return asOf.isEmpty() ? calendar() : asOf.getFirst().toLocalDate();
+    }
+
+    @Override
+    public LocalDate calendar() {
+        return jdbcTemplate.queryForObject(SELECT_CALENDAR, Date.class).toLocalDate();
+    }
+
+    @Override
+    public List<AgingBalance> find(UUID organizationId, UUID customerId) {
+        return jdbcTemplate.query(SELECT_CUSTOMER, BALANCE, UuidBinary.toBytes(organizationId), UuidBinary.toBytes(customerId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Snapshot snapshot(UUID organizationId) {
+        // REPEATABLE READ: as três leituras enxergam o mesmo instante, e commit + delta de aging são uma transação só.
+        var asOf = asOf(organizationId);
+        var organization = UuidBinary.toBytes(organizationId);
+        var stored = jdbcTemplate.query(SELECT_BALANCES, BALANCE, organization);
+        var computed = jdbcTemplate.query(COMPUTE, BALANCE, Date.valueOf(asOf), organization);
+        return new Snapshot(asOf, stored, computed);
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(UUID organizationId) {
+        var asOf = lockAsOf(organizationId);
+        var organization = UuidBinary.toBytes(organizationId);
+        jdbcTemplate.update(DELETE_ORGANIZATION, (Object) organization);
+        jdbcTemplate.update(INSERT_COMPUTED, Date.valueOf(asOf), organization);
+    }
+
+    @Override
+    @Transactional
+    public void rollOver(UUID organizationId, LocalDate day) {
+        var organization = UuidBinary.toBytes(organizationId);
+        var asOf = lock(SELECT_AS_OF_FOR_UPDATE, organization);
+        if (!day.equals(asOf.plusDays(1))) { throw new IllegalStateException("Aging of " + organizationId + " is as of " + asOf + "; cannot roll over to " + day); }
+
+        // Em "day", quem venceu há 1, 31, 61 e 91 dias cruza um limite de faixa; as demais faturas não mudam de faixa.
+        var buckets = AgingBucket.values();
+        int[] crossingDays = {1, 31, 61, 91};
+        var arguments = new ArrayList<Object[]>(crossingDays.length);
+        for (int i = 0; i < crossingDays.length; i++) {
+            arguments.add(new Object[]{buckets[i + 1].code(), buckets[i].code(), organization, Date.valueOf(day.minusDays(crossingDays[i]))});
+        }
+        jdbcTemplate.batchUpdate(MOVE_CROSSING, arguments);
+        jdbcTemplate.update(UPDATE_AS_OF, Date.valueOf(day), organization);
+    }
+
+    @Override
+    public void advanceCalendar(LocalDate day) {
+        jdbcTemplate.update(ADVANCE_CALENDAR, Date.valueOf(day), Date.valueOf(day));
+    }
+
+    @Override
+    public List<UUID> organizations() {
+        var organizations = new LinkedHashSet<UUID>();
+        jdbcTemplate.query(SELECT_ORGANIZATIONS, resultSet -> { organizations.add(UuidBinary.fromBytes(resultSet.getBytes(1))); });
+        return List.copyOf(organizations);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public LocalDate lockAsOf(UUID organizationId) {
+        return lock(SELECT_AS_OF_FOR_SHARE, UuidBinary.toBytes(organizationId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyNewInvoices(UUID organizationId, LocalDate asOf, List<UUID> invoiceIds) {
+        // Um statement por bloco de MAX_IN_LIST faturas, para o IN não estourar o limite de placeholders.
+        for (int from = 0; from < invoiceIds.size(); from += MAX_IN_LIST) {
+            var chunk = invoiceIds.subList(from, Math.min(from + MAX_IN_LIST, invoiceIds.size()));
+            var arguments = new ArrayList<Object>(chunk.size() + 1);
+            arguments.add(Date.valueOf(asOf));
+            chunk.forEach(invoiceId -> arguments.add(UuidBinary.toBytes(invoiceId)));
+            jdbcTemplate.update(APPLY_NEW_INVOICES.formatted(String.join(", ", Collections.nCopies(chunk.size(), "?"))), arguments.toArray());
+        }
+    }
+
+    /**
+     * Lê a data da organização com o lock pedido, criando antes a linha (com a data do calendário) se ela ainda não
+     * existe. A primeira leitura é sem lock: um FOR SHARE vazio travaria o intervalo, e dois INSERTs da mesma
+     * organização nova entrariam em deadlock.
+     */
+    private LocalDate lock(String sql, byte[] organization) {
+        if (jdbcTemplate.queryForList(SELECT_AS_OF, Date.class, (Object) organization).isEmpty()) {
+            jdbcTemplate.update(INSERT_AS_OF, organization, Date.valueOf(calendar()));
+        }
+        return jdbcTemplate.queryForObject(sql, Date.class, (Object) organization).toLocalDate();
+    }
+
+    private static String organizationTotal() {
+        return "UNHEX('00000000000000000000000000000000')";
+    }
+
+    /**
+     * Mesma regra da migração V12 e de AgingBucket.of: a vencer até o próprio dia do vencimento, depois 1-30, 31-60,
+     * 61-90 e 90+ dias.
+     */
+    private static String bucket(String dueDate, String asOf) {
+        return """
+                CASE
+                    WHEN %1$s IS NULL OR DATEDIFF(%2$s, %1$s) <= 0 THEN 0
+                    WHEN DATEDIFF(%2$s, %1$s) <= 30 THEN 1
+                    WHEN DATEDIFF(%2$s, %1$s) <= 60 THEN 2
+                    WHEN DATEDIFF(%2$s, %1$s) <= 90 THEN 3
+                    ELSE 4
+                END""".formatted(dueDate, asOf);
+    }
+}
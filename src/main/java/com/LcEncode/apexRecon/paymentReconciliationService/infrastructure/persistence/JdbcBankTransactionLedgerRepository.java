@@ -0,0 +1,48 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.persistence;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.BankTransactionLedgerRepository;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * O INSERT é idempotente pela chave primária (o id da transação ingerida): o ON DUPLICATE KEY sem alteração afeta 0
+ * linhas, então uma reentrega não mexe no saldo nem na versão de um ledger que a conciliação já alterou.
+ */
+@Repository
+public class JdbcBankTransactionLedgerRepository implements BankTransactionLedgerRepository {
+    private static final String SELECT_ORGANIZATION = "SELECT organization_id FROM bank_connections WHERE id = ?";
+    private static final String INSERT_LEDGER = """
+            INSERT INTO bank_transactions_ledger (bank_transaction_id, organization_id, amount, amount_unmatched, status, transaction_date, description)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE bank_transaction_id = bank_transaction_id""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcBankTransactionLedgerRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<UUID> findOrganizationByConnection(UUID connectionId) {
+        return jdbcTemplate.query(SELECT_ORGANIZATION, (resultSet, row) -> UuidBinary.fromBytes(resultSet.getBytes("organization_id")),
+                UuidBinary.toBytes(connectionId)).stream().findFirst();
+    }
+
+    @Override
+    public boolean insertIfAbsent(BankTransactionLedger transaction) {
+        return jdbcTemplate.update(INSERT_LEDGER,
+                UuidBinary.toBytes(transaction.getBankTransactionId()),
+                UuidBinary.toBytes(transaction.getOrganizationId()),
+                transaction.getAmount().toBigDecimal(),
+                transaction.getAmountUnmatched().toBigDecimal(),
+                transaction.getStatus().name(),
+                Timestamp.from(transaction.getTransactionDate()),
+                transaction.getDescription()) == 1;
+    }
+}
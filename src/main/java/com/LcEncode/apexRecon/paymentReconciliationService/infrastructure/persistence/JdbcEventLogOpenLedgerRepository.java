@@ -0,0 +1,127 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.persistence;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.OpenLedgerRepository;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Leitura dos itens em aberto no modo event-log: a linha do ledger (como o projetor deixou, em event_sequence) mais os
+ * eventos ainda não projetados, em um único SELECT (mesma fotografia para as duas tabelas). A versão devolvida é a
+ * sequence do último evento, a base do próximo append. Ledgers que a cauda quitou não voltam.
+ */
+public class JdbcEventLogOpenLedgerRepository implements OpenLedgerRepository {
+    private static final String SELECT_OPEN_INVOICES = """
+            SELECT l.invoice_id, l.due_date, l.amount_due, l.status, l.event_sequence, e.sequence, e.amount, e.status AS event_status
+            FROM invoices_ledger l
+            LEFT JOIN ledger_events e ON e.ledger_id = l.invoice_id AND e.sequence > l.event_sequence
+            WHERE l.organization_id = ? AND l.status IN ('OPEN', 'PARTIALLY_PAID', 'OVERDUE')""";
+    private static final String SELECT_OPEN_BANK_TRANSACTIONS = """
+            SELECT l.bank_transaction_id, l.amount, l.amount_unmatched, l.status, l.transaction_date, l.description, l.event_sequence, e.sequence, e.amount AS event_amount, e.status AS event_status
+            FROM bank_transactions_ledger l
+            LEFT JOIN ledger_events e ON e.ledger_id = l.bank_transaction_id AND e.sequence > l.event_sequence
+            WHERE l.organization_id = ? AND l.status IN ('UNMATCHED', 'PARTIALLY_MATCHED')""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Linha do ledger com a cauda somada: saldo, sequence do evento mais recente e o status da linha seguido do status
+     * desse evento (LedgerStatus.then, como no projetor: um OVERDUE da linha só sai com PAID, que encerra o ledger).
+     */
+    private static final class Folded<B> {
+        private final B builder;
+        private final LedgerStatus rowStatus;
+        private long balance;
+        private long sequence;
+        private LedgerStatus eventStatus;
+
+        Folded(B builder, long balance, long sequence, LedgerStatus rowStatus) {
+            this.builder = builder;
+            this.balance = balance;
+            this.sequence = sequence;
+            this.rowStatus = rowStatus;
+        }
+
+        void apply(ResultSet resultSet, String amountColumn) throws SQLException {
+            var eventSequence = resultSet.getLong("sequence");
+            if (resultSet.wasNull()) { return; }
+
+            balance -= Money.of(resultSet.getBigDecimal(amountColumn)).minorUnits();
+            if (eventSequence > sequence) {
+                sequence = eventSequence;
+                eventStatus = LedgerStatus.valueOf(resultSet.getString("event_status"));
+            }
+        }
+
+        LedgerStatus status() {
+            return eventStatus == null ? rowStatus : rowStatus.then(eventStatus);
+        }
+    }
+
+    public JdbcEventLogOpenLedgerRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<InvoiceLedger> findOpenInvoices(UUID organizationId) {
+        var folded = new LinkedHashMap<UUID, Folded<InvoiceLedger.InvoiceLedgerBuilder>>();
+        jdbcTemplate.query(SELECT_OPEN_INVOICES, resultSet -> {
+            var id = UuidBinary.fromBytes(resultSet.getBytes("invoice_id"));
+            var ledger = folded.get(id);
+            if (ledger == null) {
+                Date dueDate = resultSet.getDate("due_date");
+                var builder = InvoiceLedger.builder().id(id).organizationId(organizationId).dueDate(dueDate == null ? null : dueDate.toLocalDate());
+                ledger = new Folded<>(builder, Money.of(resultSet.getBigDecimal("amount_due")).minorUnits(),
+                        resultSet.getLong("event_sequence"), LedgerStatus.valueOf(resultSet.getString("status")));
+                folded.put(id, ledger);
+            }
+            ledger.apply(resultSet, "amount");
+        }, UuidBinary.toBytes(organizationId));
+
+        var invoices = new ArrayList<InvoiceLedger>(folded.size());
+        for (var ledger : folded.values()) {
+            var invoice = ledger.builder.amountDue(Money.ofMinor(ledger.balance)).status(ledger.status()).version(ledger.sequence).build();
+            if (invoice.isOpen()) { invoices.add(invoice); }
+        }
+        return invoices;
+    }
+
+    @Override
+    public List<BankTransactionLedger> findOpenBankTransactions(UUID organizationId) {
+        var folded = new LinkedHashMap<UUID, Folded<BankTransactionLedger.BankTransactionLedgerBuilder>>();
+        jdbcTemplate.query(SELECT_OPEN_BANK_TRANSACTIONS, resultSet -> {
+            var id = UuidBinary.fromBytes(resultSet.getBytes("bank_transaction_id"));
+            var ledger = folded.get(id);
+            if (ledger == null) {
+                var builder = BankTransactionLedger.builder()
+                        .bankTransactionId(id)
+                        .organizationId(organizationId)
+                        .amount(resultSet.getBigDecimal("amount"))
+                        .transactionDate(resultSet.getTimestamp("transaction_date").toInstant())
+                        .description(resultSet.getString("description"));
+                ledger = new Folded<>(builder, Money.of(resultSet.getBigDecimal("amount_unmatched")).minorUnits(),
+                        resultSet.getLong("event_sequence"), LedgerStatus.valueOf(resultSet.getString("status")));
+                folded.put(id, ledger);
+            }
+            ledger.apply(resultSet, "event_amount");
+        }, UuidBinary.toBytes(organizationId));
+
+        var transactions = new ArrayList<BankTransactionLedger>(folded.size());
+        for (var ledger : folded.values()) {
+            var transaction = ledger.builder.amountUnmatched(Money.ofMinor(ledger.balance)).status(ledger.status()).version(ledger.sequence).build();
+            if (transaction.isOpen()) { transactions.add(transaction); }
+        }
+        return transactions;
+    }
+}
@@ -0,0 +1,312 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.persistence;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ConcurrentLedgerUpdateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerEvent;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerEventType;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerSnapshot;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerType;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.LedgerEventRepository;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.MultiRowInsert;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * ledger_events e ledger_snapshots (V16). append só faz INSERT multi-linha, na ordem binária dos ledgers (a mesma do
+ * UPDATE da conciliação, para que commits concorrentes travem as chaves do UNIQUE sempre na mesma ordem).
+ * project e reproject rodam em READ COMMITTED e travam a linha do checkpoint: um projetor por vez, entre todas as
+ * instâncias. project só aplica eventos gravados antes de settledBefore e devolve as positions puladas, que podem ser
+ * de um INSERT de position menor que ainda não commitou. O UPDATE exige que a linha esteja no evento anterior ao
+ * primeiro do lote (event_sequence); a linha que ficou atrás (o evento atrasado já passou do checkpoint) é travada e
+ * alcançada com os eventos que faltam, lidos de ledger_events por sequence, e só é reportada se a cauda tiver buraco.
+ * O status de invoices_ledger segue LedgerStatus.then: o OVERDUE gravado pelo OverdueSweeper só sai com PAID.
+ */
+@Repository
+public class JdbcLedgerEventRepository implements LedgerEventRepository {
+    private static final String INSERT_EVENTS = """
+            INSERT INTO ledger_events (organization_id, ledger_id, ledger_type, sequence, event_type, amount, status, recorded_at) VALUES """;
+    private static final String EVENT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SNAPSHOTS = "INSERT INTO ledger_snapshots (ledger_id, sequence, organization_id, ledger_type, balance, status) VALUES ";
+    private static final String SNAPSHOT_ROW = "(?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_CONFLICT = "SELECT ledger_id FROM ledger_events WHERE (ledger_id, sequence) IN ";
+    private static final String SELECT_LATEST_SNAPSHOT = """
+            SELECT ledger_id, sequence, organization_id, ledger_type, balance, status
+            FROM ledger_snapshots
+            WHERE ledger_id = ?
+            ORDER BY sequence DESC
+            LIMIT 1""";
+    private static final String SELECT_EVENTS = """
+            SELECT position, organization_id, ledger_id, ledger_type, sequence, event_type, amount, status, recorded_at
+            FROM ledger_events
+            WHERE ledger_id = ? AND sequence > ?
+            ORDER BY sequence""";
+    private static final String SELECT_EVENT_RANGE = """
+            SELECT position, organization_id, ledger_id, ledger_type, sequence, event_type, amount, status, recorded_at
+            FROM ledger_events
+            WHERE ledger_id = ? AND sequence > ? AND sequence <= ?
+            ORDER BY sequence""";
+    private static final String SELECT_AT_POSITIONS = """
+            SELECT position, organization_id, ledger_id, ledger_type, sequence, event_type, amount, status, recorded_at
+            FROM ledger_events
+            WHERE position IN """;
+    private static final String SELECT_CHECKPOINT = "SELECT position FROM ledger_event_projection WHERE id = 1 FOR UPDATE";
+    private static final String SELECT_UNPROJECTED = """
+            SELECT position, organization_id, ledger_id, ledger_type, sequence, event_type, amount, status, recorded_at
+            FROM ledger_events
+            WHERE position > ?
+            ORDER BY position
+            LIMIT ?""";
+    private static final String PROJECT_INVOICE = """
+            UPDATE invoices_ledger
+            SET amount_due = amount_due - ?, status = IF(status = 'OVERDUE' AND ? <> 'PAID', status, ?), event_sequence = ?, version = version + 1
+            WHERE invoice_id = ? AND event_sequence = ?""";
+    private static final String PROJECT_BANK_TRANSACTION = """
+            UPDATE bank_transactions_ledger SET amount_unmatched = amount_unmatched - ?, status = ?, event_sequence = ?, version = version + 1
+            WHERE bank_transaction_id = ? AND event_sequence = ?""";
+    private static final String LOCK_INVOICE = "SELECT event_sequence FROM invoices_ledger WHERE invoice_id = ? FOR UPDATE";
+    private static final String LOCK_BANK_TRANSACTION = "SELECT event_sequence FROM bank_transactions_ledger WHERE bank_transaction_id = ? FOR UPDATE";
+    private static final String UPDATE_CHECKPOINT = "UPDATE ledger_event_projection SET position = ? WHERE id = 1";
+    // 8 colunas por evento: bem abaixo do limite de placeholders do MySQL.
+    private static final int CHUNK_SIZE = 1_000;
+
+    private static final RowMapper<LedgerEvent> EVENT_MAPPER = (resultSet, row) -> new LedgerEvent(
+            UuidBinary.fromBytes(resultSet.getBytes("ledger_id")),
+            UuidBinary.fromBytes(resultSet.getBytes("organization_id")),
+            LedgerType.valueOf(resultSet.getString("ledger_type")),
+            resultSet.getLong("sequence"),
+            LedgerEventType.valueOf(resultSet.getString("event_type")),
+            Money.of(resultSet.getBigDecimal("amount")),
+            LedgerStatus.valueOf(resultSet.getString("status")),
+            resultSet.getTimestamp("recorded_at").toInstant());
+
+    private static final Target INVOICES = new Target(PROJECT_INVOICE, LOCK_INVOICE, true);
+    private static final Target BANK_TRANSACTIONS = new Target(PROJECT_BANK_TRANSACTION, LOCK_BANK_TRANSACTION, false);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * UPDATE e lock da linha de um tipo de ledger; keepsOverdue: o UPDATE recebe o status duas vezes (IF do OVERDUE).
+     */
+    private record Target(String project, String lockRow, boolean keepsOverdue) {
+        static Target of(LedgerType type) {
+            return type == LedgerType.INVOICE ? INVOICES : BANK_TRANSACTIONS;
+        }
+    }
+
+    /**
+     * Eventos de um ledger somados dentro de um lote do projetor.
+     */
+    private static final class Projection {
+        private final LedgerEvent first;
+        private long amount;
+        private LedgerEvent last;
+
+        Projection(LedgerEvent first) {
+            this.first = first;
+        }
+
+        void add(LedgerEvent event) {
+            amount += event.amount().minorUnits();
+            last = event;
+        }
+    }
+
+    public JdbcLedgerEventRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void append(UUID organizationId, List<LedgerEvent> events, List<LedgerSnapshot> snapshots) {
+        if (events.isEmpty()) { return; }
+
+        var sorted = new ArrayList<>(events);
+        sorted.sort(Comparator.comparing(LedgerEvent::ledgerId, UuidBinary.BINARY_ORDER));
+        try {
+            MultiRowInsert.insert(jdbcTemplate, INSERT_EVENTS, EVENT_ROW, 8, sorted, CHUNK_SIZE, (statement, index, event) -> {
+                statement.setBytes(index++, UuidBinary.toBytes(event.organizationId()));
+                statement.setBytes(index++, UuidBinary.toBytes(event.ledgerId()));
+                statement.setString(index++, event.ledgerType().name());
+                statement.setLong(index++, event.sequence());
+                statement.setString(index++, event.type().name());
+                statement.setBigDecimal(index++, event.amount().toBigDecimal());
+                statement.setString(index++, event.status().name());
+                statement.setTimestamp(index++, Timestamp.from(event.recordedAt()));
+                return index;
+            });
+        } catch (DuplicateKeyException e) {
+            var ledgerId = conflicting(sorted);
+            throw new ConcurrentLedgerUpdateException(organizationId, ledgerId, "Ledger " + ledgerId + " changed since it was read");
+        }
+
+        MultiRowInsert.insert(jdbcTemplate, INSERT_SNAPSHOTS, SNAPSHOT_ROW, 6, snapshots, CHUNK_SIZE, (statement, index, snapshot) -> {
+            statement.setBytes(index++, UuidBinary.toBytes(snapshot.ledgerId()));
+            statement.setLong(index++, snapshot.sequence());
+            statement.setBytes(index++, UuidBinary.toBytes(snapshot.organizationId()));
+            statement.setString(index++, snapshot.ledgerType().name());
+            statement.setBigDecimal(index++, snapshot.balance().toBigDecimal());
+            statement.setString(index++, snapshot.status().name());
+            return index;
+        });
+    }
+
+    @Override
+    public Optional<LedgerSnapshot> latestSnapshot(UUID ledgerId) {
+        return jdbcTemplate.query(SELECT_LATEST_SNAPSHOT, (resultSet, row) -> new LedgerSnapshot(
+                ledgerId,
+                UuidBinary.fromBytes(resultSet.getBytes("organization_id")),
+                LedgerType.valueOf(resultSet.getString("ledger_type")),
+                resultSet.getLong("sequence"),
+                Money.of(resultSet.getBigDecimal("balance")),
+                LedgerStatus.valueOf(resultSet.getString("status"))), UuidBinary.toBytes(ledgerId)).stream().findFirst();
+    }
+
+    @Override
+    public List<LedgerEvent> events(UUID ledgerId, long afterSequence) {
+        return jdbcTemplate.query(SELECT_EVENTS, EVENT_MAPPER, UuidBinary.toBytes(ledgerId), afterSequence);
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public ProjectionResult project(int limit, Instant settledBefore) {
+        var checkpoint = jdbcTemplate.queryForObject(SELECT_CHECKPOINT, Long.class);
+        var positions = new ArrayList<Long>(limit);
+        var events = jdbcTemplate.query(SELECT_UNPROJECTED, (resultSet, row) -> {
+            positions.add(resultSet.getLong("position"));
+            return EVENT_MAPPER.mapRow(resultSet, row);
+        }, checkpoint, limit);
+
+        // Corta no primeiro evento recente: os seguintes podem ter vizinhos de position menor ainda em andamento.
+        var settled = 0;
+        while (settled < events.size() && events.get(settled).recordedAt().isBefore(settledBefore)) { settled++; }
+        if (settled == 0) { return ProjectionResult.EMPTY; }
+
+        // Até limit positions puladas por lote; as demais só voltam com o próximo evento do ledger.
+        var gaps = new ArrayList<Long>();
+        var expected = checkpoint + 1;
+        for (var position : positions.subList(0, settled)) {
+            while (expected < position && gaps.size() < limit) { gaps.add(expected++); }
+            expected = position + 1;
+        }
+
+        var projections = new LinkedHashMap<UUID, Projection>();
+        for (var event : events.subList(0, settled)) { projections.computeIfAbsent(event.ledgerId(), id -> new Projection(event)).add(event); }
+
+        var invoices = new ArrayList<Projection>();
+        var transactions = new ArrayList<Projection>();
+        for (var projection : projections.values()) { (projection.first.ledgerType() == LedgerType.INVOICE ? invoices : transactions).add(projection); }
+        var stuck = new ArrayList<UUID>();
+        apply(INVOICES, invoices, stuck);
+        apply(BANK_TRANSACTIONS, transactions, stuck);
+
+        jdbcTemplate.update(UPDATE_CHECKPOINT, positions.get(settled - 1));
+        return new ProjectionResult(settled, gaps, stuck);
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public ProjectionResult reproject(Collection<Long> positions) {
+        if (positions.isEmpty()) { return ProjectionResult.EMPTY; }
+
+        jdbcTemplate.queryForObject(SELECT_CHECKPOINT, Long.class);
+        var missing = new LinkedHashSet<>(positions);
+        var latest = new LinkedHashMap<UUID, LedgerEvent>();
+        var all = new ArrayList<>(positions);
+        for (int from = 0; from < all.size(); from += CHUNK_SIZE) {
+            var chunk = all.subList(from, Math.min(from + CHUNK_SIZE, all.size()));
+            jdbcTemplate.query(SELECT_AT_POSITIONS + "(" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")", resultSet -> {
+                missing.remove(resultSet.getLong("position"));
+                var event = EVENT_MAPPER.mapRow(resultSet, 0);
+                latest.merge(event.ledgerId(), event, (current, found) -> found.sequence() > current.sequence() ? found : current);
+            }, chunk.toArray());
+        }
+
+        var ledgers = new ArrayList<>(latest.values());
+        ledgers.sort(Comparator.comparing(LedgerEvent::ledgerId, UuidBinary.BINARY_ORDER));
+        var stuck = new ArrayList<UUID>();
+        for (var event : ledgers) {
+            if (!catchUp(Target.of(event.ledgerType()), event.ledgerId(), event.sequence())) { stuck.add(event.ledgerId()); }
+        }
+        return new ProjectionResult(positions.size() - missing.size(), List.copyOf(missing), stuck);
+    }
+
+    /**
+     * Um UPDATE por ledger, em lote e na ordem binária; as linhas que não estavam no evento anterior ao primeiro do
+     * lote são alcançadas uma a uma, e as que não puderam ser alcançadas vão para stuck.
+     */
+    private void apply(Target target, List<Projection> ledgers, List<UUID> stuck) {
+        if (ledgers.isEmpty()) { return; }
+
+        ledgers.sort(Comparator.comparing(ledger -> ledger.first.ledgerId(), UuidBinary.BINARY_ORDER));
+        var chunks = jdbcTemplate.batchUpdate(target.project, ledgers, CHUNK_SIZE, (statement, ledger) -> bind(target, statement, ledger));
+        var index = 0;
+        for (int[] chunk : chunks) {
+            for (int affected : chunk) {
+                var ledger = ledgers.get(index++);
+                if (affected == 1) { continue; }
+                if (affected != 0) { throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(target.project, 1, affected); }
+                if (!catchUp(target, ledger.first.ledgerId(), ledger.last.sequence())) { stuck.add(ledger.first.ledgerId()); }
+            }
+        }
+    }
+
+    /**
+     * Trava a linha e aplica os eventos de event_sequence até upTo. false quando a linha não existe ou a cauda tem
+     * buraco: nada é gravado e o ledger espera o próximo evento ou a próxima releitura.
+     */
+    private boolean catchUp(Target target, UUID ledgerId, long upTo) {
+        var id = UuidBinary.toBytes(ledgerId);
+        var rows = jdbcTemplate.queryForList(target.lockRow, Long.class, id);
+        if (rows.isEmpty()) { return false; }
+
+        var applied = rows.getFirst();
+        if (applied >= upTo) { return true; }
+        var tail = jdbcTemplate.query(SELECT_EVENT_RANGE, EVENT_MAPPER, id, applied, upTo);
+        if (tail.size() != upTo - applied) { return false; }
+
+        var ledger = new Projection(tail.getFirst());
+        tail.forEach(ledger::add);
+        return jdbcTemplate.update(target.project, statement -> bind(target, statement, ledger)) == 1;
+    }
+
+    private static void bind(Target target, PreparedStatement statement, Projection ledger) throws SQLException {
+        var index = 1;
+        statement.setBigDecimal(index++, Money.ofMinor(ledger.amount).toBigDecimal());
+        if (target.keepsOverdue) { statement.setString(index++, ledger.last.status().name()); }
+        statement.setString(index++, ledger.last.status().name());
+        statement.setLong(index++, ledger.last.sequence());
+        statement.setBytes(index++, UuidBinary.toBytes(ledger.first.ledgerId()));
+        statement.setLong(index, ledger.first.sequence() - 1);
+    }
+
+    private UUID conflicting(List<LedgerEvent> events) {
+        var arguments = new ArrayList<Object>(events.size() * 2);
+        for (var event : events) {
+            arguments.add(UuidBinary.toBytes(event.ledgerId()));
+            arguments.add(event.sequence());
+        }
+        var sql = SELECT_CONFLICT + "(" + String.join(", ", Collections.nCopies(events.size(), "(?, ?)")) + ") LIMIT 1";
+        return jdbcTemplate.query(sql, (resultSet, row) -> UuidBinary.fromBytes(resultSet.getBytes(1)), arguments.toArray())
+                .stream().findFirst().orElse(null);
+    }
+}
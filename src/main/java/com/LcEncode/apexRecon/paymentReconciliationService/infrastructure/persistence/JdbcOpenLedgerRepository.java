@@ -0,0 +1,64 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.persistence;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.OpenLedgerRepository;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Leitura dos itens em aberto de uma organização. As duas consultas usam índices que começam por
+ * (organization_id, status), então o custo é proporcional aos itens em aberto e não ao histórico da organização.
+ */
+@Repository
+public class JdbcOpenLedgerRepository implements OpenLedgerRepository {
+    private static final String SELECT_OPEN_INVOICES = """
+            SELECT invoice_id, due_date, amount_due, status, version
+            FROM invoices_ledger
+            WHERE organization_id = ? AND status IN ('OPEN', 'PARTIALLY_PAID', 'OVERDUE')""";
+    private static final String SELECT_OPEN_BANK_TRANSACTIONS = """
+            SELECT bank_transaction_id, amount, amount_unmatched, status, transaction_date, description, version
+            FROM bank_transactions_ledger
+            WHERE organization_id = ? AND status IN ('UNMATCHED', 'PARTIALLY_MATCHED')""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcOpenLedgerRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<InvoiceLedger> findOpenInvoices(UUID organizationId) {
+        return jdbcTemplate.query(SELECT_OPEN_INVOICES, (resultSet, row) -> {
+            Date dueDate = resultSet.getDate("due_date");
+            return InvoiceLedger.builder()
+                    .id(UuidBinary.fromBytes(resultSet.getBytes("invoice_id")))
+                    .organizationId(organizationId)
+                    .dueDate(dueDate == null ? null : dueDate.toLocalDate())
+                    .amountDue(resultSet.getBigDecimal("amount_due"))
+                    .status(LedgerStatus.valueOf(resultSet.getString("status")))
+                    .version(resultSet.getLong("version"))
+                    .build();
+        }, UuidBinary.toBytes(organizationId));
+    }
+
+    @Override
+    public List<BankTransactionLedger> findOpenBankTransactions(UUID organizationId) {
+        return jdbcTemplate.query(SELECT_OPEN_BANK_TRANSACTIONS, (resultSet, row) -> BankTransactionLedger.builder()
+                .bankTransactionId(UuidBinary.fromBytes(resultSet.getBytes("bank_transaction_id")))
+                .organizationId(organizationId)
+                .amount(resultSet.getBigDecimal("amount"))
+                .amountUnmatched(resultSet.getBigDecimal("amount_unmatched"))
+                .status(LedgerStatus.valueOf(resultSet.getString("status")))
+                .transactionDate(resultSet.getTimestamp("transaction_date").toInstant())
+                .description(resultSet.getString("description"))
+                .version(resultSet.getLong("version"))
+                .build(), UuidBinary.toBytes(organizationId));
+    }
+}
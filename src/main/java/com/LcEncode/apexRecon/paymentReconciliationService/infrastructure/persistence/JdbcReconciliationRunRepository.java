@@ -0,0 +1,196 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.persistence;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.eventlog.LedgerEventLog;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ConcurrentLedgerUpdateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.Payment;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.ReconciliationAllocation;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.ArAgingRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.ReconciliationRunRepository;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.MultiRowInsert;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Persiste uma ReconciliationRun inteira em uma transação, com uma ida ao banco por bloco de linhas:
+ * - os UPDATEs dos ledgers vão em batch, ordenados pela chave primária (invoices antes de bank transactions),
+ *   para que execuções concorrentes travem as linhas sempre na mesma ordem e não entrem em deadlock;
+ * - cada UPDATE é condicional à versão lida (compare-and-set): se outra execução gravou o ledger antes, nenhuma linha
+ *   é afetada e a run inteira sofre rollback com ConcurrentLedgerUpdateException, sem SELECT ... FOR UPDATE na leitura;
+ * - payments e reconciliation_allocations entram como INSERT multi-linha, independente do driver;
+ * - a projeção de aging (ar_aging) recebe na mesma transação o delta de cada fatura paga.
+ * Os batches de UPDATE dependem de rewriteBatchedStatements=true no driver (application.yml) para virar um só envio.
+ * Com o LedgerEventLog ligado, os ledgers não recebem UPDATE: a run vira eventos (INSERT) e o UNIQUE
+ * (ledger_id, sequence) faz o papel do compare-and-set; as linhas são atualizadas depois, pelo projetor.
+ * As versões em memória dos ledgers só avançam no afterCommit da transação mais externa, que pode ser a de quem chamou.
+ */
+@Repository
+public class JdbcReconciliationRunRepository implements ReconciliationRunRepository {
+    private static final String UPDATE_INVOICE_LEDGER = """
+            UPDATE invoices_ledger SET amount_due = ?, status = ?, version = version + 1
+            WHERE invoice_id = ? AND organization_id = ? AND version = ?""";
+    private static final String UPDATE_BANK_TRANSACTION_LEDGER = """
+            UPDATE bank_transactions_ledger SET amount_unmatched = ?, status = ?, version = version + 1
+            WHERE bank_transaction_id = ? AND organization_id = ? AND version = ?""";
+    private static final String INSERT_PAYMENTS = "INSERT INTO payments (payment_id, organization_id, payment_date, total_amount) VALUES ";
+    private static final String PAYMENT_ROW = "(?, ?, ?, ?)";
+    private static final String INSERT_ALLOCATIONS = "INSERT INTO reconciliation_allocations (allocation_id, organization_id, payment_id, invoice_id, bank_transaction_id, allocated_amount) VALUES ";
+    private static final String ALLOCATION_ROW = "(?, ?, ?, ?, ?, ?)";
+    // O MySQL aceita no máximo 65535 placeholders por statement; 6 colunas por linha de allocation.
+    private static final int MAX_CHUNK_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArAgingRepository arAging;
+    private final int chunkSize;
+    // null: ledgers gravados por UPDATE com compare-and-set.
+    private final LedgerEventLog eventLog;
+
+    public JdbcReconciliationRunRepository(JdbcTemplate jdbcTemplate, ArAgingRepository arAging,
+                                           @Value("${apexrecon.reconciliation.commit-chunk-size:500}") int chunkSize,
+                                           Optional<LedgerEventLog> eventLog) {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) { throw new IllegalArgumentException("Reconciliation commit chunk size must be between 1 and " + MAX_CHUNK_SIZE); }
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.arAging = arAging;
+        this.chunkSize = chunkSize;
+        this.eventLog = eventLog.orElse(null);
+    }
+
+    @Override
+    @Transactional
+    public void commit(ReconciliationRun run) {
+        if (run.isEmpty()) { return; }
+
+        var organizationId = UuidBinary.toBytes(run.organizationId());
+        // Trava a data do aging da organização antes de qualquer ledger (mesma ordem do roll-over).
+        var agingAsOf = run.invoices().isEmpty() ? null : Date.valueOf(arAging.lockAsOf(run.organizationId()));
+
+        var invoices = new ArrayList<>(run.invoices());
+        invoices.sort(Comparator.comparing(InvoiceLedger::getId, UuidBinary.BINARY_ORDER));
+        var transactions = new ArrayList<>(run.bankTransactions());
+        transactions.sort(Comparator.comparing(BankTransactionLedger::getBankTransactionId, UuidBinary.BINARY_ORDER));
+        if (eventLog != null) {
+            eventLog.append(run);
+        } else {
+            compareAndSet(UPDATE_INVOICE_LEDGER, run.organizationId(), invoices, InvoiceLedger::getId, (statement, invoice) -> {
+                statement.setBigDecimal(1, invoice.getAmountDue().toBigDecimal());
+                statement.setString(2, invoice.getStatus().name());
+                statement.setBytes(3, UuidBinary.toBytes(invoice.getId()));
+                statement.setBytes(4, organizationId);
+                statement.setLong(5, invoice.getVersion());
+            });
+            compareAndSet(UPDATE_BANK_TRANSACTION_LEDGER, run.organizationId(), transactions, BankTransactionLedger::getBankTransactionId, (statement, transaction) -> {
+                statement.setBigDecimal(1, transaction.getAmountUnmatched().toBigDecimal());
+                statement.setString(2, transaction.getStatus().name());
+                statement.setBytes(3, UuidBinary.toBytes(transaction.getBankTransactionId()));
+                statement.setBytes(4, organizationId);
+                statement.setLong(5, transaction.getVersion());
+            });
+        }
+        applyAgingDeltas(run, invoices, agingAsOf, organizationId);
+
+        MultiRowInsert.insert(jdbcTemplate, INSERT_PAYMENTS, PAYMENT_ROW, 4, run.payments(), chunkSize, (statement, index, payment) -> {
+            statement.setBytes(index++, UuidBinary.toBytes(payment.getPaymentId()));
+            statement.setBytes(index++, organizationId);
+            statement.setTimestamp(index++, Timestamp.from(payment.getPaymentDate()));
+            statement.setBigDecimal(index++, payment.getTotalAmount().toBigDecimal());
+            return index;
+        });
+
+        var allocations = new ArrayList<ReconciliationAllocation>(run.allocationCount());
+        for (Payment payment : run.payments()) { allocations.addAll(payment.getAllocations()); }
+        MultiRowInsert.insert(jdbcTemplate, INSERT_ALLOCATIONS, ALLOCATION_ROW, 6, allocations, chunkSize, (statement, index, allocation) -> {
+            statement.setBytes(index++, UuidBinary.toBytes(allocation.allocationId()));
+            statement.setBytes(index++, organizationId);
+            statement.setBytes(index++, UuidBinary.toBytes(allocation.paymentId()));
+            statement.setBytes(index++, UuidBinary.toBytes(allocation.invoiceId()));
+            statement.setBytes(index++, UuidBinary.toBytes(allocation.bankTransactionId()));
+            statement.setBigDecimal(index++, allocation.amount().toBigDecimal());
+            return index;
+        });
+
+        afterCommit(() -> {
+            invoices.forEach(InvoiceLedger::markCommitted);
+            transactions.forEach(BankTransactionLedger::markCommitted);
+        });
+    }
+
+    /**
+     * Em rollback as versões ficam como foram lidas, e o replanejamento compara contra o que de fato está no banco.
+     * Sem sincronização ativa (chamada direta, fora do proxy) não há commit por vir: a ação roda na hora.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * O saldo de cada fatura cai pelo total alocado a ela na run; a que ficou PAID sai da contagem da faixa.
+     */
+    private void applyAgingDeltas(ReconciliationRun run, List<InvoiceLedger> invoices, Date agingAsOf, byte[] organizationId) {
+        if (invoices.isEmpty()) { return; }
+
+        var applied = new HashMap<UUID, Money>();
+        for (Payment payment : run.payments()) {
+            payment.getAllocations().forEach(allocation -> applied.merge(allocation.invoiceId(), allocation.amount(), Money::plus));
+        }
+
+        var deltas = new ArrayList<Object[]>(invoices.size());
+        for (var invoice : invoices) {
+            var amount = applied.getOrDefault(invoice.getId(), Money.ZERO);
+            var closed = invoice.getStatus() == LedgerStatus.PAID;
+            if (amount.isZero() && !closed) { continue; }
+
+            deltas.add(new Object[]{amount.toBigDecimal().negate(), closed ? -1 : 0, agingAsOf, UuidBinary.toBytes(invoice.getId()), organizationId});
+        }
+        if (!deltas.isEmpty()) { jdbcTemplate.batchUpdate(JdbcArAgingRepository.APPLY_INVOICE_DELTA, deltas); }
+    }
+
+    private <T> void compareAndSet(String sql, UUID organizationId, List<T> rows, Function<T, UUID> id, ParameterizedPreparedStatementSetter<T> setter) {
+        if (rows.isEmpty()) { return; }
+
+        // 0 linhas: o ledger mudou de versão, não existe ou é de outra organização; a run inteira sofre rollback.
+        // O Connector/J devolve a contagem real de cada UPDATE mesmo com rewriteBatchedStatements (multi-statement);
+        // sem contagem não dá para provar o compare-and-set, então também é rollback.
+        var row = 0;
+        for (int[] chunk : jdbcTemplate.batchUpdate(sql, rows, chunkSize, setter)) {
+            for (int affected : chunk) {
+                var ledgerId = id.apply(rows.get(row++));
+                if (affected == 0) {
+                    throw new ConcurrentLedgerUpdateException(organizationId, ledgerId, "Ledger " + ledgerId + " changed since it was read");
+                }
+                if (affected != 1) { throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(sql, 1, affected); }
+            }
+        }
+    }
+}
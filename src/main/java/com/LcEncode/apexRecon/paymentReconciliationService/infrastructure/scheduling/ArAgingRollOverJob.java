@@ -0,0 +1,29 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.scheduling;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.aging.ArAgingProjection;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Roll-over diário das faixas do aging, logo após a meia-noite no fuso das faturas. Também roda na subida, para
+ * recuperar os dias em que a aplicação ficou fora.
+ */
+public class ArAgingRollOverJob {
+    private final ArAgingProjection projection;
+    private final Clock clock;
+
+    public ArAgingRollOverJob(ArAgingProjection projection, Clock clock) {
+        this.projection = projection;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${apexrecon.reconciliation.aging.roll-over-cron:0 1 0 * * *}", zone = "${apexrecon.reconciliation.aging.zone:America/Sao_Paulo}")
+    public void run() {
+        projection.rollOver(LocalDate.now(clock));
+    }
+}
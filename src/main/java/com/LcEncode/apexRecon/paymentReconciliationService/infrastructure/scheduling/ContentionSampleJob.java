@@ -0,0 +1,23 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.scheduling;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.OptimisticReconciliationExecutor;
+import com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.metrics.MicrometerContentionObserver;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Amostra periódica das organizações mais disputadas para o MicrometerContentionObserver; o execute não paga nada.
+ */
+public class ContentionSampleJob {
+    private final OptimisticReconciliationExecutor executor;
+    private final MicrometerContentionObserver observer;
+
+    public ContentionSampleJob(OptimisticReconciliationExecutor executor, MicrometerContentionObserver observer) {
+        this.executor = executor;
+        this.observer = observer;
+    }
+
+    @Scheduled(fixedDelayString = "${apexrecon.reconciliation.optimistic.sample-interval:1m}")
+    public void run() {
+        observer.sample(executor.contention());
+    }
+}
@@ -0,0 +1,82 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.scheduling;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.LedgerEventRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.LedgerEventRepository.ProjectionResult;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Leva os eventos dos ledgers para invoices_ledger e bank_transactions_ledger (aging, listagens e exportação leem as
+ * linhas). Enquanto os lotes vierem cheios, segue sem esperar o próximo intervalo. As positions que o checkpoint pulou
+ * são relidas a cada execução até aparecerem (evento que commitou depois da settle-window) ou passarem de gapTimeout
+ * (INSERT desfeito); no máximo maxTrackedGaps, as mais antigas saem primeiro. Só a thread do scheduler usa o estado.
+ */
+public class LedgerProjectionJob {
+    private final LedgerEventRepository repository;
+    private final int batchSize;
+    private final Duration settleWindow;
+    private final Duration gapTimeout;
+    private final int maxTrackedGaps;
+    private final LedgerProjectionObserver observer;
+    private final Clock clock;
+    // position pulada -> quando foi vista, em ordem de chegada
+    private final Map<Long, Instant> gaps = new LinkedHashMap<>();
+
+    public LedgerProjectionJob(LedgerEventRepository repository, int batchSize, Duration settleWindow, Duration gapTimeout, int maxTrackedGaps,
+                               LedgerProjectionObserver observer, Clock clock) {
+        if (batchSize <= 0) { throw new IllegalArgumentException("Projection batch size must be greater than 0"); }
+        if (maxTrackedGaps <= 0) { throw new IllegalArgumentException("Max tracked gaps must be greater than 0"); }
+
+        this.repository = repository;
+        this.batchSize = batchSize;
+        this.settleWindow = settleWindow;
+        this.gapTimeout = gapTimeout;
+        this.maxTrackedGaps = maxTrackedGaps;
+        this.observer = observer;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${apexrecon.reconciliation.event-log.projection-interval:200ms}")
+    public void run() {
+        if (!gaps.isEmpty()) {
+            var reread = repository.reproject(List.copyOf(gaps.keySet()));
+            gaps.keySet().retainAll(new HashSet<>(reread.gaps()));
+            reread.stuckLedgers().forEach(observer::stuck);
+        }
+
+        ProjectionResult projected;
+        do {
+            var now = clock.instant();
+            projected = repository.project(batchSize, now.minus(settleWindow));
+            for (var gap : projected.gaps()) { gaps.putIfAbsent(gap, now); }
+            projected.stuckLedgers().forEach(observer::stuck);
+        } while (projected.events() == batchSize);
+
+        abandonGaps(clock.instant().minus(gapTimeout));
+    }
+
+    /**
+     * Positions pendentes, para diagnóstico.
+     */
+    public int pendingGaps() {
+        return gaps.size();
+    }
+
+    private void abandonGaps(Instant seenBefore) {
+        var oldest = gaps.entrySet().iterator();
+        while (oldest.hasNext()) {
+            var gap = oldest.next();
+            if (gaps.size() <= maxTrackedGaps && !gap.getValue().isBefore(seenBefore)) { return; }
+
+            oldest.remove();
+            observer.gapAbandoned(gap.getKey());
+        }
+    }
+}
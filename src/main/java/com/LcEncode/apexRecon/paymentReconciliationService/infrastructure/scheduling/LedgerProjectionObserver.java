@@ -0,0 +1,26 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.scheduling;
+
+import java.util.UUID;
+
+/**
+ * O que o LedgerProjectionJob não conseguiu projetar (exportação de métricas). Chamado na thread do job.
+ */
+public interface LedgerProjectionObserver {
+    LedgerProjectionObserver NOOP = new LedgerProjectionObserver() {
+        @Override
+        public void stuck(UUID ledgerId) {}
+
+        @Override
+        public void gapAbandoned(long position) {}
+    };
+
+    /**
+     * A linha do ledger não pôde ser alcançada neste passo; os eventos seguem em ledger_events e na leitura.
+     */
+    void stuck(UUID ledgerId);
+
+    /**
+     * A position pulada não apareceu dentro de gap-timeout (INSERT desfeito) ou saiu por max-tracked-gaps.
+     */
+    void gapAbandoned(long position);
+}
@@ -0,0 +1,23 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.scheduling;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.sharding.ShardCoordinator;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Relê o registro a cada refresh-interval e logo depois de cada fetch do registro do Eureka (HeartbeatEvent).
+ */
+public class ShardRebalanceJob {
+    private final ShardCoordinator coordinator;
+
+    public ShardRebalanceJob(ShardCoordinator coordinator) {
+        this.coordinator = coordinator;
+    }
+
+    @EventListener(HeartbeatEvent.class)
+    @Scheduled(fixedDelayString = "${apexrecon.reconciliation.sharding.refresh-interval:5s}")
+    public void run() {
+        coordinator.refresh();
+    }
+}
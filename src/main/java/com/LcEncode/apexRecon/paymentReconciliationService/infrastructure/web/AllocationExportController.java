@@ -0,0 +1,59 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.web;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.export.AllocationExportFormat;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.export.AllocationExporter;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ExportCapacityException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * GET /organizations/{organizationId}/reconciliation-allocations/export?format=csv|ndjson&after=
+ * A resposta é escrita direto no corpo, sem Content-Length, enquanto as linhas são lidas. after retoma depois do
+ * último allocation_id recebido.
+ */
+@RestController
+@RequestMapping("/organizations/{organizationId}/reconciliation-allocations/export")
+public class AllocationExportController {
+    private final AllocationExporter exporter;
+
+    public AllocationExportController(AllocationExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    @GetMapping
+    public void export(@PathVariable UUID organizationId,
+                       @RequestParam(defaultValue = "csv") String format,
+                       @RequestParam(required = false) UUID after,
+                       HttpServletResponse response) throws IOException {
+        var exportFormat = AllocationExportFormat.fromParameter(format);
+        try (var export = exporter.start(organizationId, after, exportFormat)) {
+            response.setContentType(exportFormat.contentType());
+            response.setCharacterEncoding("UTF-8");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"allocations-" + organizationId + "." + exportFormat.extension() + "\"");
+            export.writeTo(response.getOutputStream());
+        }
+    }
+
+    @ExceptionHandler(ValidateException.class)
+    public ProblemDetail invalidRequest(ValidateException exception) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    @ExceptionHandler(ExportCapacityException.class)
+    public ProblemDetail busy(ExportCapacityException exception) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, exception.getMessage());
+    }
+}
@@ -0,0 +1,21 @@
+package com.LcEncode.apexRecon.shared.domain.identifier;
+
+import java.util.UUID;
+
+/**
+ * Fonte dos identificadores gravados nas chaves primárias BINARY(16). O padrão da aplicação é o UuidV7Generator;
+ * a implementação pode ser trocada em Ids.use (por exemplo, para ids determinísticos em testes).
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID nextId();
+
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+
+    static IdGenerator uuidV7() {
+        return UuidV7Generator.shared();
+    }
+}
@@ -0,0 +1,27 @@
+package com.LcEncode.apexRecon.shared.domain.identifier;
+
+import java.util.UUID;
+
+/**
+ * Ponto único de geração de ids usado pelos builders dos três serviços. Começa com o UuidV7Generator
+ * compartilhado; use(IdGenerator) troca a implementação para todo o processo.
+ */
+public final class Ids {
+    private static volatile IdGenerator generator = IdGenerator.uuidV7();
+
+    private Ids() {}
+
+    public static UUID next() {
+        return generator.nextId();
+    }
+
+    public static IdGenerator current() {
+        return generator;
+    }
+
+    public static void use(IdGenerator idGenerator) {
+        if (idGenerator == null) { throw new IllegalArgumentException("Id generator must be provided"); }
+
+        generator = idGenerator;
+    }
+}
@@ -0,0 +1,65 @@
+package com.LcEncode.apexRecon.shared.domain.identifier;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * UUID versão 7 (RFC 9562): 48 bits de epoch em milissegundos, 12 bits de contador e 62 bits aleatórios.
+ * Os ids saem estritamente crescentes na ordem de bytes, que é a ordem do índice clusterizado do InnoDB, então os
+ * INSERTs vão sempre para o fim da árvore em vez de espalhar page splits pelo índice.
+ * Monotonicidade: timestamp e contador ficam em um único AtomicLong atualizado por CAS. Mais de 4096 ids no mesmo
+ * milissegundo ou um relógio que volta no tempo apenas avançam o contador (e, se preciso, o timestamp) em 1.
+ * A parte aleatória vem do ThreadLocalRandom: os ids são únicos, não secretos.
+ */
+public final class UuidV7Generator implements IdGenerator {
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_RFC = 0x8000_0000_0000_0000L;
+
+    private static final UuidV7Generator SHARED = new UuidV7Generator();
+
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+    private final LongSupplier epochMillisClock;
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    public UuidV7Generator(LongSupplier epochMillisClock) {
+        this.epochMillisClock = epochMillisClock;
+    }
+
+    static UuidV7Generator shared() {
+        return SHARED;
+    }
+
+    @Override
+    public UUID nextId() {
+        var timestampAndCounter = nextTimestampAndCounter();
+
+        var mostSignificant = ((timestampAndCounter >>> COUNTER_BITS) << 16) | VERSION_7 | (timestampAndCounter & COUNTER_MASK);
+        var leastSignificant = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Instante (epoch em milissegundos) gravado em um UUIDv7.
+     */
+    public static long timestampMillis(UUID id) {
+        if (id.version() != 7) { throw new IllegalArgumentException("Not a version 7 UUID: " + id); }
+
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    private long nextTimestampAndCounter() {
+        while (true) {
+            var previous = lastTimestampAndCounter.get();
+            var next = Math.max(epochMillisClock.getAsLong() << COUNTER_BITS, previous + 1);
+            if (lastTimestampAndCounter.compareAndSet(previous, next)) { return next; }
+        }
+    }
+}
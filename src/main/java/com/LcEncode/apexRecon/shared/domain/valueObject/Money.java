@@ -0,0 +1,117 @@
+package com.LcEncode.apexRecon.shared.domain.valueObject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Valor monetário em ponto fixo: um long em unidades mínimas na escala 4, a mesma do DECIMAL(19,4) das migrations.
+ * Soma, subtração e multiplicação por quantidade são exatas e verificam overflow (ArithmeticException), assim como o
+ * BigDecimal que substitui; nenhuma operação arredonda. A conversão para BigDecimal acontece apenas nas bordas
+ * (persistência e API) via of(BigDecimal) e toBigDecimal().
+ */
+public final class Money implements Comparable<Money> {
+    public static final int SCALE = 4;
+    public static final Money ZERO = new Money(0L);
+    // Maior valor representável (922.337.203.685.477,5807): acima dele of() e as operações lançam ArithmeticException.
+    public static final Money MAX = new Money(Long.MAX_VALUE);
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0L ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * Conversão exata: valores com mais de 4 casas decimais significativas ou fora do intervalo de um long
+     * lançam ArithmeticException em vez de serem arredondados.
+     */
+    public static Money of(BigDecimal amount) {
+        if (amount == null) { throw new ArithmeticException("Money amount must be provided"); }
+
+        return ofMinor(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+    }
+
+    public static Money of(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public long minorUnits() {
+        return minorUnits;
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(long quantity) {
+        return ofMinor(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    public Money abs() {
+        return minorUnits >= 0 ? this : ofMinor(Math.negateExact(minorUnits));
+    }
+
+    public Money min(Money other) {
+        return minorUnits <= other.minorUnits ? this : other;
+    }
+
+    public Money max(Money other) {
+        return minorUnits >= other.minorUnits ? this : other;
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0L;
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0L;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0L;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return minorUnits > other.minorUnits;
+    }
+
+    public boolean isLessThan(Money other) {
+        return minorUnits < other.minorUnits;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && minorUnits == other.minorUnits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,53 @@
+package com.LcEncode.apexRecon.shared.infrastructure.persistence;
+
+import org.springframework.jdbc.JdbcUpdateAffectedIncorrectNumberOfRowsException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * INSERT multi-linha em blocos: "INSERT ... VALUES (?, ?), (?, ?), ..." com uma ida ao banco por bloco,
+ * sem depender do rewriteBatchedStatements do driver. Deve rodar dentro da transação do chamador.
+ */
+public final class MultiRowInsert {
+    // O MySQL aceita no máximo 65535 placeholders por statement.
+    private static final int MAX_PLACEHOLDERS = 65_535;
+
+    @FunctionalInterface
+    public interface RowBinder<T> {
+        /**
+         * Preenche a linha a partir do placeholder index e devolve o índice do próximo placeholder livre.
+         */
+        int bind(PreparedStatement statement, int index, T row) throws SQLException;
+    }
+
+    private MultiRowInsert() {}
+
+    public static <T> void insert(JdbcTemplate jdbcTemplate, String prefix, String rowPlaceholders, int columns,
+                                  List<T> rows, int chunkSize, RowBinder<T> binder) {
+        if (chunkSize <= 0 || (long) chunkSize * columns > MAX_PLACEHOLDERS) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_PLACEHOLDERS / columns + " for " + columns + " columns");
+        }
+
+        var fullChunkSql = rows.size() >= chunkSize ? sql(prefix, rowPlaceholders, chunkSize) : null;
+        for (int from = 0; from < rows.size(); from += chunkSize) {
+            var chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+            var sql = chunk.size() == chunkSize ? fullChunkSql : sql(prefix, rowPlaceholders, chunk.size());
+
+            var inserted = jdbcTemplate.update(sql, statement -> {
+                var index = 1;
+                for (T row : chunk) { index = binder.bind(statement, index, row); }
+            });
+            if (inserted != chunk.size()) {
+                throw new JdbcUpdateAffectedIncorrectNumberOfRowsException(prefix, chunk.size(), inserted);
+            }
+        }
+    }
+
+    private static String sql(String prefix, String rowPlaceholders, int rows) {
+        return prefix + String.join(", ", Collections.nCopies(rows, rowPlaceholders));
+    }
+}
@@ -0,0 +1,30 @@
+package com.LcEncode.apexRecon.shared.infrastructure.persistence;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Conversão de UUID para as colunas BINARY(16). BINARY_ORDER segue a ordem de bytes sem sinal do MySQL,
+ * que é a ordem da chave primária (UUID.compareTo compara os longs com sinal e diverge dela).
+ */
+public final class UuidBinary {
+    public static final Comparator<UUID> BINARY_ORDER = (left, right) -> {
+        var most = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return most != 0 ? most : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    };
+
+    private UuidBinary() {}
+
+    public static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,3 @@
+-- Carga dos itens em aberto por organização (cache de ledgers): bank_transactions_ledger já tem
+-- idx_org_status_unmatched; invoices_ledger só tinha (organization_id, customer_id).
+ALTER TABLE invoices_ledger ADD INDEX idx_org_status_due_date (organization_id, status, due_date);
@@ -0,0 +1,3 @@
+-- Varredura de vencimento (OverdueSweeper): percorre cada status em ordem (due_date, invoice_id) sem filesort.
+-- A chave primária (invoice_id) já faz parte de todo índice secundário do InnoDB.
+ALTER TABLE invoices_ledger ADD INDEX idx_status_due_date (status, due_date);
@@ -0,0 +1,37 @@
+-- Projeção de aging do contas a receber: saldo em aberto e quantidade de faturas por
+-- (organização, cliente, faixa de atraso). customer_id = 0x00..00 guarda o total da organização.
+-- bucket: 0 = a vencer, 1 = 1-30, 2 = 31-60, 3 = 61-90, 4 = mais de 90 dias (em relação a ar_aging_state.as_of).
+CREATE TABLE ar_aging (
+    organization_id BINARY(16) NOT NULL,
+    customer_id BINARY(16) NOT NULL,
+    bucket TINYINT NOT NULL,
+    amount DECIMAL(19, 4) NOT NULL,
+    invoices BIGINT NOT NULL,
+
+    PRIMARY KEY (organization_id, customer_id, bucket)
+) ENGINE=InnoDB;
+
+-- Data de referência das faixas; avança uma vez por dia (roll-over) e serializa o roll-over com as gravações.
+CREATE TABLE ar_aging_state (
+    id TINYINT NOT NULL PRIMARY KEY,
+    as_of DATE NOT NULL
+) ENGINE=InnoDB;
+
+INSERT INTO ar_aging_state (id, as_of) VALUES (1, CURRENT_DATE);
+
+INSERT INTO ar_aging (organization_id, customer_id, bucket, amount, invoices)
+SELECT l.organization_id,
+       IF(scope.total, UNHEX('00000000000000000000000000000000'), l.customer_id),
+       CASE
+           WHEN l.due_date IS NULL OR DATEDIFF(CURRENT_DATE, l.due_date) <= 0 THEN 0
+           WHEN DATEDIFF(CURRENT_DATE, l.due_date) <= 30 THEN 1
+           WHEN DATEDIFF(CURRENT_DATE, l.due_date) <= 60 THEN 2
+           WHEN DATEDIFF(CURRENT_DATE, l.due_date) <= 90 THEN 3
+           ELSE 4
+       END AS bucket,
+       SUM(l.amount_due),
+       COUNT(*)
+FROM invoices_ledger l
+CROSS JOIN (SELECT FALSE AS total UNION ALL SELECT TRUE) scope
+WHERE l.status IN ('OPEN', 'PARTIALLY_PAID', 'OVERDUE')
+GROUP BY 1, 2, 3;
@@ -0,0 +1,11 @@
+-- Listagem de faturas (keyset sobre due_date, invoice_id): um índice por combinação de filtro, cada um com igualdade
+-- nos filtros, depois (due_date, invoice_id) e por fim as colunas exibidas. A página é uma busca no índice seguida de
+-- LIMIT linhas lidas do próprio índice, sem filesort e sem voltar à chave primária.
+-- idx_org_customer e idx_org_status_due_date são prefixos dos novos índices e saem.
+ALTER TABLE invoices_ledger
+    ADD INDEX idx_list_org (organization_id, due_date, invoice_id, customer_id, status, total_amount, amount_due),
+    ADD INDEX idx_list_org_customer (organization_id, customer_id, due_date, invoice_id, status, total_amount, amount_due),
+    ADD INDEX idx_list_org_status (organization_id, status, due_date, invoice_id, customer_id, total_amount, amount_due),
+    ADD INDEX idx_list_org_customer_status (organization_id, customer_id, status, due_date, invoice_id, total_amount, amount_due),
+    DROP INDEX idx_org_customer,
+    DROP INDEX idx_org_status_due_date;
@@ -0,0 +1,11 @@
+-- Exportação de auditoria: as allocations de uma organização em ordem de allocation_id (UUIDv7, ordem de criação),
+-- retomável a partir de um allocation_id, vira uma leitura contínua de idx_org_allocation.
+ALTER TABLE reconciliation_allocations ADD COLUMN organization_id BINARY(16) NULL AFTER allocation_id;
+
+UPDATE reconciliation_allocations a
+JOIN payments p ON p.payment_id = a.payment_id
+SET a.organization_id = p.organization_id;
+
+ALTER TABLE reconciliation_allocations
+    MODIFY organization_id BINARY(16) NOT NULL,
+    ADD INDEX idx_org_allocation (organization_id, allocation_id);
@@ -0,0 +1,14 @@
+-- Itens das faturas importadas em lote. Agrupados pela fatura (chave primária invoice_id, line), na ordem das linhas:
+-- a leitura é sempre pela fatura e os ids UUIDv7 fazem a importação gravar no fim do índice.
+CREATE TABLE invoice_items (
+    invoice_id BINARY(16) NOT NULL,
+    line INT NOT NULL,
+    item_id BINARY(16) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    quantity INT NOT NULL,
+    unit_price DECIMAL(19, 4) NOT NULL,
+    total DECIMAL(19, 4) NOT NULL,
+
+    PRIMARY KEY (invoice_id, line),
+    CONSTRAINT fk_invoice_items_invoice_id FOREIGN KEY (invoice_id) REFERENCES invoices_ledger(invoice_id)
+) ENGINE=InnoDB;
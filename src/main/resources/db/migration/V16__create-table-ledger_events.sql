@@ -0,0 +1,40 @@
+-- Log append-only das alterações dos ledgers (modo event-log da conciliação). position cresce a cada INSERT, então
+-- as gravações vão sempre para o fim do índice clusterizado; o UNIQUE (ledger_id, sequence) é o controle otimista:
+-- dois commits a partir da mesma leitura disputam a mesma sequence.
+CREATE TABLE ledger_events (
+    position BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    organization_id BINARY(16) NOT NULL,
+    ledger_id BINARY(16) NOT NULL,
+    ledger_type VARCHAR(20) NOT NULL,
+    sequence BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    amount DECIMAL(19, 4) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    recorded_at TIMESTAMP(6) NOT NULL,
+
+    UNIQUE KEY uk_ledger_events_ledger_sequence (ledger_id, sequence)
+) ENGINE=InnoDB;
+
+-- Estado de um ledger logo depois do evento sequence; também só recebe INSERT.
+CREATE TABLE ledger_snapshots (
+    ledger_id BINARY(16) NOT NULL,
+    sequence BIGINT NOT NULL,
+    organization_id BINARY(16) NOT NULL,
+    ledger_type VARCHAR(20) NOT NULL,
+    balance DECIMAL(19, 4) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+
+    PRIMARY KEY (ledger_id, sequence)
+) ENGINE=InnoDB;
+
+-- Até onde o projetor já aplicou ledger_events nas linhas dos ledgers.
+CREATE TABLE ledger_event_projection (
+    id TINYINT NOT NULL PRIMARY KEY,
+    position BIGINT NOT NULL
+) ENGINE=InnoDB;
+
+INSERT INTO ledger_event_projection (id, position) VALUES (1, 0);
+
+-- Último evento aplicado na linha pelo projetor; a leitura soma a cauda com sequence maior.
+ALTER TABLE invoices_ledger ADD COLUMN event_sequence BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE bank_transactions_ledger ADD COLUMN event_sequence BIGINT NOT NULL DEFAULT 0;
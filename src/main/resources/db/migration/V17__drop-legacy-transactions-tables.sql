@@ -0,0 +1,4 @@
+-- transactions (V4) não pertence à conciliação e nada a lê; accounts e categories existiam só para as FKs dela.
+DROP TABLE IF EXISTS transactions;
+DROP TABLE IF EXISTS categories;
+DROP TABLE IF EXISTS accounts;
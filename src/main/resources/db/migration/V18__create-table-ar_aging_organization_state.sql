@@ -0,0 +1,18 @@
+-- Data de referência do aging por organização: o commit da conciliação e a importação travam (FOR SHARE) só a linha
+-- da própria organização, e o roll-over trava (FOR UPDATE) uma organização de cada vez. ar_aging_state passa a ser
+-- apenas o calendário do roll-over: a data até onde todas as organizações já avançaram, usada para criar a linha de
+-- uma organização nova.
+CREATE TABLE ar_aging_organization_state (
+    organization_id BINARY(16) NOT NULL PRIMARY KEY,
+    as_of DATE NOT NULL
+) ENGINE=InnoDB;
+
+INSERT INTO ar_aging_organization_state (organization_id, as_of)
+SELECT organizations.organization_id, state.as_of
+FROM (
+    SELECT DISTINCT organization_id FROM invoices_ledger
+    UNION
+    SELECT DISTINCT organization_id FROM ar_aging
+) organizations
+CROSS JOIN ar_aging_state state
+WHERE state.id = 1;
@@ -0,0 +1,13 @@
+-- Os índices de listagem da V13 cobriam status e amount_due, que mudam a cada pagamento e a cada vencimento: toda
+-- conciliação regravava quatro índices além da linha. Ficam dois índices estreitos, só com colunas que não mudam
+-- (organization_id, customer_id, due_date, invoice_id); status e valores vêm da chave primária, uma
+-- busca por linha candidata, e o filtro de status passa a ser aplicado sobre a linha.
+-- idx_org_status_due_date (V10) volta para a carga dos itens em aberto do cache de ledgers, que filtra por status.
+ALTER TABLE invoices_ledger
+    ADD INDEX idx_listing_org (organization_id, due_date, invoice_id),
+    ADD INDEX idx_listing_org_customer (organization_id, customer_id, due_date, invoice_id),
+    ADD INDEX idx_org_status_due_date (organization_id, status, due_date),
+    DROP INDEX idx_list_org,
+    DROP INDEX idx_list_org_customer,
+    DROP INDEX idx_list_org_status,
+    DROP INDEX idx_list_org_customer_status;
@@ -0,0 +1,3 @@
+-- Descrição do extrato (mesmo tamanho de bank_transactions.description): o índice de referências aprende o pagador
+-- com ela quando a conciliação aloca a transação. Ledgers anteriores ficam sem descrição.
+ALTER TABLE bank_transactions_ledger ADD COLUMN description VARCHAR(500) NULL;
@@ -0,0 +1,11 @@
+-- V3 (já publicada) cria reconciliation_allocations com FK para payments, que só aparecia em V5. Em banco novo, esta
+-- versão intermediária cria payments antes de V3; V5 (IF NOT EXISTS) vira no-op.
+CREATE TABLE IF NOT EXISTS payments (
+    payment_id BINARY(16) NOT NULL PRIMARY KEY,
+    organization_id BINARY(16) NOT NULL,
+    payment_date TIMESTAMP NOT NULL,
+    total_amount DECIMAL(19, 4) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_org_payment_date (organization_id, payment_date)
+) ENGINE=InnoDB;
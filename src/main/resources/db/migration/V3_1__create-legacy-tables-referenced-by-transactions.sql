@@ -0,0 +1,9 @@
+-- V4 (já publicada) cria a tabela legada transactions com FKs para accounts e categories, que nenhuma migração cria.
+-- Só para que V4 aplique em banco novo; V17 remove as três.
+CREATE TABLE IF NOT EXISTS accounts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS categories (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY
+) ENGINE=InnoDB;
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS payments (
+    payment_id BINARY(16) NOT NULL PRIMARY KEY,
+    organization_id BINARY(16) NOT NULL,
+    payment_date TIMESTAMP NOT NULL,
+    total_amount DECIMAL(19, 4) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_org_payment_date (organization_id, payment_date)
+) ENGINE=InnoDB;
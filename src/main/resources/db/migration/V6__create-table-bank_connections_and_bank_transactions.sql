@@ -0,0 +1,27 @@
+CREATE TABLE bank_connections (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    organization_id BINARY(16) NOT NULL,
+    provider VARCHAR(20) NOT NULL,
+    access_token_secret_arn VARCHAR(2048) NOT NULL,
+    last_sync TIMESTAMP(6) NULL,
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+
+    INDEX idx_active_provider (is_active, provider),
+    INDEX idx_org (organization_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE bank_transactions (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    connection_id BINARY(16) NOT NULL,
+    provider VARCHAR(20) NOT NULL,
+    amount DECIMAL(19, 4) NOT NULL,
+    transaction_date TIMESTAMP(6) NOT NULL,
+    description VARCHAR(500) NOT NULL,
+    ingested_at TIMESTAMP(6) NOT NULL,
+    processed_at TIMESTAMP(6) NULL,
+
+    CONSTRAINT fk_bank_transactions_connection_id FOREIGN KEY (connection_id) REFERENCES bank_connections(id),
+
+    INDEX idx_connection_date (connection_id, transaction_date),
+    INDEX idx_processed_at (processed_at)
+) ENGINE=InnoDB;
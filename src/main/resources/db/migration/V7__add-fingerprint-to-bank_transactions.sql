@@ -0,0 +1,5 @@
+-- Fingerprint de deduplicação (TransactionFingerprint): a chave única é a última barreira contra a mesma transação
+-- gravada duas vezes. Linhas anteriores ficam com NULL e não participam da chave.
+ALTER TABLE bank_transactions
+    ADD COLUMN fingerprint BINARY(16) NULL AFTER processed_at,
+    ADD UNIQUE INDEX uk_connection_fingerprint (connection_id, fingerprint);
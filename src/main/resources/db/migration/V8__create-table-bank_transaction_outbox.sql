@@ -0,0 +1,10 @@
+-- Outbox das transações ingeridas: gravada na mesma transação que bank_transactions e drenada pelo relay em ordem de
+-- sequence. A ordem de sequence por connection_id é a ordem de gravação (as gravações de uma conexão são serializadas).
+CREATE TABLE bank_transaction_outbox (
+    sequence BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    transaction_id BINARY(16) NOT NULL,
+    connection_id BINARY(16) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+
+    CONSTRAINT fk_bank_transaction_outbox_transaction_id FOREIGN KEY (transaction_id) REFERENCES bank_transactions(id)
+) ENGINE=InnoDB;
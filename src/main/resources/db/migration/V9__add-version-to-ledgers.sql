@@ -0,0 +1,4 @@
+-- Controle otimista: a conciliação grava com UPDATE ... SET version = version + 1 WHERE ... AND version = ?,
+-- sem SELECT ... FOR UPDATE nas linhas lidas.
+ALTER TABLE invoices_ledger ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE bank_transactions_ledger ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,101 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.dedup;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.DuplicateBankTransactionException;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.valueObject.TransactionFingerprint;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankTransactionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Gravação concorrente na chave única (connection_id, fingerprint): o lote é reconsultado e regravado sem as
+ * transações que outro escritor gravou antes.
+ */
+class TransactionDeduplicatorTest {
+    private static final Instant NOW = Instant.parse("2026-03-15T12:00:00Z");
+
+    private final UUID connectionId = UUID.randomUUID();
+    private final ConcurrentStore store = new ConcurrentStore();
+    private final TransactionDeduplicator deduplicator = new TransactionDeduplicator(store, TransactionDeduplicator.Settings.defaults(), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void batchIsRetriedWithoutTransactionsStoredByAnotherWriter() {
+        var batch = List.of(transaction(1), transaction(2), transaction(3));
+        deduplicator.saveNew(List.of(transaction(0)));
+        store.storedByOtherWriter.add(batch.get(1).fingerprint());
+
+        var result = deduplicator.saveNew(batch);
+
+        assertEquals(List.of(List.of(batch.get(0), batch.get(2))), store.saved.subList(1, store.saved.size()));
+        assertEquals(2, result.stored());
+        assertEquals(1, result.duplicatesInStore());
+        assertEquals(1, result.storeLookups());
+
+        // Já conhecida pelo filtro: a próxima tentativa da mesma página não vai ao banco.
+        var again = deduplicator.saveNew(List.of(batch.get(1)));
+        assertEquals(0, again.stored());
+        assertEquals(1, again.duplicates());
+    }
+
+    @Test
+    void conflictThatIsNotADuplicateFingerprintIsRethrown() {
+        deduplicator.saveNew(List.of(transaction(0)));
+        store.conflictWithoutFingerprint = true;
+
+        assertThrows(DuplicateBankTransactionException.class, () -> deduplicator.saveNew(List.of(transaction(1))));
+    }
+
+    private BankTransaction transaction(int index) {
+        return BankTransaction.builder()
+                .connectionId(connectionId)
+                .provider(Provider.ITAU)
+                .amount(BigDecimal.valueOf(1_000 + index, 2))
+                .transactionDate(NOW.minus(Duration.ofHours(index + 1)))
+                .description("PIX RECEBIDO NF " + index)
+                .build();
+    }
+
+    /**
+     * Simula outro escritor: as linhas de storedByOtherWriter já estão no banco e fazem o saveAll falhar por inteiro.
+     */
+    private final class ConcurrentStore implements BankTransactionRepository {
+        private final Set<TransactionFingerprint> storedByOtherWriter = new HashSet<>();
+        private final List<List<BankTransaction>> saved = new ArrayList<>();
+        private boolean conflictWithoutFingerprint;
+
+        @Override
+        public void saveAll(List<BankTransaction> transactions) {
+            if (conflictWithoutFingerprint || transactions.stream().anyMatch(transaction -> storedByOtherWriter.contains(transaction.fingerprint()))) {
+                throw new DuplicateBankTransactionException(connectionId, "stored by another writer");
+            }
+            saved.add(List.copyOf(transactions));
+        }
+
+        @Override
+        public Set<TransactionFingerprint> findExistingFingerprints(UUID connectionId, Collection<TransactionFingerprint> fingerprints) {
+            var existing = new HashSet<TransactionFingerprint>();
+            fingerprints.forEach(fingerprint -> { if (storedByOtherWriter.contains(fingerprint)) { existing.add(fingerprint); } });
+            return existing;
+        }
+
+        @Override
+        public List<TransactionFingerprint> findFingerprintsSince(UUID connectionId, Instant since) {
+            return List.of();
+        }
+    }
+}
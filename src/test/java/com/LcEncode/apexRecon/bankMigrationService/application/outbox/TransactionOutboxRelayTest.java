@@ -0,0 +1,190 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.outbox;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.gateway.BankTransactionPublisher;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankTransactionOutboxRepository;
+import com.LcEncode.apexRecon.bankMigrationService.infrastructure.messaging.LocalBrokerPublisher;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * At-least-once sobre o broker local: um nack (confirmação que falha depois da entrega) ou uma falha do banco depois
+ * da publicação mantêm o lote na outbox, que é reentregue no próximo drain. O RelayObserver só vê lotes gravados.
+ */
+class TransactionOutboxRelayTest {
+    private static final Instant NOW = Instant.parse("2026-03-15T12:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+    private final LocalBrokerPublisher broker = new LocalBrokerPublisher(Duration.ZERO, Duration.ZERO, CLOCK);
+    private final NackingPublisher publisher = new NackingPublisher(broker);
+    private final List<Instant> reported = Collections.synchronizedList(new ArrayList<>());
+    private final RelayObserver observer = (provider, transactionDate, ingestedAt, processedAt) -> reported.add(ingestedAt);
+
+    @Test
+    void nackedBatchStaysInTheOutboxAndIsRedelivered() {
+        var ingested = ingest(UUID.randomUUID(), 5);
+        publisher.nacks.set(1);
+        var relay = relay(10);
+
+        assertThrows(IllegalStateException.class, relay::drainOnce);
+        assertEquals(5, outbox.pending());
+        assertTrue(reported.isEmpty());
+
+        assertEquals(5, relay.drainOnce());
+        assertEquals(0, outbox.pending());
+        assertEquals(10, broker.published());
+        assertEquals(new HashSet<>(ingested), new HashSet<>(outbox.committed));
+        assertEquals(5, reported.size());
+    }
+
+    @Test
+    void failureAfterPublishingIsNotReportedUntilTheBatchIsCommitted() {
+        ingest(UUID.randomUUID(), 3);
+        outbox.failCommits.set(1);
+        var relay = relay(10);
+
+        assertThrows(IllegalStateException.class, relay::drainOnce);
+        assertEquals(3, broker.published());
+        assertTrue(reported.isEmpty());
+
+        relay.drainOnce();
+        assertEquals(3, reported.size());
+        assertEquals(6, broker.published());
+    }
+
+    @Test
+    void drainAllKeepsConnectionOrderAcrossBatches() {
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+        ingest(first, 7);
+        ingest(second, 7);
+        ingest(first, 7);
+        var relay = relay(4);
+
+        assertEquals(21, relay.drainAll());
+
+        assertEquals(0, broker.orderViolations());
+        assertEquals(6, broker.confirms());
+        assertEquals(21, relay.stats().published());
+        assertEquals(6, relay.stats().batches());
+    }
+
+    @Test
+    void backgroundRelayBacksOffAndRecoversFromNacks() throws InterruptedException {
+        ingest(UUID.randomUUID(), 20);
+        publisher.nacks.set(3);
+
+        try (var relay = new TransactionOutboxRelay(outbox, publisher, 8, Duration.ofMillis(1), Duration.ofMillis(5), CLOCK, observer)) {
+            relay.start();
+            var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (outbox.pending() > 0 && System.nanoTime() < deadline) { Thread.sleep(1); }
+            relay.close();
+
+            assertEquals(0, outbox.pending());
+            assertEquals(3, relay.stats().failures());
+            assertEquals(20, relay.stats().published());
+            assertNull(relay.stats().lastError());
+        }
+        assertEquals(20, reported.size());
+    }
+
+    private TransactionOutboxRelay relay(int batchSize) {
+        return new TransactionOutboxRelay(outbox, publisher, batchSize, Duration.ofMillis(10), Duration.ofMillis(100), CLOCK, observer);
+    }
+
+    private List<Instant> ingest(UUID connectionId, int count) {
+        var ingested = new ArrayList<Instant>(count);
+        for (int i = 0; i < count; i++) {
+            var ingestedAt = NOW.minusSeconds(1000 - outbox.size());
+            outbox.add(BankTransaction.builder()
+                    .id(UUID.randomUUID())
+                    .connectionId(connectionId)
+                    .provider(Provider.ITAU)
+                    .amount(new BigDecimal("10.00"))
+                    .transactionDate(ingestedAt)
+                    .description("PIX RECEBIDO " + i)
+                    .ingestedAt(ingestedAt)
+                    .build());
+            ingested.add(ingestedAt);
+        }
+        return ingested;
+    }
+
+    /**
+     * Entrega ao broker e então recusa a confirmação nas próximas nacks chamadas, como um waitForConfirmsOrDie que
+     * falha com parte do lote já entregue.
+     */
+    private static final class NackingPublisher implements BankTransactionPublisher {
+        private final BankTransactionPublisher broker;
+        private final AtomicInteger nacks = new AtomicInteger();
+
+        private NackingPublisher(BankTransactionPublisher broker) {
+            this.broker = broker;
+        }
+
+        @Override
+        public void publish(List<BankTransaction> transactions) {
+            broker.publish(transactions);
+            if (nacks.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) { throw new IllegalStateException("nack"); }
+        }
+    }
+
+    /**
+     * Outbox transacional em memória: as entradas só saem quando o drain inteiro termina sem exceção.
+     */
+    private static final class InMemoryOutbox implements BankTransactionOutboxRepository {
+        private final List<BankTransaction> entries = new ArrayList<>();
+        private final List<Instant> committed = new ArrayList<>();
+        private final AtomicInteger failCommits = new AtomicInteger();
+
+        synchronized void add(BankTransaction transaction) {
+            entries.add(transaction);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        @Override
+        public synchronized int drain(int limit, BankTransactionPublisher publisher, Instant processedAt) {
+            var batch = List.copyOf(entries.subList(0, Math.min(limit, entries.size())));
+            if (batch.isEmpty()) { return 0; }
+
+            publisher.publish(batch);
+            if (failCommits.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) { throw new IllegalStateException("deadlock"); }
+
+            entries.subList(0, batch.size()).clear();
+            batch.forEach(transaction -> committed.add(transaction.getIngestedAt()));
+            return batch.size();
+        }
+
+        @Override
+        public synchronized long pending() {
+            return entries.size();
+        }
+
+        @Override
+        public synchronized Optional<Instant> oldestPending() {
+            return entries.isEmpty() ? Optional.empty() : Optional.of(entries.getFirst().getIngestedAt());
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.statementImport;
+
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.DomainException;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.BankConnection;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Arquivos CNAB 240, CNAB 400 e OFX montados registro a registro: transações aceitas, registros ignorados e o
+ * relatório dos malformados com número do registro e posição em bytes.
+ */
+class StatementFileImporterTest {
+    private static final int WINDOW = 64 * 1024;
+
+    private final BankConnection connection = BankConnection.builder()
+            .id(UUID.randomUUID())
+            .organizationId(UUID.randomUUID())
+            .provider(Provider.ITAU)
+            .accessTokenSecretArn("arn:aws:secretsmanager:local:test")
+            .build();
+    private final List<Path> files = new ArrayList<>();
+
+    @AfterEach
+    void deleteFiles() throws IOException {
+        for (var file : files) { Files.deleteIfExists(file); }
+    }
+
+    @Test
+    void cnab240KeepsCreditsOfSegmentEAndReportsMalformedRecords() throws IOException {
+        var file = write(cnab240Fixture());
+        var transactions = new ArrayList<BankTransaction>();
+
+        var report = new StatementFileImporter().importFile(file, connection, transactions::addAll);
+
+        assertEquals(StatementFormat.CNAB_240, report.format());
+        assertEquals(10, report.records());
+        assertEquals(1, report.transactions());
+        assertEquals(4, report.skipped());
+        assertEquals(5, report.errorCount());
+
+        var credit = transactions.getFirst();
+        assertEquals(new BigDecimal("1234.56"), credit.getAmount());
+        assertEquals(Instant.parse("2026-01-15T03:00:00Z"), credit.getTransactionDate());
+        assertEquals("PIX RECEBIDO NF 4471", credit.getDescription());
+        assertEquals(connection.getId(), credit.getConnectionId());
+        assertEquals(Provider.ITAU, credit.getProvider());
+
+        var errors = report.errors();
+        assertEquals(List.of(4L, 5L, 6L, 7L, 8L), errors.stream().map(RecordError::recordNumber).toList());
+        assertEquals(List.of(3L * 242, 4L * 242, 5L * 242, 6L * 242, 6L * 242 + 241), errors.stream().map(RecordError::byteOffset).toList());
+        assertEquals("Invalid entry date at columns 143-150", errors.get(0).reason());
+        assertEquals("Invalid amount at columns 151-168", errors.get(1).reason());
+        assertEquals("Invalid entry type at column 169: X", errors.get(2).reason());
+        assertEquals("Expected 240 bytes, found 239", errors.get(3).reason());
+        assertTrue(errors.get(4).reason().contains("amount"), () -> "zero credit rejected by the BankTransaction builder");
+    }
+
+    @Test
+    void cnab400KeepsSettlementsWithPaidOrFaceValue() throws IOException {
+        var file = write(cnab400Fixture());
+        var transactions = new ArrayList<BankTransaction>();
+
+        var report = new StatementFileImporter().importFile(file, connection, transactions::addAll);
+
+        assertEquals(StatementFormat.CNAB_400, report.format());
+        assertEquals(8, report.records());
+        assertEquals(2, report.transactions());
+        assertEquals(3, report.skipped());
+        assertEquals(3, report.errorCount());
+
+        assertEquals(new BigDecimal("100.00"), transactions.get(0).getAmount());
+        assertEquals("LIQUIDACAO BOLETO DOC 0000004471", transactions.get(0).getDescription());
+        assertEquals(Instant.parse("2026-01-15T03:00:00Z"), transactions.get(0).getTransactionDate());
+        assertEquals(new BigDecimal("99.50"), transactions.get(1).getAmount());
+
+        var errors = report.errors();
+        assertEquals(List.of(5L, 6L, 8L), errors.stream().map(RecordError::recordNumber).toList());
+        assertEquals(4L * 402, errors.get(0).byteOffset());
+        assertEquals("Invalid occurrence date at columns 111-116", errors.get(0).reason());
+        assertEquals("Invalid amount at columns 153-165 or 254-266", errors.get(1).reason());
+        assertEquals("Expected 400 bytes, found 240", errors.get(2).reason());
+    }
+
+    @Test
+    void ofxKeepsCreditsAndReportsMalformedBlocks() throws IOException {
+        var content = ofxFixture();
+        var file = write(content);
+        var transactions = new ArrayList<BankTransaction>();
+
+        var report = new StatementFileImporter().importFile(file, connection, transactions::addAll);
+
+        assertEquals(StatementFormat.OFX, report.format());
+        assertEquals(7, report.records());
+        assertEquals(2, report.transactions());
+        assertEquals(1, report.skipped());
+        assertEquals(4, report.errorCount());
+
+        var first = transactions.get(0);
+        assertEquals(new BigDecimal("1234.56"), first.getAmount());
+        assertEquals(Instant.parse("2026-01-15T15:00:00Z"), first.getTransactionDate());
+        assertEquals("PIX RECEBIDO JOÃO NF 4471 FITID 9001", first.getDescription());
+        var second = transactions.get(1);
+        assertEquals("ACME LTDA", second.getDescription());
+        assertEquals(Instant.parse("2026-01-16T03:00:00Z"), second.getTransactionDate());
+
+        var errors = report.errors();
+        assertEquals(List.of(3L, 4L, 6L, 7L), errors.stream().map(RecordError::recordNumber).toList());
+        assertEquals(List.of("Missing TRNAMT", "Missing or invalid DTPOSTED", "Invalid TRNAMT", "STMTTRN block not closed within 65536 bytes"),
+                errors.stream().map(RecordError::reason).toList());
+        assertEquals(nthIndexOf(content, "<STMTTRN>", 3), errors.get(0).byteOffset());
+        assertEquals(nthIndexOf(content, "<STMTTRN>", 7), errors.get(3).byteOffset());
+    }
+
+    @Test
+    void batchesAreBoundedAndErrorDetailsCapped() throws IOException {
+        var file = write(cnab240Fixture() + cnab240Fixture() + cnab240Fixture());
+        var batches = new ArrayList<Integer>();
+
+        var report = new StatementFileImporter(2, 1, WINDOW).importFile(file, connection, batch -> batches.add(batch.size()));
+
+        assertEquals(List.of(2, 1), batches);
+        assertEquals(15, report.errorCount());
+        assertEquals(1, report.errors().size());
+        assertTrue(report.hasErrors());
+    }
+
+    @Test
+    void unknownFormatIsRejected() throws IOException {
+        var importer = new StatementFileImporter();
+
+        assertThrows(DomainException.class, () -> importer.importFile(write("hello\n"), connection, batch -> {}));
+        assertThrows(DomainException.class, () -> importer.importFile(write(""), connection, batch -> {}));
+        assertThrows(IllegalArgumentException.class, () -> new StatementFileImporter(1, 0, 1024));
+    }
+
+    private static String cnab240Fixture() {
+        return cnab240("34100000", ' ', "00000000", "0", ' ', "", "")
+                + cnab240("34100013", 'E', "15012026", "123456", 'C', "PIX RECEBIDO", "NF 4471")
+                + cnab240("34100013", 'E', "15012026", "5000", 'D', "TARIFA", "")
+                + cnab240("34100013", 'E', "32012026", "100", 'C', "PIX RECEBIDO", "NF 1")
+                + cnab240("34100013", 'E', "15012026", "1O0", 'C', "PIX RECEBIDO", "NF 2")
+                + cnab240("34100013", 'E', "15012026", "100", 'X', "PIX RECEBIDO", "NF 3")
+                + cnab240("34100013", 'E', "15012026", "100", 'C', "PIX RECEBIDO", "NF 4").substring(1)
+                + cnab240("34100013", 'E', "15012026", "0", 'C', "PIX RECEBIDO", "NF 5")
+                + cnab240("34100013", 'Z', "15012026", "100", 'C', "OUTRO SEGMENTO", "")
+                + cnab240("34199999", ' ', "00000000", "0", ' ', "", "");
+    }
+
+    private static String cnab240(String prefix, char segment, String date, String cents, char type, String history, String document) {
+        var record = new StringBuilder(" ".repeat(240));
+        record.replace(0, 8, prefix);
+        record.setCharAt(13, segment);
+        record.replace(142, 150, date);
+        record.replace(150, 168, "0".repeat(18 - cents.length()) + cents);
+        record.setCharAt(168, type);
+        record.replace(176, 176 + history.length(), history);
+        record.replace(201, 201 + document.length(), document);
+        return record.append("\r\n").toString();
+    }
+
+    private static String cnab400Fixture() {
+        return cnab400('0', "00", "000000", "", "0", "0")
+                + cnab400('1', "06", "150126", "0000004471", "10000", "0")
+                + cnab400('1', "02", "150126", "0000004472", "10000", "0")
+                + cnab400('1', "17", "160126", "0000004473", "10000", "9950")
+                + cnab400('1', "06", "310226", "0000004474", "10000", "0")
+                + cnab400('1', "06", "150126", "0000004475", "10000", "A0")
+                + cnab400('9', "00", "000000", "", "0", "0")
+                + " ".repeat(240) + "\r\n"
+                + "\u001A";
+    }
+
+    private static String cnab400(char type, String occurrence, String date, String document, String faceCents, String paidCents) {
+        var record = new StringBuilder(" ".repeat(400));
+        record.setCharAt(0, type);
+        record.replace(108, 110, occurrence);
+        record.replace(110, 116, date);
+        record.replace(116, 116 + document.length(), document);
+        record.replace(152, 165, "0".repeat(13 - faceCents.length()) + faceCents);
+        record.replace(253, 266, "0".repeat(13 - paidCents.length()) + paidCents);
+        return record.append("\r\n").toString();
+    }
+
+    private static String ofxFixture() {
+        return "OFXHEADER:100\r\nDATA:OFXSGML\r\nCHARSET:1252\r\n\r\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>\r\n"
+                + "<STMTTRN>\r\n<TRNTYPE>CREDIT\r\n<DTPOSTED>20260115120000[-3:BRT]\r\n<TRNAMT>1.234,56\r\n<FITID>9001\r\n<MEMO>PIX RECEBIDO JOÃO NF 4471\r\n</STMTTRN>\r\n"
+                + "<STMTTRN>\r\n<TRNTYPE>DEBIT\r\n<DTPOSTED>20260115120000\r\n<TRNAMT>-50.00\r\n<FITID>9002\r\n<MEMO>TARIFA\r\n</STMTTRN>\r\n"
+                + "<STMTTRN>\r\n<TRNTYPE>CREDIT\r\n<DTPOSTED>20260115120000\r\n<FITID>9003\r\n</STMTTRN>\r\n"
+                + "<STMTTRN>\r\n<TRNTYPE>CREDIT\r\n<DTPOSTED>2026011\r\n<TRNAMT>10.00\r\n</STMTTRN>\r\n"
+                + "<STMTTRN><TRNTYPE>CREDIT</TRNTYPE><DTPOSTED>20260116</DTPOSTED><TRNAMT>20.00</TRNAMT><NAME>ACME LTDA</NAME></STMTTRN>\r\n"
+                + "<STMTTRN>\r\n<TRNTYPE>CREDIT\r\n<DTPOSTED>20260115\r\n<TRNAMT>12a\r\n</STMTTRN>\r\n"
+                + "</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1>\r\n"
+                + "<STMTTRN>\r\n<TRNTYPE>CREDIT\r\n<TRNAMT>1.00\r\n";
+    }
+
+    private static long nthIndexOf(String content, String pattern, int n) {
+        var index = -1;
+        for (int i = 0; i < n; i++) { index = content.indexOf(pattern, index + 1); }
+        return index;
+    }
+
+    private Path write(String content) throws IOException {
+        var file = Files.createTempFile("statement-test-", ".txt");
+        files.add(file);
+        Files.writeString(file, content, StandardCharsets.ISO_8859_1);
+        return file;
+    }
+}
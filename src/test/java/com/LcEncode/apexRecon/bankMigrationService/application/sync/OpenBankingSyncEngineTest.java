@@ -0,0 +1,228 @@
+package com.LcEncode.apexRecon.bankMigrationService.application.sync;
+
+import com.LcEncode.apexRecon.bankMigrationService.application.dedup.TransactionDeduplicator;
+import com.LcEncode.apexRecon.bankMigrationService.domain.exception.ProviderUnavailableException;
+import com.LcEncode.apexRecon.bankMigrationService.domain.gateway.OpenBankingClient;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.BankConnection;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankConnection.valueObject.Provider;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.BankTransaction;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.StatementPage;
+import com.LcEncode.apexRecon.bankMigrationService.domain.model.bankTransaction.valueObject.TransactionFingerprint;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankConnectionRepository;
+import com.LcEncode.apexRecon.bankMigrationService.domain.repository.BankTransactionRepository;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * lastSync só avança depois que a página foi gravada: uma falha no meio mantém o progresso e a próxima execução
+ * continua dali. Falhas transitórias passam pela retry do ProviderGuard; um provedor fora do ar não mexe no lastSync.
+ */
+class OpenBankingSyncEngineTest {
+    private static final Instant NOW = Instant.parse("2026-03-15T12:00:00Z");
+    private static final Instant START = NOW.minus(Duration.ofDays(3));
+
+    private final ScriptedClient client = new ScriptedClient();
+    private final InMemoryConnections connections = new InMemoryConnections();
+    private final InMemoryTransactions transactions = new InMemoryTransactions();
+    private final OpenBankingSyncEngine engine = new OpenBankingSyncEngine(List.of(client), Map.of(Provider.ITAU, guard(3)),
+            connections, new TransactionDeduplicator(transactions, TransactionDeduplicator.Settings.defaults(), Clock.fixed(NOW, ZoneOffset.UTC)),
+            2, 10, Clock.fixed(NOW, ZoneOffset.UTC), SyncObserver.NOOP);
+
+    @Test
+    void lastSyncAdvancesAfterEachStoredPage() {
+        var connection = connection();
+        client.pages.add(() -> page(connection, 1, START.plus(Duration.ofDays(1)), "p2"));
+        client.pages.add(() -> page(connection, 2, START.plus(Duration.ofDays(2)), null));
+
+        var result = engine.syncConnection(connection);
+
+        assertEquals(ConnectionSyncResult.Status.SYNCED, result.status());
+        assertEquals(2, result.pages());
+        assertEquals(2, result.transactions());
+        assertEquals(List.of(START.plus(Duration.ofDays(1)), START.plus(Duration.ofDays(2))), connections.saved);
+        assertEquals(List.of(START, START), client.since);
+        assertEquals(START.plus(Duration.ofDays(2)), result.lastSync());
+    }
+
+    @Test
+    void failureMidRunKeepsTheProgressAndTheNextRunResumesFromIt() {
+        var connection = connection();
+        var firstPage = START.plus(Duration.ofDays(1));
+        client.pages.add(() -> page(connection, 1, firstPage, "p2"));
+        client.pages.add(() -> { throw new IllegalStateException("malformed page"); });
+
+        var failed = engine.syncConnection(connection);
+
+        assertEquals(ConnectionSyncResult.Status.PARTIAL, failed.status());
+        assertEquals(firstPage, failed.lastSync());
+        assertEquals("IllegalStateException: malformed page", failed.error());
+
+        client.pages.add(() -> page(connection, 3, NOW.minusSeconds(60), null));
+        var resumed = engine.syncConnection(connection);
+
+        assertEquals(ConnectionSyncResult.Status.SYNCED, resumed.status());
+        assertEquals(firstPage, client.since.getLast());
+        assertEquals(List.of(firstPage, NOW.minusSeconds(60)), connections.saved);
+    }
+
+    @Test
+    void transientProviderFailuresAreRetried() {
+        var connection = connection();
+        client.pages.add(() -> { throw new ProviderUnavailableException("503"); });
+        client.pages.add(() -> page(connection, 1, START.plus(Duration.ofHours(6)), null));
+
+        var result = engine.syncConnection(connection);
+
+        assertEquals(ConnectionSyncResult.Status.SYNCED, result.status());
+        assertEquals(2, client.calls);
+        assertNull(result.error());
+    }
+
+    @Test
+    void offlineProviderFailsWithoutTouchingLastSync() {
+        var connection = connection();
+        for (int i = 0; i < 3; i++) { client.pages.add(() -> { throw new ProviderUnavailableException("connection refused"); }); }
+
+        var result = engine.syncConnection(connection);
+
+        assertEquals(ConnectionSyncResult.Status.FAILED, result.status());
+        assertEquals(3, client.calls);
+        assertEquals(START, connection.getLastSync());
+        assertTrue(connections.saved.isEmpty());
+        assertTrue(transactions.stored.isEmpty());
+    }
+
+    @Test
+    void syncedUntilAheadOfTheClockIsClamped() {
+        var connection = connection();
+        client.pages.add(() -> page(connection, 1, NOW.plus(Duration.ofHours(1)), null));
+
+        engine.syncConnection(connection);
+
+        assertEquals(NOW, connection.getLastSync());
+    }
+
+    @Test
+    void inactiveConnectionsAreSkipped() {
+        var connection = connection();
+        connection.revokeAccess();
+
+        var report = engine.sync(List.of(connection));
+
+        assertEquals(ConnectionSyncResult.Status.SKIPPED, report.results().getFirst().status());
+        assertEquals(0, client.calls);
+    }
+
+    private static ProviderGuard guard(int maxAttempts) {
+        return new ProviderGuard(Bulkhead.ofDefaults("test"), RateLimiter.ofDefaults("test"), Retry.of("test", RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .waitDuration(Duration.ofMillis(1))
+                .retryExceptions(ProviderUnavailableException.class)
+                .build()));
+    }
+
+    private static BankConnection connection() {
+        return BankConnection.builder()
+                .id(UUID.randomUUID())
+                .organizationId(UUID.randomUUID())
+                .provider(Provider.ITAU)
+                .accessTokenSecretArn("arn:aws:secretsmanager:sa-east-1:000000000000:secret:itau")
+                .lastSync(START)
+                .active(true)
+                .build();
+    }
+
+    private static StatementPage page(BankConnection connection, int index, Instant syncedUntil, String nextCursor) {
+        var transaction = BankTransaction.builder()
+                .connectionId(connection.getId())
+                .provider(connection.getProvider())
+                .amount(BigDecimal.valueOf(1_000 + index, 2))
+                .transactionDate(syncedUntil.minusSeconds(1))
+                .description("PIX RECEBIDO " + index)
+                .build();
+        return new StatementPage(List.of(transaction), syncedUntil, nextCursor);
+    }
+
+    private static final class ScriptedClient implements OpenBankingClient {
+        private final Deque<Supplier<StatementPage>> pages = new ArrayDeque<>();
+        private final List<Instant> since = Collections.synchronizedList(new ArrayList<>());
+        private int calls;
+
+        @Override
+        public Set<Provider> providers() {
+            return Set.of(Provider.ITAU);
+        }
+
+        @Override
+        public StatementPage fetchStatement(BankConnection connection, Instant since, String cursor, int pageSize) {
+            calls++;
+            this.since.add(since);
+            return pages.removeFirst().get();
+        }
+    }
+
+    private static final class InMemoryConnections implements BankConnectionRepository {
+        private final List<Instant> saved = new ArrayList<>();
+
+        @Override
+        public List<BankConnection> findActive() {
+            return List.of();
+        }
+
+        @Override
+        public Optional<BankConnection> findById(UUID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveSyncState(BankConnection connection) {
+            saved.add(connection.getLastSync());
+        }
+    }
+
+    private static final class InMemoryTransactions implements BankTransactionRepository {
+        private final Set<TransactionFingerprint> stored = new HashSet<>();
+
+        @Override
+        public void saveAll(List<BankTransaction> transactions) {
+            transactions.forEach(transaction -> stored.add(transaction.fingerprint()));
+        }
+
+        @Override
+        public Set<TransactionFingerprint> findExistingFingerprints(UUID connectionId, Collection<TransactionFingerprint> fingerprints) {
+            var existing = new HashSet<TransactionFingerprint>();
+            fingerprints.forEach(fingerprint -> { if (stored.contains(fingerprint)) { existing.add(fingerprint); } });
+            return existing;
+        }
+
+        @Override
+        public List<TransactionFingerprint> findFingerprintsSince(UUID connectionId, Instant since) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.LcEncode.apexRecon.invoicingService.application.importing;
+
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Valores fora do intervalo do Money viram ImportRowError da linha, sem ArithmeticException para o job.
+ */
+class InvoiceRecordValidatorTest {
+    private final UUID organizationId = UUID.randomUUID();
+
+    @Test
+    void validRecordBecomesASentInvoice() {
+        var outcome = InvoiceRecordValidator.validate(organizationId, record(null, new InvoiceRecord.Item("Consultoria", "3", "1500.25")));
+
+        assertNull(outcome.error());
+        assertEquals(Money.of("4500.75"), outcome.invoice().getTotalAmount());
+    }
+
+    @Test
+    void hugeUnitPriceIsARowError() {
+        var outcome = InvoiceRecordValidator.validate(organizationId, record(null, new InvoiceRecord.Item("Consultoria", "1", "1e17")));
+
+        assertNull(outcome.invoice());
+        assertEquals(7, outcome.error().line());
+        assertTrue(outcome.error().reason().startsWith("Invoice Item total (quantity x unit price) must be at most"), outcome.error()::reason);
+    }
+
+    @Test
+    void quantityTimesPriceOverflowIsARowError() {
+        var outcome = InvoiceRecordValidator.validate(organizationId, record(null, new InvoiceRecord.Item("Consultoria", "999999999", "1000000000")));
+
+        assertNotNull(outcome.error());
+        assertTrue(outcome.error().reason().startsWith("Invoice Item total"), outcome.error()::reason);
+    }
+
+    @Test
+    void itemsTotalOverflowIsARowError() {
+        // Cada item cabe no Money; a soma dos dois, não.
+        var outcome = InvoiceRecordValidator.validate(organizationId, record("10.00",
+                new InvoiceRecord.Item("Parte 1", "1", "500000000000000"), new InvoiceRecord.Item("Parte 2", "1", "500000000000000")));
+
+        assertNull(outcome.invoice());
+        assertTrue(outcome.error().reason().startsWith("Invoice amounts exceed the supported range"), outcome.error()::reason);
+    }
+
+    private static InvoiceRecord record(String amountDue, InvoiceRecord.Item... items) {
+        return new InvoiceRecord(7, "NF-7", UUID.randomUUID().toString(), "2026-04-30", amountDue, List.of(items), null);
+    }
+}
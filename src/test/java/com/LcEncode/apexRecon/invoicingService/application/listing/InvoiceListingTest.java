@@ -0,0 +1,126 @@
+package com.LcEncode.apexRecon.invoicingService.application.listing;
+
+import com.LcEncode.apexRecon.invoicingService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.invoicingService.domain.model.listing.InvoiceListItem;
+import com.LcEncode.apexRecon.invoicingService.domain.model.listing.InvoiceListingFilter;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceStatus;
+import com.LcEncode.apexRecon.invoicingService.domain.repository.InvoiceListingRepository;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Paginação por keyset sobre um repositório em memória que segue o contrato de InvoiceListingRepository: percorrer
+ * todas as páginas entrega cada fatura uma vez, na ordem da listagem, mesmo com empates de vencimento.
+ */
+class InvoiceListingTest {
+    private static final UUID ORGANIZATION = UUID.fromString("0190a0b0-0000-7000-8000-000000000001");
+    private static final LocalDate DUE = LocalDate.of(2026, 3, 31);
+
+    @Test
+    void pagesAcrossTiedDueDatesWithoutDuplicatesOrGaps() {
+        var rows = new ArrayList<InvoiceListItem>();
+        for (int i = 0; i < 3; i++) { rows.add(item(null, InvoiceStatus.SENT)); }
+        for (int i = 0; i < 7; i++) { rows.add(item(DUE, InvoiceStatus.SENT)); }
+        rows.add(item(DUE.plusDays(1), InvoiceStatus.OVERDUE));
+        // invoiceId com o bit alto ligado: UUID.compareTo o poria antes dos demais, a ordem binária o põe depois.
+        rows.add(item(DUE, InvoiceStatus.SENT, UUID.fromString("ffffffff-0000-7000-8000-000000000000")));
+        var listing = new InvoiceListing(new InMemoryListingRepository(rows), 2, 10);
+
+        var seen = walk(listing, InvoiceListingFilter.organization(ORGANIZATION), 2);
+
+        assertEquals(sorted(rows), seen);
+    }
+
+    @Test
+    void multiStatusFilterMergesStatusesInListingOrder() {
+        var rows = new ArrayList<InvoiceListItem>();
+        for (int i = 0; i < 4; i++) {
+            rows.add(item(DUE.plusDays(i % 2), InvoiceStatus.SENT));
+            rows.add(item(DUE.plusDays(i % 2), InvoiceStatus.OVERDUE));
+            rows.add(item(DUE.plusDays(i % 2), InvoiceStatus.PAID));
+        }
+        var listing = new InvoiceListing(new InMemoryListingRepository(rows), 3, 10);
+        var filter = new InvoiceListingFilter(ORGANIZATION, null, Set.of(InvoiceStatus.SENT, InvoiceStatus.OVERDUE));
+
+        var seen = walk(listing, filter, 3);
+
+        assertEquals(sorted(rows.stream().filter(row -> row.status() != InvoiceStatus.PAID).toList()), seen);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        var listing = new InvoiceListing(new InMemoryListingRepository(List.of(item(DUE, InvoiceStatus.SENT))), 2, 10);
+
+        assertNull(listing.page(InvoiceListingFilter.organization(ORGANIZATION), null, null).nextCursor());
+    }
+
+    @Test
+    void pageSizeOutsideTheConfiguredRangeIsRejected() {
+        var listing = new InvoiceListing(new InMemoryListingRepository(List.of()), 2, 10);
+        var filter = InvoiceListingFilter.organization(ORGANIZATION);
+
+        assertThrows(ValidateException.class, () -> listing.page(filter, null, 0));
+        assertThrows(ValidateException.class, () -> listing.page(filter, null, 11));
+        assertThrows(ValidateException.class, () -> listing.page(null, null, 2));
+    }
+
+    private static List<InvoiceListItem> walk(InvoiceListing listing, InvoiceListingFilter filter, int limit) {
+        var seen = new ArrayList<InvoiceListItem>();
+        String cursor = null;
+        do {
+            var page = listing.page(filter, cursor, limit);
+            seen.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return seen;
+    }
+
+    private static final Comparator<InvoiceListItem> LISTING_ORDER = Comparator
+            .comparing(InvoiceListItem::dueDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(InvoiceListItem::invoiceId, UuidBinary.BINARY_ORDER);
+
+    private static List<InvoiceListItem> sorted(List<InvoiceListItem> rows) {
+        return rows.stream().sorted(LISTING_ORDER).toList();
+    }
+
+    private static InvoiceListItem item(LocalDate dueDate, InvoiceStatus status) {
+        return item(dueDate, status, UUID.randomUUID());
+    }
+
+    private static InvoiceListItem item(LocalDate dueDate, InvoiceStatus status, UUID invoiceId) {
+        var amount = Money.of(new BigDecimal("100.00"));
+        return new InvoiceListItem(invoiceId, UUID.randomUUID(), status, dueDate, amount, amount);
+    }
+
+    private static final class InMemoryListingRepository implements InvoiceListingRepository {
+        private final List<InvoiceListItem> rows;
+
+        private InMemoryListingRepository(List<InvoiceListItem> rows) {
+            this.rows = sorted(rows);
+        }
+
+        @Override
+        public List<InvoiceListItem> list(InvoiceListingFilter filter, Position after, int limit) {
+            var probe = after == null ? null : new InvoiceListItem(after.invoiceId(), null, null, after.dueDate(), null, null);
+            return rows.stream()
+                    .filter(row -> filter.statuses().isEmpty() || filter.statuses().contains(row.status()))
+                    .filter(row -> filter.customerId() == null || filter.customerId().equals(row.customerId()))
+                    .filter(row -> probe == null || LISTING_ORDER.compare(row, probe) > 0)
+                    .limit(limit)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.LcEncode.apexRecon.invoicingService.application.listing;
+
+import com.LcEncode.apexRecon.invoicingService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.invoicingService.domain.model.listing.InvoiceListingFilter;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceStatus;
+import com.LcEncode.apexRecon.invoicingService.domain.repository.InvoiceListingRepository.Position;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * O cursor devolve a mesma posição que codificou e só vale para o filtro que o emitiu.
+ */
+class ListingCursorTest {
+    private static final UUID ORGANIZATION = UUID.fromString("0190a0b0-0000-7000-8000-000000000001");
+    private static final InvoiceListingFilter FILTER = new InvoiceListingFilter(
+            ORGANIZATION, null, Set.of(InvoiceStatus.SENT, InvoiceStatus.OVERDUE));
+
+    @Test
+    void roundTripKeepsDueDateAndInvoiceId() {
+        var position = new Position(LocalDate.of(2026, 3, 31), UUID.fromString("ffffffff-0000-7000-8000-00000000abcd"));
+
+        assertEquals(position, ListingCursor.decode(ListingCursor.encode(FILTER, position), FILTER));
+    }
+
+    @Test
+    void roundTripKeepsMissingDueDate() {
+        var position = new Position(null, UUID.randomUUID());
+
+        assertEquals(position, ListingCursor.decode(ListingCursor.encode(FILTER, position), FILTER));
+    }
+
+    @Test
+    void equivalentFilterAcceptsTheCursor() {
+        var cursor = ListingCursor.encode(FILTER, new Position(LocalDate.of(2026, 1, 1), UUID.randomUUID()));
+        var sameFilter = new InvoiceListingFilter(ORGANIZATION, null, Set.of(InvoiceStatus.OVERDUE, InvoiceStatus.SENT));
+
+        ListingCursor.decode(cursor, sameFilter);
+    }
+
+    @Test
+    void cursorFromAnotherFilterIsRejected() {
+        var cursor = ListingCursor.encode(FILTER, new Position(LocalDate.of(2026, 1, 1), UUID.randomUUID()));
+
+        assertThrows(ValidateException.class, () -> ListingCursor.decode(cursor, InvoiceListingFilter.organization(ORGANIZATION)));
+        assertThrows(ValidateException.class, () -> ListingCursor.decode(cursor,
+                new InvoiceListingFilter(ORGANIZATION, UUID.randomUUID(), FILTER.statuses())));
+    }
+
+    @Test
+    void unknownVersionIsRejected() {
+        var bytes = Base64.getUrlDecoder().decode(ListingCursor.encode(FILTER, new Position(null, UUID.randomUUID())));
+        bytes[0] = 2;
+
+        assertThrows(ValidateException.class,
+                () -> ListingCursor.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes), FILTER));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        var valid = ListingCursor.encode(FILTER, new Position(null, UUID.randomUUID()));
+
+        assertThrows(ValidateException.class, () -> ListingCursor.decode("not base64 !", FILTER));
+        assertThrows(ValidateException.class, () -> ListingCursor.decode(valid.substring(0, valid.length() - 4), FILTER));
+        assertThrows(ValidateException.class, () -> ListingCursor.decode(valid + "AAAA", FILTER));
+    }
+}
@@ -0,0 +1,38 @@
+package com.LcEncode.apexRecon.invoicingService.application.overdue;
+
+import com.LcEncode.apexRecon.invoicingService.domain.repository.OverdueInvoiceRepository;
+import com.LcEncode.apexRecon.invoicingService.domain.service.OverdueSweepCriteria;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Blocos curtos (linhas puladas pelo SKIP LOCKED) não encerram a varredura de um status; só o bloco vazio.
+ */
+class OverdueSweeperTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 15);
+
+    @Test
+    void shortChunksDoNotEndTheStatusAndSkippedRowsAreReported() {
+        var statuses = OverdueSweepCriteria.asOf(TODAY).fromStatuses().size();
+        var chunks = new ArrayDeque<>(List.of(
+                chunk(3, 1), chunk(1, 3), chunk(0, 4), chunk(2, 0), chunk(0, 0)));
+        OverdueInvoiceRepository repository = (criteria, status, after, limit, publisher) ->
+                chunks.isEmpty() ? new OverdueInvoiceRepository.Chunk(0, 0, after) : chunks.poll();
+
+        var report = new OverdueSweeper(repository, events -> {}, 4).sweep(TODAY);
+
+        assertEquals(6, report.transitioned());
+        assertEquals(8, report.skipped());
+        assertEquals(5 + (statuses - 1), report.chunks());
+    }
+
+    private static OverdueInvoiceRepository.Chunk chunk(int transitioned, int skipped) {
+        return new OverdueInvoiceRepository.Chunk(transitioned, skipped, new OverdueInvoiceRepository.Cursor(TODAY.minusDays(1), UUID.randomUUID()));
+    }
+}
@@ -0,0 +1,172 @@
+package com.LcEncode.apexRecon.invoicingService.domain.model;
+
+import com.LcEncode.apexRecon.invoicingService.domain.exception.DomainException;
+import com.LcEncode.apexRecon.invoicingService.domain.exception.InvoiceTransitionException;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceItem;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceStatus;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.PaymentApplyResult;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Regras do agregado Invoice: pagamentos e manutenção dos totais.
+ */
+class InvoiceTest {
+
+    @Test
+    void nullBigDecimalPaymentIsRejectedAsMissingAmount() {
+        var invoice = sent();
+
+        var error = assertThrows(DomainException.class, () -> invoice.applyPartialPayment((BigDecimal) null));
+
+        assertEquals("Amount paid must be provided.", error.getMessage());
+        assertEquals(InvoiceStatus.SENT, invoice.getStatus());
+        assertEquals(Money.of("100.00"), invoice.getAmountDue());
+    }
+
+    @Test
+    void acceptedPartialPaymentReducesAmountDue() {
+        var invoice = sent();
+
+        var result = invoice.tryApplyPartialPayment(Money.of("40.00"));
+
+        assertSame(PaymentApplyResult.accepted(), result);
+        assertEquals(InvoiceStatus.PARTIALLY_PAID, invoice.getStatus());
+        assertEquals(Money.of("60.00"), invoice.getAmountDue());
+    }
+
+    @Test
+    void partialPaymentOfAnOverdueInvoiceKeepsItOverdue() {
+        var invoice = sent();
+        invoice.markAsOverdue(LocalDate.of(2026, 3, 2));
+
+        var result = invoice.tryApplyPartialPayment(Money.of("40.00"));
+
+        assertSame(PaymentApplyResult.accepted(), result);
+        assertEquals(InvoiceStatus.OVERDUE, invoice.getStatus());
+        assertEquals(Money.of("60.00"), invoice.getAmountDue());
+    }
+
+    @Test
+    void missingAmountIsInvalid() {
+        var invoice = sent();
+
+        assertSame(PaymentApplyResult.invalidAmount(), invoice.tryApplyPartialPayment(null));
+        assertEquals(Money.of("100.00"), invoice.getAmountDue());
+    }
+
+    @Test
+    void draftPaidAndVoidInvoicesAreNotPayable() {
+        var draft = draft();
+        var paid = sent();
+        paid.markAsPaid();
+        var voided = sent();
+        voided.voidInvoice("Emitida em duplicidade");
+
+        assertSame(PaymentApplyResult.illegalState(), draft.tryApplyPartialPayment(Money.of("10.00")));
+        assertSame(PaymentApplyResult.illegalState(), paid.tryApplyPartialPayment(Money.of("10.00")));
+        assertSame(PaymentApplyResult.illegalState(), voided.tryApplyPartialPayment(Money.of("10.00")));
+        assertEquals(InvoiceStatus.DRAFT, draft.getStatus());
+        assertEquals(Money.of("100.00"), draft.getAmountDue());
+    }
+
+    @Test
+    void overpaymentReportsTheExcessAndLeavesTheInvoiceUntouched() {
+        var invoice = sent();
+
+        var result = invoice.tryApplyPartialPayment(Money.of("130.00"));
+
+        assertEquals(PaymentApplyResult.Outcome.OVERPAYMENT, result.outcome());
+        assertEquals(Money.of("30.00"), result.excess());
+        assertEquals(InvoiceStatus.SENT, invoice.getStatus());
+        assertEquals(Money.of("100.00"), invoice.getAmountDue());
+    }
+
+    @Test
+    void addAndRemoveKeepTotalAndAmountDueInSync() {
+        var invoice = draft();
+        var hours = item("Horas extras", 3, "25.50");
+
+        invoice.addItem(hours);
+        assertEquals(Money.of("176.50"), invoice.getTotalAmount());
+        assertEquals(Money.of("176.50"), invoice.getAmountDue());
+
+        invoice.removeItem(hours.getItemId());
+        assertEquals(Money.of("100.00"), invoice.getTotalAmount());
+        assertEquals(Money.of("100.00"), invoice.getAmountDue());
+        assertEquals(1, invoice.getItemCount());
+    }
+
+    @Test
+    void removingAnUnknownItemChangesNothing() {
+        var invoice = draft();
+
+        invoice.removeItem(UUID.randomUUID());
+
+        assertEquals(Money.of("100.00"), invoice.getTotalAmount());
+        assertEquals(1, invoice.getItemCount());
+    }
+
+    @Test
+    void addItemsAppliesTheWholeBatchOnce() {
+        var invoice = draft();
+
+        invoice.addItems(List.of(item("Licença", 2, "10.00"), item("Suporte", 1, "0.35")));
+
+        assertEquals(Money.of("120.35"), invoice.getTotalAmount());
+        assertEquals(Money.of("120.35"), invoice.getAmountDue());
+        assertEquals(3, invoice.getItemCount());
+    }
+
+    @Test
+    void addItemsWithADuplicateLeavesTheInvoiceUntouched() {
+        var invoice = draft();
+        var license = item("Licença", 2, "10.00");
+
+        assertThrows(DomainException.class, () -> invoice.addItems(List.of(license, item("Suporte", 1, "5.00"), license)));
+
+        assertEquals(Money.of("100.00"), invoice.getTotalAmount());
+        assertEquals(1, invoice.getItemCount());
+    }
+
+    @Test
+    void itemsCannotChangeAfterTheInvoiceIsSent() {
+        var invoice = sent();
+        var itemId = invoice.getItems().getFirst().getItemId();
+
+        assertThrows(InvoiceTransitionException.class, () -> invoice.addItem(item("Extra", 1, "1.00")));
+        assertThrows(InvoiceTransitionException.class, () -> invoice.removeItem(itemId));
+        assertEquals(Money.of("100.00"), invoice.getTotalAmount());
+    }
+
+    private static Invoice sent() {
+        var invoice = draft();
+        invoice.markAsSent();
+        return invoice;
+    }
+
+    private static Invoice draft() {
+        return Invoice.builder()
+                .amountDue(new BigDecimal("100.00"))
+                .localDate(LocalDate.of(2026, 3, 1))
+                .items(List.of(item("Consultoria", 1, "100.00")))
+                .build();
+    }
+
+    private static InvoiceItem item(String description, int quantity, String unitPrice) {
+        return InvoiceItem.builder()
+                .description(description)
+                .quantity(quantity)
+                .unitPrice(new BigDecimal(unitPrice))
+                .build();
+    }
+}
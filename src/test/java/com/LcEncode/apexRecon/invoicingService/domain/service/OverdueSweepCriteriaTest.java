@@ -0,0 +1,76 @@
+package com.LcEncode.apexRecon.invoicingService.domain.service;
+
+import com.LcEncode.apexRecon.invoicingService.domain.model.Invoice;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceItem;
+import com.LcEncode.apexRecon.invoicingService.domain.model.useCase.InvoiceStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * O OverdueSweeper vence faturas em lote pelo OverdueSweepCriteria, sem passar pelo agregado; as duas regras
+ * precisam dar o mesmo resultado para todo status alcançável e todo dueDate em volta de hoje.
+ */
+class OverdueSweepCriteriaTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 15);
+
+    @Test
+    void criteriaMatchesAggregateRuleForEveryStatusAndDueDate() {
+        var checked = 0;
+        for (var status : InvoiceStatus.values()) {
+            for (int offset = -2; offset <= 2; offset++) {
+                var dueDate = TODAY.plusDays(offset);
+                var invoice = invoiceIn(status, dueDate);
+                assertEquals(status, invoice.getStatus());
+
+                invoice.markAsOverdue(TODAY);
+                var aggregateTransitions = status != InvoiceStatus.OVERDUE && invoice.getStatus() == InvoiceStatus.OVERDUE;
+
+                assertEquals(aggregateTransitions, OverdueSweepCriteria.asOf(TODAY).matches(status, dueDate),
+                        () -> "status " + status + ", due " + dueDate);
+                checked++;
+            }
+        }
+        assertEquals(InvoiceStatus.values().length * 5, checked);
+    }
+
+    @Test
+    void partiallyPaidInvoiceIsNotOverdueBeforeDueDate() {
+        var invoice = invoiceIn(InvoiceStatus.PARTIALLY_PAID, TODAY.plusDays(10));
+
+        invoice.markAsOverdue(TODAY);
+
+        assertEquals(InvoiceStatus.PARTIALLY_PAID, invoice.getStatus());
+    }
+
+    private static Invoice invoiceIn(InvoiceStatus status, LocalDate dueDate) {
+        var invoice = Invoice.builder()
+                .amountDue(new BigDecimal("100.00"))
+                .localDate(dueDate)
+                .items(List.of(InvoiceItem.builder().description("Serviço").quantity(1).unitPrice(new BigDecimal("100.00")).build()))
+                .build();
+
+        switch (status) {
+            case DRAFT -> { }
+            case SENT -> invoice.markAsSent();
+            case PARTIALLY_PAID -> {
+                invoice.markAsSent();
+                invoice.applyPartialPayment(new BigDecimal("40.00"));
+            }
+            case PAID -> {
+                invoice.markAsSent();
+                invoice.markAsPaid();
+            }
+            case VOID -> invoice.voidInvoice("Cancelada pelo cliente");
+            case OVERDUE -> {
+                invoice.markAsSent();
+                invoice.markAsOverdue(dueDate.plusDays(1));
+            }
+        }
+        return invoice;
+    }
+}
@@ -0,0 +1,283 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.aging;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.aging.AgingBalance;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.aging.AgingBucket;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.ArAgingRepository;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Projeção incremental (importação, pagamentos, roll-over por organização) contra o recálculo a partir do ledger.
+ * O repositório em memória aplica os mesmos deltas do SQL: soma do lote importado, delta do pagamento e movimento
+ * das faturas que cruzam um limite de faixa no dia.
+ */
+class ArAgingProjectionTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    private final InMemoryArAgingRepository repository = new InMemoryArAgingRepository(TODAY);
+    private final ArAgingProjection projection = new ArAgingProjection(repository);
+    private final ArAgingImportProjection imports = new ArAgingImportProjection(repository);
+
+    @Test
+    void importsAndPaymentsKeepTheProjectionEqualToTheRecalculation() {
+        var organization = UUID.randomUUID();
+        var alice = UUID.randomUUID();
+        var bob = UUID.randomUUID();
+        var current = repository.invoice(organization, alice, TODAY.plusDays(5), "100.00");
+        var late = repository.invoice(organization, alice, TODAY.minusDays(10), "200.00");
+        var older = repository.invoice(organization, bob, TODAY.minusDays(45), "300.00");
+        importBatch(organization, current, late, older);
+
+        repository.pay(late, "50.00");
+        repository.pay(older, "300.00");
+
+        var total = projection.organization(organization);
+        assertEquals(Money.of("100.00"), total.amounts().get(AgingBucket.CURRENT));
+        assertEquals(Money.of("150.00"), total.amounts().get(AgingBucket.DAYS_1_30));
+        assertEquals(Money.ZERO, total.amounts().get(AgingBucket.DAYS_31_60));
+        assertEquals(0, total.invoices().get(AgingBucket.DAYS_31_60).longValue());
+        assertEquals(Money.of("150.00"), total.overdue());
+        assertEquals(Money.of("250.00"), projection.customer(organization, alice).total());
+        assertTrue(projection.verify(organization).isConsistent());
+    }
+
+    @Test
+    void rollOverMovesOnlyTheInvoicesCrossingABoundary() {
+        var organization = UUID.randomUUID();
+        var customer = UUID.randomUUID();
+        var dueToday = repository.invoice(organization, customer, TODAY, "10.00");
+        var thirtyDays = repository.invoice(organization, customer, TODAY.minusDays(30), "20.00");
+        var ninetyDays = repository.invoice(organization, customer, TODAY.minusDays(90), "40.00");
+        importBatch(organization, dueToday, thirtyDays, ninetyDays);
+
+        var days = projection.rollOver(TODAY.plusDays(1));
+
+        var total = projection.organization(organization);
+        assertEquals(1, days);
+        assertEquals(TODAY.plusDays(1), total.asOf());
+        assertEquals(Money.ZERO, total.amounts().get(AgingBucket.CURRENT));
+        assertEquals(Money.of("10.00"), total.amounts().get(AgingBucket.DAYS_1_30));
+        assertEquals(Money.of("20.00"), total.amounts().get(AgingBucket.DAYS_31_60));
+        assertEquals(Money.of("40.00"), total.amounts().get(AgingBucket.DAYS_90_PLUS));
+        assertTrue(projection.verify(organization).isConsistent());
+    }
+
+    @Test
+    void everyDayOfAQuarterStaysConsistentWithPaymentsInBetween() {
+        var organization = UUID.randomUUID();
+        var customers = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        var invoices = new ArrayList<UUID>();
+        for (int i = 0; i < 60; i++) {
+            invoices.add(repository.invoice(organization, customers.get(i % 3), TODAY.minusDays(i * 3L - 40), (i + 1) + ".50"));
+        }
+        importBatch(organization, invoices.toArray(UUID[]::new));
+
+        for (int day = 1; day <= 100; day++) {
+            projection.rollOver(TODAY.plusDays(day));
+            if (day % 7 == 0) { repository.pay(invoices.get(day % invoices.size()), "1.00"); }
+            if (day % 11 == 0) { repository.pay(invoices.get((day * 3) % invoices.size()), repository.amountDue(invoices.get((day * 3) % invoices.size()))); }
+
+            var verification = projection.verify(organization);
+            assertTrue(verification.isConsistent(), "day " + day + ": " + verification.mismatches());
+        }
+    }
+
+    @Test
+    void eachOrganizationRollsFromItsOwnDateAndTheCalendarFollows() {
+        var behind = UUID.randomUUID();
+        var current = UUID.randomUUID();
+        repository.state(behind, TODAY.minusDays(3));
+        repository.state(current, TODAY);
+        importBatch(behind, repository.invoice(behind, UUID.randomUUID(), TODAY.minusDays(2), "10.00"));
+        importBatch(current, repository.invoice(current, UUID.randomUUID(), TODAY.minusDays(2), "10.00"));
+
+        var days = projection.rollOver(TODAY);
+
+        assertEquals(3, days);
+        assertEquals(TODAY, projection.organization(behind).asOf());
+        assertEquals(TODAY, projection.organization(current).asOf());
+        assertEquals(TODAY, repository.calendar());
+        assertEquals(List.of(behind, behind, behind), repository.lockedForUpdate);
+        assertTrue(projection.verify(behind).isConsistent());
+    }
+
+    @Test
+    void rebuildRestoresTheIncrementalTotals() {
+        var organization = UUID.randomUUID();
+        var customer = UUID.randomUUID();
+        var first = repository.invoice(organization, customer, TODAY.minusDays(15), "80.00");
+        var second = repository.invoice(organization, customer, TODAY.plusDays(15), "120.00");
+        importBatch(organization, first, second);
+        repository.pay(first, "30.00");
+        projection.rollOver(TODAY.plusDays(20));
+        var incremental = projection.organization(organization);
+
+        repository.corrupt(organization, AgingBucket.DAYS_1_30, "999.00");
+        var before = projection.rebuild(organization);
+
+        assertFalse(before.isConsistent());
+        assertEquals(incremental, projection.organization(organization));
+        assertTrue(projection.verify(organization).isConsistent());
+    }
+
+    private void importBatch(UUID organizationId, UUID... invoiceIds) {
+        imports.lock(organizationId);
+        imports.apply(organizationId, List.of(invoiceIds));
+    }
+
+    private static final class InMemoryArAgingRepository implements ArAgingRepository {
+        private record LedgerInvoice(UUID organizationId, UUID customerId, LocalDate dueDate, Money amountDue, boolean open) {}
+
+        private record Key(UUID organizationId, UUID customerId, AgingBucket bucket) {}
+
+        private final Map<UUID, LedgerInvoice> ledger = new LinkedHashMap<>();
+        private final Map<Key, AgingBalance> stored = new HashMap<>();
+        private final Map<UUID, LocalDate> states = new LinkedHashMap<>();
+        private final List<UUID> lockedForUpdate = new ArrayList<>();
+        private LocalDate calendar;
+
+        InMemoryArAgingRepository(LocalDate calendar) {
+            this.calendar = calendar;
+        }
+
+        UUID invoice(UUID organizationId, UUID customerId, LocalDate dueDate, String amount) {
+            var invoiceId = UUID.randomUUID();
+            ledger.put(invoiceId, new LedgerInvoice(organizationId, customerId, dueDate, Money.of(amount), true));
+            return invoiceId;
+        }
+
+        void state(UUID organizationId, LocalDate asOf) {
+            states.put(organizationId, asOf);
+        }
+
+        Money amountDue(UUID invoiceId) {
+            return ledger.get(invoiceId).amountDue();
+        }
+
+        // Commit da conciliação: ledger e delta de aging na data travada da organização.
+        void pay(UUID invoiceId, Money amount) {
+            var invoice = ledger.get(invoiceId);
+            var asOf = lockAsOf(invoice.organizationId());
+            var remaining = invoice.amountDue().minus(amount);
+            ledger.put(invoiceId, new LedgerInvoice(invoice.organizationId(), invoice.customerId(), invoice.dueDate(), remaining, !remaining.isZero()));
+            add(invoice, AgingBucket.of(invoice.dueDate(), asOf), Money.ZERO.minus(amount), remaining.isZero() ? -1 : 0);
+        }
+
+        void pay(UUID invoiceId, String amount) {
+            pay(invoiceId, Money.of(amount));
+        }
+
+        void corrupt(UUID organizationId, AgingBucket bucket, String amount) {
+            stored.put(new Key(organizationId, AgingBalance.ORGANIZATION_TOTAL, bucket),
+                    new AgingBalance(organizationId, AgingBalance.ORGANIZATION_TOTAL, bucket, Money.of(amount), 1));
+        }
+
+        @Override
+        public LocalDate asOf(UUID organizationId) {
+            return states.getOrDefault(organizationId, calendar);
+        }
+
+        @Override
+        public LocalDate calendar() {
+            return calendar;
+        }
+
+        @Override
+        public List<AgingBalance> find(UUID organizationId, UUID customerId) {
+            return stored.values().stream()
+                    .filter(balance -> balance.organizationId().equals(organizationId) && balance.customerId().equals(customerId))
+                    .toList();
+        }
+
+        @Override
+        public Snapshot snapshot(UUID organizationId) {
+            var asOf = asOf(organizationId);
+            var current = stored.values().stream().filter(balance -> balance.organizationId().equals(organizationId)).toList();
+            return new Snapshot(asOf, current, compute(organizationId, asOf));
+        }
+
+        @Override
+        public void rebuild(UUID organizationId) {
+            var asOf = lockAsOf(organizationId);
+            stored.keySet().removeIf(key -> key.organizationId().equals(organizationId));
+            compute(organizationId, asOf).forEach(balance -> stored.put(new Key(organizationId, balance.customerId(), balance.bucket()), balance));
+        }
+
+        @Override
+        public void rollOver(UUID organizationId, LocalDate day) {
+            lockedForUpdate.add(organizationId);
+            var asOf = lockAsOf(organizationId);
+            if (!day.equals(asOf.plusDays(1))) { throw new IllegalStateException("Aging is as of " + asOf + "; cannot roll over to " + day); }
+
+            ledger.values().stream()
+                    .filter(invoice -> invoice.open() && invoice.organizationId().equals(organizationId))
+                    .filter(invoice -> AgingBucket.of(invoice.dueDate(), asOf) != AgingBucket.of(invoice.dueDate(), day))
+                    .forEach(invoice -> {
+                        add(invoice, AgingBucket.of(invoice.dueDate(), asOf), Money.ZERO.minus(invoice.amountDue()), -1);
+                        add(invoice, AgingBucket.of(invoice.dueDate(), day), invoice.amountDue(), 1);
+                    });
+            states.put(organizationId, day);
+        }
+
+        @Override
+        public void advanceCalendar(LocalDate day) {
+            if (day.isAfter(calendar)) { calendar = day; }
+        }
+
+        @Override
+        public List<UUID> organizations() {
+            var organizations = new LinkedHashMap<UUID, Boolean>();
+            ledger.values().forEach(invoice -> organizations.put(invoice.organizationId(), true));
+            stored.keySet().forEach(key -> organizations.put(key.organizationId(), true));
+            return List.copyOf(organizations.keySet());
+        }
+
+        @Override
+        public LocalDate lockAsOf(UUID organizationId) {
+            return states.computeIfAbsent(organizationId, id -> calendar);
+        }
+
+        @Override
+        public void applyNewInvoices(UUID organizationId, LocalDate asOf, List<UUID> invoiceIds) {
+            invoiceIds.stream().map(ledger::get).filter(LedgerInvoice::open)
+                    .forEach(invoice -> add(invoice, AgingBucket.of(invoice.dueDate(), asOf), invoice.amountDue(), 1));
+        }
+
+        private void add(LedgerInvoice invoice, AgingBucket bucket, Money amount, long invoices) {
+            for (var customerId : List.of(invoice.customerId(), AgingBalance.ORGANIZATION_TOTAL)) {
+                stored.merge(new Key(invoice.organizationId(), customerId, bucket),
+                        new AgingBalance(invoice.organizationId(), customerId, bucket, amount, invoices),
+                        (left, right) -> new AgingBalance(left.organizationId(), left.customerId(), left.bucket(),
+                                left.amount().plus(right.amount()), left.invoices() + right.invoices()));
+            }
+        }
+
+        private List<AgingBalance> compute(UUID organizationId, LocalDate asOf) {
+            var computed = new HashMap<Key, AgingBalance>();
+            ledger.values().stream()
+                    .filter(invoice -> invoice.open() && invoice.organizationId().equals(organizationId))
+                    .forEach(invoice -> {
+                        var bucket = AgingBucket.of(invoice.dueDate(), asOf);
+                        for (var customerId : List.of(invoice.customerId(), AgingBalance.ORGANIZATION_TOTAL)) {
+                            computed.merge(new Key(organizationId, customerId, bucket),
+                                    new AgingBalance(organizationId, customerId, bucket, invoice.amountDue(), 1),
+                                    (left, right) -> new AgingBalance(organizationId, customerId, bucket,
+                                            left.amount().plus(right.amount()), left.invoices() + right.invoices()));
+                        }
+                    });
+            return List.copyOf(computed.values());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.cache;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ConcurrentLedgerUpdateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.LcEncode.apexRecon.paymentReconciliationService.application.cache.OpenLedgerCacheTest.invoice;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * O cache só recebe o estado da run depois do commit; conflito de versão e importação em lote descartam a organização.
+ */
+class CachingReconciliationRunRepositoryTest {
+    private final UUID organizationId = UUID.randomUUID();
+    private final UUID invoiceId = UUID.randomUUID();
+    private final OpenLedgerCacheTest.FakeOpenLedgerRepository ledgers = new OpenLedgerCacheTest.FakeOpenLedgerRepository();
+    private final OpenLedgerCache cache = new OpenLedgerCache(ledgers, OpenLedgerCache.Settings.defaults(), CacheObserver.NOOP);
+
+    @Test
+    void committedRunIsWrittenThrough() {
+        ledgers.add(invoice(organizationId, invoiceId, "100.00", 1));
+        var invoice = cache.openInvoices(organizationId).getFirst();
+        invoice.applyPayment(Money.of("30.00"));
+        var repository = new CachingReconciliationRunRepository(run -> run.invoices().forEach(InvoiceLedger::markCommitted), cache);
+
+        repository.commit(new ReconciliationRun(organizationId, List.of(), List.of(invoice), List.of()));
+
+        var cached = cache.openInvoices(organizationId).getFirst();
+        assertEquals(Money.of("70.00"), cached.getAmountDue());
+        assertEquals(2, cached.getVersion());
+        assertEquals(1, ledgers.loads(organizationId));
+    }
+
+    @Test
+    void versionConflictInvalidatesTheOrganizationAndIsRethrown() {
+        ledgers.add(invoice(organizationId, invoiceId, "100.00", 1));
+        var invoice = cache.openInvoices(organizationId).getFirst();
+        invoice.applyPayment(Money.of("30.00"));
+        var conflict = new ConcurrentLedgerUpdateException(organizationId, invoiceId, "stale");
+        var repository = new CachingReconciliationRunRepository(run -> { throw conflict; }, cache);
+
+        var thrown = assertThrows(ConcurrentLedgerUpdateException.class,
+                () -> repository.commit(new ReconciliationRun(organizationId, List.of(), List.of(invoice), List.of())));
+
+        assertSame(conflict, thrown);
+        assertEquals(0, cache.residentOrganizations());
+        assertEquals(Money.of("100.00"), cache.openInvoices(organizationId).getFirst().getAmountDue());
+        assertEquals(2, ledgers.loads(organizationId));
+    }
+
+    @Test
+    void importedInvoicesInvalidateOnlyTheirOrganization() {
+        var other = UUID.randomUUID();
+        cache.openInvoices(organizationId);
+        cache.openInvoices(other);
+
+        new ImportedInvoicesCacheInvalidation(cache).imported(organizationId, List.of());
+
+        assertEquals(1, cache.residentOrganizations());
+        assertTrue(cache.stats().stream().allMatch(stats -> stats.organizationId().equals(other)));
+    }
+}
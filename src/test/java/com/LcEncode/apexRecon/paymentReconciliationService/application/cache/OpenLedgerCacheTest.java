@@ -0,0 +1,261 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.cache;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.CacheObserver.EvictionCause;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.OpenLedgerRepository;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Carga única por organização, put que não regride de versão, despejo por ociosidade, idade e tamanho, e escritores
+ * concorrentes sobre a mesma organização. O relógio é controlado pelo teste.
+ */
+class OpenLedgerCacheTest {
+    private static final Duration IDLE = Duration.ofMinutes(15);
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final FakeOpenLedgerRepository repository = new FakeOpenLedgerRepository();
+    private final RecordingObserver observer = new RecordingObserver();
+
+    @Test
+    void loadsOnceAndServesCopies() {
+        var organizationId = UUID.randomUUID();
+        repository.add(invoice(organizationId, UUID.randomUUID(), "100.00", 1));
+        var cache = cache(100);
+
+        cache.openInvoices(organizationId).getFirst().applyPayment(Money.of("40.00"));
+        var again = cache.openInvoices(organizationId);
+
+        assertEquals(1, repository.loads(organizationId));
+        assertEquals(Money.of("100.00"), again.getFirst().getAmountDue());
+        assertEquals(1, observer.hits.get());
+    }
+
+    @Test
+    void putIgnoresOlderVersionsAndDropsClosedLedgers() {
+        var organizationId = UUID.randomUUID();
+        var invoiceId = UUID.randomUUID();
+        repository.add(invoice(organizationId, invoiceId, "100.00", 3));
+        var cache = cache(100);
+        cache.openInvoices(organizationId);
+
+        cache.put(invoice(organizationId, invoiceId, "90.00", 2));
+        assertEquals(Money.of("100.00"), cache.openInvoices(organizationId).getFirst().getAmountDue());
+
+        cache.put(invoice(organizationId, invoiceId, "60.00", 4));
+        assertEquals(Money.of("60.00"), cache.openInvoices(organizationId).getFirst().getAmountDue());
+
+        var paid = invoice(organizationId, invoiceId, "60.00", 4);
+        paid.applyPayment(Money.of("60.00"));
+        paid.markCommitted();
+        cache.put(paid);
+        assertTrue(cache.openInvoices(organizationId).isEmpty());
+    }
+
+    @Test
+    void putForANonResidentOrganizationIsIgnored() {
+        var organizationId = UUID.randomUUID();
+        var cache = cache(100);
+
+        cache.put(invoice(organizationId, UUID.randomUUID(), "10.00", 1));
+
+        assertEquals(0, cache.residentOrganizations());
+    }
+
+    @Test
+    void idleOrganizationsAreEvicted() {
+        var idle = UUID.randomUUID();
+        var active = UUID.randomUUID();
+        var cache = cache(100);
+        cache.openInvoices(idle);
+        clock.addAndGet(IDLE.toNanos() / 2);
+        cache.openInvoices(active);
+
+        clock.addAndGet(IDLE.toNanos() / 2);
+        cache.evictIdle();
+
+        assertEquals(1, cache.residentOrganizations());
+        assertEquals(List.of(idle + ":IDLE"), observer.evictions);
+    }
+
+    @Test
+    void organizationIsReloadedAfterMaxAge() {
+        var organizationId = UUID.randomUUID();
+        var cache = cache(100);
+        cache.openInvoices(organizationId);
+
+        clock.addAndGet(MAX_AGE.toNanos() - 1);
+        cache.openInvoices(organizationId);
+        assertEquals(1, repository.loads(organizationId));
+
+        clock.addAndGet(1);
+        cache.openInvoices(organizationId);
+        assertEquals(2, repository.loads(organizationId));
+        assertEquals(List.of(organizationId + ":EXPIRED"), observer.evictions);
+    }
+
+    @Test
+    void leastRecentlyUsedOrganizationsLeaveAboveTheItemLimit() {
+        var eldest = UUID.randomUUID();
+        var middle = UUID.randomUUID();
+        var newest = UUID.randomUUID();
+        for (var organizationId : List.of(eldest, middle, newest)) {
+            repository.add(invoice(organizationId, UUID.randomUUID(), "10.00", 1));
+            repository.add(transaction(organizationId, "10.00"));
+        }
+        var cache = cache(4);
+
+        cache.openInvoices(eldest);
+        clock.incrementAndGet();
+        cache.openInvoices(middle);
+        clock.incrementAndGet();
+        cache.openBankTransactions(newest);
+
+        assertEquals(4, cache.residentItems());
+        assertEquals(List.of(eldest + ":SIZE"), observer.evictions);
+    }
+
+    @Test
+    void invalidateDropsOnlyResidentOrganizations() {
+        var organizationId = UUID.randomUUID();
+        var cache = cache(100);
+        cache.invalidate(organizationId);
+        cache.openInvoices(organizationId);
+
+        cache.invalidate(organizationId);
+        cache.openInvoices(organizationId);
+
+        assertEquals(2, repository.loads(organizationId));
+        assertEquals(List.of(organizationId + ":INVALIDATED"), observer.evictions);
+    }
+
+    @Test
+    void concurrentReadersLoadOnceAndConcurrentWritersKeepTheNewestVersion() throws Exception {
+        var organizationId = UUID.randomUUID();
+        var invoiceId = UUID.randomUUID();
+        repository.add(invoice(organizationId, invoiceId, "1000.00", 0));
+        var cache = cache(100);
+        int threads = 8;
+        int versions = 200;
+
+        var start = new CountDownLatch(1);
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            for (int thread = 0; thread < threads; thread++) {
+                var offset = thread;
+                executor.submit(() -> {
+                    start.await();
+                    cache.openInvoices(organizationId);
+                    for (int version = 1 + offset; version <= versions; version += threads) {
+                        cache.put(invoice(organizationId, invoiceId, String.valueOf(1000 - version), version));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        var cached = cache.openInvoices(organizationId).getFirst();
+        assertEquals(1, repository.loads(organizationId));
+        assertEquals(versions, cached.getVersion());
+        assertEquals(Money.of(String.valueOf(1000 - versions)), cached.getAmountDue());
+    }
+
+    private OpenLedgerCache cache(int maxResidentItems) {
+        return new OpenLedgerCache(repository, new OpenLedgerCache.Settings(maxResidentItems, IDLE, MAX_AGE), observer, clock::get);
+    }
+
+    static InvoiceLedger invoice(UUID organizationId, UUID invoiceId, String amountDue, long version) {
+        return InvoiceLedger.builder()
+                .id(invoiceId)
+                .organizationId(organizationId)
+                .dueDate(LocalDate.of(2026, 3, 1))
+                .amountDue(Money.of(amountDue))
+                .status(LedgerStatus.OPEN)
+                .version(version)
+                .build();
+    }
+
+    static BankTransactionLedger transaction(UUID organizationId, String amount) {
+        return BankTransactionLedger.builder()
+                .bankTransactionId(UUID.randomUUID())
+                .organizationId(organizationId)
+                .amount(Money.of(amount))
+                .amountUnmatched(Money.of(amount))
+                .transactionDate(Instant.parse("2026-03-01T12:00:00Z"))
+                .build();
+    }
+
+    static final class FakeOpenLedgerRepository implements OpenLedgerRepository {
+        private final Map<UUID, List<InvoiceLedger>> invoices = new ConcurrentHashMap<>();
+        private final Map<UUID, List<BankTransactionLedger>> transactions = new ConcurrentHashMap<>();
+        private final Map<UUID, AtomicInteger> loads = new ConcurrentHashMap<>();
+
+        void add(InvoiceLedger invoice) {
+            invoices.computeIfAbsent(invoice.getOrganizationId(), id -> new ArrayList<>()).add(invoice);
+        }
+
+        void add(BankTransactionLedger transaction) {
+            transactions.computeIfAbsent(transaction.getOrganizationId(), id -> new ArrayList<>()).add(transaction);
+        }
+
+        int loads(UUID organizationId) {
+            var count = loads.get(organizationId);
+            return count == null ? 0 : count.get();
+        }
+
+        @Override
+        public List<InvoiceLedger> findOpenInvoices(UUID organizationId) {
+            loads.computeIfAbsent(organizationId, id -> new AtomicInteger()).incrementAndGet();
+            return invoices.getOrDefault(organizationId, List.of());
+        }
+
+        @Override
+        public List<BankTransactionLedger> findOpenBankTransactions(UUID organizationId) {
+            return transactions.getOrDefault(organizationId, List.of());
+        }
+    }
+
+    private static final class RecordingObserver implements CacheObserver {
+        private final AtomicInteger hits = new AtomicInteger();
+        private final List<String> evictions = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void hit(UUID organizationId) {
+            hits.incrementAndGet();
+        }
+
+        @Override
+        public void miss(UUID organizationId) {}
+
+        @Override
+        public void loaded(UUID organizationId, Duration elapsed) {}
+
+        @Override
+        public void resident(UUID organizationId, int items, long bytes) {}
+
+        @Override
+        public void evicted(UUID organizationId, EvictionCause cause) {
+            evictions.add(organizationId + ":" + cause);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.consumer;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.CacheObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.CachingReconciliationRunRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.OpenLedgerCache;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.ContentionObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.OptimisticReconciliationExecutor;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.OrganizationReconciler;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.ReconciliationObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.BankTransactionLedgerRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.OpenLedgerRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.AllocationSolver;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.LedgerMatchingEngine;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.MatchTolerance;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Da mensagem à run gravada: o ledger entra antes do agendamento, reentregas não o duplicam, agendamentos da mesma
+ * organização se juntam enquanto esperam na lane e uma recusa da lane libera a organização para a próxima mensagem.
+ */
+class BankTransactionConsumerTest {
+    private final UUID organizationId = UUID.randomUUID();
+    private final UUID connectionId = UUID.randomUUID();
+    private final InMemoryLedgers ledgers = new InMemoryLedgers();
+    private final List<Runnable> queued = new ArrayList<>();
+    private final List<ReconciliationRun> committed = new ArrayList<>();
+    private final OpenLedgerCache cache = new OpenLedgerCache(ledgers, OpenLedgerCache.Settings.defaults(), CacheObserver.NOOP);
+    private int rejections;
+
+    @Test
+    void ingestedTransactionIsStoredAndReconciledInItsLane() {
+        ledgers.connections.put(connectionId, organizationId);
+        var invoice = ledgers.invoice(organizationId, "150.00");
+        var transaction = ingested("150.00");
+
+        consumer().accept(transaction);
+
+        assertEquals(1, ledgers.transactions.size());
+        assertEquals(1, queued.size());
+        assertTrue(committed.isEmpty());
+
+        queued.removeFirst().run();
+
+        assertEquals(1, committed.size());
+        var allocation = committed.getFirst().payments().getFirst().getAllocations().getFirst();
+        assertEquals(invoice, allocation.invoiceId());
+        assertEquals(transaction.id(), allocation.bankTransactionId());
+        assertEquals(LedgerStatus.MATCHED, committed.getFirst().bankTransactions().getFirst().getStatus());
+    }
+
+    @Test
+    void redeliveryKeepsTheStoredLedger() {
+        ledgers.connections.put(connectionId, organizationId);
+        var transaction = ingested("80.00");
+        var consumer = consumer();
+
+        consumer.accept(transaction);
+        consumer.accept(transaction);
+
+        assertEquals(1, ledgers.transactions.size());
+        assertEquals(2, ledgers.inserts);
+    }
+
+    @Test
+    void schedulesForTheSameOrganizationCoalesceWhileQueued() {
+        ledgers.connections.put(connectionId, organizationId);
+        var consumer = consumer();
+
+        consumer.accept(ingested("10.00"));
+        consumer.accept(ingested("20.00"));
+        assertEquals(1, queued.size());
+
+        queued.removeFirst().run();
+        consumer.accept(ingested("30.00"));
+        assertEquals(1, queued.size());
+    }
+
+    @Test
+    void unknownConnectionIsRejectedWithoutScheduling() {
+        assertThrows(ValidateException.class, () -> consumer().accept(ingested("10.00")));
+
+        assertTrue(ledgers.transactions.isEmpty());
+        assertTrue(queued.isEmpty());
+    }
+
+    @Test
+    void laneRejectionReleasesTheOrganization() {
+        ledgers.connections.put(connectionId, organizationId);
+        rejections = 1;
+        var consumer = consumer();
+
+        assertThrows(RejectedExecutionException.class, () -> consumer.accept(ingested("10.00")));
+        assertEquals(1, ledgers.transactions.size());
+
+        consumer.accept(ingested("10.00"));
+        assertEquals(1, queued.size());
+    }
+
+    private BankTransactionConsumer consumer() {
+        var executor = new OptimisticReconciliationExecutor(new CachingReconciliationRunRepository(committed::add, cache), 3, Duration.ZERO,
+                ContentionObserver.NOOP, ReconciliationObserver.NOOP, 10);
+        var reconciler = new OrganizationReconciler(cache, executor, new AllocationSolver(), MatchTolerance.exact(), LedgerMatchingEngine.DEFAULT_ZONE, ReconciliationObserver.NOOP);
+        return new BankTransactionConsumer(ledgers, cache, (organization, task) -> {
+            if (rejections > 0) {
+                rejections--;
+                throw new RejectedExecutionException("lane full");
+            }
+            queued.add(task);
+        }, reconciler);
+    }
+
+    private IngestedBankTransaction ingested(String amount) {
+        return new IngestedBankTransaction(UUID.randomUUID(), connectionId, new BigDecimal(amount), Instant.parse("2026-03-01T12:00:00Z"), "PIX RECEBIDO");
+    }
+
+    /**
+     * Tabelas em memória: bank_connections para a organização, os ledgers gravados e as faturas em aberto.
+     */
+    private static final class InMemoryLedgers implements BankTransactionLedgerRepository, OpenLedgerRepository {
+        private final Map<UUID, UUID> connections = new LinkedHashMap<>();
+        private final Map<UUID, BankTransactionLedger> transactions = new LinkedHashMap<>();
+        private final List<InvoiceLedger> invoices = new ArrayList<>();
+        private int inserts;
+
+        UUID invoice(UUID organizationId, String amountDue) {
+            var id = UUID.randomUUID();
+            invoices.add(InvoiceLedger.builder().id(id).organizationId(organizationId).dueDate(LocalDate.of(2026, 3, 1)).amountDue(Money.of(amountDue)).build());
+            return id;
+        }
+
+        @Override
+        public Optional<UUID> findOrganizationByConnection(UUID connectionId) {
+            return Optional.ofNullable(connections.get(connectionId));
+        }
+
+        @Override
+        public boolean insertIfAbsent(BankTransactionLedger transaction) {
+            inserts++;
+            return transactions.putIfAbsent(transaction.getBankTransactionId(), transaction) == null;
+        }
+
+        @Override
+        public List<InvoiceLedger> findOpenInvoices(UUID organizationId) {
+            return invoices.stream().filter(invoice -> invoice.getOrganizationId().equals(organizationId)).toList();
+        }
+
+        @Override
+        public List<BankTransactionLedger> findOpenBankTransactions(UUID organizationId) {
+            return transactions.values().stream().filter(transaction -> transaction.getOrganizationId().equals(organizationId)).toList();
+        }
+    }
+}
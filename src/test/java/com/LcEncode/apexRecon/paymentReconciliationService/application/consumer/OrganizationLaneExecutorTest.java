@@ -0,0 +1,38 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.consumer;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Falhas dos handlers, inclusive Error, ficam nas estatísticas da lane e a fila continua andando.
+ */
+class OrganizationLaneExecutorTest {
+
+    @Test
+    void errorsAreCountedAndTheLaneKeepsRunning() {
+        var organizationId = UUID.randomUUID();
+        var executed = Collections.synchronizedList(new ArrayList<Integer>());
+        try (var executor = new OrganizationLaneExecutor("test", 1, 8, Duration.ofSeconds(1))) {
+            executor.submit(organizationId, () -> executed.add(1));
+            executor.submit(organizationId, () -> { throw new IllegalStateException("handler failed"); });
+            executor.submit(organizationId, () -> { throw new StackOverflowError("deep"); });
+            executor.submit(organizationId, () -> executed.add(2));
+
+            assertTrue(executor.awaitQueued(Duration.ofSeconds(5)));
+
+            var stats = executor.stats(0);
+            assertEquals(List.of(1, 2), executed);
+            assertEquals(4, stats.processed());
+            assertEquals(2, stats.failed());
+            assertEquals("StackOverflowError: deep", stats.lastError());
+        }
+    }
+}
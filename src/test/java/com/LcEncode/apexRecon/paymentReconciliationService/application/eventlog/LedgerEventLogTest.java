@@ -0,0 +1,132 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.eventlog;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerEvent;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerSnapshot;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerType;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.Payment;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.LedgerEventRepository;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Event-log junto com o OverdueSweeper: a varredura marca OVERDUE só na linha, entre o append de uma run e a projeção
+ * dos seus eventos, e a linha (LedgerStatus.then, o mesmo IF do projetor) não volta para PARTIALLY_PAID.
+ */
+class LedgerEventLogTest {
+    private static final Instant NOW = Instant.parse("2026-03-20T12:00:00Z");
+
+    private final UUID organizationId = UUID.randomUUID();
+    private final RecordingRepository repository = new RecordingRepository();
+    private final LedgerEventLog log = new LedgerEventLog(repository, 50, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void overdueMarkedBeforeTheProjectionSurvivesPartialPaymentsUntilPaid() {
+        var invoiceId = UUID.randomUUID();
+
+        // Run lida antes da varredura: o evento leva PARTIALLY_PAID.
+        append(invoice(invoiceId, "100.00", LedgerStatus.OPEN, 0), "40.00");
+        assertEquals(LedgerStatus.PARTIALLY_PAID, repository.last(invoiceId).status());
+
+        // O OverdueSweeper marca a linha, ainda em event_sequence 0.
+        var row = new LedgerSnapshot(invoiceId, organizationId, LedgerType.INVOICE, 0, Money.of("100.00"), LedgerStatus.OVERDUE);
+        row = row.replay(repository.events(invoiceId, row.sequence()));
+        assertEquals(LedgerStatus.OVERDUE, row.status());
+        assertEquals(Money.of("60.00"), row.balance());
+
+        // A run seguinte lê OVERDUE: o parcial mantém, a quitação substitui.
+        append(invoice(invoiceId, "60.00", row.status(), row.sequence()), "10.00");
+        row = row.replay(repository.events(invoiceId, row.sequence()));
+        assertEquals(LedgerStatus.OVERDUE, row.status());
+        assertEquals(Money.of("50.00"), row.balance());
+
+        append(invoice(invoiceId, "50.00", row.status(), row.sequence()), "50.00");
+        row = row.replay(repository.events(invoiceId, row.sequence()));
+        assertEquals(LedgerStatus.PAID, row.status());
+        assertEquals(Money.ZERO, row.balance());
+    }
+
+    @Test
+    void onlyARowMarkedOverdueKeepsItsStatus() {
+        assertEquals(LedgerStatus.PARTIALLY_PAID, LedgerStatus.OPEN.then(LedgerStatus.PARTIALLY_PAID));
+        assertEquals(LedgerStatus.OVERDUE, LedgerStatus.OVERDUE.then(LedgerStatus.OPEN));
+        assertEquals(LedgerStatus.PAID, LedgerStatus.OVERDUE.then(LedgerStatus.PAID));
+        assertEquals(LedgerStatus.MATCHED, LedgerStatus.PARTIALLY_MATCHED.then(LedgerStatus.MATCHED));
+    }
+
+    private void append(InvoiceLedger invoice, String amount) {
+        var transaction = BankTransactionLedger.builder()
+                .bankTransactionId(UUID.randomUUID())
+                .organizationId(organizationId)
+                .amount(Money.of(amount))
+                .transactionDate(NOW)
+                .build();
+        invoice.applyPayment(Money.of(amount));
+        transaction.applyAllocation(Money.of(amount));
+        var payment = Payment.builder()
+                .organizationId(organizationId)
+                .paymentDate(NOW)
+                .allocation(invoice.getId(), transaction.getBankTransactionId(), Money.of(amount))
+                .build();
+        log.append(new ReconciliationRun(organizationId, List.of(payment), List.of(invoice), List.of(transaction)));
+    }
+
+    private InvoiceLedger invoice(UUID id, String amountDue, LedgerStatus status, long version) {
+        return InvoiceLedger.builder()
+                .id(id)
+                .organizationId(organizationId)
+                .dueDate(LocalDate.of(2026, 3, 15))
+                .amountDue(Money.of(amountDue))
+                .status(status)
+                .version(version)
+                .build();
+    }
+
+    private static final class RecordingRepository implements LedgerEventRepository {
+        private final List<LedgerEvent> appended = new ArrayList<>();
+
+        @Override
+        public void append(UUID organizationId, List<LedgerEvent> events, List<LedgerSnapshot> snapshots) {
+            appended.addAll(events);
+        }
+
+        @Override
+        public Optional<LedgerSnapshot> latestSnapshot(UUID ledgerId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<LedgerEvent> events(UUID ledgerId, long afterSequence) {
+            return appended.stream().filter(event -> event.ledgerId().equals(ledgerId) && event.sequence() > afterSequence).toList();
+        }
+
+        @Override
+        public ProjectionResult project(int limit, Instant settledBefore) {
+            return ProjectionResult.EMPTY;
+        }
+
+        @Override
+        public ProjectionResult reproject(Collection<Long> positions) {
+            return ProjectionResult.EMPTY;
+        }
+
+        LedgerEvent last(UUID ledgerId) {
+            return events(ledgerId, 0).getLast();
+        }
+    }
+}
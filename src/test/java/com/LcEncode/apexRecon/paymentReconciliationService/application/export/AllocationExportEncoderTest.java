@@ -0,0 +1,101 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.export;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.export.AllocationExportRow;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Formato exato das linhas: UUIDs canônicos, valores com as quatro casas do Money (inclusive negativos abaixo de 1),
+ * datas ISO-8601 e campos ausentes como vazio no CSV e null no JSON. Nenhum campo leva vírgula, aspas ou quebra de
+ * linha, então nenhum precisa de escape.
+ */
+class AllocationExportEncoderTest {
+    private static final AllocationExportRow ROW = new AllocationExportRow(
+            UUID.fromString("0190a0b0-1c2d-7e3f-8a4b-5c6d7e8f9a0b"),
+            Instant.parse("2026-03-01T12:30:45.123Z"),
+            Money.of("1234.5"),
+            UUID.fromString("ffffffff-ffff-7fff-bfff-ffffffffffff"),
+            Instant.parse("2026-03-01T00:00:00Z"),
+            UUID.fromString("00000000-0000-7000-8000-000000000001"),
+            UUID.fromString("11111111-2222-7333-8444-555555555555"),
+            LocalDate.of(2026, 2, 28),
+            Money.of("-0.05"),
+            LedgerStatus.PARTIALLY_PAID,
+            UUID.fromString("abcdef01-2345-7678-9abc-def012345678"),
+            Money.of("0"),
+            null);
+
+    @Test
+    void csvWritesHeaderAndOneLinePerRow() throws IOException {
+        var output = new StringWriter();
+        var encoder = new AllocationExportEncoder(AllocationExportFormat.CSV, output);
+
+        encoder.writeHeader();
+        encoder.write(ROW);
+
+        var lines = output.toString().split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        assertEquals(13, lines[0].split(",", -1).length);
+        assertEquals("0190a0b0-1c2d-7e3f-8a4b-5c6d7e8f9a0b,2026-03-01T12:30:45.123Z,1234.5000,"
+                + "ffffffff-ffff-7fff-bfff-ffffffffffff,2026-03-01T00:00:00Z,00000000-0000-7000-8000-000000000001,"
+                + "11111111-2222-7333-8444-555555555555,2026-02-28,-0.0500,PARTIALLY_PAID,"
+                + "abcdef01-2345-7678-9abc-def012345678,0.0000,", lines[1]);
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLineWithoutHeader() throws IOException {
+        var output = new StringWriter();
+        var encoder = new AllocationExportEncoder(AllocationExportFormat.NDJSON, output);
+
+        encoder.writeHeader();
+        encoder.write(ROW);
+
+        assertEquals("{\"allocationId\":\"0190a0b0-1c2d-7e3f-8a4b-5c6d7e8f9a0b\",\"createdAt\":\"2026-03-01T12:30:45.123Z\","
+                + "\"allocatedAmount\":1234.5000,\"paymentId\":\"ffffffff-ffff-7fff-bfff-ffffffffffff\","
+                + "\"paymentDate\":\"2026-03-01T00:00:00Z\",\"invoiceId\":\"00000000-0000-7000-8000-000000000001\","
+                + "\"customerId\":\"11111111-2222-7333-8444-555555555555\",\"invoiceDueDate\":\"2026-02-28\","
+                + "\"invoiceTotalAmount\":-0.0500,\"invoiceStatus\":\"PARTIALLY_PAID\","
+                + "\"bankTransactionId\":\"abcdef01-2345-7678-9abc-def012345678\",\"bankTransactionAmount\":0.0000,"
+                + "\"bankTransactionDate\":null}\n", output.toString());
+    }
+
+    @Test
+    void moneyKeepsSignAndFourDecimals() throws IOException {
+        assertEquals("-12.3456", allocatedAmountOf(Money.of("-12.3456")));
+        assertEquals("-0.0001", allocatedAmountOf(Money.of("-0.0001")));
+        assertEquals("99999999.9999", allocatedAmountOf(Money.of("99999999.9999")));
+        assertEquals("10.0000", allocatedAmountOf(Money.of("10")));
+    }
+
+    @Test
+    void reusedBuffersDoNotLeakBetweenRows() throws IOException {
+        var output = new StringWriter();
+        var encoder = new AllocationExportEncoder(AllocationExportFormat.CSV, output);
+
+        encoder.write(ROW);
+        var first = output.toString();
+        encoder.write(ROW);
+
+        assertEquals(first + first, output.toString());
+        assertEquals(ROW.allocationId(), UUID.fromString(first.substring(0, 36)));
+    }
+
+    private static String allocatedAmountOf(Money amount) throws IOException {
+        var output = new StringWriter();
+        new AllocationExportEncoder(AllocationExportFormat.CSV, output).write(new AllocationExportRow(
+                ROW.allocationId(), ROW.createdAt(), amount, ROW.paymentId(), ROW.paymentDate(), ROW.invoiceId(),
+                ROW.customerId(), ROW.invoiceDueDate(), ROW.invoiceTotalAmount(), ROW.invoiceStatus(),
+                ROW.bankTransactionId(), ROW.bankTransactionAmount(), ROW.bankTransactionDate()));
+        return output.toString().split(",")[2];
+    }
+}
@@ -0,0 +1,96 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Contadores de disputa limitados às organizações usadas mais recentemente, com a despejada avisada ao observer.
+ */
+class OptimisticReconciliationExecutorTest {
+
+    @Test
+    void leastRecentlyUsedOrganizationIsForgotten() {
+        var forgotten = new ArrayList<UUID>();
+        var observer = new ContentionObserver() {
+            @Override
+            public void conflict(UUID organizationId) {}
+
+            @Override
+            public void retry(UUID organizationId, int attempt) {}
+
+            @Override
+            public void exhausted(UUID organizationId) {}
+
+            @Override
+            public void forgotten(UUID organizationId) { forgotten.add(organizationId); }
+        };
+        var executor = new OptimisticReconciliationExecutor(run -> {}, 3, Duration.ZERO, observer, ReconciliationObserver.NOOP, 2);
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+        var third = UUID.randomUUID();
+
+        executor.execute(first, () -> empty(first));
+        executor.execute(second, () -> empty(second));
+        executor.execute(first, () -> empty(first));
+        executor.execute(third, () -> empty(third));
+
+        assertEquals(List.of(second), forgotten);
+        assertEquals(2, executor.trackedOrganizations());
+    }
+
+    @Test
+    void concurrentExecutionsStayWithinTheTrackedBound() throws Exception {
+        var forgotten = ConcurrentHashMap.<UUID>newKeySet();
+        var observer = new ContentionObserver() {
+            @Override
+            public void conflict(UUID organizationId) {}
+
+            @Override
+            public void retry(UUID organizationId, int attempt) {}
+
+            @Override
+            public void exhausted(UUID organizationId) {}
+
+            @Override
+            public void forgotten(UUID organizationId) { forgotten.add(organizationId); }
+        };
+        var executor = new OptimisticReconciliationExecutor(run -> {}, 3, Duration.ZERO, observer, ReconciliationObserver.NOOP, 50);
+        var organizations = new ArrayList<UUID>();
+        for (int i = 0; i < 400; i++) { organizations.add(UUID.randomUUID()); }
+        var pool = Executors.newFixedThreadPool(8);
+        var done = new CountDownLatch(8);
+
+        for (int t = 0; t < 8; t++) {
+            var offset = t;
+            pool.execute(() -> {
+                for (int i = 0; i < 400; i++) {
+                    var organizationId = organizations.get((i + offset * 50) % 400);
+                    executor.execute(organizationId, () -> empty(organizationId));
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        pool.shutdown();
+        executor.execute(organizations.get(0), () -> empty(organizations.get(0)));
+
+        assertTrue(executor.trackedOrganizations() <= 50);
+        assertTrue(forgotten.size() >= 400 - 50);
+    }
+
+    private static ReconciliationRun empty(UUID organizationId) {
+        return new ReconciliationRun(organizationId, List.of(), List.of(), List.of());
+    }
+}
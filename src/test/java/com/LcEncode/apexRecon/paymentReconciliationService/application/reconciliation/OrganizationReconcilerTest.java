@@ -0,0 +1,209 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.CacheObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.CachingReconciliationRunRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.OpenLedgerCache;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ConcurrentLedgerUpdateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerType;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.Payment;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerApplyResult;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.ReconciliationAllocation;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.OpenLedgerRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.AllocationSolver;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.SolverStats;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.LedgerMatchingEngine;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.MatchTolerance;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Do cache ao commit: par único pelo engine, crédito dividido entre faturas pelo solver, transação sem par fora da
+ * run, recusas de tryApplyAllocation/tryApplyPayment contadas no observer e replanejamento sobre o cache recarregado depois de um
+ * conflito de versão.
+ */
+class OrganizationReconcilerTest {
+    private static final Instant DAY = Instant.parse("2026-03-01T12:00:00Z");
+
+    private final UUID organizationId = UUID.randomUUID();
+    private final InMemoryOpenLedgers ledgers = new InMemoryOpenLedgers();
+    private final List<ReconciliationRun> committed = new ArrayList<>();
+    private final AtomicInteger conflicts = new AtomicInteger();
+    private final List<String> rejections = new ArrayList<>();
+
+    @Test
+    void exactAmountPaysTheInvoice() {
+        var invoice = ledgers.invoice(organizationId, "100.00");
+        var transaction = ledgers.transaction(organizationId, "100.00", DAY);
+
+        var run = reconciler().reconcile(organizationId);
+
+        assertEquals(1, run.payments().size());
+        assertEquals(List.of(invoice), run.invoices().stream().map(InvoiceLedger::getId).toList());
+        assertEquals(LedgerStatus.PAID, run.invoices().getFirst().getStatus());
+        assertEquals(LedgerStatus.MATCHED, run.bankTransactions().getFirst().getStatus());
+        assertEquals(transaction, run.payments().getFirst().getAllocations().getFirst().bankTransactionId());
+        assertEquals(List.of(run), committed);
+    }
+
+    @Test
+    void creditCoveringSeveralInvoicesGoesThroughTheSolver() {
+        var first = ledgers.invoice(organizationId, "60.00");
+        var second = ledgers.invoice(organizationId, "40.00");
+        ledgers.invoice(organizationId, "25.00");
+        ledgers.transaction(organizationId, "100.00", DAY);
+
+        var run = reconciler().reconcile(organizationId);
+
+        assertEquals(1, run.payments().size());
+        assertEquals(Set.of(first, second), run.payments().getFirst().getAllocations().stream()
+                .map(ReconciliationAllocation::invoiceId).collect(Collectors.toSet()));
+        assertTrue(run.invoices().stream().allMatch(invoice -> invoice.getStatus() == LedgerStatus.PAID));
+        assertEquals(Money.of("100.00"), run.payments().getFirst().getTotalAmount());
+    }
+
+    @Test
+    void transactionWithoutMatchLeavesTheRunEmpty() {
+        ledgers.invoice(organizationId, "100.00");
+        ledgers.transaction(organizationId, "77.00", DAY);
+
+        var run = reconciler().reconcile(organizationId);
+
+        assertTrue(run.isEmpty());
+        assertEquals(1, run.consideredBankTransactions());
+        assertTrue(committed.isEmpty());
+    }
+
+    @Test
+    void oldestTransactionIsMatchedFirst() {
+        ledgers.invoice(organizationId, "100.00");
+        ledgers.transaction(organizationId, "100.00", DAY.plus(Duration.ofDays(2)));
+        var older = ledgers.transaction(organizationId, "100.00", DAY);
+
+        var run = reconciler().reconcile(organizationId);
+
+        assertEquals(List.of(older), run.bankTransactions().stream().map(BankTransactionLedger::getBankTransactionId).toList());
+        assertEquals(2, run.consideredBankTransactions());
+    }
+
+    @Test
+    void rejectedAllocationIsCountedAndChangesNothing() {
+        var invoice = InvoiceLedger.builder().id(UUID.randomUUID()).organizationId(organizationId).dueDate(LocalDate.of(2026, 3, 1))
+                .amountDue(Money.of("100.00")).build();
+        var transaction = BankTransactionLedger.builder().bankTransactionId(UUID.randomUUID()).organizationId(organizationId)
+                .amount(Money.of("100.00")).transactionDate(DAY).status(LedgerStatus.MATCHED).build();
+
+        assertFalse(reconciler().apply(payment(invoice, transaction), transaction, Map.of(invoice.getId(), invoice)));
+
+        assertEquals(List.of("BANK_TRANSACTION:ILLEGAL_STATE"), rejections);
+        assertEquals(Money.of("100.00"), invoice.getAmountDue());
+    }
+
+    @Test
+    void rejectedInvoicePaymentIsCountedBeforeAborting() {
+        var invoice = InvoiceLedger.builder().id(UUID.randomUUID()).organizationId(organizationId).dueDate(LocalDate.of(2026, 3, 1))
+                .amountDue(Money.of("100.00")).status(LedgerStatus.PAID).build();
+        var transaction = BankTransactionLedger.builder().bankTransactionId(UUID.randomUUID()).organizationId(organizationId)
+                .amount(Money.of("100.00")).transactionDate(DAY).build();
+
+        assertThrows(IllegalStateException.class, () -> reconciler().apply(payment(invoice, transaction), transaction, Map.of(invoice.getId(), invoice)));
+
+        assertEquals(List.of("INVOICE:ILLEGAL_STATE"), rejections);
+    }
+
+    @Test
+    void versionConflictReplansFromTheReloadedCache() {
+        ledgers.invoice(organizationId, "100.00");
+        ledgers.transaction(organizationId, "100.00", DAY);
+        conflicts.set(1);
+
+        var run = reconciler().reconcile(organizationId);
+
+        assertEquals(2, ledgers.loads.get());
+        assertEquals(List.of(run), committed);
+        assertEquals(LedgerStatus.PAID, run.invoices().getFirst().getStatus());
+    }
+
+    private OrganizationReconciler reconciler() {
+        var cache = new OpenLedgerCache(ledgers, OpenLedgerCache.Settings.defaults(), CacheObserver.NOOP);
+        var repository = new CachingReconciliationRunRepository(run -> {
+            if (conflicts.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new ConcurrentLedgerUpdateException(run.organizationId(), run.invoices().getFirst().getId(), "stale");
+            }
+            committed.add(run);
+        }, cache);
+        var executor = new OptimisticReconciliationExecutor(repository, 3, Duration.ZERO, ContentionObserver.NOOP, ReconciliationObserver.NOOP, 10);
+        return new OrganizationReconciler(cache, executor, new AllocationSolver(), MatchTolerance.exact(), LedgerMatchingEngine.DEFAULT_ZONE, new ReconciliationObserver() {
+            @Override
+            public void completed(ReconciliationRun run, long elapsedNanos) {}
+
+            @Override
+            public void rejected(LedgerType ledger, LedgerApplyResult.Outcome outcome) {
+                rejections.add(ledger + ":" + outcome);
+            }
+
+            @Override
+            public void rejected(Class<? extends RuntimeException> rejection) {}
+
+            @Override
+            public void searched(SolverStats stats) {}
+        });
+    }
+
+    private Payment payment(InvoiceLedger invoice, BankTransactionLedger transaction) {
+        return Payment.builder().organizationId(organizationId).paymentDate(DAY)
+                .allocation(invoice.getId(), transaction.getBankTransactionId(), Money.of("100.00")).build();
+    }
+
+    /**
+     * Cada carga devolve ledgers novos, como uma leitura do banco.
+     */
+    private static final class InMemoryOpenLedgers implements OpenLedgerRepository {
+        private final List<InvoiceLedger.InvoiceLedgerBuilder> invoices = new ArrayList<>();
+        private final List<BankTransactionLedger.BankTransactionLedgerBuilder> transactions = new ArrayList<>();
+        private final AtomicInteger loads = new AtomicInteger();
+
+        UUID invoice(UUID organizationId, String amountDue) {
+            var id = UUID.randomUUID();
+            invoices.add(InvoiceLedger.builder().id(id).organizationId(organizationId).dueDate(LocalDate.of(2026, 3, 1)).amountDue(Money.of(amountDue)));
+            return id;
+        }
+
+        UUID transaction(UUID organizationId, String amount, Instant transactionDate) {
+            var id = UUID.randomUUID();
+            transactions.add(BankTransactionLedger.builder().bankTransactionId(id).organizationId(organizationId).amount(Money.of(amount)).transactionDate(transactionDate));
+            return id;
+        }
+
+        @Override
+        public List<InvoiceLedger> findOpenInvoices(UUID organizationId) {
+            loads.incrementAndGet();
+            return invoices.stream().map(InvoiceLedger.InvoiceLedgerBuilder::build).filter(invoice -> invoice.getOrganizationId().equals(organizationId)).toList();
+        }
+
+        @Override
+        public List<BankTransactionLedger> findOpenBankTransactions(UUID organizationId) {
+            return transactions.stream().map(BankTransactionLedger.BankTransactionLedgerBuilder::build)
+                    .filter(transaction -> transaction.getOrganizationId().equals(organizationId)).toList();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.reference;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.CacheObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.OpenLedgerCache;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.ContentionObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.OptimisticReconciliationExecutor;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.OrganizationReconciler;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.reconciliation.ReconciliationObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.payment.ReconciliationRun;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.OpenLedgerRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.ReconciliationRunRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation.AllocationSolver;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.LedgerMatchingEngine;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.MatchTolerance;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.reference.DescriptionReferenceIndex;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.reference.ReferenceCandidate;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * O índice alimentado pela conciliação: a descrição lida do ledger chega ao índice pelo decorator depois do commit,
+ * a fatura quitada sai dele e uma run que falha no commit não ensina nada.
+ */
+class ReferenceIndexingReconciliationRunRepositoryTest {
+    private static final String DESCRIPTION = "PIX FULANO DA SILVA 12.345.678/0001-90";
+
+    private final UUID organizationId = UUID.randomUUID();
+    private final UUID invoiceId = UUID.randomUUID();
+    private final UUID customerId = UUID.randomUUID();
+    private final DescriptionReferenceIndex index = new DescriptionReferenceIndex();
+    private final InMemoryOpenLedgers ledgers = new InMemoryOpenLedgers();
+    private final List<ReconciliationRun> committed = new ArrayList<>();
+
+    @Test
+    void reconciledTransactionTeachesThePayerAndClosesThePaidInvoice() {
+        index.indexInvoice(organizationId, invoiceId, customerId, List.of("NF 4471"));
+
+        var run = reconciler(new ReferenceIndexingReconciliationRunRepository(committed::add, index)).reconcile(organizationId);
+
+        assertEquals(List.of(run), committed);
+        var candidates = index.resolve(organizationId, "TED FULANO SILVA 12345678000190", 10);
+        assertEquals(1, candidates.size());
+        assertNull(candidates.getFirst().invoiceId());
+        assertEquals(customerId, candidates.getFirst().customerId());
+        assertTrue(index.resolve(organizationId, "NF 4471", 10).isEmpty());
+    }
+
+    @Test
+    void failedCommitLeavesTheIndexUntouched() {
+        index.indexInvoice(organizationId, invoiceId, customerId, List.of("NF 4471"));
+        var repository = new ReferenceIndexingReconciliationRunRepository(run -> { throw new IllegalStateException("rollback"); }, index);
+
+        assertThrows(IllegalStateException.class, () -> reconciler(repository).reconcile(organizationId));
+
+        assertEquals(List.of(invoiceId), index.resolve(organizationId, "NF 4471", 10).stream().map(ReferenceCandidate::invoiceId).toList());
+        assertTrue(index.resolve(organizationId, "TED FULANO SILVA 12345678000190", 10).isEmpty());
+    }
+
+    private OrganizationReconciler reconciler(ReconciliationRunRepository repository) {
+        var cache = new OpenLedgerCache(ledgers, OpenLedgerCache.Settings.defaults(), CacheObserver.NOOP);
+        var executor = new OptimisticReconciliationExecutor(repository, 1, Duration.ZERO, ContentionObserver.NOOP, ReconciliationObserver.NOOP, 10);
+        return new OrganizationReconciler(cache, executor, new AllocationSolver(), MatchTolerance.exact(), LedgerMatchingEngine.DEFAULT_ZONE,
+                ReconciliationObserver.NOOP);
+    }
+
+    /**
+     * Uma fatura e um crédito do mesmo valor, com a descrição como o JdbcOpenLedgerRepository a lê do ledger.
+     */
+    private final class InMemoryOpenLedgers implements OpenLedgerRepository {
+        @Override
+        public List<InvoiceLedger> findOpenInvoices(UUID organizationId) {
+            return List.of(InvoiceLedger.builder().id(invoiceId).organizationId(organizationId).dueDate(LocalDate.of(2026, 3, 1))
+                    .amountDue(Money.of("100.00")).build());
+        }
+
+        @Override
+        public List<BankTransactionLedger> findOpenBankTransactions(UUID organizationId) {
+            return List.of(BankTransactionLedger.builder().bankTransactionId(UUID.randomUUID()).organizationId(organizationId)
+                    .amount(Money.of("100.00")).transactionDate(Instant.parse("2026-03-01T12:00:00Z")).description(DESCRIPTION).build());
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.application.sharding;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.CacheObserver;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.cache.OpenLedgerCache;
+import com.LcEncode.apexRecon.paymentReconciliationService.application.consumer.OrganizationLaneExecutor;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.OpenLedgerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Várias instâncias em processo sobre um registro em memória: cada organização tem um único dono, entrada e saída
+ * movem só a fatia da instância, e o novo dono só assume depois que o anterior drena (ou sai, ou o handoff vence).
+ * O registro só muda quando o teste chama refresh, como um fetch atrasado do Eureka.
+ */
+class ShardCoordinatorTest {
+    private static final Duration HANDOFF_TIMEOUT = Duration.ofMinutes(2);
+    private static final int ORGANIZATIONS = 10_000;
+
+    private final Map<String, ShardMember> registry = new LinkedHashMap<>();
+    private final Map<String, ShardCoordinator> instances = new LinkedHashMap<>();
+    private final List<OrganizationLaneExecutor> lanes = new ArrayList<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final List<UUID> organizations = new ArrayList<>();
+
+    @BeforeEach
+    void createOrganizations() {
+        for (int i = 0; i < ORGANIZATIONS; i++) { organizations.add(UUID.randomUUID()); }
+    }
+
+    @AfterEach
+    void closeLanes() {
+        lanes.forEach(OrganizationLaneExecutor::close);
+    }
+
+    @Test
+    void everyOrganizationHasExactlyOneOwner() {
+        start("node-1", "node-2", "node-3");
+
+        for (var organizationId : organizations) {
+            var owners = instances.values().stream().filter(node -> node.ownership(organizationId) == ShardOwnership.OWNED).count();
+            assertEquals(1, owners, () -> "owners of " + organizationId);
+        }
+        var shares = instances.values().stream().mapToDouble(node -> node.ring().share(node.instanceId())).sum();
+        assertEquals(1.0, shares, 1e-9);
+    }
+
+    @Test
+    void joinMovesOnlyTheNewInstanceSliceAfterThePreviousOwnersRelease() {
+        start("node-1", "node-2", "node-3");
+        var before = owners();
+
+        var joined = instance("node-4");
+        joined.join();
+
+        var moved = organizations.stream().filter(organizationId -> joined.ring().ownerOf(organizationId).equals("node-4")).toList();
+        assertTrue(moved.size() > ORGANIZATIONS / 8 && moved.size() < ORGANIZATIONS * 3 / 8, () -> moved.size() + " moved");
+        moved.forEach(organizationId -> assertEquals(ShardOwnership.PENDING, joined.ownership(organizationId)));
+
+        // node-1 vê a entrada, perde a sua parte da fatia, drena e publica; o resto segue com node-2 e node-3.
+        instances.get("node-1").refresh();
+        joined.refresh();
+        for (var organizationId : moved) {
+            var expected = before.get(organizationId).equals("node-1") ? ShardOwnership.OWNED : ShardOwnership.PENDING;
+            assertEquals(expected, joined.ownership(organizationId));
+            assertEquals(ShardOwnership.FOREIGN, instances.get("node-1").ownership(organizationId));
+        }
+
+        refreshAll();
+        refreshAll();
+        var after = owners();
+        for (var organizationId : organizations) {
+            if (!moved.contains(organizationId)) { assertEquals(before.get(organizationId), after.get(organizationId)); }
+        }
+        assertEquals(ORGANIZATIONS, after.size());
+    }
+
+    @Test
+    void leavingInstanceDrainsItsLanesBeforeTheOthersTakeOver() {
+        start("node-1", "node-2", "node-3");
+        var leaving = instances.get("node-3");
+        var organizationId = organizations.stream().filter(id -> leaving.ownership(id) == ShardOwnership.OWNED).findFirst().orElseThrow();
+        var executed = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            leaving.submit(organizationId, () -> {
+                sleep(20);
+                executed.incrementAndGet();
+            });
+        }
+
+        leaving.leave();
+
+        assertEquals(5, executed.get());
+        assertThrows(RejectedExecutionException.class, () -> leaving.submit(organizationId, () -> {}));
+        refreshAll();
+        var taker = instances.values().stream().filter(node -> node.ownership(organizationId) == ShardOwnership.OWNED).toList();
+        assertEquals(1, taker.size());
+        assertNotEquals("node-3", taker.getFirst().instanceId());
+    }
+
+    @Test
+    void crashedOwnerSliceIsTakenOverWithoutWaiting() {
+        start("node-1", "node-2", "node-3");
+        var lost = organizations.stream().filter(id -> instances.get("node-2").ownership(id) == ShardOwnership.OWNED).toList();
+
+        registry.remove("node-2");
+        instances.remove("node-2");
+        refreshAll();
+
+        for (var organizationId : lost) {
+            var owners = instances.values().stream().filter(node -> node.ownership(organizationId) == ShardOwnership.OWNED).count();
+            assertEquals(1, owners);
+        }
+    }
+
+    @Test
+    void handoffTimesOutWhenThePreviousOwnerNeverReleases() {
+        start("node-1", "node-2");
+        var joined = instance("node-3");
+        joined.join();
+        var organizationId = organizations.stream().filter(id -> joined.ownership(id) == ShardOwnership.PENDING).findFirst().orElseThrow();
+
+        clock.addAndGet(HANDOFF_TIMEOUT.toNanos() - 1);
+        assertEquals(ShardOwnership.PENDING, joined.ownership(organizationId));
+        assertThrows(RejectedExecutionException.class, () -> joined.submit(organizationId, () -> {}));
+
+        clock.addAndGet(1);
+        assertEquals(ShardOwnership.OWNED, joined.ownership(organizationId));
+        joined.refresh();
+        assertEquals(ShardOwnership.OWNED, joined.ownership(organizationId));
+    }
+
+    @Test
+    void ringIsTheSameRegardlessOfMemberOrder() {
+        var ring = ConsistentHashRing.of(List.of("a", "b", "c"), 64);
+        var reversed = ConsistentHashRing.of(List.of("c", "b", "a"), 64);
+
+        assertEquals(ring.version(), reversed.version());
+        organizations.forEach(organizationId -> assertEquals(ring.ownerOf(organizationId), reversed.ownerOf(organizationId)));
+        assertNotEquals(ring.version(), ConsistentHashRing.of(List.of("a", "b"), 64).version());
+        assertFalse(ConsistentHashRing.EMPTY.contains("a"));
+    }
+
+    private void start(String... ids) {
+        for (var id : ids) { instance(id).join(); }
+        refreshAll();
+        refreshAll();
+    }
+
+    private void refreshAll() {
+        instances.values().forEach(ShardCoordinator::refresh);
+    }
+
+    private Map<UUID, String> owners() {
+        var owners = new HashMap<UUID, String>();
+        for (var organizationId : organizations) {
+            instances.values().stream()
+                    .filter(node -> node.ownership(organizationId) == ShardOwnership.OWNED)
+                    .forEach(node -> owners.merge(organizationId, node.instanceId(), (first, second) -> first + "," + second));
+        }
+        return owners;
+    }
+
+    private ShardCoordinator instance(String id) {
+        var membership = new ShardMembership() {
+            @Override
+            public List<ShardMember> members() {
+                return List.copyOf(registry.values());
+            }
+
+            @Override
+            public void publish(ShardMember.State state, long appliedRing) {
+                registry.put(id, new ShardMember(id, state, appliedRing));
+            }
+        };
+        var lane = new OrganizationLaneExecutor(id, 4, 100, Duration.ofSeconds(1));
+        lanes.add(lane);
+        var cache = new OpenLedgerCache(new EmptyRepository(), OpenLedgerCache.Settings.defaults(), CacheObserver.NOOP);
+        var coordinator = new ShardCoordinator(id, membership, lane, cache,
+                new ShardCoordinator.Settings(128, HANDOFF_TIMEOUT, Duration.ofSeconds(5)), clock::get);
+        instances.put(id, coordinator);
+        return coordinator;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class EmptyRepository implements OpenLedgerRepository {
+        @Override
+        public List<InvoiceLedger> findOpenInvoices(UUID organizationId) {
+            return List.of();
+        }
+
+        @Override
+        public List<BankTransactionLedger> findOpenBankTransactions(UUID organizationId) {
+            return List.of();
+        }
+    }
+}
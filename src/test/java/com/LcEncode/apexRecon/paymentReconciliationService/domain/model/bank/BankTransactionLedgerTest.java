@@ -0,0 +1,70 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerApplyResult;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Cada resultado de tryApplyAllocation; só ACCEPTED altera o saldo e o status da transação.
+ */
+class BankTransactionLedgerTest {
+
+    @Test
+    void partialThenFullAllocationMatchesTheTransaction() {
+        var ledger = ledger(LedgerStatus.UNMATCHED);
+
+        assertSame(LedgerApplyResult.accepted(), ledger.tryApplyAllocation(Money.of("30.00")));
+        assertEquals(LedgerStatus.PARTIALLY_MATCHED, ledger.getStatus());
+        assertEquals(Money.of("70.00"), ledger.getAmountUnmatched());
+
+        assertSame(LedgerApplyResult.accepted(), ledger.tryApplyAllocation(Money.of("70.00")));
+        assertEquals(LedgerStatus.MATCHED, ledger.getStatus());
+    }
+
+    @Test
+    void nonPositiveOrMissingAmountIsInvalid() {
+        var ledger = ledger(LedgerStatus.UNMATCHED);
+
+        assertSame(LedgerApplyResult.invalidAmount(), ledger.tryApplyAllocation(null));
+        assertSame(LedgerApplyResult.invalidAmount(), ledger.tryApplyAllocation(Money.ZERO));
+        assertSame(LedgerApplyResult.invalidAmount(), ledger.tryApplyAllocation(Money.of("-5.00")));
+        assertEquals(Money.of("100.00"), ledger.getAmountUnmatched());
+    }
+
+    @Test
+    void matchedTransactionRejectsAllocations() {
+        var ledger = ledger(LedgerStatus.MATCHED);
+
+        assertSame(LedgerApplyResult.illegalState(), ledger.tryApplyAllocation(Money.of("1.00")));
+    }
+
+    @Test
+    void overAllocationReportsTheExcessAndLeavesTheTransactionUntouched() {
+        var ledger = ledger(LedgerStatus.PARTIALLY_MATCHED);
+
+        var result = ledger.tryApplyAllocation(Money.of("125.00"));
+
+        assertEquals(LedgerApplyResult.Outcome.OVERPAYMENT, result.outcome());
+        assertEquals(Money.of("25.00"), result.excess());
+        assertEquals(LedgerStatus.PARTIALLY_MATCHED, ledger.getStatus());
+        assertEquals(Money.of("100.00"), ledger.getAmountUnmatched());
+    }
+
+    private static BankTransactionLedger ledger(LedgerStatus status) {
+        return BankTransactionLedger.builder()
+                .bankTransactionId(UUID.randomUUID())
+                .organizationId(UUID.randomUUID())
+                .amount(Money.of("100.00"))
+                .amountUnmatched(Money.of("100.00"))
+                .transactionDate(Instant.parse("2026-03-01T12:00:00Z"))
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerApplyResult;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Status do ledger depois de um pagamento: parcial mantém OVERDUE, para a varredura não vencer a fatura de novo.
+ * As rejeições de tryApplyPayment não alteram o ledger.
+ */
+class InvoiceLedgerTest {
+
+    @Test
+    void partialPaymentKeepsOverdueAndFullPaymentSettles() {
+        var overdue = ledger(LedgerStatus.OVERDUE);
+
+        overdue.applyPayment(Money.of("40.00"));
+        assertEquals(LedgerStatus.OVERDUE, overdue.getStatus());
+        assertEquals(Money.of("60.00"), overdue.getAmountDue());
+
+        overdue.applyPayment(Money.of("60.00"));
+        assertEquals(LedgerStatus.PAID, overdue.getStatus());
+    }
+
+    @Test
+    void partialPaymentOfAnOpenLedgerIsPartiallyPaid() {
+        var open = ledger(LedgerStatus.OPEN);
+
+        open.applyPayment(Money.of("40.00"));
+
+        assertEquals(LedgerStatus.PARTIALLY_PAID, open.getStatus());
+    }
+
+    @Test
+    void nonPositiveOrMissingAmountIsInvalid() {
+        var open = ledger(LedgerStatus.OPEN);
+
+        assertSame(LedgerApplyResult.invalidAmount(), open.tryApplyPayment(null));
+        assertSame(LedgerApplyResult.invalidAmount(), open.tryApplyPayment(Money.ZERO));
+        assertSame(LedgerApplyResult.invalidAmount(), open.tryApplyPayment(Money.of("-1.00")));
+        assertEquals(Money.of("100.00"), open.getAmountDue());
+    }
+
+    @Test
+    void paidLedgerRejectsPayments() {
+        var paid = ledger(LedgerStatus.PAID);
+
+        assertSame(LedgerApplyResult.illegalState(), paid.tryApplyPayment(Money.of("1.00")));
+    }
+
+    @Test
+    void overpaymentReportsTheExcessAndLeavesTheLedgerUntouched() {
+        var overdue = ledger(LedgerStatus.OVERDUE);
+
+        var result = overdue.tryApplyPayment(Money.of("100.01"));
+
+        assertEquals(LedgerApplyResult.Outcome.OVERPAYMENT, result.outcome());
+        assertEquals(Money.of("0.01"), result.excess());
+        assertEquals(LedgerStatus.OVERDUE, overdue.getStatus());
+        assertEquals(Money.of("100.00"), overdue.getAmountDue());
+    }
+
+    private static InvoiceLedger ledger(LedgerStatus status) {
+        return InvoiceLedger.builder()
+                .id(UUID.randomUUID())
+                .organizationId(UUID.randomUUID())
+                .dueDate(LocalDate.of(2026, 3, 1))
+                .amountDue(Money.of("100.00"))
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,203 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.allocation;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching.MatchTolerance;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * As duas estratégias da SubsetSumSearch contra uma força bruta, os cortes do SolverBudget e a alocação parcial do
+ * último item nos dois sentidos do AllocationSolver.
+ */
+class AllocationSolverTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 15);
+    private static final SolverBudget UNLIMITED = new SolverBudget(62, Long.MAX_VALUE, Duration.ofMinutes(1));
+
+    private final UUID organizationId = UUID.randomUUID();
+
+    @Test
+    void meetInTheMiddleAndDepthFirstFindTheSameClosestSumAsBruteForce() {
+        var random = new SplittableRandom(7);
+        for (int round = 0; round < 300; round++) {
+            var size = 4 + random.nextInt(11);
+            var amounts = new long[size];
+            long total = 0;
+            for (int i = 0; i < size; i++) {
+                amounts[i] = 200 + random.nextInt(801);
+                total += amounts[i];
+            }
+            var target = random.nextLong(200, total + 1);
+            var min = target - random.nextInt(50);
+            var max = target + random.nextInt(50);
+            var expected = bruteForceDistance(amounts, min, max, target);
+
+            var leftBits = size / 2;
+            var middle = SubsetSumSearch.search(amounts, min, max, target, UNLIMITED);
+            assertEquals((1L << leftBits) + (1L << (size - leftBits)) - 1, middle.nodesVisited(), () -> "meet-in-the-middle enumerates both halves");
+            assertEquals(expected, distance(middle, amounts, target), () -> "meet-in-the-middle on " + size + " items");
+
+            // Mesma instância escalada até quase Long.MAX_VALUE: a metade direita não cabe empacotada e a busca cai na DFS.
+            var scale = Long.MAX_VALUE / (total + 50);
+            var scaled = new long[size];
+            long rightTotal = 0;
+            for (int i = 0; i < size; i++) {
+                scaled[i] = amounts[i] * scale;
+                if (i >= leftBits) { rightTotal += scaled[i]; }
+            }
+            assertTrue(rightTotal >= 1L << (62 - (size - leftBits)), () -> "scaled instance still fits the packed enumeration");
+            var depth = SubsetSumSearch.search(scaled, min * scale, max * scale, target * scale, UNLIMITED);
+            assertEquals(expected < 0 ? expected : expected * scale, distance(depth, scaled, target * scale), () -> "depth-first on " + size + " items");
+        }
+    }
+
+    @Test
+    void budgetAcceptsAtMostSixtyTwoCandidates() {
+        new SolverBudget(62, 1, Duration.ofMillis(1));
+        assertThrows(ValidateException.class, () -> new SolverBudget(63, 1, Duration.ofMillis(1)));
+        assertThrows(ValidateException.class, () -> new SolverBudget(0, 1, Duration.ofMillis(1)));
+        assertThrows(ValidateException.class, () -> new SolverBudget(10, 0, Duration.ofMillis(1)));
+        assertThrows(ValidateException.class, () -> new SolverBudget(10, 1, Duration.ZERO));
+    }
+
+    @Test
+    void onlyTheNearestMaxCandidatesInvoicesAreSearched() {
+        var invoices = List.of(
+                invoice("10.00", TODAY),
+                invoice("20.00", TODAY.plusDays(1)),
+                invoice("30.00", TODAY.minusDays(2)),
+                invoice("45.00", TODAY.plusDays(30)));
+        var solver = new AllocationSolver(new SolverBudget(3, 1_000, Duration.ofSeconds(1)), ZoneOffset.UTC);
+
+        var outOfReach = solver.solveForTransaction(transaction("55.00", TODAY), invoices, MatchTolerance.exact());
+        assertEquals(SolverOutcome.NO_SOLUTION, outOfReach.stats().outcome());
+        assertEquals(3, outOfReach.stats().candidateCount());
+
+        var solved = solver.solveForTransaction(transaction("60.00", TODAY), invoices, MatchTolerance.exact());
+        assertTrue(solved.isSolved());
+        assertEquals(3, solved.payment().getAllocations().size());
+    }
+
+    @Test
+    void nodeBudgetStopsTheSearchWithoutASolution() {
+        // Todos os valores são pares e o alvo é ímpar: nenhuma solução, a busca só para pelo orçamento.
+        var amounts = new long[40];
+        for (int i = 0; i < amounts.length; i++) { amounts[i] = 2L * (i + 1); }
+
+        var result = SubsetSumSearch.search(amounts, 101, 101, 101, new SolverBudget(62, 500, Duration.ofMinutes(1)));
+
+        assertEquals(SolverOutcome.BUDGET_EXHAUSTED, result.outcome());
+        assertEquals(501, result.nodesVisited());
+    }
+
+    @Test
+    void timeBudgetIsCheckedEveryFourThousandNodes() {
+        var amounts = new long[40];
+        for (int i = 0; i < amounts.length; i++) { amounts[i] = 2L * (i + 1); }
+
+        var result = SubsetSumSearch.search(amounts, 101, 101, 101, new SolverBudget(62, Long.MAX_VALUE, Duration.ofNanos(1)));
+
+        assertEquals(SolverOutcome.BUDGET_EXHAUSTED, result.outcome());
+        assertEquals(4_096, result.nodesVisited());
+    }
+
+    @Test
+    void shortCreditPaysTheLastInvoiceOnlyPartially() {
+        var first = invoice("100.00", TODAY);
+        var second = invoice("100.00", TODAY.plusDays(1));
+        var third = invoice("80.00", TODAY.plusDays(2));
+        var transaction = transaction("270.00", TODAY);
+        var solver = new AllocationSolver(SolverBudget.defaults(), ZoneOffset.UTC);
+
+        var solution = solver.solveForTransaction(transaction, List.of(third, first, second), MatchTolerance.shortfallOf(Money.of("10.00")));
+
+        assertTrue(solution.isSolved());
+        var allocations = solution.payment().getAllocations();
+        assertEquals(List.of(first.getId(), second.getId(), third.getId()), allocations.stream().map(allocation -> allocation.invoiceId()).toList());
+        assertEquals(List.of(Money.of("100.00"), Money.of("100.00"), Money.of("70.00")), allocations.stream().map(allocation -> allocation.amount()).toList());
+        assertEquals(Money.of("270.00"), solution.payment().getTotalAmount());
+
+        allocations.forEach(allocation -> List.of(first, second, third).stream()
+                .filter(invoice -> invoice.getId().equals(allocation.invoiceId()))
+                .forEach(invoice -> invoice.applyPayment(allocation.amount())));
+        assertEquals(LedgerStatus.PAID, second.getStatus());
+        assertEquals(LedgerStatus.PARTIALLY_PAID, third.getStatus());
+        assertEquals(Money.of("10.00"), third.getAmountDue());
+    }
+
+    @Test
+    void excessCreditsMatchTheLastTransactionOnlyPartially() {
+        var invoice = invoice("200.00", TODAY);
+        var near = transaction("120.00", TODAY);
+        var far = transaction("90.00", TODAY.plusDays(3));
+        var solver = new AllocationSolver(SolverBudget.defaults(), ZoneOffset.UTC);
+
+        var solution = solver.solveForInvoice(invoice, List.of(far, near), new MatchTolerance(Money.ZERO, Money.of("10.00")));
+
+        assertTrue(solution.isSolved());
+        var allocations = solution.payment().getAllocations();
+        assertEquals(List.of(near.getBankTransactionId(), far.getBankTransactionId()), allocations.stream().map(allocation -> allocation.bankTransactionId()).toList());
+        assertEquals(List.of(Money.of("120.00"), Money.of("80.00")), allocations.stream().map(allocation -> allocation.amount()).toList());
+        assertEquals(far.getTransactionDate(), solution.payment().getPaymentDate());
+
+        far.applyAllocation(allocations.get(1).amount());
+        assertEquals(LedgerStatus.PARTIALLY_MATCHED, far.getStatus());
+    }
+
+    /**
+     * Menor |soma - target| entre os subconjuntos não vazios com soma em [min, max]; -1 quando não há nenhum.
+     */
+    private static long bruteForceDistance(long[] amounts, long min, long max, long target) {
+        long best = -1;
+        for (long mask = 1; mask < (1L << amounts.length); mask++) {
+            long sum = 0;
+            for (int i = 0; i < amounts.length; i++) {
+                if ((mask & (1L << i)) != 0) { sum += amounts[i]; }
+            }
+            if (sum < min || sum > max) { continue; }
+            var distance = Math.abs(sum - target);
+            if (best < 0 || distance < best) { best = distance; }
+        }
+        return best;
+    }
+
+    private static long distance(SubsetSumSearch.Result result, long[] amounts, long target) {
+        if (result.outcome() != SolverOutcome.SOLVED) { return -1; }
+
+        long sum = 0;
+        for (int index : result.chosen()) { sum += amounts[index]; }
+        assertEquals(result.sum(), sum);
+        return Math.abs(sum - target);
+    }
+
+    private InvoiceLedger invoice(String amountDue, LocalDate dueDate) {
+        return InvoiceLedger.builder()
+                .id(UUID.randomUUID())
+                .organizationId(organizationId)
+                .dueDate(dueDate)
+                .amountDue(Money.of(amountDue))
+                .build();
+    }
+
+    private BankTransactionLedger transaction(String amount, LocalDate date) {
+        return BankTransactionLedger.builder()
+                .bankTransactionId(UUID.randomUUID())
+                .organizationId(organizationId)
+                .amount(Money.of(amount))
+                .transactionDate(date.atTime(12, 0).toInstant(ZoneOffset.UTC))
+                .build();
+    }
+}
@@ -0,0 +1,197 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.matching;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.bank.BankTransactionLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.valueObject.LedgerStatus;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Consultas do motor sobre uma organização em UTC: valor exato, faixa de tolerância, desempate pelo vencimento e
+ * itens registrados de novo depois de um pagamento.
+ */
+class LedgerMatchingEngineTest {
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 15);
+
+    private final UUID organizationId = UUID.randomUUID();
+    private final LedgerMatchingEngine engine = new LedgerMatchingEngine(ZoneOffset.UTC);
+
+    @Test
+    void exactToleranceReturnsOnlyInvoicesWithTheSameAmount() {
+        var first = trackInvoice("100.00", TODAY);
+        var second = trackInvoice("100.00", TODAY.plusDays(3));
+        trackInvoice("100.01", TODAY);
+        trackInvoice("99.99", TODAY);
+
+        var candidates = engine.findInvoiceCandidates(transaction("100.00", TODAY), MatchTolerance.exact(), 10);
+
+        assertEquals(List.of(first.getId(), second.getId()), invoiceIds(candidates));
+        assertTrue(candidates.stream().allMatch(InvoiceMatchCandidate::isExact));
+    }
+
+    @Test
+    void shortfallAcceptsCreditsBelowTheAmountDueUpToTheLimit() {
+        var invoice = trackInvoice("100.00", TODAY);
+        var tolerance = MatchTolerance.shortfallOf(Money.of("3.50"));
+
+        var candidates = engine.findInvoiceCandidates(transaction("96.50", TODAY), tolerance, 10);
+        assertEquals(List.of(invoice.getId()), invoiceIds(candidates));
+        assertEquals(Money.of("-3.50"), candidates.getFirst().difference());
+
+        assertTrue(engine.findInvoiceCandidates(transaction("96.49", TODAY), tolerance, 10).isEmpty());
+        // Crédito acima do devido não entra sem excess.
+        assertTrue(engine.findInvoiceCandidates(transaction("100.01", TODAY), tolerance, 10).isEmpty());
+    }
+
+    @Test
+    void excessAcceptsCreditsAboveTheAmountDue() {
+        var invoice = trackInvoice("100.00", TODAY);
+        var tolerance = new MatchTolerance(Money.ZERO, Money.of("0.10"));
+
+        var candidates = engine.findInvoiceCandidates(transaction("100.10", TODAY), tolerance, 10);
+
+        assertEquals(List.of(invoice.getId()), invoiceIds(candidates));
+        assertEquals(Money.of("0.10"), candidates.getFirst().difference());
+        assertTrue(engine.findInvoiceCandidates(transaction("100.11", TODAY), tolerance, 10).isEmpty());
+    }
+
+    @Test
+    void rankingIsByAmountDistanceThenByDueDateDistance() {
+        var exactFar = trackInvoice("100.00", TODAY.minusDays(20));
+        var exactNear = trackInvoice("100.00", TODAY.plusDays(2));
+        var exactUndated = trackInvoice("100.00", null);
+        var closeAbove = trackInvoice("101.00", TODAY);
+        var closeBelow = trackInvoice("98.00", TODAY);
+        var tolerance = new MatchTolerance(Money.of("5.00"), Money.of("5.00"));
+
+        var candidates = engine.findInvoiceCandidates(transaction("100.00", TODAY), tolerance, 10);
+
+        assertEquals(List.of(exactNear.getId(), exactFar.getId(), exactUndated.getId(), closeAbove.getId(), closeBelow.getId()), invoiceIds(candidates));
+        assertEquals(2, candidates.getFirst().dueDateDistanceDays());
+    }
+
+    @Test
+    void dueDatesOnBothSidesOfTheTransactionAreTiedByDistance() {
+        var before = trackInvoice("50.00", TODAY.minusDays(1));
+        var after = trackInvoice("50.00", TODAY.plusDays(4));
+        var sameDay = trackInvoice("50.00", TODAY);
+
+        var candidates = engine.findInvoiceCandidates(transaction("50.00", TODAY), MatchTolerance.exact(), 2);
+
+        assertEquals(List.of(sameDay.getId(), before.getId()), invoiceIds(candidates));
+        assertEquals(List.of(sameDay.getId(), before.getId(), after.getId()),
+                invoiceIds(engine.findInvoiceCandidates(transaction("50.00", TODAY), MatchTolerance.exact(), 10)));
+    }
+
+    @Test
+    void limitStopsAtTheClosestAmounts() {
+        for (int cents = 0; cents < 50; cents++) { trackInvoice(Money.of("100.00").plus(Money.of("0.01").times(cents)), TODAY); }
+        var tolerance = new MatchTolerance(Money.of("1.00"), Money.of("1.00"));
+
+        var candidates = engine.findInvoiceCandidates(transaction("100.10", TODAY), tolerance, 3);
+
+        assertEquals(3, candidates.size());
+        assertEquals(Money.ZERO, candidates.get(0).difference());
+        assertEquals(Money.of("0.01"), candidates.get(1).difference().abs());
+        assertEquals(Money.of("0.01"), candidates.get(2).difference().abs());
+    }
+
+    @Test
+    void trackAfterPaymentMovesTheInvoiceAndPaidInvoicesLeaveTheIndex() {
+        var invoice = trackInvoice("100.00", TODAY);
+
+        invoice.applyPayment(Money.of("40.00"));
+        engine.track(invoice);
+
+        assertTrue(engine.findInvoiceCandidates(transaction("100.00", TODAY), MatchTolerance.exact(), 10).isEmpty());
+        assertEquals(List.of(invoice.getId()), invoiceIds(engine.findInvoiceCandidates(transaction("60.00", TODAY), MatchTolerance.exact(), 10)));
+        assertEquals(1, engine.openInvoiceCount(organizationId));
+
+        invoice.applyPayment(Money.of("60.00"));
+        engine.track(invoice);
+
+        assertEquals(LedgerStatus.PAID, invoice.getStatus());
+        assertEquals(0, engine.openInvoiceCount(organizationId));
+        assertTrue(engine.findInvoiceCandidates(transaction("60.00", TODAY), MatchTolerance.exact(), 10).isEmpty());
+    }
+
+    @Test
+    void bankTransactionsAreFoundFromTheInvoiceSideAndRetrackedAfterAllocation() {
+        var transaction = transaction("250.00", TODAY.plusDays(1));
+        engine.track(transaction);
+        var invoice = invoice(Money.of("250.00"), TODAY);
+
+        var candidates = engine.findBankTransactionCandidates(invoice, MatchTolerance.exact(), 10);
+        assertEquals(1, candidates.size());
+        assertEquals(transaction.getBankTransactionId(), candidates.getFirst().transaction().getBankTransactionId());
+        assertEquals(1, candidates.getFirst().dueDateDistanceDays());
+
+        transaction.applyAllocation(Money.of("250.00"));
+        engine.track(transaction);
+
+        assertEquals(0, engine.openBankTransactionCount(organizationId));
+        assertTrue(engine.findBankTransactionCandidates(invoice, MatchTolerance.exact(), 10).isEmpty());
+    }
+
+    @Test
+    void otherOrganizationsAreNeverCandidates() {
+        trackInvoice("100.00", TODAY);
+        var foreign = BankTransactionLedger.builder()
+                .bankTransactionId(UUID.randomUUID())
+                .organizationId(UUID.randomUUID())
+                .amount(Money.of("100.00"))
+                .transactionDate(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC))
+                .build();
+
+        assertTrue(engine.findInvoiceCandidates(foreign, MatchTolerance.exact(), 10).isEmpty());
+    }
+
+    @Test
+    void toleranceRejectsNegativeBounds() {
+        assertThrows(ValidateException.class, () -> new MatchTolerance(Money.of("-0.01"), Money.ZERO));
+        assertThrows(ValidateException.class, () -> new MatchTolerance(Money.ZERO, Money.of("-0.01")));
+        assertThrows(ValidateException.class, () -> new MatchTolerance(null, Money.ZERO));
+    }
+
+    private InvoiceLedger trackInvoice(String amountDue, LocalDate dueDate) {
+        return trackInvoice(Money.of(amountDue), dueDate);
+    }
+
+    private InvoiceLedger trackInvoice(Money amountDue, LocalDate dueDate) {
+        var invoice = invoice(amountDue, dueDate);
+        engine.track(invoice);
+        return invoice;
+    }
+
+    private InvoiceLedger invoice(Money amountDue, LocalDate dueDate) {
+        return InvoiceLedger.builder()
+                .id(UUID.randomUUID())
+                .organizationId(organizationId)
+                .dueDate(dueDate)
+                .amountDue(amountDue)
+                .build();
+    }
+
+    private BankTransactionLedger transaction(String amount, LocalDate date) {
+        return BankTransactionLedger.builder()
+                .bankTransactionId(UUID.randomUUID())
+                .organizationId(organizationId)
+                .amount(Money.of(amount))
+                .transactionDate(date.atTime(12, 0).toInstant(ZoneOffset.UTC))
+                .build();
+    }
+
+    private static List<UUID> invoiceIds(List<InvoiceMatchCandidate> candidates) {
+        return candidates.stream().map(candidate -> candidate.invoice().getId()).toList();
+    }
+}
@@ -0,0 +1,161 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.domain.service.reference;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.exception.ValidateException;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.invoice.InvoiceLedger;
+import com.LcEncode.apexRecon.shared.domain.valueObject.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Normalização das descrições, ranking do resolve, aprendizado do cliente e compactação dos tombstones do índice.
+ */
+class DescriptionReferenceIndexTest {
+    private final UUID organizationId = UUID.randomUUID();
+
+    @Test
+    void normalizerStripsAccentsNoiseAndJoinsPunctuatedDocuments() {
+        assertEquals(List.of("12345678000190", "JOAO", "ACAO", "4471"),
+                DescriptionNormalizer.tokens("Pix recebido 12.345.678/0001-90 João Ação LTDA NF 4471"));
+        assertEquals(List.of("ABC", "DEF", "12345678901"), DescriptionNormalizer.tokens("abc-def  123.456.789-01"));
+        // Tokens de um caractere e maiores que 32 são descartados.
+        assertEquals(List.of("AB"), DescriptionNormalizer.tokens("A 1 AB " + "X".repeat(33)));
+        assertTrue(DescriptionNormalizer.tokens(null).isEmpty());
+        assertTrue(DescriptionNormalizer.tokens("  ").isEmpty());
+    }
+
+    @Test
+    void trigramsArePackedThreeCharactersPerInt() {
+        assertArrayEquals(new int[]{('A' << 16) | ('C' << 8) | 'M', ('C' << 16) | ('M' << 8) | 'E'}, DescriptionNormalizer.trigrams("ACME"));
+        assertEquals(0, DescriptionNormalizer.trigrams("AB").length);
+        assertTrue(DescriptionNormalizer.isNumeric("4471"));
+        assertFalse(DescriptionNormalizer.isNumeric("NF4471"));
+    }
+
+    @Test
+    void numericTokensOutweighWordsAndTrigrams() {
+        var index = new DescriptionReferenceIndex(10, 128, 1.0);
+        var byNumber = UUID.randomUUID();
+        var byName = UUID.randomUUID();
+        index.indexInvoice(organizationId, byNumber, UUID.randomUUID(), List.of("NF 4471"));
+        index.indexInvoice(organizationId, byName, UUID.randomUUID(), List.of("ACME"));
+        index.indexInvoice(organizationId, UUID.randomUUID(), UUID.randomUUID(), List.of("BETA 9000"));
+
+        var candidates = index.resolve(organizationId, "PIX RECEBIDO ACME NF 4471", 10);
+
+        assertEquals(List.of(byNumber, byName), candidates.stream().map(ReferenceCandidate::invoiceId).toList());
+        assertTrue(candidates.get(0).score() > candidates.get(1).score());
+        assertEquals(1, index.resolve(organizationId, "PIX RECEBIDO ACME NF 4471", 1).size());
+        // Só por trigramas: "ACMEE" compartilha ACM e CME com ACME.
+        assertEquals(List.of(byName), index.resolve(organizationId, "ACMEE", 10).stream().map(ReferenceCandidate::invoiceId).toList());
+    }
+
+    @Test
+    void keysPresentInTooManyDocumentsAreIgnored() {
+        var index = new DescriptionReferenceIndex(10, 128, 0.2);
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < 10; i++) {
+            var id = UUID.randomUUID();
+            ids.add(id);
+            index.indexInvoice(organizationId, id, UUID.randomUUID(), List.of("ACME COMERCIO", "NF " + (5000 + i)));
+        }
+
+        assertTrue(index.resolve(organizationId, "ACME COMERCIO", 10).isEmpty());
+        assertEquals(List.of(ids.get(3)), index.resolve(organizationId, "ACME COMERCIO NF 5003", 10).stream().map(ReferenceCandidate::invoiceId).toList());
+    }
+
+    @Test
+    void customerLearnedFromAnInvoiceOutlivesTheInvoice() {
+        var index = new DescriptionReferenceIndex();
+        var invoiceId = UUID.randomUUID();
+        var customerId = UUID.randomUUID();
+        index.indexInvoice(organizationId, invoiceId, customerId, List.of("NF 4471"));
+
+        assertTrue(index.learnFromInvoice(organizationId, invoiceId, "PIX FULANO DA SILVA 12.345.678/0001-90"));
+        assertFalse(index.learnFromInvoice(organizationId, UUID.randomUUID(), "PIX FULANO"));
+        index.onLedgerUpdated(paid(invoiceId));
+
+        var candidates = index.resolve(organizationId, "TED FULANO SILVA 12345678000190", 10);
+        assertEquals(1, candidates.size());
+        assertNull(candidates.getFirst().invoiceId());
+        assertEquals(customerId, candidates.getFirst().customerId());
+        assertTrue(index.resolve(organizationId, "NF 4471", 10).isEmpty());
+    }
+
+    @Test
+    void closedInvoicesAreCompactedAwayAndSurvivorsStillResolve() {
+        var index = new DescriptionReferenceIndex(10, 128, 1.0);
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < 100; i++) {
+            var id = UUID.randomUUID();
+            ids.add(id);
+            index.indexInvoice(organizationId, id, UUID.randomUUID(), List.of("NF " + (100_000 + i), "CLIENTE" + i));
+        }
+        var full = index.estimatedBytes(organizationId);
+
+        // O 64º fechamento passa do mínimo e de metade dos vivos: os tombstones são compactados.
+        for (int i = 0; i < 70; i++) { assertTrue(index.closeInvoice(organizationId, ids.get(i))); }
+        assertFalse(index.closeInvoice(organizationId, ids.get(0)));
+
+        assertEquals(30, index.documentCount(organizationId));
+        assertTrue(index.estimatedBytes(organizationId) < full / 2, () -> "postings of closed invoices were released");
+        for (int i = 0; i < 100; i++) {
+            var candidates = index.resolve(organizationId, "NF " + (100_000 + i), 10);
+            if (i < 70) {
+                assertTrue(candidates.isEmpty(), () -> "closed invoice resolved");
+            } else {
+                assertEquals(List.of(ids.get(i)), candidates.stream().map(ReferenceCandidate::invoiceId).toList());
+            }
+        }
+
+        // Depois da compactação, novos documentos recebem ordinais sem colidir com os remapeados.
+        var late = UUID.randomUUID();
+        index.indexInvoice(organizationId, late, UUID.randomUUID(), List.of("NF 100099"));
+        assertEquals(2, index.resolve(organizationId, "NF 100099", 10).size());
+    }
+
+    @Test
+    void leastRecentlyUsedOrganizationIsEvicted() {
+        var index = new DescriptionReferenceIndex(2, 128, 1.0);
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+        index.indexInvoice(first, UUID.randomUUID(), UUID.randomUUID(), List.of("NF 1001"));
+        index.indexInvoice(second, UUID.randomUUID(), UUID.randomUUID(), List.of("NF 1001"));
+        index.resolve(first, "NF 1001", 1);
+
+        index.indexInvoice(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), List.of("NF 1001"));
+
+        assertEquals(2, index.organizationCount());
+        assertEquals(1, index.documentCount(first));
+        assertEquals(0, index.documentCount(second));
+    }
+
+    @Test
+    void limitsMustBePositive() {
+        assertThrows(ValidateException.class, () -> new DescriptionReferenceIndex(0, 128, 0.2));
+        assertThrows(ValidateException.class, () -> new DescriptionReferenceIndex(10, 0, 0.2));
+        assertThrows(ValidateException.class, () -> new DescriptionReferenceIndex(10, 128, 1.5));
+        assertThrows(ValidateException.class, () -> new DescriptionReferenceIndex().indexInvoice(organizationId, UUID.randomUUID(), null, List.of()));
+    }
+
+    private InvoiceLedger paid(UUID invoiceId) {
+        var invoice = InvoiceLedger.builder()
+                .id(invoiceId)
+                .organizationId(organizationId)
+                .dueDate(LocalDate.of(2026, 3, 15))
+                .amountDue(Money.of("10.00"))
+                .build();
+        invoice.applyPayment(Money.of("10.00"));
+        return invoice;
+    }
+}
@@ -0,0 +1,147 @@
+package com.LcEncode.apexRecon.paymentReconciliationService.infrastructure.scheduling;
+
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerEvent;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.model.ledger.LedgerSnapshot;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.LedgerEventRepository;
+import com.LcEncode.apexRecon.paymentReconciliationService.domain.repository.LedgerEventRepository.ProjectionResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Positions puladas pelo checkpoint: relidas até aparecerem, abandonadas depois de gapTimeout ou além de
+ * maxTrackedGaps, e ledgers travados reportados sem parar o projetor.
+ */
+class LedgerProjectionJobTest {
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-20T12:00:00Z"));
+    private final ScriptedRepository repository = new ScriptedRepository();
+    private final List<UUID> stuck = new ArrayList<>();
+    private final List<Long> abandoned = new ArrayList<>();
+    private final LedgerProjectionObserver observer = new LedgerProjectionObserver() {
+        @Override
+        public void stuck(UUID ledgerId) {
+            stuck.add(ledgerId);
+        }
+
+        @Override
+        public void gapAbandoned(long position) {
+            abandoned.add(position);
+        }
+    };
+
+    @Test
+    void gapIsRereadUntilTheLateEventCommits() {
+        var job = new LedgerProjectionJob(repository, 2, Duration.ofSeconds(5), Duration.ofMinutes(1), 100, observer, clock);
+        var lagging = UUID.randomUUID();
+        repository.batches.add(new ProjectionResult(2, List.of(11L, 12L), List.of()));
+        repository.batches.add(new ProjectionResult(1, List.of(), List.of(lagging)));
+
+        job.run();
+
+        assertEquals(2, repository.projectCalls, () -> "a full batch runs the next one right away");
+        assertEquals(2, job.pendingGaps());
+        assertEquals(List.of(lagging), stuck);
+
+        // O evento da position 11 commitou; a 12 continua vazia.
+        repository.committed.add(11L);
+        clock.advance(Duration.ofSeconds(1));
+        job.run();
+
+        assertEquals(List.of(List.of(11L, 12L)), repository.reprojected);
+        assertEquals(1, job.pendingGaps());
+        assertTrue(abandoned.isEmpty());
+    }
+
+    @Test
+    void gapsAreAbandonedAfterTheTimeoutOrBeyondTheCap() {
+        var job = new LedgerProjectionJob(repository, 10, Duration.ofSeconds(5), Duration.ofMinutes(1), 2, observer, clock);
+        repository.batches.add(new ProjectionResult(3, List.of(1L, 2L, 3L), List.of()));
+
+        job.run();
+
+        assertEquals(List.of(1L), abandoned, () -> "the oldest gap leaves first");
+        assertEquals(2, job.pendingGaps());
+
+        clock.advance(Duration.ofMinutes(2));
+        job.run();
+
+        assertEquals(List.of(1L, 2L, 3L), abandoned);
+        assertEquals(0, job.pendingGaps());
+    }
+
+    private static final class ScriptedRepository implements LedgerEventRepository {
+        private final Deque<ProjectionResult> batches = new ArrayDeque<>();
+        private final Set<Long> committed = new HashSet<>();
+        private final List<List<Long>> reprojected = new ArrayList<>();
+        private int projectCalls;
+
+        @Override
+        public ProjectionResult project(int limit, Instant settledBefore) {
+            projectCalls++;
+            return batches.isEmpty() ? ProjectionResult.EMPTY : batches.poll();
+        }
+
+        @Override
+        public ProjectionResult reproject(Collection<Long> positions) {
+            reprojected.add(List.copyOf(positions));
+            var missing = positions.stream().filter(position -> !committed.contains(position)).toList();
+            return new ProjectionResult(positions.size() - missing.size(), missing, List.of());
+        }
+
+        @Override
+        public void append(UUID organizationId, List<LedgerEvent> events, List<LedgerSnapshot> snapshots) {}
+
+        @Override
+        public Optional<LedgerSnapshot> latestSnapshot(UUID ledgerId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<LedgerEvent> events(UUID ledgerId, long afterSequence) {
+            return List.of();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.LcEncode.apexRecon.shared.domain.identifier;
+
+import com.LcEncode.apexRecon.shared.infrastructure.persistence.UuidBinary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ids crescentes na ordem de bytes mesmo com o relógio parado ou voltando, com versão 7 e variante RFC, e sem
+ * repetição entre threads.
+ */
+class UuidV7GeneratorTest {
+    private static final long NOW = 1_767_225_600_000L;
+
+    @Test
+    void idsWithinTheSameMillisecondAreStrictlyIncreasing() {
+        var generator = new UuidV7Generator(() -> NOW);
+
+        var ids = generate(generator, 10_000);
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(UuidBinary.BINARY_ORDER.compare(ids.get(i - 1), ids.get(i)) < 0, "id " + i + " is not after its predecessor");
+        }
+    }
+
+    @Test
+    void counterOverflowBorrowsTheNextMillisecond() {
+        var generator = new UuidV7Generator(() -> NOW);
+
+        var ids = generate(generator, 4097);
+
+        assertEquals(NOW, UuidV7Generator.timestampMillis(ids.get(4095)));
+        assertEquals(NOW + 1, UuidV7Generator.timestampMillis(ids.get(4096)));
+    }
+
+    @Test
+    void clockGoingBackwardsDoesNotBreakTheOrder() {
+        var clock = new AtomicLong(NOW);
+        var generator = new UuidV7Generator(clock::get);
+
+        var before = generator.nextId();
+        clock.set(NOW - 60_000);
+        var after = generator.nextId();
+
+        assertTrue(UuidBinary.BINARY_ORDER.compare(before, after) < 0, "id generated after the clock moved back sorts first");
+        assertEquals(NOW, UuidV7Generator.timestampMillis(after));
+    }
+
+    @Test
+    void versionVariantAndTimestampFollowRfc9562() {
+        var id = new UuidV7Generator(() -> NOW).nextId();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW, UuidV7Generator.timestampMillis(id));
+        assertThrows(IllegalArgumentException.class, () -> UuidV7Generator.timestampMillis(UUID.randomUUID()));
+    }
+
+    @Test
+    void concurrentGenerationNeverRepeatsAndStaysOrderedPerThread() throws Exception {
+        var generator = new UuidV7Generator(() -> NOW);
+        int threads = 8;
+        int perThread = 5_000;
+
+        var results = new ArrayList<List<UUID>>();
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            var tasks = new ArrayList<Callable<List<UUID>>>();
+            for (int i = 0; i < threads; i++) { tasks.add(() -> generate(generator, perThread)); }
+            for (var future : executor.invokeAll(tasks)) { results.add(future.get()); }
+        }
+
+        var unique = new HashSet<UUID>();
+        for (var ids : results) {
+            unique.addAll(ids);
+            for (int i = 1; i < ids.size(); i++) { assertTrue(UuidBinary.BINARY_ORDER.compare(ids.get(i - 1), ids.get(i)) < 0); }
+        }
+        assertEquals(threads * perThread, unique.size());
+    }
+
+    @Test
+    void idsRejectsAMissingGenerator() {
+        assertThrows(IllegalArgumentException.class, () -> Ids.use(null));
+    }
+
+    private static List<UUID> generate(IdGenerator generator, int count) {
+        var ids = new ArrayList<UUID>(count);
+        for (int i = 0; i < count; i++) { ids.add(generator.nextId()); }
+        return ids;
+    }
+}
@@ -0,0 +1,79 @@
+package com.LcEncode.apexRecon.shared.domain.valueObject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Money contra o BigDecimal que ele substitui: conversões exatas nas bordas, aritmética sem arredondamento e
+ * ArithmeticException nos overflows.
+ */
+class MoneyTest {
+
+    @Test
+    void conversionsRoundTripAtScaleFour() {
+        assertEquals(new BigDecimal("12.3400"), Money.of("12.34").toBigDecimal());
+        assertEquals(123_400, Money.of("12.34").minorUnits());
+        assertEquals(Money.of("12.34"), Money.of(new BigDecimal("12.340000")));
+        assertEquals(Money.of("-0.0001"), Money.ofMinor(-1));
+        assertEquals("0.0001", Money.ofMinor(1).toString());
+        assertSame(Money.ZERO, Money.of("0.00"));
+
+        var random = new SplittableRandom(11);
+        for (int i = 0; i < 1_000; i++) {
+            var minor = random.nextLong();
+            var money = Money.ofMinor(minor);
+            assertEquals(money, Money.of(money.toBigDecimal()));
+            assertEquals(money, Money.of(money.toString()));
+            assertEquals(BigDecimal.valueOf(minor, Money.SCALE), money.toBigDecimal());
+        }
+    }
+
+    @Test
+    void conversionRejectsRoundingAndValuesOutsideALong() {
+        assertThrows(ArithmeticException.class, () -> Money.of("0.00001"));
+        assertThrows(ArithmeticException.class, () -> Money.of("1.23456"));
+        assertThrows(ArithmeticException.class, () -> Money.of((BigDecimal) null));
+        assertThrows(ArithmeticException.class, () -> Money.of(BigDecimal.valueOf(Long.MAX_VALUE, Money.SCALE).add(new BigDecimal("0.0001"))));
+        assertThrows(ArithmeticException.class, () -> Money.of("1e17"));
+        assertEquals(Long.MAX_VALUE, Money.of(BigDecimal.valueOf(Long.MAX_VALUE, Money.SCALE)).minorUnits());
+    }
+
+    @Test
+    void arithmeticMatchesBigDecimal() {
+        var random = new SplittableRandom(13);
+        for (int i = 0; i < 1_000; i++) {
+            var a = Money.ofMinor(random.nextLong(-1_000_000_000_000L, 1_000_000_000_000L));
+            var b = Money.ofMinor(random.nextLong(-1_000_000_000_000L, 1_000_000_000_000L));
+            var quantity = random.nextLong(-10_000, 10_000);
+
+            assertEquals(a.toBigDecimal().add(b.toBigDecimal()), a.plus(b).toBigDecimal());
+            assertEquals(a.toBigDecimal().subtract(b.toBigDecimal()), a.minus(b).toBigDecimal());
+            assertEquals(a.toBigDecimal().multiply(BigDecimal.valueOf(quantity)), a.times(quantity).toBigDecimal());
+            assertEquals(a.toBigDecimal().abs(), a.abs().toBigDecimal());
+            assertEquals(a.toBigDecimal().compareTo(b.toBigDecimal()), a.compareTo(b));
+            assertEquals(a.toBigDecimal().signum(), a.signum());
+        }
+    }
+
+    @Test
+    void overflowThrowsInsteadOfWrapping() {
+        var max = Money.ofMinor(Long.MAX_VALUE);
+        var min = Money.ofMinor(Long.MIN_VALUE);
+        var tick = Money.ofMinor(1);
+
+        assertThrows(ArithmeticException.class, () -> max.plus(tick));
+        assertThrows(ArithmeticException.class, () -> min.minus(tick));
+        assertThrows(ArithmeticException.class, () -> max.times(2));
+        assertThrows(ArithmeticException.class, () -> Money.of("100000000000000").times(1_000));
+        assertThrows(ArithmeticException.class, min::abs);
+        assertEquals(max, max.minus(tick).plus(tick));
+        assertTrue(min.times(1).isNegative());
+    }
+}